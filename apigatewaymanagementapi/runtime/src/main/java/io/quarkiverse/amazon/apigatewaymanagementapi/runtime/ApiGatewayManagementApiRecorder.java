@@ -2,14 +2,19 @@ package io.quarkiverse.amazon.apigatewaymanagementapi.runtime;
 
 import io.quarkiverse.amazon.common.runtime.AmazonClientRecorder;
 import io.quarkiverse.amazon.common.runtime.AsyncHttpClientConfig;
+import io.quarkiverse.amazon.common.runtime.EndpointCache;
 import io.quarkiverse.amazon.common.runtime.HasAmazonClientRuntimeConfig;
 import io.quarkiverse.amazon.common.runtime.SyncHttpClientConfig;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.awscore.client.builder.AwsAsyncClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.services.apigatewaymanagementapi.ApiGatewayManagementApiAsyncClient;
+import software.amazon.awssdk.services.apigatewaymanagementapi.ApiGatewayManagementApiBaseClientBuilder;
 import software.amazon.awssdk.services.apigatewaymanagementapi.ApiGatewayManagementApiClient;
+import software.amazon.awssdk.services.apigatewaymanagementapi.endpoints.ApiGatewayManagementApiEndpointParams;
+import software.amazon.awssdk.services.apigatewaymanagementapi.endpoints.ApiGatewayManagementApiEndpointProvider;
 
 @Recorder
 public class ApiGatewayManagementApiRecorder extends AmazonClientRecorder {
@@ -44,4 +49,13 @@ public class ApiGatewayManagementApiRecorder extends AmazonClientRecorder {
     public AwsAsyncClientBuilder<?, ?> getAsyncClientBuilder() {
         return ApiGatewayManagementApiAsyncClient.builder();
     }
+
+    @Override
+    protected void setEndpointCache(AwsClientBuilder<?, ?> builder, int maxSize) {
+        EndpointCache<ApiGatewayManagementApiEndpointParams> cache = new EndpointCache<>(
+                ApiGatewayManagementApiEndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint()),
+                maxSize);
+        ((ApiGatewayManagementApiBaseClientBuilder<?, ?>) builder).endpointProvider(cache::resolveEndpoint);
+    }
 }
@@ -0,0 +1,104 @@
+package io.quarkiverse.amazon.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.amazon.benchmarks.stub.StubHttpServer;
+import io.quarkiverse.amazon.common.runtime.AbstractAmazonClientTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientAwsCrtTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientNettyTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientVertxTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AsyncHttpClientBuildTimeConfig.AsyncClientType;
+import io.quarkiverse.amazon.common.runtime.AsyncHttpClientConfig;
+import io.quarkiverse.amazon.common.runtime.VertxSdkAsyncHttpClient;
+import io.quarkus.runtime.RuntimeValue;
+import io.vertx.core.Vertx;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+
+/**
+ * Measures the throughput of a DynamoDB async client, for each async HTTP client, against an in-process HTTP server.
+ * <p>
+ * The transports are configured by their recorders with the default configuration of the extension. The Vert.x client
+ * and the server share the same Vert.x instance, as in a Quarkus application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class AsyncTransportBenchmark {
+
+    private static final Map<AsyncClientType, AbstractAmazonClientTransportRecorder> RECORDERS = Map.of(
+            AsyncClientType.NETTY, new AmazonClientNettyTransportRecorder(),
+            AsyncClientType.AWS_CRT, new AmazonClientAwsCrtTransportRecorder(),
+            AsyncClientType.VERTX, new AmazonClientVertxTransportRecorder());
+
+    @Param
+    AsyncClientType clientType;
+
+    private Vertx vertx;
+    private StubHttpServer server;
+    private ExecutorService executor;
+    private ScheduledExecutorService scheduledExecutor;
+    private DynamoDbAsyncClient client;
+    private GetItemRequest getItem;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        server = StubHttpServer.start(vertx);
+        executor = Executors.newCachedThreadPool();
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+
+        RuntimeValue<SdkAsyncHttpClient.Builder> transport = RECORDERS.get(clientType).configureAsync("dynamodb",
+                new RuntimeValue<>(ConfigDefaults.of(AsyncHttpClientConfig.class)));
+        if (transport.getValue() instanceof VertxSdkAsyncHttpClient.Builder) {
+            // the recorder looks up the Vert.x instance of Quarkus
+            ((VertxSdkAsyncHttpClient.Builder) transport.getValue()).vertx(() -> vertx);
+        }
+        client = Clients.async(Clients.Service.DYNAMODB, transport.getValue(), server.endpoint(), executor,
+                scheduledExecutor);
+        getItem = GetItemRequest.builder()
+                .tableName("benchmarks")
+                .key(Map.of("id", AttributeValue.fromS("42")))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        executor.shutdownNow();
+        scheduledExecutor.shutdownNow();
+        server.close();
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public GetItemResponse getItem() {
+        return client.getItem(getItem).join();
+    }
+}
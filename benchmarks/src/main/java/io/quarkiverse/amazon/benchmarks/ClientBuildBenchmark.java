@@ -0,0 +1,56 @@
+package io.quarkiverse.amazon.benchmarks;
+
+import java.net.URI;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.amazon.benchmarks.stub.StubSdkHttpClient;
+import software.amazon.awssdk.core.SdkClient;
+
+/**
+ * Measures the creation of a client by the recorders, as done when the client bean is first used, and its closing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientBuildBenchmark {
+
+    @Param
+    Clients.Service service;
+
+    private ScheduledExecutorService scheduledExecutor;
+
+    @Setup
+    public void setup() {
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public void buildAndClose() {
+        SdkClient client = Clients.sync(service, StubSdkHttpClient.builder(), URI.create("http://localhost"),
+                scheduledExecutor);
+        client.close();
+    }
+}
@@ -0,0 +1,150 @@
+package io.quarkiverse.amazon.benchmarks;
+
+import java.net.URI;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+import io.quarkiverse.amazon.common.runtime.AmazonClientCommonRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientRecorder;
+import io.quarkiverse.amazon.common.runtime.ClientUtil;
+import io.quarkiverse.amazon.common.runtime.HasSdkBuildTimeConfig;
+import io.quarkiverse.amazon.dynamodb.runtime.DynamodbBuildTimeConfig;
+import io.quarkiverse.amazon.dynamodb.runtime.DynamodbConfig;
+import io.quarkiverse.amazon.dynamodb.runtime.DynamodbRecorder;
+import io.quarkiverse.amazon.s3.runtime.S3BuildTimeConfig;
+import io.quarkiverse.amazon.s3.runtime.S3Config;
+import io.quarkiverse.amazon.s3.runtime.S3Recorder;
+import io.quarkiverse.amazon.sqs.runtime.SqsBuildTimeConfig;
+import io.quarkiverse.amazon.sqs.runtime.SqsConfig;
+import io.quarkiverse.amazon.sqs.runtime.SqsRecorder;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.RuntimeValue;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.services.s3.S3BaseClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+/**
+ * Builds the clients the way the extensions do, by running their recorders with the default configuration.
+ * <p>
+ * The region and the credentials are resolved by the default providers of the SDK from system properties.
+ */
+public final class Clients {
+
+    static {
+        System.setProperty("aws.region", "us-east-1");
+        System.setProperty("aws.accessKeyId", "benchmark-access-key");
+        System.setProperty("aws.secretAccessKey", "benchmark-secret-key");
+    }
+
+    private static final AmazonClientCommonRecorder COMMON_RECORDER = new AmazonClientCommonRecorder();
+
+    private Clients() {
+    }
+
+    /**
+     * The services the benchmarks call, with their recorder and configuration.
+     */
+    public enum Service {
+        DYNAMODB("dynamodb") {
+            @Override
+            AmazonClientRecorder recorder() {
+                return new DynamodbRecorder(ConfigDefaults.of(DynamodbConfig.class));
+            }
+
+            @Override
+            HasSdkBuildTimeConfig buildTimeConfig() {
+                return ConfigDefaults.of(DynamodbBuildTimeConfig.class);
+            }
+        },
+        SQS("sqs") {
+            @Override
+            AmazonClientRecorder recorder() {
+                return new SqsRecorder(ConfigDefaults.of(SqsConfig.class));
+            }
+
+            @Override
+            HasSdkBuildTimeConfig buildTimeConfig() {
+                return ConfigDefaults.of(SqsBuildTimeConfig.class);
+            }
+        },
+        S3("s3") {
+            @Override
+            AmazonClientRecorder recorder() {
+                return new S3Recorder(ConfigDefaults.of(S3Config.class));
+            }
+
+            @Override
+            HasSdkBuildTimeConfig buildTimeConfig() {
+                return ConfigDefaults.of(S3BuildTimeConfig.class);
+            }
+
+            @Override
+            void configure(AwsClientBuilder<?, ?> builder) {
+                // the stubs answer on localhost, which has no bucket subdomains
+                ((S3BaseClientBuilder<?, ?>) builder)
+                        .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+            }
+        };
+
+        private final String configName;
+        private final AmazonClientRecorder recorder;
+        private final HasSdkBuildTimeConfig buildTimeConfig;
+
+        Service(String configName) {
+            this.configName = configName;
+            this.recorder = recorder();
+            this.buildTimeConfig = buildTimeConfig();
+        }
+
+        abstract AmazonClientRecorder recorder();
+
+        abstract HasSdkBuildTimeConfig buildTimeConfig();
+
+        void configure(AwsClientBuilder<?, ?> builder) {
+        }
+    }
+
+    /**
+     * @return a sync client sending its requests with the given transport
+     */
+    public static <T extends SdkClient> T sync(Service service, SdkHttpClient.Builder<?> transport, URI endpoint,
+            ScheduledExecutorService scheduledExecutor, ExecutionInterceptor... interceptors) {
+        RuntimeValue<AwsClientBuilder> builder = service.recorder.createSyncBuilder(new RuntimeValue<>(transport));
+        return build(service, builder, endpoint, scheduledExecutor, interceptors);
+    }
+
+    /**
+     * @return an async client sending its requests with the given transport
+     */
+    public static <T extends SdkClient> T async(Service service, SdkAsyncHttpClient.Builder<?> transport, URI endpoint,
+            Executor executor, ScheduledExecutorService scheduledExecutor, ExecutionInterceptor... interceptors) {
+        RuntimeValue<AwsClientBuilder> builder = service.recorder.createAsyncBuilder(new RuntimeValue<>(transport),
+                LaunchMode.NORMAL, executor);
+        return build(service, builder, endpoint, scheduledExecutor, interceptors);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends SdkClient> T build(Service service, RuntimeValue<AwsClientBuilder> builder, URI endpoint,
+            ScheduledExecutorService scheduledExecutor, ExecutionInterceptor... interceptors) {
+        builder = COMMON_RECORDER.configure(builder, service.recorder.getAmazonClientsConfig(), service.buildTimeConfig,
+                scheduledExecutor, service.configName, ClientUtil.DEFAULT_CLIENT_NAME);
+        builder = service.recorder.configureEndpointCache(builder, service.configName, ClientUtil.DEFAULT_CLIENT_NAME);
+
+        AwsClientBuilder<?, ?> clientBuilder = builder.getValue();
+        service.configure(clientBuilder);
+        clientBuilder.endpointOverride(endpoint);
+        if (interceptors.length > 0) {
+            ClientOverrideConfiguration.Builder overrides = clientBuilder.overrideConfiguration().toBuilder();
+            for (ExecutionInterceptor interceptor : interceptors) {
+                overrides.addExecutionInterceptor(interceptor);
+            }
+            clientBuilder.overrideConfiguration(overrides.build());
+        }
+        return (T) clientBuilder.build();
+    }
+}
@@ -0,0 +1,150 @@
+package io.quarkiverse.amazon.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Implements the configuration mappings of the extensions with their default values, so that the recorders can be run
+ * outside of a Quarkus application.
+ * <p>
+ * A property returns its {@link WithDefault} value, an empty {@link Optional} or, for a group, its default
+ * configuration. Maps return the default configuration for any key, e.g. for any client name.
+ */
+public final class ConfigDefaults {
+
+    private ConfigDefaults() {
+    }
+
+    public static <T> T of(Class<T> mapping) {
+        return mapping.cast(Proxy.newProxyInstance(mapping.getClassLoader(), new Class<?>[] { mapping },
+                new Handler(mapping)));
+    }
+
+    private static final class Handler implements InvocationHandler {
+
+        private final Class<?> mapping;
+        private final Map<Method, Object> values = new ConcurrentHashMap<>();
+
+        private Handler(Class<?> mapping) {
+            this.mapping = mapping;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "defaults of " + mapping.getName();
+                }
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            return values.computeIfAbsent(method, Handler::value);
+        }
+
+        private static Object value(Method method) {
+            WithDefault defaultValue = method.getAnnotation(WithDefault.class);
+            if (defaultValue != null) {
+                return convert(method.getReturnType(), defaultValue.value());
+            }
+            Class<?> type = method.getReturnType();
+            if (type == Optional.class) {
+                return Optional.empty();
+            }
+            if (type == OptionalInt.class) {
+                return OptionalInt.empty();
+            }
+            if (type == OptionalLong.class) {
+                return OptionalLong.empty();
+            }
+            if (type == List.class) {
+                return List.of();
+            }
+            if (type == Map.class) {
+                return new DefaultsMap(valueType(method.getGenericReturnType()));
+            }
+            if (type == boolean.class) {
+                return false;
+            }
+            if (type.isInterface()) {
+                return of(type);
+            }
+            throw new IllegalArgumentException("No default value for " + method);
+        }
+
+        private static Object convert(Class<?> type, String value) {
+            if (type == String.class) {
+                return value;
+            }
+            if (type == boolean.class || type == Boolean.class) {
+                return Boolean.parseBoolean(value);
+            }
+            if (type == int.class || type == Integer.class) {
+                return Integer.parseInt(value);
+            }
+            if (type == long.class || type == Long.class) {
+                return Long.parseLong(value);
+            }
+            if (type == double.class || type == Double.class) {
+                return Double.parseDouble(value);
+            }
+            if (type == Duration.class) {
+                return DurationConverter.parseDuration(value);
+            }
+            if (type.isEnum()) {
+                String name = value.toUpperCase(Locale.ROOT).replace('-', '_');
+                for (Object constant : type.getEnumConstants()) {
+                    if (((Enum<?>) constant).name().replace("_", "").equals(name.replace("_", ""))) {
+                        return constant;
+                    }
+                }
+            }
+            throw new IllegalArgumentException("Unsupported default value " + value + " of type " + type);
+        }
+
+        private static Class<?> valueType(Type mapType) {
+            return (Class<?>) ((ParameterizedType) mapType).getActualTypeArguments()[1];
+        }
+    }
+
+    private static final class DefaultsMap extends AbstractMap<String, Object> {
+
+        private final Class<?> valueType;
+        private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+        private DefaultsMap(Class<?> valueType) {
+            this.valueType = valueType;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return values.computeIfAbsent(key, k -> of(valueType));
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Set.of();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.quarkiverse.amazon.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.amazon.common.runtime.EndpointCache;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointParams;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointProvider;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointParams;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
+
+/**
+ * Compares the evaluation of the endpoint rules of DynamoDB and S3 with the endpoint cache of the clients.
+ * <p>
+ * The endpoint parameters are created by the SDK for each request, the benchmarks thus resolve new parameters instances
+ * with the same values. The S3 parameters carry a different object key for each request, like the requests
+ * of an application reading many objects of a bucket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EndpointResolutionBenchmark {
+
+    private DynamoDbEndpointProvider dynamodbRules;
+    private EndpointCache<DynamoDbEndpointParams> dynamodbCache;
+    private S3EndpointProvider s3Rules;
+    private EndpointCache<S3EndpointParams> s3Cache;
+
+    @Setup
+    public void setup() {
+        dynamodbRules = DynamoDbEndpointProvider.defaultProvider();
+        dynamodbCache = new EndpointCache<>(DynamoDbEndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint(), p.accountId(),
+                        p.accountIdEndpointMode()),
+                256);
+        s3Rules = S3EndpointProvider.defaultProvider();
+        s3Cache = new EndpointCache<>(S3EndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint(), p.bucket(),
+                        p.forcePathStyle(), p.accelerate(), p.useGlobalEndpoint(), p.useObjectLambdaEndpoint(),
+                        p.disableAccessPoints(), p.disableMultiRegionAccessPoints(), p.useArnRegion(),
+                        p.useS3ExpressControlEndpoint(), p.disableS3ExpressSessionAuth()),
+                256);
+    }
+
+    @Benchmark
+    public Endpoint dynamodbRules() {
+        return dynamodbRules.resolveEndpoint(dynamodbParams()).join();
+    }
+
+    @Benchmark
+    public Endpoint dynamodbCache() {
+        return dynamodbCache.resolveEndpoint(dynamodbParams()).join();
+    }
+
+    @Benchmark
+    public Endpoint s3Rules() {
+        return s3Rules.resolveEndpoint(s3Params()).join();
+    }
+
+    @Benchmark
+    public Endpoint s3Cache() {
+        return s3Cache.resolveEndpoint(s3Params()).join();
+    }
+
+    private static DynamoDbEndpointParams dynamodbParams() {
+        return DynamoDbEndpointParams.builder()
+                .region(Region.US_EAST_1)
+                .useDualStack(false)
+                .useFips(false)
+                .build();
+    }
+
+    private static S3EndpointParams s3Params() {
+        return S3EndpointParams.builder()
+                .region(Region.US_EAST_1)
+                .bucket("quarkus-benchmarks")
+                .key("quarkus/benchmarks/" + ThreadLocalRandom.current().nextInt())
+                .useDualStack(false)
+                .useFips(false)
+                .forcePathStyle(false)
+                .accelerate(false)
+                .useGlobalEndpoint(false)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package io.quarkiverse.amazon.benchmarks;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.amazon.benchmarks.stub.StubSdkHttpClient;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+
+/**
+ * Measures the overhead of the execution interceptors, such as the ones configured with
+ * {@code quarkus.<service>.interceptors}, on a DynamoDB call against an in-memory transport.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptorChainBenchmark {
+
+    @Param({ "0", "4", "16" })
+    int interceptors;
+
+    private ScheduledExecutorService scheduledExecutor;
+    private DynamoDbClient client;
+    private GetItemRequest getItem;
+
+    @Setup
+    public void setup() {
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        ExecutionInterceptor[] chain = new ExecutionInterceptor[interceptors];
+        for (int i = 0; i < chain.length; i++) {
+            chain[i] = new HeaderInterceptor("X-Benchmark-" + i);
+        }
+        client = Clients.sync(Clients.Service.DYNAMODB, StubSdkHttpClient.builder(), URI.create("http://localhost"),
+                scheduledExecutor, chain);
+        getItem = GetItemRequest.builder()
+                .tableName("benchmarks")
+                .key(Map.of("id", AttributeValue.fromS("42")))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public GetItemResponse getItem() {
+        return client.getItem(getItem);
+    }
+
+    /**
+     * A typical interceptor, adding a header to the HTTP request.
+     */
+    private static final class HeaderInterceptor implements ExecutionInterceptor {
+
+        private final String header;
+
+        private HeaderInterceptor(String header) {
+            this.header = header;
+        }
+
+        @Override
+        public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
+            return context.httpRequest().toBuilder().putHeader(header, "true").build();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.quarkiverse.amazon.benchmarks;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.amazon.benchmarks.stub.StubResponses;
+import io.quarkiverse.amazon.benchmarks.stub.StubSdkHttpClient;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+/**
+ * Measures the client side of API calls of DynamoDB (AWS JSON), SQS (AWS JSON) and S3 (REST XML) against an in-memory
+ * transport: request marshalling, signing, the interceptors of the service and response unmarshalling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarshallingBenchmark {
+
+    private static final String QUEUE_URL = "http://localhost/000000000000/benchmarks";
+
+    private ScheduledExecutorService scheduledExecutor;
+    private DynamoDbClient dynamodb;
+    private SqsClient sqs;
+    private S3Client s3;
+
+    private GetItemRequest getItem;
+    private PutItemRequest putItem;
+    private SendMessageRequest sendMessage;
+    private ReceiveMessageRequest receiveMessage;
+    private PutObjectRequest putObject;
+    private ListObjectsV2Request listObjects;
+
+    @Setup
+    public void setup() {
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        URI endpoint = URI.create("http://localhost");
+        dynamodb = Clients.sync(Clients.Service.DYNAMODB, StubSdkHttpClient.builder(), endpoint, scheduledExecutor);
+        sqs = Clients.sync(Clients.Service.SQS, StubSdkHttpClient.builder(), endpoint, scheduledExecutor);
+        s3 = Clients.sync(Clients.Service.S3, StubSdkHttpClient.builder(), endpoint, scheduledExecutor);
+
+        getItem = GetItemRequest.builder()
+                .tableName("benchmarks")
+                .key(Map.of("id", AttributeValue.fromS("42")))
+                .build();
+        putItem = PutItemRequest.builder()
+                .tableName("benchmarks")
+                .item(Map.of(
+                        "id", AttributeValue.fromS("42"),
+                        "name", AttributeValue.fromS("quarkus"),
+                        "count", AttributeValue.fromN("1024"),
+                        "tags", AttributeValue.fromSs(List.of("amazon", "services")),
+                        "active", AttributeValue.fromBool(true)))
+                .build();
+        sendMessage = SendMessageRequest.builder()
+                .queueUrl(QUEUE_URL)
+                .messageBody(StubResponses.MESSAGE_BODY)
+                .build();
+        receiveMessage = ReceiveMessageRequest.builder()
+                .queueUrl(QUEUE_URL)
+                .maxNumberOfMessages(10)
+                .build();
+        putObject = PutObjectRequest.builder()
+                .bucket("benchmarks")
+                .key("objects/42.json")
+                .build();
+        listObjects = ListObjectsV2Request.builder()
+                .bucket("benchmarks")
+                .prefix("objects/")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dynamodb.close();
+        sqs.close();
+        s3.close();
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public GetItemResponse dynamodbGetItem() {
+        return dynamodb.getItem(getItem);
+    }
+
+    @Benchmark
+    public PutItemResponse dynamodbPutItem() {
+        return dynamodb.putItem(putItem);
+    }
+
+    @Benchmark
+    public SendMessageResponse sqsSendMessage() {
+        return sqs.sendMessage(sendMessage);
+    }
+
+    @Benchmark
+    public ReceiveMessageResponse sqsReceiveMessage() {
+        return sqs.receiveMessage(receiveMessage);
+    }
+
+    @Benchmark
+    public PutObjectResponse s3PutObject() {
+        return s3.putObject(putObject, RequestBody.fromBytes(StubResponses.OBJECT_CONTENT));
+    }
+
+    @Benchmark
+    public ListObjectsV2Response s3ListObjectsV2() {
+        return s3.listObjectsV2(listObjects);
+    }
+}
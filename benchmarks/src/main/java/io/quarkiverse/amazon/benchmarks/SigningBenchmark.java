@@ -0,0 +1,70 @@
+package io.quarkiverse.amazon.benchmarks;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner;
+import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+/**
+ * Measures the SigV4 signing of a request, which hashes the payload and the canonical request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SigningBenchmark {
+
+    @Param({ "0", "1024", "262144" })
+    int payloadSize;
+
+    private AwsV4HttpSigner signer;
+    private AwsCredentialsIdentity credentials;
+    private SdkHttpRequest request;
+    private ContentStreamProvider payload;
+
+    @Setup
+    public void setup() {
+        signer = AwsV4HttpSigner.create();
+        credentials = AwsBasicCredentials.create("benchmark-access-key", "benchmark-secret-key");
+        request = SdkHttpRequest.builder()
+                .method(SdkHttpMethod.POST)
+                .uri(URI.create("https://dynamodb.us-east-1.amazonaws.com/"))
+                .putHeader("Content-Type", "application/x-amz-json-1.0")
+                .putHeader("X-Amz-Target", "DynamoDB_20120810.PutItem")
+                .putHeader("User-Agent", "aws-sdk-java/2 quarkus-benchmarks")
+                .build();
+        byte[] content = new byte[payloadSize];
+        Arrays.fill(content, (byte) 'a');
+        payload = ContentStreamProvider.fromByteArrayUnsafe(content);
+    }
+
+    @Benchmark
+    public SignedRequest sign() {
+        return signer.sign(r -> r.identity(credentials)
+                .request(request)
+                .payload(payload)
+                .putProperty(AwsV4HttpSigner.SERVICE_SIGNING_NAME, "dynamodb")
+                .putProperty(AwsV4HttpSigner.REGION_NAME, "us-east-1"));
+    }
+}
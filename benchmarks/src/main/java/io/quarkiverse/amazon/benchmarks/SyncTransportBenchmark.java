@@ -0,0 +1,95 @@
+package io.quarkiverse.amazon.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkiverse.amazon.benchmarks.stub.StubHttpServer;
+import io.quarkiverse.amazon.common.runtime.AbstractAmazonClientTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientApacheTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientAwsCrtTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientJdkTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientUrlConnectionTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.SyncHttpClientBuildTimeConfig.SyncClientType;
+import io.quarkiverse.amazon.common.runtime.SyncHttpClientConfig;
+import io.quarkus.runtime.RuntimeValue;
+import io.vertx.core.Vertx;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+
+/**
+ * Measures the throughput of a DynamoDB sync client, for each sync HTTP client, against an in-process HTTP server.
+ * <p>
+ * The transports are configured by their recorders with the default configuration of the extension.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class SyncTransportBenchmark {
+
+    private static final Map<SyncClientType, AbstractAmazonClientTransportRecorder> RECORDERS = Map.of(
+            SyncClientType.URL, new AmazonClientUrlConnectionTransportRecorder(),
+            SyncClientType.APACHE, new AmazonClientApacheTransportRecorder(),
+            SyncClientType.AWS_CRT, new AmazonClientAwsCrtTransportRecorder(),
+            SyncClientType.JDK, new AmazonClientJdkTransportRecorder());
+
+    @Param
+    SyncClientType clientType;
+
+    private Vertx vertx;
+    private StubHttpServer server;
+    private ScheduledExecutorService scheduledExecutor;
+    private DynamoDbClient client;
+    private GetItemRequest getItem;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        server = StubHttpServer.start(vertx);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+
+        RuntimeValue<SdkHttpClient.Builder> transport = RECORDERS.get(clientType).configureSync("dynamodb",
+                new RuntimeValue<>(ConfigDefaults.of(SyncHttpClientConfig.class)));
+        client = Clients.sync(Clients.Service.DYNAMODB, transport.getValue(), server.endpoint(), scheduledExecutor);
+        getItem = GetItemRequest.builder()
+                .tableName("benchmarks")
+                .key(Map.of("id", AttributeValue.fromS("42")))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        scheduledExecutor.shutdownNow();
+        server.close();
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public GetItemResponse getItem() {
+        return client.getItem(getItem);
+    }
+}
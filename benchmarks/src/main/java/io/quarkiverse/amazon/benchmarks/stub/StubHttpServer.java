@@ -0,0 +1,43 @@
+package io.quarkiverse.amazon.benchmarks.stub;
+
+import java.net.URI;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+
+/**
+ * An in-process HTTP server answering the {@link StubResponses}, to measure the transports over the loopback interface.
+ */
+public final class StubHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private StubHttpServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static StubHttpServer start(Vertx vertx) {
+        HttpServer server = vertx.createHttpServer(new HttpServerOptions().setHost("localhost").setPort(0))
+                .requestHandler(request -> request.body().onSuccess(body -> {
+                    StubResponses.Response response = StubResponses.response(request.method().name(),
+                            request.getHeader("X-Amz-Target"));
+                    request.response().putHeader("Content-Type", response.contentType());
+                    response.headers().forEach(request.response()::putHeader);
+                    request.response().end(Buffer.buffer(response.body()));
+                }))
+                .listen()
+                .toCompletionStage().toCompletableFuture().join();
+        return new StubHttpServer(server);
+    }
+
+    public URI endpoint() {
+        return URI.create("http://localhost:" + server.actualPort());
+    }
+
+    @Override
+    public void close() {
+        server.close().toCompletionStage().toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkiverse.amazon.benchmarks.stub;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * The canned responses of the stubs, chosen from the operation of the request.
+ * <p>
+ * DynamoDB and SQS use the AWS JSON protocol and identify the operation with the {@code X-Amz-Target} header. S3 uses
+ * the REST XML protocol: the stubs answer {@code ListObjectsV2} to the {@code GET} requests and {@code PutObject} to the
+ * other ones.
+ */
+public final class StubResponses {
+
+    public static final String MESSAGE_BODY = "{\"order\":\"42\",\"status\":\"shipped\",\"items\":[\"quarkus\",\"amazon\"]}";
+    public static final byte[] OBJECT_CONTENT = "The quick brown fox jumps over the lazy dog\n".repeat(24)
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static final String MESSAGE_BODY_MD5 = md5(MESSAGE_BODY.getBytes(StandardCharsets.UTF_8));
+    private static final String OBJECT_CONTENT_MD5 = md5(OBJECT_CONTENT);
+
+    private static final String JSON = "application/x-amz-json-1.0";
+    private static final String XML = "application/xml";
+
+    private static final Map<String, Response> JSON_RESPONSES = Map.of(
+            "DynamoDB_20120810.GetItem", json("{\"Item\":{\"id\":{\"S\":\"42\"},\"name\":{\"S\":\"quarkus\"},"
+                    + "\"count\":{\"N\":\"1024\"},\"tags\":{\"SS\":[\"amazon\",\"services\"]},"
+                    + "\"active\":{\"BOOL\":true}}}"),
+            "DynamoDB_20120810.PutItem", json("{}"),
+            "AmazonSQS.SendMessage", json("{\"MD5OfMessageBody\":\"" + MESSAGE_BODY_MD5 + "\","
+                    + "\"MessageId\":\"5fea7756-0ea4-451a-a703-a558b933e274\"}"),
+            "AmazonSQS.ReceiveMessage", json(receiveMessageResponse(10)));
+
+    private static final Response LIST_OBJECTS = new Response(XML, listObjectsResponse(10), Map.of());
+    private static final Response PUT_OBJECT = new Response(XML, new byte[0],
+            Map.of("ETag", "\"" + OBJECT_CONTENT_MD5 + "\""));
+    private static final Response NOT_FOUND = new Response(JSON,
+            "{\"__type\":\"UnknownOperationException\"}".getBytes(StandardCharsets.UTF_8), Map.of());
+
+    private StubResponses() {
+    }
+
+    /**
+     * @param method the HTTP method of the request
+     * @param target the {@code X-Amz-Target} header of the request, if any
+     */
+    public static Response response(String method, String target) {
+        if (target != null) {
+            return JSON_RESPONSES.getOrDefault(target, NOT_FOUND);
+        }
+        return "GET".equals(method) ? LIST_OBJECTS : PUT_OBJECT;
+    }
+
+    private static Response json(String body) {
+        return new Response(JSON, body.getBytes(StandardCharsets.UTF_8), Map.of());
+    }
+
+    private static String receiveMessageResponse(int messages) {
+        StringBuilder body = new StringBuilder("{\"Messages\":[");
+        for (int i = 0; i < messages; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"MessageId\":\"message-").append(i).append("\",")
+                    .append("\"ReceiptHandle\":\"receipt-handle-").append(i).append("\",")
+                    .append("\"MD5OfBody\":\"").append(MESSAGE_BODY_MD5).append("\",")
+                    .append("\"Body\":\"").append(MESSAGE_BODY.replace("\"", "\\\"")).append("\",")
+                    .append("\"Attributes\":{\"SentTimestamp\":\"1729267200000\",\"ApproximateReceiveCount\":\"1\"}}");
+        }
+        return body.append("]}").toString();
+    }
+
+    private static byte[] listObjectsResponse(int objects) {
+        StringBuilder body = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+                .append("<Name>benchmarks</Name><Prefix></Prefix><KeyCount>").append(objects).append("</KeyCount>")
+                .append("<MaxKeys>1000</MaxKeys><IsTruncated>false</IsTruncated>");
+        for (int i = 0; i < objects; i++) {
+            body.append("<Contents><Key>objects/").append(i).append(".json</Key>")
+                    .append("<LastModified>2024-10-18T12:00:00.000Z</LastModified>")
+                    .append("<ETag>&quot;").append(OBJECT_CONTENT_MD5).append("&quot;</ETag>")
+                    .append("<Size>").append(OBJECT_CONTENT.length).append("</Size>")
+                    .append("<StorageClass>STANDARD</StorageClass></Contents>");
+        }
+        return body.append("</ListBucketResult>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String md5(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static final class Response {
+
+        private final String contentType;
+        private final byte[] body;
+        private final Map<String, String> headers;
+
+        private Response(String contentType, byte[] body, Map<String, String> headers) {
+            this.contentType = contentType;
+            this.body = body;
+            this.headers = headers;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public byte[] body() {
+            return body;
+        }
+
+        public Map<String, String> headers() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.quarkiverse.amazon.benchmarks.stub;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * An {@link SdkHttpClient} answering the {@link StubResponses} without any I/O, so that a benchmark only measures the
+ * client side of an API call: marshalling, signing, interceptors and unmarshalling.
+ */
+public final class StubSdkHttpClient implements SdkHttpClient {
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() throws IOException {
+                // the request body is read as a transport would, e.g. to compute a checksum on the fly
+                if (request.contentStreamProvider().isPresent()) {
+                    try (InputStream content = request.contentStreamProvider().get().newStream()) {
+                        content.transferTo(OutputStream.nullOutputStream());
+                    }
+                }
+
+                StubResponses.Response response = StubResponses.response(request.httpRequest().method().name(),
+                        request.httpRequest().firstMatchingHeader("X-Amz-Target").orElse(null));
+                SdkHttpResponse.Builder httpResponse = SdkHttpResponse.builder()
+                        .statusCode(200)
+                        .putHeader("Content-Type", response.contentType())
+                        .putHeader("Content-Length", String.valueOf(response.body().length));
+                response.headers().forEach(httpResponse::putHeader);
+
+                return HttpExecuteResponse.builder()
+                        .response(httpResponse.build())
+                        .responseBody(AbortableInputStream.create(new ByteArrayInputStream(response.body())))
+                        .build();
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+
+    @Override
+    public String clientName() {
+        return "Stub";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder implements SdkHttpClient.Builder<Builder> {
+
+        private Builder() {
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new StubSdkHttpClient();
+        }
+    }
+}
@@ -133,6 +133,20 @@ public class CloudWatchProcessor extends AbstractAmazonServiceProcessor {
                 syncTransports);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupJdkSyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
+            CloudWatchRecorder recorder,
+            AmazonClientJdkTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientSyncTransportBuildItem> syncTransports) {
+
+        createJdkSyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.syncClient(),
+                recorder.getSyncConfig(),
+                syncTransports);
+    }
+
     @BuildStep(onlyIf = AmazonHttpClients.IsAmazonNettyHttpServicePresent.class)
     @Record(ExecutionTime.RUNTIME_INIT)
     void setupNettyAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients, CloudWatchRecorder recorder,
@@ -161,6 +175,20 @@ public class CloudWatchProcessor extends AbstractAmazonServiceProcessor {
                 asyncTransports);
     }
 
+    @BuildStep(onlyIf = AmazonHttpClients.IsQuarkusVertxPresent.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupVertxAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
+            CloudWatchRecorder recorder,
+            AmazonClientVertxTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientAsyncTransportBuildItem> asyncTransports) {
+
+        createVertxAsyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.asyncClient(),
+                recorder.getAsyncConfig(),
+                asyncTransports);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void createClientBuilders(CloudWatchRecorder recorder,
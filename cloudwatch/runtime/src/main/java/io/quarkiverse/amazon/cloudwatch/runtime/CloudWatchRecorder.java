@@ -4,9 +4,13 @@ import io.quarkiverse.amazon.common.runtime.*;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.awscore.client.builder.AwsAsyncClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.services.cloudwatch.CloudWatchAsyncClient;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchBaseClientBuilder;
 import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
+import software.amazon.awssdk.services.cloudwatch.endpoints.CloudWatchEndpointParams;
+import software.amazon.awssdk.services.cloudwatch.endpoints.CloudWatchEndpointProvider;
 
 @Recorder
 public class CloudWatchRecorder extends AmazonClientRecorder {
@@ -41,4 +45,13 @@ public class CloudWatchRecorder extends AmazonClientRecorder {
     public AwsAsyncClientBuilder<?, ?> getAsyncClientBuilder() {
         return CloudWatchAsyncClient.builder();
     }
+
+    @Override
+    protected void setEndpointCache(AwsClientBuilder<?, ?> builder, int maxSize) {
+        EndpointCache<CloudWatchEndpointParams> cache = new EndpointCache<>(
+                CloudWatchEndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint()),
+                maxSize);
+        ((CloudWatchBaseClientBuilder<?, ?>) builder).endpointProvider(cache::resolveEndpoint);
+    }
 }
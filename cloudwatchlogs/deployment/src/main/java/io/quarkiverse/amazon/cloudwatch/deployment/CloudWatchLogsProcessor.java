@@ -135,6 +135,20 @@ public class CloudWatchLogsProcessor extends AbstractAmazonServiceProcessor {
                 syncTransports);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupJdkSyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
+            CloudWatchLogsRecorder recorder,
+            AmazonClientJdkTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientSyncTransportBuildItem> syncTransports) {
+
+        createJdkSyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.syncClient(),
+                recorder.getSyncConfig(),
+                syncTransports);
+    }
+
     @BuildStep(onlyIf = AmazonHttpClients.IsAmazonNettyHttpServicePresent.class)
     @Record(ExecutionTime.RUNTIME_INIT)
     void setupNettyAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
@@ -164,6 +178,20 @@ public class CloudWatchLogsProcessor extends AbstractAmazonServiceProcessor {
                 asyncTransports);
     }
 
+    @BuildStep(onlyIf = AmazonHttpClients.IsQuarkusVertxPresent.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupVertxAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
+            CloudWatchLogsRecorder recorder,
+            AmazonClientVertxTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientAsyncTransportBuildItem> asyncTransports) {
+
+        createVertxAsyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.asyncClient(),
+                recorder.getAsyncConfig(),
+                asyncTransports);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void createClientBuilders(CloudWatchLogsRecorder recorder,
@@ -4,9 +4,13 @@ import io.quarkiverse.amazon.common.runtime.*;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.awscore.client.builder.AwsAsyncClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsAsyncClient;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsBaseClientBuilder;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.endpoints.CloudWatchLogsEndpointParams;
+import software.amazon.awssdk.services.cloudwatchlogs.endpoints.CloudWatchLogsEndpointProvider;
 
 @Recorder
 public class CloudWatchLogsRecorder extends AmazonClientRecorder {
@@ -41,4 +45,13 @@ public class CloudWatchLogsRecorder extends AmazonClientRecorder {
     public AwsAsyncClientBuilder<?, ?> getAsyncClientBuilder() {
         return CloudWatchLogsAsyncClient.builder();
     }
+
+    @Override
+    protected void setEndpointCache(AwsClientBuilder<?, ?> builder, int maxSize) {
+        EndpointCache<CloudWatchLogsEndpointParams> cache = new EndpointCache<>(
+                CloudWatchLogsEndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint()),
+                maxSize);
+        ((CloudWatchLogsBaseClientBuilder<?, ?>) builder).endpointProvider(cache::resolveEndpoint);
+    }
 }
@@ -21,9 +21,11 @@ import io.quarkiverse.amazon.common.deployment.spi.EventLoopGroupBuildItem;
 import io.quarkiverse.amazon.common.runtime.AmazonClientApacheTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientAwsCrtTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientCommonRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientJdkTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientNettyTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientOpenTelemetryRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientUrlConnectionTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientVertxTransportRecorder;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -150,6 +152,20 @@ public class CognitoUserPoolsProcessor extends AbstractAmazonServiceProcessor {
                 syncTransports);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupJdkSyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
+            CognitoUserPoolsRecorder recorder,
+            AmazonClientJdkTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientSyncTransportBuildItem> syncTransports) {
+
+        createJdkSyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.syncClient(),
+                recorder.getSyncConfig(),
+                syncTransports);
+    }
+
     @BuildStep(onlyIf = AmazonHttpClients.IsAmazonNettyHttpServicePresent.class)
     @Record(ExecutionTime.RUNTIME_INIT)
     void setupNettyAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
@@ -179,6 +195,20 @@ public class CognitoUserPoolsProcessor extends AbstractAmazonServiceProcessor {
                 asyncTransports);
     }
 
+    @BuildStep(onlyIf = AmazonHttpClients.IsQuarkusVertxPresent.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupVertxAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
+            CognitoUserPoolsRecorder recorder,
+            AmazonClientVertxTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientAsyncTransportBuildItem> asyncTransports) {
+
+        createVertxAsyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.asyncClient(),
+                recorder.getAsyncConfig(),
+                asyncTransports);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void createClientBuilders(CognitoUserPoolsRecorder recorder,
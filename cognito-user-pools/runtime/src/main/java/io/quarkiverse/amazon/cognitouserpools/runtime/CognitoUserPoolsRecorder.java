@@ -2,14 +2,19 @@ package io.quarkiverse.amazon.cognitouserpools.runtime;
 
 import io.quarkiverse.amazon.common.runtime.AmazonClientRecorder;
 import io.quarkiverse.amazon.common.runtime.AsyncHttpClientConfig;
+import io.quarkiverse.amazon.common.runtime.EndpointCache;
 import io.quarkiverse.amazon.common.runtime.HasAmazonClientRuntimeConfig;
 import io.quarkiverse.amazon.common.runtime.SyncHttpClientConfig;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.awscore.client.builder.AwsAsyncClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderAsyncClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderBaseClientBuilder;
 import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.endpoints.CognitoIdentityProviderEndpointParams;
+import software.amazon.awssdk.services.cognitoidentityprovider.endpoints.CognitoIdentityProviderEndpointProvider;
 
 @Recorder
 public class CognitoUserPoolsRecorder extends AmazonClientRecorder {
@@ -43,4 +48,13 @@ public class CognitoUserPoolsRecorder extends AmazonClientRecorder {
     public AwsAsyncClientBuilder<?, ?> getAsyncClientBuilder() {
         return CognitoIdentityProviderAsyncClient.builder();
     }
+
+    @Override
+    protected void setEndpointCache(AwsClientBuilder<?, ?> builder, int maxSize) {
+        EndpointCache<CognitoIdentityProviderEndpointParams> cache = new EndpointCache<>(
+                CognitoIdentityProviderEndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint()),
+                maxSize);
+        ((CognitoIdentityProviderBaseClientBuilder<?, ?>) builder).endpointProvider(cache::resolveEndpoint);
+    }
 }
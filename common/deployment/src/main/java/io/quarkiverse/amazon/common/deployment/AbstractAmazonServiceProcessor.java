@@ -9,6 +9,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -25,10 +26,12 @@ import io.opentelemetry.instrumentation.awssdk.v2_2.AwsSdkTelemetry;
 import io.quarkiverse.amazon.common.runtime.AmazonClientApacheTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientAwsCrtTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientCommonRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientJdkTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientNettyTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientOpenTelemetryRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientUrlConnectionTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientVertxTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AsyncHttpClientBuildTimeConfig;
 import io.quarkiverse.amazon.common.runtime.AsyncHttpClientConfig;
 import io.quarkiverse.amazon.common.runtime.HasAmazonClientRuntimeConfig;
@@ -235,6 +238,32 @@ abstract public class AbstractAmazonServiceProcessor {
         });
     }
 
+    protected void createJdkSyncTransportBuilder(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
+            AmazonClientJdkTransportRecorder recorder,
+            SyncHttpClientBuildTimeConfig buildSyncConfig,
+            RuntimeValue<SyncHttpClientConfig> syncConfig,
+            BuildProducer<AmazonClientSyncTransportBuildItem> clientSyncTransports) {
+
+        Optional<RequireAmazonClientTransportBuilderBuildItem> matchingClientBuildItem = amazonClients.stream()
+                .filter(c -> c.getAwsClientName().equals(configName()))
+                .findAny();
+
+        matchingClientBuildItem.ifPresent(client -> {
+            if (!client.getSyncClassName().isPresent()) {
+                return;
+            }
+            if (buildSyncConfig.type() != SyncHttpClientBuildTimeConfig.SyncClientType.JDK) {
+                return;
+            }
+
+            clientSyncTransports.produce(
+                    new AmazonClientSyncTransportBuildItem(
+                            client.getAwsClientName(),
+                            client.getSyncClassName().get(),
+                            recorder.configureSync(configName(), syncConfig)));
+        });
+    }
+
     protected void createNettyAsyncTransportBuilder(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
             AmazonClientNettyTransportRecorder recorder,
             AsyncHttpClientBuildTimeConfig buildAsyncConfig,
@@ -289,6 +318,32 @@ abstract public class AbstractAmazonServiceProcessor {
         });
     }
 
+    protected void createVertxAsyncTransportBuilder(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
+            AmazonClientVertxTransportRecorder recorder,
+            AsyncHttpClientBuildTimeConfig buildAsyncConfig,
+            RuntimeValue<AsyncHttpClientConfig> asyncConfig,
+            BuildProducer<AmazonClientAsyncTransportBuildItem> clientAsyncTransports) {
+
+        Optional<RequireAmazonClientTransportBuilderBuildItem> matchingClientBuildItem = amazonClients.stream()
+                .filter(c -> c.getAwsClientName().equals(configName()))
+                .findAny();
+
+        matchingClientBuildItem.ifPresent(client -> {
+            if (!client.getAsyncClassName().isPresent()) {
+                return;
+            }
+            if (buildAsyncConfig.type() != AsyncHttpClientBuildTimeConfig.AsyncClientType.VERTX) {
+                return;
+            }
+
+            clientAsyncTransports.produce(
+                    new AmazonClientAsyncTransportBuildItem(
+                            client.getAwsClientName(),
+                            client.getAsyncClassName().get(),
+                            recorder.configureAsync(configName(), asyncConfig)));
+        });
+    }
+
     protected void createClientBuilders(
             AmazonClientRecorder recorder,
             AmazonClientCommonRecorder commonRecorder,
@@ -328,6 +383,7 @@ abstract public class AbstractAmazonServiceProcessor {
                         executorBuildItem.getExecutorProxy()),
                 presignerBuilderClass,
                 presignerBuilderSupplier,
+                (clientBuilder, clientName) -> recorder.configureEndpointCache(clientBuilder, configName(), clientName),
                 syntheticBeans,
                 clientSync,
                 clientAsync,
@@ -350,6 +406,7 @@ abstract public class AbstractAmazonServiceProcessor {
             Function<RuntimeValue<SdkAsyncHttpClient.Builder>, RuntimeValue<AwsClientBuilder>> asyncClientBuilderFunction,
             Class<?> presignerBuilderClass,
             Supplier<RuntimeValue<SdkPresigner.Builder>> presignerBuilderSupplier,
+            BiFunction<RuntimeValue<AwsClientBuilder>, String, RuntimeValue<AwsClientBuilder>> endpointCacheFunction,
             BuildProducer<SyntheticBeanBuildItem> syntheticBeans,
             BuildProducer<AmazonClientSyncResultBuildItem> clientSync,
             BuildProducer<AmazonClientAsyncResultBuildItem> clientAsync,
@@ -404,6 +461,7 @@ abstract public class AbstractAmazonServiceProcessor {
 
                 syncClientBuilder = recorder.configure(syncClientBuilder, amazonClientConfigRuntime,
                         sdkBuildConfig, sharedExecutorService, configName(), clientName);
+                syncClientBuilder = endpointCacheFunction.apply(syncClientBuilder, clientName);
                 if (addOpenTelemetry) {
                     syntheticBeans.produce(namedBuilder(SyntheticBeanBuildItem.configure(syncClientBuilderClass), clientName)
                             .unremovable()
@@ -434,6 +492,9 @@ abstract public class AbstractAmazonServiceProcessor {
                                         .destroyer(SdkAutoCloseableDestroyer.class)
                                         .done());
 
+                recorder.registerWarmup(amazonClientConfigRuntime, configName(), clientName,
+                        syncClientName().toString(), sharedExecutorService);
+
                 clientSync.produce(new AmazonClientSyncResultBuildItem(configName, clientName));
             }
         }
@@ -444,6 +505,7 @@ abstract public class AbstractAmazonServiceProcessor {
 
                 asyncClientBuilder = recorder.configure(asyncClientBuilder, amazonClientConfigRuntime,
                         sdkBuildConfig, sharedExecutorService, configName(), clientName);
+                asyncClientBuilder = endpointCacheFunction.apply(asyncClientBuilder, clientName);
                 if (addOpenTelemetry) {
                     syntheticBeans.produce(namedBuilder(SyntheticBeanBuildItem.configure(asyncClientBuilderClass), clientName)
                             .unremovable()
@@ -473,6 +535,9 @@ abstract public class AbstractAmazonServiceProcessor {
                                 .destroyer(SdkAutoCloseableDestroyer.class)
                                 .done());
 
+                recorder.registerWarmup(amazonClientConfigRuntime, configName(), clientName,
+                        asyncClientName().toString(), sharedExecutorService);
+
                 clientAsync.produce(new AmazonClientAsyncResultBuildItem(configName, clientName));
             }
         }
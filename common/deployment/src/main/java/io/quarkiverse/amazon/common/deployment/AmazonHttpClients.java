@@ -8,6 +8,7 @@ public class AmazonHttpClients {
     public static final String NETTY_HTTP_SERVICE = "software.amazon.awssdk.http.nio.netty.NettySdkAsyncHttpService";
     public static final String URL_CONNECTION_HTTP_SERVICE = "software.amazon.awssdk.http.urlconnection.UrlConnectionSdkHttpService";
     public static final String AWS_CRT_HTTP_SERVICE = "software.amazon.awssdk.http.crt.AwsCrtSdkHttpService";
+    public static final String VERTX_CORE_RECORDER = "io.quarkus.vertx.core.runtime.VertxCoreRecorder";
 
     public static class IsAmazonApacheHttpServicePresent implements BooleanSupplier {
         @Override
@@ -56,4 +57,16 @@ public class AmazonHttpClients {
             }
         }
     }
+
+    public static class IsQuarkusVertxPresent implements BooleanSupplier {
+        @Override
+        public boolean getAsBoolean() {
+            try {
+                Class.forName(VERTX_CORE_RECORDER);
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+    }
 }
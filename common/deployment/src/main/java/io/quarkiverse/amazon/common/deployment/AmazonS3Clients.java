@@ -0,0 +1,27 @@
+package io.quarkiverse.amazon.common.deployment;
+
+import java.util.function.BooleanSupplier;
+
+import org.jboss.jandex.DotName;
+
+/**
+ * The S3 client used by the extensions storing their large payloads in S3, when the application depends on the S3
+ * extension.
+ */
+public class AmazonS3Clients {
+
+    public static final String S3_ASYNC_CLIENT = "software.amazon.awssdk.services.s3.S3AsyncClient";
+    public static final DotName S3_ASYNC_CLIENT_NAME = DotName.createSimple(S3_ASYNC_CLIENT);
+
+    public static class IsS3AsyncClientPresent implements BooleanSupplier {
+        @Override
+        public boolean getAsBoolean() {
+            try {
+                Class.forName(S3_ASYNC_CLIENT);
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+    }
+}
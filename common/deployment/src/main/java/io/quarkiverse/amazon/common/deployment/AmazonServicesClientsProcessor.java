@@ -2,8 +2,10 @@ package io.quarkiverse.amazon.common.deployment;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.enterprise.inject.spi.DeploymentException;
 
@@ -12,6 +14,9 @@ import org.jboss.jandex.Type;
 
 import io.quarkiverse.amazon.common.AmazonClient;
 import io.quarkiverse.amazon.common.AmazonClientBuilder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientCommonRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientWarmup;
+import io.quarkiverse.amazon.common.runtime.AmazonClientWarmupHealthCheck;
 import io.quarkiverse.amazon.common.runtime.AsyncHttpClientBuildTimeConfig.AsyncClientType;
 import io.quarkiverse.amazon.common.runtime.AwsSdkTelemetryProducer;
 import io.quarkiverse.amazon.common.runtime.SdkBuildTimeConfig;
@@ -130,6 +135,38 @@ public class AmazonServicesClientsProcessor {
         additionalBuildItem.produce(AdditionalBeanBuildItem.unremovableOf(AwsSdkTelemetryProducer.class));
     }
 
+    @BuildStep
+    void setupMetrics(BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        if (QuarkusClassLoader.isClassPresentAtRuntime(AmazonClientCommonRecorder.MICROMETER_RECORDER)) {
+            // looked up to enable the Micrometer metric publisher of the clients and the meters of the components
+            reflectiveClasses.produce(ReflectiveClassBuildItem.builder(AmazonClientCommonRecorder.MICROMETER_RECORDER).build());
+        }
+    }
+
+    @BuildStep
+    void setupWarmup(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBuildItem) {
+        additionalBuildItem.produce(AdditionalBeanBuildItem.unremovableOf(AmazonClientWarmup.class));
+
+        if (capabilities.isPresent(Capability.SMALLRYE_HEALTH)) {
+            additionalBuildItem.produce(AdditionalBeanBuildItem.unremovableOf(AmazonClientWarmupHealthCheck.class));
+        }
+    }
+
+    @BuildStep
+    void setupWarmupOperations(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        // the warm-up operation is looked up by name on the client interface
+        String[] clientClassNames = amazonClients.stream()
+                .flatMap(client -> Stream.of(client.getSyncClassName(), client.getAsyncClassName()))
+                .flatMap(Optional::stream)
+                .map(DotName::toString)
+                .distinct()
+                .toArray(String[]::new);
+        if (clientClassNames.length > 0) {
+            reflectiveClasses.produce(ReflectiveClassBuildItem.builder(clientClassNames).methods().build());
+        }
+    }
+
     @BuildStep
     void setup(
             List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
@@ -147,8 +184,12 @@ public class AmazonServicesClientsProcessor {
                 .getBuildTimeSyncConfig().type() == SyncClientType.APACHE;
         final Predicate<RequireAmazonClientTransportBuilderBuildItem> isSyncCrt = client -> client
                 .getBuildTimeSyncConfig().type() == SyncClientType.AWS_CRT;
+        final Predicate<RequireAmazonClientTransportBuilderBuildItem> isSyncJdk = client -> client
+                .getBuildTimeSyncConfig().type() == SyncClientType.JDK;
         final Predicate<RequireAmazonClientTransportBuilderBuildItem> isAsyncNetty = client -> client
                 .getBuildTimeAsyncConfig().type() == AsyncClientType.NETTY;
+        final Predicate<RequireAmazonClientTransportBuilderBuildItem> isAsyncVertx = client -> client
+                .getBuildTimeAsyncConfig().type() == AsyncClientType.VERTX;
 
         // Register what's needed depending on the clients in the classpath and the configuration.
         // We use the configuration to guide us but if we don't have any clients configured,
@@ -158,6 +199,7 @@ public class AmazonServicesClientsProcessor {
                 .isClassPresentAtRuntime(AmazonHttpClients.URL_CONNECTION_HTTP_SERVICE);
         boolean isAsyncNettyInClasspath = QuarkusClassLoader.isClassPresentAtRuntime(AmazonHttpClients.NETTY_HTTP_SERVICE);
         boolean isAwsCrtInClasspath = QuarkusClassLoader.isClassPresentAtRuntime(AmazonHttpClients.AWS_CRT_HTTP_SERVICE);
+        boolean isVertxInClasspath = QuarkusClassLoader.isClassPresentAtRuntime(AmazonHttpClients.VERTX_CORE_RECORDER);
 
         // Check that the clients required by the configuration are available
         if (syncTransportNeeded) {
@@ -173,7 +215,8 @@ public class AmazonServicesClientsProcessor {
                 } else {
                     throw missingDependencyException("aws-crt-client");
                 }
-            } else {
+            } else if (amazonClients.stream().filter(isSyncJdk.negate()).findAny().isPresent()) {
+                // the JDK client is part of the extension and doesn't need any dependency
                 if (isSyncUrlConnectionInClasspath) {
                     registerSyncUrlConnectionClient(serviceProvider);
                 } else {
@@ -191,13 +234,16 @@ public class AmazonServicesClientsProcessor {
         }
 
         if (asyncTransportNeeded) {
+            if (amazonClients.stream().filter(isAsyncVertx).findAny().isPresent() && !isVertxInClasspath) {
+                throw missingDependencyException("io.quarkus", "quarkus-vertx");
+            }
             if (amazonClients.stream().filter(isAsyncNetty).findAny().isPresent()) {
                 if (isAsyncNettyInClasspath) {
                     registerAsyncNettyClient(serviceProvider);
                 } else {
                     throw missingDependencyException("netty-nio-client");
                 }
-            } else {
+            } else if (amazonClients.stream().filter(isAsyncVertx.negate()).findAny().isPresent()) {
                 if (isAwsCrtInClasspath) {
                     registerAsyncAwsCrtClient(serviceProvider);
                 } else {
@@ -250,6 +296,10 @@ public class AmazonServicesClientsProcessor {
     }
 
     private DeploymentException missingDependencyException(String dependencyName) {
-        return new DeploymentException("Missing 'software.amazon.awssdk:" + dependencyName + "' dependency on the classpath");
+        return missingDependencyException("software.amazon.awssdk", dependencyName);
+    }
+
+    private DeploymentException missingDependencyException(String groupId, String dependencyName) {
+        return new DeploymentException("Missing '" + groupId + ":" + dependencyName + "' dependency on the classpath");
     }
 }
@@ -0,0 +1,136 @@
+package io.quarkiverse.amazon.common.deployment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * An HTTP server standing in for an Amazon service in the tests, listening on an ephemeral port.
+ * <p>
+ * {@code QuarkusUnitTest} loads a test class twice: with the JUnit class loader, which configures the application with
+ * the endpoint of the server before it starts, and with the class loader of the application, which runs the tests. The
+ * first copy of the test class starts the server and the second one gets the same server, published through a system
+ * property as a JDK {@link HttpContext}. The requests are answered by the last handler set, so the handler set by the
+ * second copy answers the requests sent by the tests, with the state the tests see.
+ */
+public final class StubServer implements AutoCloseable {
+
+    private static final String PROPERTY_PREFIX = "quarkus-amazon.stub-server.";
+    private static final String HANDLER = "handler";
+
+    private final String property;
+    private final HttpContext context;
+
+    private StubServer(String property, HttpContext context) {
+        this.property = property;
+        this.context = context;
+    }
+
+    /**
+     * Starts the server of a test class, or gets the server started by the other copy of the test class.
+     */
+    public static StubServer start(Class<?> testClass) {
+        return start(testClass, "default");
+    }
+
+    /**
+     * Starts one of the servers of a test class, such as the server of a named client.
+     */
+    public static StubServer start(Class<?> testClass, String name) {
+        String property = PROPERTY_PREFIX + testClass.getName() + "." + name;
+        HttpContext context = (HttpContext) System.getProperties().computeIfAbsent(property, p -> newContext());
+        return new StubServer(property, context);
+    }
+
+    private static HttpContext newContext() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            // the stubs of long polls block their thread
+            server.setExecutor(Executors.newCachedThreadPool());
+            HttpContext context = server.createContext("/", exchange -> {
+                HttpHandler handler = (HttpHandler) exchange.getHttpContext().getAttributes().get(HANDLER);
+                if (handler == null) {
+                    respond(exchange, 503, "text/plain", "No handler");
+                } else {
+                    handler.handle(exchange);
+                }
+            });
+            server.start();
+            return context;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Answers the requests with a handler, in place of the previous one.
+     */
+    public StubServer handle(HttpHandler handler) {
+        context.getAttributes().put(HANDLER, handler);
+        return this;
+    }
+
+    public int port() {
+        return context.getServer().getAddress().getPort();
+    }
+
+    /**
+     * @return the URL of the server, to override the endpoint of the clients with
+     */
+    public String endpoint() {
+        return "http://localhost:" + port();
+    }
+
+    /**
+     * Stops the server, once both copies of the test class are done with it.
+     */
+    @Override
+    public void close() {
+        System.getProperties().remove(property);
+        context.getServer().stop(0);
+        ((ExecutorService) context.getServer().getExecutor()).shutdownNow();
+    }
+
+    /**
+     * @return the body of the request
+     */
+    public static String body(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * @return the operation of a JSON protocol request, e.g. {@code ReceiveMessage}
+     */
+    public static String operation(HttpExchange exchange) {
+        String target = exchange.getRequestHeaders().getFirst("X-Amz-Target");
+        return target == null ? null : target.substring(target.indexOf('.') + 1);
+    }
+
+    /**
+     * Sends the response of a JSON protocol request.
+     */
+    public static void respondJson(HttpExchange exchange, int status, String body) throws IOException {
+        respond(exchange, status, "application/x-amz-json-1.0", body);
+    }
+
+    public static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
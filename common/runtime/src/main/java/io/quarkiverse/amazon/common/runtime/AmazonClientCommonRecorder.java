@@ -2,8 +2,10 @@ package io.quarkiverse.amazon.common.runtime;
 
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 
@@ -17,13 +19,19 @@ import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.awscore.AwsClient;
 import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.presigner.SdkPresigner;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.retries.LegacyRetryStrategy;
+import software.amazon.awssdk.retries.StandardRetryStrategy;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
 
@@ -31,6 +39,13 @@ import software.amazon.awssdk.utils.builder.SdkBuilder;
 public class AmazonClientCommonRecorder {
     private static final Log LOG = LogFactory.getLog(AmazonClientCommonRecorder.class);
 
+    public static final String MICROMETER_RECORDER = "io.quarkus.micrometer.runtime.MicrometerRecorder";
+
+    // the SDK defaults of the standard retry strategy
+    private static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(100);
+    private static final Duration DEFAULT_THROTTLED_BASE_DELAY = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(20);
+
     public RuntimeValue<AwsClientBuilder> configure(RuntimeValue<? extends AwsClientBuilder> clientBuilder,
             RuntimeValue<HasAmazonClientRuntimeConfig> amazonClientConfigRuntime, HasSdkBuildTimeConfig sdkBuildTimeConfig,
             ScheduledExecutorService scheduledExecutorService, String awsServiceName, String clientName) {
@@ -41,26 +56,73 @@ public class AmazonClientCommonRecorder {
 
         String namedExtension = ClientUtil.isDefaultClient(clientName) ? awsServiceName : awsServiceName + "." + clientName;
         initAwsClient(builder, awsServiceName, namedExtension, namedConfig.aws(), defaultConfig.aws());
-        initSdkClient(builder, awsServiceName, namedExtension, namedConfig.sdk(), defaultConfig.sdk(), sdkBuildTimeConfig.sdk(),
-                scheduledExecutorService);
+        initSdkClient(builder, awsServiceName, clientName, namedExtension, namedConfig.sdk(), defaultConfig.sdk(),
+                sdkBuildTimeConfig.sdk(), scheduledExecutorService);
 
         return new RuntimeValue<>(builder);
     }
 
+    @SuppressWarnings("unchecked")
+    public void registerWarmup(RuntimeValue<HasAmazonClientRuntimeConfig> amazonClientConfigRuntime, String awsServiceName,
+            String clientName, String clientClassName, ScheduledExecutorService scheduledExecutorService) {
+        WarmupConfig namedConfig = amazonClientConfigRuntime.getValue().clients().get(clientName).warmup();
+        WarmupConfig defaultConfig = amazonClientConfigRuntime.getValue().clients().get(ClientUtil.DEFAULT_CLIENT_NAME)
+                .warmup();
+
+        if (!namedConfig.enabled().or(() -> defaultConfig.enabled()).orElse(false)) {
+            return;
+        }
+
+        String namedExtension = ClientUtil.isDefaultClient(clientName) ? awsServiceName : awsServiceName + "." + clientName;
+        int connections = namedConfig.connections().or(() -> defaultConfig.connections()).orElse(1);
+        if (connections < 1) {
+            throw new RuntimeConfigurationError(
+                    String.format("quarkus.%s.warmup.connections (%s) - must be at least 1", namedExtension, connections));
+        }
+
+        Class<? extends SdkClient> clientClass;
+        try {
+            clientClass = (Class<? extends SdkClient>) Class.forName(clientClassName, false,
+                    Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+
+        AmazonClientWarmup.register(new AmazonClientWarmup.Target(namedExtension + ":" + clientClass.getSimpleName(),
+                clientName, clientClass,
+                namedConfig.operation().or(() -> defaultConfig.operation()), connections, scheduledExecutorService));
+    }
+
+    /**
+     * Checked before loading {@link MicrometerMetricPublisher} and {@link MicrometerComponentMeters}, which require the
+     * Micrometer API.
+     *
+     * @return whether the Quarkus Micrometer extension is available
+     */
+    static boolean isMicrometerPresent() {
+        try {
+            Class.forName(MICROMETER_RECORDER, false, Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
     public void initAwsClient(AwsClientBuilder builder, String extension, String namedExtension, AwsConfig namedConfig,
             AwsConfig defaultConfig) {
         namedConfig.region().or(() -> defaultConfig.region()).ifPresent(builder::region);
 
-        AwsCredentialsProvider credential = namedConfig.credentials().map(c -> c.type().create(c, "quarkus." + namedExtension))
-                .or(() -> defaultConfig.credentials().map(c -> c.type().create(c, "quarkus." + extension)))
-                .orElseGet(() -> DefaultCredentialsProvider.builder().asyncCredentialUpdateEnabled(false)
-                        .reuseLastProviderEnabled(false).build());
+        AwsCredentialsProvider credential = namedConfig.credentials()
+                .map(c -> AmazonCredentialsProviderRegistry.shared(c, "quarkus." + namedExtension))
+                .or(() -> defaultConfig.credentials()
+                        .map(c -> AmazonCredentialsProviderRegistry.shared(c, "quarkus." + extension)))
+                .orElseGet(AmazonCredentialsProviderRegistry::sharedDefault);
 
         builder.credentialsProvider(credential);
     }
 
-    public void initSdkClient(SdkClientBuilder builder, String extension, String namedExtension, SdkConfig namedConfig,
-            SdkConfig defaultConfig, SdkBuildTimeConfig buildConfig,
+    public void initSdkClient(SdkClientBuilder builder, String extension, String clientName, String namedExtension,
+            SdkConfig namedConfig, SdkConfig defaultConfig, SdkBuildTimeConfig buildConfig,
             ScheduledExecutorService scheduledExecutorService) {
 
         if (namedConfig.endpointOverride().isPresent()) {
@@ -84,6 +146,20 @@ public class AmazonClientCommonRecorder {
         namedConfig.apiCallAttemptTimeout().or(() -> defaultConfig.apiCallAttemptTimeout())
                 .ifPresent(overrides::apiCallAttemptTimeout);
 
+        configureRetryStrategy(namedExtension, namedConfig.retry(), defaultConfig.retry()).ifPresent(overrides::retryStrategy);
+
+        if (namedConfig.metrics().enabled().or(() -> defaultConfig.metrics().enabled()).orElse(true)
+                && isMicrometerPresent()) {
+            double samplingRate = namedConfig.metrics().samplingRate().or(() -> defaultConfig.metrics().samplingRate())
+                    .orElse(1.0d);
+            if (samplingRate < 0.0d || samplingRate > 1.0d) {
+                throw new RuntimeConfigurationError(
+                        String.format("quarkus.%s.metrics.sampling-rate (%s) - must be between 0 and 1", namedExtension,
+                                samplingRate));
+            }
+            overrides.addMetricPublisher(new MicrometerMetricPublisher(extension, clientName, samplingRate));
+        }
+
         buildConfig.interceptors().orElse(Collections.emptyList()).stream()
                 .map(String::trim)
                 .map(this::createInterceptor)
@@ -92,6 +168,74 @@ public class AmazonClientCommonRecorder {
         builder.overrideConfiguration(overrides.build());
     }
 
+    private Optional<RetryStrategy> configureRetryStrategy(String namedExtension, SdkConfig.Retry namedConfig,
+            SdkConfig.Retry defaultConfig) {
+        Optional<SdkConfig.RetryStrategyType> mode = namedConfig.mode().or(() -> defaultConfig.mode());
+        Optional<Integer> maxAttempts = namedConfig.maxAttempts().or(() -> defaultConfig.maxAttempts());
+        Optional<Boolean> circuitBreakerEnabled = namedConfig.circuitBreakerEnabled()
+                .or(() -> defaultConfig.circuitBreakerEnabled());
+        Optional<BackoffStrategy> backoff = backoffStrategy(namedConfig.backoff(), defaultConfig.backoff(),
+                DEFAULT_BASE_DELAY);
+        Optional<BackoffStrategy> throttlingBackoff = backoffStrategy(namedConfig.throttlingBackoff(),
+                defaultConfig.throttlingBackoff(), DEFAULT_THROTTLED_BASE_DELAY);
+
+        if (mode.isEmpty() && maxAttempts.isEmpty() && circuitBreakerEnabled.isEmpty() && backoff.isEmpty()
+                && throttlingBackoff.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (maxAttempts.isPresent() && maxAttempts.get() < 1) {
+            throw new RuntimeConfigurationError(
+                    String.format("quarkus.%s.retry.max-attempts (%s) - must be greater than 0", namedExtension,
+                            maxAttempts.get()));
+        }
+
+        RetryStrategy.Builder<?, ?> builder;
+        switch (mode.orElseGet(() -> toRetryStrategyType(RetryMode.defaultRetryMode()))) {
+            case ADAPTIVE:
+                builder = AwsRetryStrategy.adaptiveRetryStrategy().toBuilder();
+                break;
+            case LEGACY:
+                LegacyRetryStrategy.Builder legacy = AwsRetryStrategy.legacyRetryStrategy().toBuilder();
+                circuitBreakerEnabled.ifPresent(legacy::circuitBreakerEnabled);
+                builder = legacy;
+                break;
+            default:
+                StandardRetryStrategy.Builder standard = AwsRetryStrategy.standardRetryStrategy().toBuilder();
+                circuitBreakerEnabled.ifPresent(standard::circuitBreakerEnabled);
+                builder = standard;
+                break;
+        }
+        maxAttempts.ifPresent(builder::maxAttempts);
+        backoff.ifPresent(builder::backoffStrategy);
+        throttlingBackoff.ifPresent(builder::throttlingBackoffStrategy);
+
+        return Optional.of(builder.build());
+    }
+
+    private static Optional<BackoffStrategy> backoffStrategy(SdkConfig.Backoff namedConfig, SdkConfig.Backoff defaultConfig,
+            Duration defaultBaseDelay) {
+        Optional<Duration> baseDelay = namedConfig.baseDelay().or(() -> defaultConfig.baseDelay());
+        Optional<Duration> maxBackoff = namedConfig.maxBackoff().or(() -> defaultConfig.maxBackoff());
+        if (baseDelay.isEmpty() && maxBackoff.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(BackoffStrategy.exponentialDelay(baseDelay.orElse(defaultBaseDelay),
+                maxBackoff.orElse(DEFAULT_MAX_BACKOFF)));
+    }
+
+    private static SdkConfig.RetryStrategyType toRetryStrategyType(RetryMode retryMode) {
+        switch (retryMode) {
+            case ADAPTIVE:
+            case ADAPTIVE_V2:
+                return SdkConfig.RetryStrategyType.ADAPTIVE;
+            case LEGACY:
+                return SdkConfig.RetryStrategyType.LEGACY;
+            default:
+                return SdkConfig.RetryStrategyType.STANDARD;
+        }
+    }
+
     private void validEndpointOverride(String namedExtension, URI endpointOverride) {
         if (StringUtils.isBlank(endpointOverride.getScheme())) {
             throw new RuntimeConfigurationError(
@@ -121,10 +265,11 @@ public class AmazonClientCommonRecorder {
             AwsConfig defaultConfig) {
         namedConfig.region().or(() -> defaultConfig.region()).ifPresent(builder::region);
 
-        AwsCredentialsProvider credential = namedConfig.credentials().map(c -> c.type().create(c, "quarkus." + namedExtension))
-                .or(() -> defaultConfig.credentials().map(c -> c.type().create(c, "quarkus." + extension)))
-                .orElseGet(() -> DefaultCredentialsProvider.builder().asyncCredentialUpdateEnabled(false)
-                        .reuseLastProviderEnabled(false).build());
+        AwsCredentialsProvider credential = namedConfig.credentials()
+                .map(c -> AmazonCredentialsProviderRegistry.shared(c, "quarkus." + namedExtension))
+                .or(() -> defaultConfig.credentials()
+                        .map(c -> AmazonCredentialsProviderRegistry.shared(c, "quarkus." + extension)))
+                .orElseGet(AmazonCredentialsProviderRegistry::sharedDefault);
 
         builder.credentialsProvider(credential);
     }
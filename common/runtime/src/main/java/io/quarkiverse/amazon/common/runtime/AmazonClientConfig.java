@@ -18,4 +18,10 @@ public interface AmazonClientConfig {
      */
     @ConfigDocSection
     AwsConfig aws();
+
+    /**
+     * Warm-up configuration
+     */
+    @ConfigDocSection
+    WarmupConfig warmup();
 }
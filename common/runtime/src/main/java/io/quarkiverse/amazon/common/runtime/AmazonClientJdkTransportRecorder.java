@@ -0,0 +1,46 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+@Recorder
+public class AmazonClientJdkTransportRecorder extends AbstractAmazonClientTransportRecorder {
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public RuntimeValue<SdkHttpClient.Builder> configureSync(String clientName,
+            RuntimeValue<SyncHttpClientConfig> syncConfigRuntime) {
+        SyncHttpClientConfig syncConfig = syncConfigRuntime.getValue();
+        validateJdkClientConfig(clientName, syncConfig);
+
+        JdkSdkHttpClient.Builder builder = JdkSdkHttpClient.builder()
+                .connectionTimeout(syncConfig.connectionTimeout())
+                .responseTimeout(syncConfig.jdk().responseTimeout())
+                .maxConcurrency(syncConfig.jdk().maxConcurrency())
+                .connectionAcquisitionTimeout(syncConfig.jdk().connectionAcquisitionTimeout())
+                .protocol(syncConfig.jdk().protocol())
+                .expectContinueEnabled(syncConfig.jdk().expectContinueEnabled())
+                .tlsKeyManagersProvider(getTlsKeyManagersProvider(syncConfig.tlsKeyManagersProvider()))
+                .tlsTrustManagersProvider(getTlsTrustManagersProvider(syncConfig.tlsTrustManagersProvider()));
+
+        if (syncConfig.jdk().proxy().enabled() && syncConfig.jdk().proxy().endpoint().isPresent()) {
+            builder.proxy(syncConfig.jdk().proxy().endpoint().get());
+        }
+
+        return new RuntimeValue<>(builder);
+    }
+
+    private void validateJdkClientConfig(String extension, SyncHttpClientConfig config) {
+        if (config.jdk().maxConcurrency() <= 0) {
+            throw new RuntimeConfigurationError(
+                    String.format("quarkus.%s.sync-client.jdk.max-concurrency may not be negative or zero.", extension));
+        }
+        if (config.jdk().proxy().enabled()) {
+            config.jdk().proxy().endpoint().ifPresent(uri -> validateProxyEndpoint(extension, uri, "sync"));
+        }
+
+        validateTlsKeyManagersProvider(extension, config.tlsKeyManagersProvider(), "sync");
+        validateTlsTrustManagersProvider(extension, config.tlsTrustManagersProvider(), "sync");
+    }
+}
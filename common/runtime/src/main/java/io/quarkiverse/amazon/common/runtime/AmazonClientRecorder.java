@@ -14,6 +14,8 @@ import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 
 public abstract class AmazonClientRecorder {
 
+    private static final int DEFAULT_ENDPOINT_CACHE_SIZE = 0;
+
     public abstract RuntimeValue<HasAmazonClientRuntimeConfig> getAmazonClientsConfig();
 
     public abstract AsyncHttpClientConfig getAsyncClientConfig();
@@ -34,9 +36,12 @@ public abstract class AmazonClientRecorder {
 
     public RuntimeValue<AwsClientBuilder> createSyncBuilder(RuntimeValue<Builder> transport) {
         AwsSyncClientBuilder<?, ?> builder = geSyncClientBuilder();
+        SyncHttpClientConfig config = getSyncClientConfig();
 
         if (transport != null) {
-            builder.httpClientBuilder(transport.getValue());
+            builder.httpClientBuilder(config.shared()
+                    ? AmazonClientTransportRegistry.shared(transport.getValue(), config)
+                    : transport.getValue());
         }
 
         return new RuntimeValue<>((AwsClientBuilder) builder);
@@ -49,18 +54,23 @@ public abstract class AmazonClientRecorder {
         AsyncHttpClientConfig config = getAsyncClientConfig();
 
         if (transport != null) {
-            builder.httpClientBuilder(transport.getValue());
+            builder.httpClientBuilder(config.shared()
+                    ? AmazonClientTransportRegistry.shared(transport.getValue(), config)
+                    : transport.getValue());
         }
 
         Executor configExecutor;
+        boolean vertxTransport = transport != null && transport.getValue() instanceof VertxSdkAsyncHttpClient.Builder;
 
-        if (!config.advanced().useFutureCompletionThreadPool()) {
+        if (!config.advanced().useFutureCompletionThreadPool() || vertxTransport) {
+            // the Vert.x client completes on the caller context, avoid a thread hop
             configExecutor = Runnable::run;
         } else {
             configExecutor = executor;
         }
 
-        if (launchMode != LaunchMode.NORMAL) {
+        // the Vert.x event loops already run with the class loader of the application
+        if (launchMode != LaunchMode.NORMAL && !vertxTransport) {
             configExecutor = new ClassLoaderExecutorWrapper(executor);
         }
 
@@ -72,6 +82,34 @@ public abstract class AmazonClientRecorder {
         return new RuntimeValue<>((AwsClientBuilder) builder);
     }
 
+    public RuntimeValue<AwsClientBuilder> configureEndpointCache(RuntimeValue<AwsClientBuilder> clientBuilder,
+            String awsServiceName, String clientName) {
+        AmazonClientConfig namedConfig = getAmazonClientsConfig().getValue().clients().get(clientName);
+        AmazonClientConfig defaultConfig = getAmazonClientsConfig().getValue().clients().get(ClientUtil.DEFAULT_CLIENT_NAME);
+
+        int maxSize = namedConfig.sdk().advanced().endpointCacheSize()
+                .or(() -> defaultConfig.sdk().advanced().endpointCacheSize())
+                .orElse(DEFAULT_ENDPOINT_CACHE_SIZE);
+        if (maxSize < 0) {
+            String namedExtension = ClientUtil.isDefaultClient(clientName) ? awsServiceName
+                    : awsServiceName + "." + clientName;
+            throw new RuntimeConfigurationError(
+                    String.format("quarkus.%s.advanced.endpoint-cache-size (%s) - must be positive or zero", namedExtension,
+                            maxSize));
+        }
+        if (maxSize > 0) {
+            setEndpointCache(clientBuilder.getValue(), maxSize);
+        }
+
+        return clientBuilder;
+    }
+
+    /**
+     * Sets an endpoint provider caching the endpoints resolved by the default endpoint provider of the service.
+     */
+    protected void setEndpointCache(AwsClientBuilder<?, ?> builder, int maxSize) {
+    }
+
     public RuntimeValue<SdkPresigner.Builder> createPresignerBuilder() {
         throw new UnsupportedOperationException();
     }
@@ -0,0 +1,195 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Registry of the HTTP clients shared by the Amazon clients.
+ * <p>
+ * An HTTP client is built once per distinct transport configuration, i.e. the transport implementation, its configuration
+ * and the service defaults provided by the SDK, and is reused by every Amazon client, named or not, having the same
+ * transport configuration. Each Amazon client holds a reference on the shared HTTP client, released when the Amazon client
+ * is closed by {@link SdkAutoCloseableDestroyer}. The HTTP client and its connection pool are closed when the last
+ * reference is released.
+ */
+public final class AmazonClientTransportRegistry {
+
+    private static final Map<Object, SharedTransport<?>> TRANSPORTS = new HashMap<>();
+
+    private AmazonClientTransportRegistry() {
+    }
+
+    /**
+     * Wrap a sync HTTP client builder so that the HTTP clients it builds are shared by all the Amazon clients with the same
+     * transport configuration.
+     */
+    @SuppressWarnings("rawtypes")
+    public static SdkHttpClient.Builder shared(SdkHttpClient.Builder builder, SyncHttpClientConfig config) {
+        return new SharedSdkHttpClientBuilder(List.of(builder.getClass().getName(), config), builder);
+    }
+
+    /**
+     * Wrap an async HTTP client builder so that the HTTP clients it builds are shared by all the Amazon clients with the same
+     * transport configuration.
+     */
+    @SuppressWarnings("rawtypes")
+    public static SdkAsyncHttpClient.Builder shared(SdkAsyncHttpClient.Builder builder, AsyncHttpClientConfig config) {
+        return new SharedSdkAsyncHttpClientBuilder(List.of(builder.getClass().getName(), config), builder);
+    }
+
+    /**
+     * @return the number of HTTP clients currently shared
+     */
+    public static synchronized int size() {
+        return TRANSPORTS.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    static synchronized <T extends SdkAutoCloseable> T acquire(Object key, Supplier<T> factory) {
+        SharedTransport<T> transport = (SharedTransport<T>) TRANSPORTS.get(key);
+        if (transport == null) {
+            transport = new SharedTransport<>(factory.get());
+            TRANSPORTS.put(key, transport);
+        }
+        transport.references++;
+        return transport.client;
+    }
+
+    static void release(Object key) {
+        SharedTransport<?> released = null;
+        synchronized (AmazonClientTransportRegistry.class) {
+            SharedTransport<?> transport = TRANSPORTS.get(key);
+            if (transport != null && --transport.references == 0) {
+                TRANSPORTS.remove(key);
+                released = transport;
+            }
+        }
+        if (released != null) {
+            released.client.close();
+        }
+    }
+
+    private static final class SharedTransport<T extends SdkAutoCloseable> {
+        private final T client;
+        private int references;
+
+        private SharedTransport(T client) {
+            this.client = client;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final class SharedSdkHttpClientBuilder implements SdkHttpClient.Builder<SharedSdkHttpClientBuilder> {
+
+        private final Object key;
+        private final SdkHttpClient.Builder delegate;
+
+        private SharedSdkHttpClientBuilder(Object key, SdkHttpClient.Builder delegate) {
+            this.key = key;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            Object transportKey = List.of(key, serviceDefaults);
+            return new SharedSdkHttpClient(transportKey,
+                    acquire(transportKey, () -> delegate.buildWithDefaults(serviceDefaults)));
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final class SharedSdkAsyncHttpClientBuilder
+            implements SdkAsyncHttpClient.Builder<SharedSdkAsyncHttpClientBuilder> {
+
+        private final Object key;
+        private final SdkAsyncHttpClient.Builder delegate;
+
+        private SharedSdkAsyncHttpClientBuilder(Object key, SdkAsyncHttpClient.Builder delegate) {
+            this.key = key;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            Object transportKey = List.of(key, serviceDefaults);
+            return new SharedSdkAsyncHttpClient(transportKey,
+                    acquire(transportKey, () -> delegate.buildWithDefaults(serviceDefaults)));
+        }
+    }
+
+    /**
+     * A reference on a shared sync HTTP client, closed by the SDK when the owning Amazon client is closed.
+     */
+    private static final class SharedSdkHttpClient implements SdkHttpClient {
+
+        private final Object key;
+        private final SdkHttpClient delegate;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private SharedSdkHttpClient(Object key, SdkHttpClient delegate) {
+            this.key = key;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+            return delegate.prepareRequest(request);
+        }
+
+        @Override
+        public String clientName() {
+            return delegate.clientName();
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(key);
+            }
+        }
+    }
+
+    /**
+     * A reference on a shared async HTTP client, closed by the SDK when the owning Amazon client is closed.
+     */
+    private static final class SharedSdkAsyncHttpClient implements SdkAsyncHttpClient {
+
+        private final Object key;
+        private final SdkAsyncHttpClient delegate;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private SharedSdkAsyncHttpClient(Object key, SdkAsyncHttpClient delegate) {
+            this.key = key;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+            return delegate.execute(request);
+        }
+
+        @Override
+        public String clientName() {
+            return delegate.clientName();
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509KeyManager;
+
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
+import io.vertx.core.http.Http2Settings;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.net.KeyCertOptions;
+import io.vertx.core.net.ProxyOptions;
+import io.vertx.core.net.TrustOptions;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+
+@Recorder
+public class AmazonClientVertxTransportRecorder extends AbstractAmazonClientTransportRecorder {
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public RuntimeValue<SdkAsyncHttpClient.Builder> configureAsync(String clientName,
+            RuntimeValue<AsyncHttpClientConfig> asyncConfigRuntime) {
+        AsyncHttpClientConfig asyncConfig = asyncConfigRuntime.getValue();
+        validateVertxClientConfig(clientName, asyncConfig);
+
+        HttpClientOptions options = new HttpClientOptions();
+        options.setName("aws-" + clientName);
+        options.setConnectTimeout(toMillis(asyncConfig.connectionTimeout()));
+        options.setTcpKeepAlive(asyncConfig.tcpKeepAlive());
+        if (asyncConfig.useIdleConnectionReaper()) {
+            options.setKeepAliveTimeout(toSeconds(asyncConfig.connectionMaxIdleTime()));
+            options.setHttp2KeepAliveTimeout(toSeconds(asyncConfig.connectionMaxIdleTime()));
+        } else {
+            options.setKeepAliveTimeout(0);
+            options.setHttp2KeepAliveTimeout(0);
+        }
+
+        if (asyncConfig.protocol() == Protocol.HTTP2) {
+            options.setProtocolVersion(HttpVersion.HTTP_2);
+            options.setUseAlpn(true);
+            asyncConfig.http2().maxStreams()
+                    .ifPresent(maxStreams -> options.setHttp2MultiplexingLimit((int) Math.min(maxStreams, Integer.MAX_VALUE)));
+            asyncConfig.http2().initialWindowSize()
+                    .ifPresent(windowSize -> options.setInitialSettings(new Http2Settings().setInitialWindowSize(windowSize)));
+        }
+
+        // the engine options are created by the client, verifying the recorder must not load the Vert.x classes
+        asyncConfig.sslProvider()
+                .ifPresent(sslProvider -> options.setSslEngineOptions(VertxSdkAsyncHttpClient.sslEngineOptions(sslProvider)));
+
+        if (asyncConfig.proxy().enabled() && asyncConfig.proxy().endpoint().isPresent()) {
+            ProxyOptions proxyOptions = new ProxyOptions().setHost(asyncConfig.proxy().endpoint().get().getHost());
+            if (asyncConfig.proxy().endpoint().get().getPort() != -1) {
+                proxyOptions.setPort(asyncConfig.proxy().endpoint().get().getPort());
+            }
+            options.setProxyOptions(proxyOptions);
+            options.setNonProxyHosts(asyncConfig.proxy().nonProxyHosts().orElse(Collections.emptyList()));
+        }
+
+        TlsKeyManagersProvider tlsKeyManagersProvider = getTlsKeyManagersProvider(asyncConfig.tlsKeyManagersProvider());
+        KeyManager[] keyManagers = tlsKeyManagersProvider != null ? tlsKeyManagersProvider.keyManagers() : null;
+        if (keyManagers != null && keyManagers.length > 0 && keyManagers[0] instanceof X509KeyManager) {
+            options.setKeyCertOptions(KeyCertOptions.wrap((X509KeyManager) keyManagers[0]));
+        }
+        TlsTrustManagersProvider tlsTrustManagerProvider = getTlsTrustManagersProvider(asyncConfig.tlsTrustManagersProvider());
+        TrustManager[] trustManagers = tlsTrustManagerProvider != null ? tlsTrustManagerProvider.trustManagers() : null;
+        if (trustManagers != null && trustManagers.length > 0) {
+            options.setTrustOptions(TrustOptions.wrap(trustManagers[0]));
+        }
+
+        PoolOptions poolOptions = new PoolOptions()
+                .setHttp1MaxSize(asyncConfig.maxConcurrency())
+                .setHttp2MaxSize(asyncConfig.maxConcurrency())
+                .setMaxWaitQueueSize(asyncConfig.maxPendingConnectionAcquires());
+
+        VertxSdkAsyncHttpClient.Builder builder = VertxSdkAsyncHttpClient.builder()
+                .vertx(() -> VertxCoreRecorder.getVertx().get())
+                .options(options)
+                .poolOptions(poolOptions)
+                .readTimeout(asyncConfig.readTimeout())
+                .connectionAcquisitionTimeout(asyncConfig.connectionAcquisitionTimeout());
+
+        return new RuntimeValue<>(builder);
+    }
+
+    private static int toMillis(Duration duration) {
+        return (int) Math.min(duration.toMillis(), Integer.MAX_VALUE);
+    }
+
+    private static int toSeconds(Duration duration) {
+        // Vert.x keep alive timeouts are expressed in seconds, 0 meaning no timeout
+        return (int) Math.max(1, Math.min(duration.toSeconds(), Integer.MAX_VALUE));
+    }
+
+    private void validateVertxClientConfig(String extension, AsyncHttpClientConfig config) {
+        if (config.maxConcurrency() <= 0) {
+            throw new RuntimeConfigurationError(
+                    String.format("quarkus.%s.async-client.max-concurrency may not be negative or zero.", extension));
+        }
+
+        if (config.maxPendingConnectionAcquires() <= 0) {
+            throw new RuntimeConfigurationError(
+                    String.format("quarkus.%s.async-client.max-pending-connection-acquires may not be negative or zero.",
+                            extension));
+        }
+
+        if (config.proxy().enabled()) {
+            config.proxy().endpoint().ifPresent(uri -> validateProxyEndpoint(extension, uri, "async"));
+        }
+
+        validateTlsKeyManagersProvider(extension, config.tlsKeyManagersProvider(), "async");
+        validateTlsTrustManagersProvider(extension, config.tlsTrustManagersProvider(), "async");
+    }
+}
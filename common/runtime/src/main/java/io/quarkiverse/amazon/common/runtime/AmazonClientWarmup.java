@@ -0,0 +1,178 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import io.quarkiverse.amazon.common.AmazonClient;
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.StartupEvent;
+import software.amazon.awssdk.awscore.AwsServiceClientConfiguration;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+/**
+ * Warms up the Amazon clients with warm-up enabled once the application is started.
+ * <p>
+ * Each client is built, resolves its credentials and, if a warm-up operation is configured, calls it as many times
+ * concurrently as the number of connections to open. The warm-ups run in the background and {@link #isDone()} tells
+ * whether they are all completed, which they are not before the application is started.
+ */
+@ApplicationScoped
+public class AmazonClientWarmup {
+
+    private static final Log LOG = LogFactory.getLog(AmazonClientWarmup.class);
+
+    private static final List<Target> TARGETS = new ArrayList<>();
+
+    private final Map<String, Duration> timings = new ConcurrentHashMap<>();
+    private final CompletableFuture<Void> warmups = new CompletableFuture<>();
+
+    static synchronized void register(Target target) {
+        TARGETS.add(target);
+    }
+
+    private static synchronized List<Target> drain() {
+        List<Target> targets = new ArrayList<>(TARGETS);
+        TARGETS.clear();
+        return targets;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        CompletableFuture.allOf(drain().stream()
+                .map(this::warmup)
+                .toArray(CompletableFuture[]::new))
+                .thenRun(() -> warmups.complete(null));
+    }
+
+    /**
+     * @return whether all the warm-ups are completed, successfully or not
+     */
+    public boolean isDone() {
+        return warmups.isDone();
+    }
+
+    /**
+     * @return the duration of the completed warm-ups, by client
+     */
+    public Map<String, Duration> timings() {
+        return Collections.unmodifiableMap(timings);
+    }
+
+    // the warm-up steps are composed rather than joined, so that they never wait on a thread of the executor running them
+    private CompletableFuture<Void> warmup(Target target) {
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(target::lookup, target.executor)
+                .thenCompose(client -> resolveCredentials(client).thenCompose(ignored -> callOperation(target, client)))
+                .handle((ignored, error) -> {
+                    if (error == null) {
+                        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+                        timings.put(target.name, duration);
+                        LOG.info(String.format("Amazon client %s warmed up in %d ms", target.name, duration.toMillis()));
+                    } else if (error.getCause() instanceof NoSuchMethodException) {
+                        LOG.warn(String.format("Unable to warm up Amazon client %s: no operation %s without parameters",
+                                target.name, target.operation.get()));
+                    } else {
+                        LOG.warn(String.format("Unable to warm up Amazon client %s", target.name),
+                                error instanceof CompletionException ? error.getCause() : error);
+                    }
+                    return null;
+                });
+    }
+
+    private static CompletableFuture<?> resolveCredentials(SdkClient client) {
+        if (client.serviceClientConfiguration() instanceof AwsServiceClientConfiguration) {
+            return ((AwsServiceClientConfiguration) client.serviceClientConfiguration()).credentialsProvider()
+                    .resolveIdentity();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static CompletableFuture<Void> callOperation(Target target, SdkClient client) {
+        if (target.operation.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Method operation;
+        try {
+            operation = target.clientClass.getMethod(target.operation.get());
+        } catch (NoSuchMethodException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        // the operations of the sync clients block, they run on the executor
+        boolean async = CompletableFuture.class.isAssignableFrom(operation.getReturnType());
+        CompletableFuture<?>[] calls = new CompletableFuture<?>[target.connections];
+        for (int i = 0; i < calls.length; i++) {
+            calls[i] = (async
+                    ? call(client, operation)
+                    : CompletableFuture.supplyAsync(() -> call(client, operation), target.executor)
+                            .thenCompose(Function.identity()))
+                    .exceptionally(error -> ignoreServiceError(target, error));
+        }
+        return CompletableFuture.allOf(calls);
+    }
+
+    private static CompletableFuture<Void> call(SdkClient client, Method operation) {
+        try {
+            Object result = operation.invoke(client);
+            return result instanceof CompletableFuture ? ((CompletableFuture<?>) result).thenAccept(response -> {
+            }) : CompletableFuture.completedFuture(null);
+        } catch (InvocationTargetException e) {
+            return CompletableFuture.failedFuture(e.getCause());
+        } catch (IllegalAccessException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Void ignoreServiceError(Target target, Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (!(cause instanceof SdkServiceException)) {
+            throw new CompletionException(cause);
+        }
+        // the service has been reached, which is all the warm-up needs
+        LOG.debug(String.format("Warm-up operation of Amazon client %s failed", target.name), cause);
+        return null;
+    }
+
+    static final class Target {
+
+        private final String name;
+        private final String clientName;
+        private final Class<? extends SdkClient> clientClass;
+        private final Optional<String> operation;
+        private final int connections;
+        private final Executor executor;
+
+        Target(String name, String clientName, Class<? extends SdkClient> clientClass, Optional<String> operation,
+                int connections, Executor executor) {
+            this.name = name;
+            this.clientName = clientName;
+            this.clientClass = clientClass;
+            this.operation = operation;
+            this.connections = connections;
+            this.executor = executor;
+        }
+
+        private SdkClient lookup() {
+            if (ClientUtil.isDefaultClient(clientName)) {
+                return Arc.container().instance(clientClass).get();
+            }
+            return Arc.container().instance(clientClass, new AmazonClient.AmazonClientLiteral(clientName)).get();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Readiness check reporting the Amazon clients as not ready until their warm-up is completed.
+ */
+@Readiness
+@ApplicationScoped
+public class AmazonClientWarmupHealthCheck implements HealthCheck {
+
+    @Inject
+    AmazonClientWarmup warmup;
+
+    @Override
+    public HealthCheckResponse call() {
+        HealthCheckResponseBuilder builder = HealthCheckResponse.named("Amazon clients warm-up").status(warmup.isDone());
+        warmup.timings().forEach((client, duration) -> builder.withData(client, duration.toMillis()));
+        return builder.build();
+    }
+}
@@ -0,0 +1,152 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.ContainerCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.InstanceProfileCredentialsProvider;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Registry of the credentials providers shared by the Amazon clients.
+ * <p>
+ * A credentials provider is created once per distinct credentials configuration and is reused by every Amazon client,
+ * whatever its service, having the same configuration. Providers fetching credentials from a remote endpoint, such as the
+ * instance metadata service, thus resolve and refresh their credentials once for all the clients. Each Amazon client holds
+ * a reference on the shared provider, released when the Amazon client is closed. The provider is closed when the last
+ * reference is released.
+ * <p>
+ * As a shared provider serves many clients, the instance profile and container providers, as well as the default chain of
+ * the clients without credentials configuration, refresh their credentials in the background, so that requests do not
+ * block on the remote endpoint. The `default` provider refreshes its credentials in the background if configured so.
+ * <p>
+ * Custom providers are CDI beans and are not registered.
+ */
+public final class AmazonCredentialsProviderRegistry {
+
+    private static final Object DEFAULT_CHAIN = new Object();
+
+    private static final Map<Object, SharedProvider> PROVIDERS = new HashMap<>();
+
+    private AmazonCredentialsProviderRegistry() {
+    }
+
+    /**
+     * @return a reference on the credentials provider shared by the clients with the given credentials configuration
+     */
+    public static AwsCredentialsProvider shared(AwsCredentialsProviderConfig config, String configKeyRoot) {
+        if (config.type() == AwsCredentialsProviderType.CUSTOM) {
+            return config.type().create(config, configKeyRoot);
+        }
+        return lease(config, () -> create(config, configKeyRoot));
+    }
+
+    /**
+     * @return a reference on the default credentials provider chain shared by the clients without credentials configuration
+     */
+    public static AwsCredentialsProvider sharedDefault() {
+        return lease(DEFAULT_CHAIN, () -> DefaultCredentialsProvider.builder().asyncCredentialUpdateEnabled(true)
+                .reuseLastProviderEnabled(false).build());
+    }
+
+    private static AwsCredentialsProvider create(AwsCredentialsProviderConfig config, String configKeyRoot) {
+        switch (config.type()) {
+            case INSTANCE_PROFILE:
+                return InstanceProfileCredentialsProvider.builder().asyncCredentialUpdateEnabled(true).build();
+            case CONTAINER:
+                return ContainerCredentialsProvider.builder().asyncCredentialUpdateEnabled(true).build();
+            default:
+                return config.type().create(config, configKeyRoot);
+        }
+    }
+
+    /**
+     * @return the number of credentials providers currently shared
+     */
+    public static synchronized int size() {
+        return PROVIDERS.size();
+    }
+
+    private static AwsCredentialsProvider lease(Object key, Supplier<AwsCredentialsProvider> factory) {
+        return new SharedCredentialsProvider(key, acquire(key, factory));
+    }
+
+    private static synchronized AwsCredentialsProvider acquire(Object key, Supplier<AwsCredentialsProvider> factory) {
+        SharedProvider provider = PROVIDERS.get(key);
+        if (provider == null) {
+            provider = new SharedProvider(factory.get());
+            PROVIDERS.put(key, provider);
+        }
+        provider.references++;
+        return provider.provider;
+    }
+
+    private static void release(Object key) {
+        SharedProvider released = null;
+        synchronized (AmazonCredentialsProviderRegistry.class) {
+            SharedProvider provider = PROVIDERS.get(key);
+            if (provider != null && --provider.references == 0) {
+                PROVIDERS.remove(key);
+                released = provider;
+            }
+        }
+        if (released != null) {
+            IoUtils.closeIfCloseable(released.provider, null);
+        }
+    }
+
+    private static final class SharedProvider {
+        private final AwsCredentialsProvider provider;
+        private int references;
+
+        private SharedProvider(AwsCredentialsProvider provider) {
+            this.provider = provider;
+        }
+    }
+
+    /**
+     * A reference on a shared credentials provider, closed by the SDK when the owning Amazon client is closed.
+     */
+    private static final class SharedCredentialsProvider implements AwsCredentialsProvider, SdkAutoCloseable {
+
+        private final Object key;
+        private final AwsCredentialsProvider delegate;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private SharedCredentialsProvider(Object key, AwsCredentialsProvider delegate) {
+            this.key = key;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public AwsCredentials resolveCredentials() {
+            return delegate.resolveCredentials();
+        }
+
+        @Override
+        public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+            return delegate.resolveIdentity(request);
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(key);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
@@ -14,6 +14,7 @@ public interface AsyncHttpClientBuildTimeConfig {
 
     public enum AsyncClientType {
         NETTY,
-        AWS_CRT
+        AWS_CRT,
+        VERTX
     }
 }
@@ -99,6 +99,15 @@ public interface AsyncHttpClientConfig {
     @WithDefault("true")
     boolean useIdleConnectionReaper();
 
+    /**
+     * Whether the HTTP client is shared with the other Amazon clients having the same async client configuration.
+     * <p>
+     * When enabled, named clients and services with identical async client configurations use the same HTTP client and
+     * connection pool. When disabled, each Amazon client builds its own HTTP client.
+     */
+    @WithDefault("true")
+    boolean shared();
+
     /**
      * Configure whether to enable or disable TCP KeepAlive.
      */
@@ -244,6 +253,9 @@ public interface AsyncHttpClientConfig {
          * returned from the HTTP client request.
          * <p>
          * When disabled, futures will be completed on the Netty event loop thread.
+         * <p>
+         * This option is ignored by the `vertx` client which always completes the futures on the Vert.x context the
+         * request was sent from.
          */
         @WithDefault("true")
         boolean useFutureCompletionThreadPool();
@@ -0,0 +1,704 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Buffers the entries submitted to a batch API per key, e.g. per queue, and sends them in batches. It backs the batch
+ * managers of the extensions, which implement the batch requests of their service.
+ * <p>
+ * A batch is sent as soon as enough entries of a key are buffered to fill it, once the oldest buffered entry of the key
+ * waited for the flush interval, or once a flush is requested. Batches are sent concurrently, up to a configured limit.
+ * The entries whose entry failed with a retryable error are buffered again, ahead of the other entries of their key,
+ * after an exponential backoff with full jitter, up to the configured number of retries. The entries of a failed batch
+ * request are not retried, the SDK already retried the request.
+ * <p>
+ * The entries of a group, such as the messages of a FIFO message group, are sent in order: an entry is held back while
+ * an earlier entry of its group waits for a retry, or was not admitted into the batch being built. For the ordered keys,
+ * an entry is also held back while an earlier entry of its group is in flight, so that a retried entry is sent before
+ * the later entries of its group.
+ * <p>
+ * The buffers are guarded by the batcher, which the hooks are called with, and which the batch managers may also use to
+ * guard their own state.
+ *
+ * @param <K> the key of the buffers
+ * @param <E> the entries
+ */
+public abstract class Batcher<K, E extends Batcher.Entry<?>> implements AutoCloseable {
+
+    private static final Log LOG = LogFactory.getLog(Batcher.class);
+
+    private final String name;
+    private final int maxBatchSize;
+    private final long maxBatchBytes;
+    private final long flushIntervalNanos;
+    private final int maxInFlightBatches;
+    private final int maxPendingEntries;
+    private final int maxRetries;
+    private final long baseBackoffNanos;
+    private final long maxBackoffNanos;
+    private final ScheduledExecutorService scheduler;
+
+    // guarded by this
+    private final Map<K, Buffer<K, E>> buffers = new LinkedHashMap<>();
+    // the number of entries holding back each group, waiting for a retry or in flight for the ordered keys
+    private final Map<List<Object>, Integer> heldGroups = new HashMap<>();
+    private int inFlightBatches;
+    private boolean closed;
+
+    private final Set<E> pending = ConcurrentHashMap.newKeySet();
+    private final LongAdder sentBatches = new LongAdder();
+    private final LongAdder batchedEntries = new LongAdder();
+    private final LongAdder batchedBytes = new LongAdder();
+    private final LongAdder completedEntries = new LongAdder();
+    private final LongAdder failedEntries = new LongAdder();
+    private final LongAdder retriedEntries = new LongAdder();
+    private volatile ComponentMeters<Batcher<K, E>> meters = ComponentMeters.none();
+
+    /**
+     * @param name the name of the batch manager, e.g. {@code SQS batch manager}, which names its thread and is reported
+     *        in the errors
+     * @param maxBatchBytes the maximum size of a batch, a single entry larger than it being sent alone
+     */
+    protected Batcher(String name, int maxBatchSize, long maxBatchBytes, Duration flushInterval, int maxInFlightBatches,
+            int maxPendingEntries, int maxRetries, Duration baseBackoff, Duration maxBackoff) {
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchBytes = maxBatchBytes;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.maxPendingEntries = maxPendingEntries;
+        this.maxRetries = maxRetries;
+        this.baseBackoffNanos = baseBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name.toLowerCase().replace(' ', '-'));
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sends a batch. The outcome of each entry is recorded with {@link Entry#succeeded(Object)} or
+     * {@link Entry#failed(Throwable, boolean)} before the returned future completes.
+     *
+     * @return a future completed once the batch request completes, or failed if it failed
+     */
+    protected abstract CompletableFuture<?> send(K key, List<E> batch);
+
+    /**
+     * @return the group of the entry, whose entries are sent in order, or {@code null}
+     */
+    protected Object group(K key, E entry) {
+        return null;
+    }
+
+    /**
+     * Called while building a batch, for each entry whose group is not held back.
+     *
+     * @param batch the entries already taken into the batch
+     * @return whether the entry may be taken into the batch, the later entries of its group being held back otherwise
+     */
+    protected boolean admit(K key, E entry, List<E> batch) {
+        return true;
+    }
+
+    /**
+     * @return whether the groups of the key are held back while one of their entries is in flight
+     */
+    protected boolean ordered(K key) {
+        return false;
+    }
+
+    /**
+     * @return whether entries of the key are staged outside of its buffer, to be buffered once the key is flushed
+     */
+    protected boolean staging(K key) {
+        return false;
+    }
+
+    /**
+     * Called before the entries of the key are flushed, to buffer the entries staged outside of its buffer.
+     */
+    protected void flushing(K key) {
+    }
+
+    /**
+     * Called once the outcome of the entries of a batch is known, before the entries are completed or retried.
+     *
+     * @param error the error the batch request failed with, or {@code null}
+     */
+    protected void completed(K key, List<E> batch, Throwable error) {
+    }
+
+    /**
+     * Buffers an entry, unless the batcher is closed or has too many pending entries, in which case the future of the
+     * entry fails.
+     */
+    public void submit(K key, E entry) {
+        synchronized (this) {
+            if (closed) {
+                entry.future.completeExceptionally(new IllegalStateException("The " + name + " is closed"));
+                return;
+            }
+            if (pending.size() >= maxPendingEntries) {
+                entry.future.completeExceptionally(new RejectedExecutionException(
+                        "The " + name + " has " + maxPendingEntries + " pending entries"));
+                return;
+            }
+            enqueue(key, entry);
+            drain(key);
+        }
+    }
+
+    /**
+     * Buffers an entry without draining its buffer, whether the batcher is closed or not.
+     */
+    public synchronized void enqueue(K key, E entry) {
+        pending.add(entry);
+        Buffer<K, E> buffer = buffers.computeIfAbsent(key, Buffer::new);
+        buffer.entries.addLast(entry);
+        buffer.bytes += entry.size;
+    }
+
+    /**
+     * Sends the batches of the key which are full or due.
+     */
+    public synchronized void drain(K key) {
+        drain(buffers.computeIfAbsent(key, Buffer::new));
+    }
+
+    /**
+     * Drains the buffer of the key after a delay, e.g. once the entries it holds back may be admitted.
+     */
+    public synchronized void drainLater(K key, long delayNanos) {
+        Buffer<K, E> buffer = buffers.get(key);
+        if (buffer != null && buffer.scheduledDrain == null && !scheduler.isShutdown()) {
+            buffer.scheduledDrain = scheduler.schedule(() -> scheduledDrain(buffer), delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Sends the buffered entries of the key without waiting for the flush interval.
+     */
+    public synchronized void flush(K key) {
+        flushing(key);
+        Buffer<K, E> buffer = buffers.computeIfAbsent(key, Buffer::new);
+        buffer.due = true;
+        drain(buffer);
+    }
+
+    /**
+     * Sends the buffered entries without waiting for the flush interval. The entries pending when the flush is
+     * requested are sent as soon as possible, even if they are held back or retried.
+     *
+     * @return a future completed once the entries pending when the flush is requested are processed, or failed if one
+     *         of them failed
+     */
+    public CompletableFuture<Void> flush() {
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        synchronized (this) {
+            for (K key : new ArrayList<>(buffers.keySet())) {
+                flushing(key);
+            }
+            for (E entry : pending) {
+                futures.add(entry.future);
+                entry.flushRequested = true;
+            }
+            for (Buffer<K, E> buffer : new ArrayList<>(buffers.values())) {
+                buffer.flushRequested = 0;
+                for (E entry : buffer.entries) {
+                    if (entry.flushRequested) {
+                        buffer.flushRequested++;
+                    }
+                }
+                drain(buffer);
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Removes the buffered entries of the key matching the filter, for instance to fail them.
+     *
+     * @return the removed entries
+     */
+    public synchronized List<E> remove(K key, Predicate<E> filter) {
+        List<E> removed = new ArrayList<>();
+        Buffer<K, E> buffer = buffers.get(key);
+        if (buffer == null) {
+            return removed;
+        }
+        for (Iterator<E> iterator = buffer.entries.iterator(); iterator.hasNext();) {
+            E entry = iterator.next();
+            if (filter.test(entry)) {
+                iterator.remove();
+                take(buffer, entry);
+                removed.add(entry);
+            }
+        }
+        drain(buffer);
+        return removed;
+    }
+
+    /**
+     * Fails an entry which is no longer buffered.
+     */
+    public void fail(E entry, Throwable error) {
+        pending.remove(entry);
+        failedEntries.increment();
+        entry.future.completeExceptionally(error);
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Registers the counters and gauges of the batcher when Micrometer is available, they are removed once it is closed.
+     *
+     * @param prefix the prefix of the names of the meters, e.g. {@code aws.sns.batch.publisher}
+     * @param tags the tags of the meters, as key-value pairs
+     */
+    public void registerMeters(String prefix, String... tags) {
+        meters = ComponentMeters.<Batcher<K, E>> of(this, prefix, tags)
+                .counter("batches", "Number of batch requests sent", Batcher::sentBatches)
+                .counter("entries", "Number of entries sent within batch requests, including the retried ones",
+                        Batcher::batchedEntries)
+                .counter("bytes", "Size in bytes of the entries sent within batch requests",
+                        batcher -> batcher.batchedBytes.sum())
+                .counter("completed", "Number of entries that succeeded", Batcher::completedEntries)
+                .counter("failed", "Number of entries that failed", Batcher::failedEntries)
+                .counter("retried", "Number of times an entry was sent again after its entry failed",
+                        Batcher::retriedEntries)
+                .gauge("fill.ratio", "Average number of entries per batch over the maximum batch size",
+                        Batcher::batchFillRatio)
+                .gauge("pending", "Number of entries buffered, in flight or waiting for a retry", Batcher::pendingEntries)
+                .gauge("buffered", "Number of entries waiting to be sent", Batcher::bufferedEntries)
+                .gauge("in.flight", "Number of batch requests in flight", Batcher::inFlightBatches);
+    }
+
+    /**
+     * @return the number of batch requests sent
+     */
+    public long sentBatches() {
+        return sentBatches.sum();
+    }
+
+    /**
+     * @return the number of entries sent within batch requests, including the retried ones
+     */
+    public long batchedEntries() {
+        return batchedEntries.sum();
+    }
+
+    /**
+     * @return the number of entries that succeeded
+     */
+    public long completedEntries() {
+        return completedEntries.sum();
+    }
+
+    /**
+     * @return the number of entries that failed, either because their batch request failed or because their entry
+     *         failed and was not retried
+     */
+    public long failedEntries() {
+        return failedEntries.sum();
+    }
+
+    /**
+     * @return the number of times an entry was sent again after its entry failed
+     */
+    public long retriedEntries() {
+        return retriedEntries.sum();
+    }
+
+    /**
+     * @return the average number of entries per batch over the maximum batch size, between 0 and 1
+     */
+    public double batchFillRatio() {
+        long batches = sentBatches.sum();
+        return batches == 0 ? 0 : (double) batchedEntries.sum() / (batches * maxBatchSize);
+    }
+
+    /**
+     * @return the average size in bytes of the batches
+     */
+    public long averageBatchBytes() {
+        long batches = sentBatches.sum();
+        return batches == 0 ? 0 : batchedBytes.sum() / batches;
+    }
+
+    /**
+     * @return the number of entries buffered, in flight or waiting for a retry
+     */
+    public int pendingEntries() {
+        return pending.size();
+    }
+
+    /**
+     * @return the number of entries waiting to be sent
+     */
+    public synchronized int bufferedEntries() {
+        int entries = 0;
+        for (Buffer<K, E> buffer : buffers.values()) {
+            entries += buffer.entries.size();
+        }
+        return entries;
+    }
+
+    /**
+     * @return the number of batch requests in flight
+     */
+    public synchronized int inFlightBatches() {
+        return inFlightBatches;
+    }
+
+    /**
+     * Flushes the buffered entries, waits for the pending ones and rejects any further entry.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        try {
+            flush().join();
+        } catch (RuntimeException e) {
+            LOG.warn("Some entries of the " + name + " failed while closing it", e);
+        } finally {
+            scheduler.shutdownNow();
+            meters.close();
+        }
+    }
+
+    // guarded by this
+    private void drain(Buffer<K, E> buffer) {
+        while (inFlightBatches < maxInFlightBatches && !buffer.entries.isEmpty()
+                && (buffer.due || buffer.flushRequested > 0 || closed || buffer.entries.size() >= maxBatchSize
+                        || buffer.bytes >= maxBatchBytes)) {
+            List<E> batch = nextBatch(buffer);
+            if (batch.isEmpty()) {
+                // the buffered entries are held back
+                break;
+            }
+            send(buffer, batch);
+        }
+        if (buffer.entries.isEmpty()) {
+            buffer.due = false;
+            if (!staging(buffer.key)) {
+                if (buffer.scheduledFlush != null) {
+                    buffer.scheduledFlush.cancel(false);
+                    buffer.scheduledFlush = null;
+                }
+                // a stale flush must not remove a newer buffer of the same key
+                buffers.remove(buffer.key, buffer);
+                return;
+            }
+        }
+        if (!buffer.due && buffer.scheduledFlush == null && !scheduler.isShutdown()) {
+            buffer.scheduledFlush = scheduler.schedule(() -> scheduledFlush(buffer), flushIntervalNanos,
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private synchronized void scheduledFlush(Buffer<K, E> buffer) {
+        buffer.scheduledFlush = null;
+        flushing(buffer.key);
+        buffer.due = true;
+        drain(buffer);
+    }
+
+    private synchronized void scheduledDrain(Buffer<K, E> buffer) {
+        buffer.scheduledDrain = null;
+        drain(buffer);
+    }
+
+    // guarded by this
+    private List<E> nextBatch(Buffer<K, E> buffer) {
+        List<E> batch = new ArrayList<>(Math.min(maxBatchSize, buffer.entries.size()));
+        long batchBytes = 0;
+        // the groups of the entries not admitted into the batch, whose later entries are held back
+        Set<Object> held = new HashSet<>();
+        for (Iterator<E> iterator = buffer.entries.iterator(); iterator.hasNext() && batch.size() < maxBatchSize;) {
+            E entry = iterator.next();
+            if (!batch.isEmpty() && batchBytes + entry.size > maxBatchBytes) {
+                break;
+            }
+            Object group = group(buffer.key, entry);
+            if (group != null && (held.contains(group) || heldGroups.containsKey(List.of(buffer.key, group)))) {
+                continue;
+            }
+            if (!admit(buffer.key, entry, batch)) {
+                if (group != null) {
+                    held.add(group);
+                }
+                continue;
+            }
+            iterator.remove();
+            take(buffer, entry);
+            batchBytes += entry.size;
+            batch.add(entry);
+        }
+        return batch;
+    }
+
+    // guarded by this
+    private static <K, E extends Entry<?>> void take(Buffer<K, E> buffer, E entry) {
+        buffer.bytes -= entry.size;
+        if (entry.flushRequested) {
+            buffer.flushRequested--;
+        }
+    }
+
+    // guarded by this
+    private void send(Buffer<K, E> buffer, List<E> batch) {
+        inFlightBatches++;
+        sentBatches.increment();
+        batchedEntries.add(batch.size());
+        boolean ordered = ordered(buffer.key);
+        for (E entry : batch) {
+            batchedBytes.add(entry.size);
+            entry.reset();
+            if (ordered) {
+                hold(buffer.key, entry);
+            }
+        }
+        CompletableFuture<?> response;
+        try {
+            response = send(buffer.key, batch);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((r, error) -> complete(buffer.key, batch, error));
+    }
+
+    private void complete(K key, List<E> batch, Throwable error) {
+        List<E> succeeded = new ArrayList<>();
+        List<E> retried = new ArrayList<>();
+        Map<E, Throwable> failed = new LinkedHashMap<>();
+        for (E entry : batch) {
+            Throwable entryError = error != null ? error : entry.error;
+            if (entryError == null && !entry.succeeded) {
+                entryError = new IllegalStateException("The batch response has no result for the entry");
+            }
+            if (entryError == null) {
+                succeeded.add(entry);
+            } else if (error == null && entry.retryable && entry.attempts < maxRetries) {
+                entry.attempts++;
+                retried.add(entry);
+            } else {
+                failed.put(entry, entryError);
+            }
+        }
+        synchronized (this) {
+            inFlightBatches--;
+            for (E entry : batch) {
+                if (!retried.contains(entry)) {
+                    release(entry);
+                } else if (entry.heldGroup == null) {
+                    // the later entries of the group wait for the retry
+                    hold(key, entry);
+                }
+            }
+            completed(key, batch, error);
+        }
+        if (!retried.isEmpty()) {
+            retry(key, retried);
+        }
+        for (E entry : succeeded) {
+            pending.remove(entry);
+            completedEntries.increment();
+            entry.complete();
+        }
+        failed.forEach(this::fail);
+        synchronized (this) {
+            for (Buffer<K, E> buffer : new ArrayList<>(buffers.values())) {
+                drain(buffer);
+            }
+        }
+    }
+
+    private void retry(K key, List<E> retried) {
+        retriedEntries.add(retried.size());
+        int attempts = 0;
+        for (E entry : retried) {
+            attempts = Math.max(attempts, entry.attempts);
+        }
+        long backoff = baseBackoffNanos << Math.min(attempts - 1, 30);
+        if (backoff < 0 || backoff > maxBackoffNanos) {
+            backoff = maxBackoffNanos;
+        }
+        long delay = backoff <= 0 ? 0 : ThreadLocalRandom.current().nextLong(backoff + 1);
+        try {
+            scheduler.schedule(() -> requeue(key, retried), delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                retried.forEach(this::release);
+            }
+            for (E entry : retried) {
+                fail(entry, e);
+            }
+        }
+    }
+
+    private synchronized void requeue(K key, List<E> retried) {
+        Buffer<K, E> buffer = buffers.computeIfAbsent(key, Buffer::new);
+        // the retried entries are sent first, in their order
+        for (int i = retried.size() - 1; i >= 0; i--) {
+            E entry = retried.get(i);
+            buffer.entries.addFirst(entry);
+            buffer.bytes += entry.size;
+            if (entry.flushRequested) {
+                buffer.flushRequested++;
+            }
+            release(entry);
+        }
+        drain(buffer);
+    }
+
+    // guarded by this
+    private void hold(K key, E entry) {
+        Object group = group(key, entry);
+        if (group != null) {
+            entry.heldGroup = List.of(key, group);
+            heldGroups.merge(entry.heldGroup, 1, Integer::sum);
+        }
+    }
+
+    // guarded by this
+    private void release(E entry) {
+        if (entry.heldGroup != null) {
+            heldGroups.computeIfPresent(entry.heldGroup, (group, count) -> count == 1 ? null : count - 1);
+            entry.heldGroup = null;
+        }
+    }
+
+    private static final class Buffer<K, E> {
+
+        private final K key;
+        private final ArrayDeque<E> entries = new ArrayDeque<>();
+        private long bytes;
+        // the buffered entries a flush was requested for
+        private int flushRequested;
+        private ScheduledFuture<?> scheduledFlush;
+        private ScheduledFuture<?> scheduledDrain;
+        private boolean due;
+
+        private Buffer(K key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * An entry of a batch, completed with the result of its entry in the batch response.
+     *
+     * @param <R> the result of the entry
+     */
+    public abstract static class Entry<R> {
+
+        final long size;
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        volatile R result;
+        volatile boolean succeeded;
+        volatile Throwable error;
+        volatile boolean retryable;
+        // guarded by the batcher
+        int attempts;
+        boolean flushRequested;
+        List<Object> heldGroup;
+
+        /**
+         * @param size the size of the entry, counted against the maximum size of a batch
+         */
+        protected Entry(long size) {
+            this.size = size;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        /**
+         * @return a future completed with the result of the entry, or failed with its error
+         */
+        public CompletableFuture<R> future() {
+            return future;
+        }
+
+        /**
+         * @return the number of times the entry was retried
+         */
+        public int attempts() {
+            return attempts;
+        }
+
+        /**
+         * Records that the entry succeeded within its batch.
+         */
+        public void succeeded(R result) {
+            this.result = result;
+            this.succeeded = true;
+        }
+
+        /**
+         * Records that the entry failed within its batch.
+         *
+         * @param retryable whether the entry may be sent again in a later batch
+         */
+        public void failed(Throwable error, boolean retryable) {
+            this.error = error;
+            this.retryable = retryable;
+        }
+
+        /**
+         * @return the result of the entry within its last batch, or {@code null}
+         */
+        public R result() {
+            return result;
+        }
+
+        /**
+         * @return the error the entry failed with within its last batch, or {@code null}
+         */
+        public Throwable error() {
+            return error;
+        }
+
+        void reset() {
+            result = null;
+            succeeded = false;
+            error = null;
+            retryable = false;
+        }
+
+        void complete() {
+            future.complete(result);
+        }
+    }
+}
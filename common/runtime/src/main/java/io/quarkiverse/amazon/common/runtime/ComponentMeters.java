@@ -0,0 +1,70 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Registers the meters of a component of the extensions, such as a batcher or a consumer, in the Micrometer global
+ * registry when the Quarkus Micrometer extension is available, and does nothing otherwise.
+ * <p>
+ * The counters and gauges read the getters of the component, so that the component does not depend on the Micrometer
+ * API, which is an optional dependency of the extensions. The meters are removed from the registry when closed.
+ *
+ * @param <T> the class of the component
+ */
+public class ComponentMeters<T> implements AutoCloseable {
+
+    private static final LongConsumer NO_TIMER = nanos -> {
+    };
+
+    ComponentMeters() {
+    }
+
+    /**
+     * @param component the component, the meters only hold a weak reference to it
+     * @param prefix the prefix of the names of the meters
+     * @param tags the tags of the meters, as key-value pairs
+     */
+    public static <T> ComponentMeters<T> of(T component, String prefix, String... tags) {
+        return AmazonClientCommonRecorder.isMicrometerPresent()
+                ? new MicrometerComponentMeters<>(component, prefix, tags)
+                : new ComponentMeters<>();
+    }
+
+    /**
+     * @return meters which are not registered, for the components whose meters are not bound
+     */
+    public static <T> ComponentMeters<T> none() {
+        return new ComponentMeters<>();
+    }
+
+    /**
+     * Registers a counter reading a monotonically increasing count of the component.
+     */
+    public ComponentMeters<T> counter(String name, String description, ToDoubleFunction<T> count) {
+        return this;
+    }
+
+    /**
+     * Registers a gauge reading a value of the component.
+     */
+    public ComponentMeters<T> gauge(String name, String description, ToDoubleFunction<T> value) {
+        return this;
+    }
+
+    /**
+     * Registers a timer.
+     *
+     * @return records a duration in nanoseconds
+     */
+    public LongConsumer timer(String name, String description) {
+        return NO_TIMER;
+    }
+
+    /**
+     * Removes the meters from the registry.
+     */
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,126 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Memoizes the endpoints resolved by the endpoint provider of a service.
+ * <p>
+ * The endpoint rules of a service are evaluated from the client configuration (region, endpoint override, FIPS,
+ * dual-stack...) and from a few request members, such as the S3 bucket. They are thus evaluated once per distinct set of
+ * these values instead of once per request.
+ * <p>
+ * The endpoint parameters also carry per-object members, such as the S3 object key, which don't shape the endpoint.
+ * Each service thus builds the cache key from the parameters its endpoint rules depend on, see
+ * {@link #key(Region, Boolean, Boolean, String, Object...)}. Once the cache holds more than {@code maxSize} endpoints,
+ * arbitrary endpoints are evicted: the lookups never lock, which matters more than the hit rate of a cache expected to
+ * hold every endpoint of the client.
+ *
+ * @param <P> the endpoint parameters class of the service
+ */
+public final class EndpointCache<P> {
+
+    private final Function<P, CompletableFuture<Endpoint>> endpointProvider;
+    private final Function<P, Key> keyFunction;
+    private final int maxSize;
+    private final Map<Key, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public EndpointCache(Function<P, CompletableFuture<Endpoint>> endpointProvider, Function<P, Key> keyFunction,
+            int maxSize) {
+        this.endpointProvider = endpointProvider;
+        this.keyFunction = keyFunction;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates the cache key of endpoint parameters.
+     *
+     * @param region the region of the client
+     * @param useFips whether the client uses FIPS endpoints
+     * @param useDualStack whether the client uses dual-stack endpoints
+     * @param endpoint the endpoint override of the client
+     * @param params the other parameters the endpoint rules of the service depend on, e.g. the S3 bucket
+     */
+    public static Key key(Region region, Boolean useFips, Boolean useDualStack, String endpoint, Object... params) {
+        return new Key(region, useFips, useDualStack, endpoint, params);
+    }
+
+    public CompletableFuture<Endpoint> resolveEndpoint(P params) {
+        Key key = keyFunction.apply(params);
+        Endpoint endpoint = endpoints.get(key);
+        if (endpoint != null) {
+            return CompletableFuture.completedFuture(endpoint);
+        }
+        CompletableFuture<Endpoint> resolved = endpointProvider.apply(params);
+        // failed resolutions, e.g. an invalid bucket name, are not cached
+        resolved.thenAccept(e -> {
+            endpoints.put(key, e);
+            evict();
+        });
+        return resolved;
+    }
+
+    private void evict() {
+        Iterator<Key> keys = endpoints.keySet().iterator();
+        while (endpoints.size() > maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    /**
+     * @return the number of cached endpoints
+     */
+    public int size() {
+        return endpoints.size();
+    }
+
+    public static final class Key {
+
+        private final Region region;
+        private final Boolean useFips;
+        private final Boolean useDualStack;
+        private final String endpoint;
+        private final Object[] params;
+        private final int hashCode;
+
+        private Key(Region region, Boolean useFips, Boolean useDualStack, String endpoint, Object[] params) {
+            this.region = region;
+            this.useFips = useFips;
+            this.useDualStack = useDualStack;
+            this.endpoint = endpoint;
+            this.params = params;
+            this.hashCode = 31 * Objects.hash(region, useFips, useDualStack, endpoint) + Arrays.hashCode(params);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hashCode == other.hashCode
+                    && Objects.equals(region, other.region)
+                    && Objects.equals(useFips, other.useFips)
+                    && Objects.equals(useDualStack, other.useDualStack)
+                    && Objects.equals(endpoint, other.endpoint)
+                    && Arrays.equals(params, other.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+import software.amazon.awssdk.http.Protocol;
+
+@ConfigGroup
+public interface JdkHttpClientConfig {
+
+    /**
+     * The HTTP protocol to use.
+     * <p>
+     * With `http2`, the client falls back to HTTP/1.1 if the server does not support HTTP/2.
+     */
+    @WithDefault("http1-1")
+    Protocol protocol();
+
+    /**
+     * Whether the client should send an HTTP expect-continue handshake before each request with a body.
+     */
+    @WithDefault("false")
+    boolean expectContinueEnabled();
+
+    /**
+     * The maximum number of requests in flight.
+     * <p>
+     * The JDK client does not bound its connections: each HTTP/1.1 request in flight uses its own connection. Once this
+     * number of requests are in flight, a request waits for one of them to complete.
+     */
+    @WithDefault("50")
+    int maxConcurrency();
+
+    /**
+     * The amount of time to wait for one of the requests in flight to complete once `max-concurrency` requests are in
+     * flight, before giving up and timing out.
+     */
+    @WithDefault("10S")
+    @WithConverter(DurationConverter.class)
+    Duration connectionAcquisitionTimeout();
+
+    /**
+     * The maximum amount of time to wait for the response headers of a request.
+     * <p>
+     * The JDK client has no read timeout, so `socket-timeout` does not apply to it. Once the headers are received, the
+     * response body is read until the `api-call-timeout` or `api-call-attempt-timeout` of the client, if set.
+     */
+    @WithDefault("30S")
+    @WithConverter(DurationConverter.class)
+    Duration responseTimeout();
+
+    /**
+     * HTTP proxy configuration
+     */
+    HttpClientProxyConfiguration proxy();
+
+    @ConfigGroup
+    public interface HttpClientProxyConfiguration {
+
+        /**
+         * Enable HTTP proxy
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The endpoint of the proxy server that the SDK should connect through.
+         * <p>
+         * Currently, the endpoint is limited to a host and port. Any other URI
+         * components will result in an exception being
+         * raised.
+         */
+        Optional<URI> endpoint();
+    }
+}
@@ -0,0 +1,389 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * An {@link SdkHttpClient} based on the JDK {@link HttpClient}.
+ * <p>
+ * The JDK client relies on non-blocking I/O and {@link java.util.concurrent.locks.Lock locks} rather than on
+ * {@code synchronized} blocks, so a virtual thread waiting for a response is unmounted instead of pinning its carrier
+ * thread. Aborting a request, e.g. on an API call timeout, cancels the underlying exchange.
+ * <p>
+ * The JDK client neither bounds its connections nor has a read timeout. The number of requests in flight, and thus of
+ * HTTP/1.1 connections, is bounded by permits released once the response body is closed, and the response timeout
+ * bounds the wait for the response headers only.
+ */
+public final class JdkSdkHttpClient implements SdkHttpClient {
+
+    private static final String CLIENT_NAME = "JdkHttp";
+
+    /**
+     * Headers managed by the JDK client that cannot be set on a request.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+            "upgrade");
+
+    /**
+     * {@code HttpClient.shutdownNow()}, available from Java 21.
+     */
+    private static final MethodHandle SHUTDOWN_NOW = shutdownNow();
+
+    private volatile HttpClient client;
+    private final Duration responseTimeout;
+    private final boolean expectContinueEnabled;
+    private final Semaphore permits;
+    private final Duration acquisitionTimeout;
+
+    private JdkSdkHttpClient(Builder builder) {
+        HttpClient.Builder clientBuilder = HttpClient.newBuilder()
+                .version(builder.protocol == Protocol.HTTP2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .sslContext(sslContext(builder.tlsKeyManagersProvider, builder.tlsTrustManagersProvider));
+        if (isPositive(builder.connectionTimeout)) {
+            clientBuilder.connectTimeout(builder.connectionTimeout);
+        }
+        if (builder.proxy != null) {
+            int port = builder.proxy.getPort() != -1 ? builder.proxy.getPort() : 80;
+            clientBuilder.proxy(ProxySelector.of(new InetSocketAddress(builder.proxy.getHost(), port)));
+        }
+        this.client = clientBuilder.build();
+        this.responseTimeout = builder.responseTimeout;
+        this.expectContinueEnabled = builder.expectContinueEnabled;
+        this.permits = new Semaphore(builder.maxConcurrency);
+        this.acquisitionTimeout = builder.connectionAcquisitionTimeout;
+    }
+
+    private static MethodHandle shutdownNow() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(HttpClient.class, "shutdownNow",
+                    MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        return new JdkExecutableHttpRequest(toJdkRequest(request));
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    @Override
+    public void close() {
+        HttpClient client = this.client;
+        if (client == null) {
+            return;
+        }
+        // before Java 21, the JDK client releases its connections once it is no longer referenced
+        this.client = null;
+        if (SHUTDOWN_NOW != null) {
+            try {
+                SHUTDOWN_NOW.invoke(client);
+            } catch (Throwable e) {
+                // ignored, the client is no longer referenced anyway
+            }
+        }
+    }
+
+    private HttpRequest toJdkRequest(HttpExecuteRequest request) {
+        SdkHttpRequest sdkRequest = request.httpRequest();
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(sdkRequest.getUri())
+                .method(sdkRequest.method().name(), bodyPublisher(sdkRequest, request.contentStreamProvider()))
+                .expectContinue(expectContinueEnabled);
+        if (isPositive(responseTimeout)) {
+            builder.timeout(responseTimeout);
+        }
+        sdkRequest.forEachHeader((name, values) -> {
+            if (!RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+        return builder.build();
+    }
+
+    private static HttpRequest.BodyPublisher bodyPublisher(SdkHttpRequest sdkRequest,
+            Optional<ContentStreamProvider> content) {
+        if (content.isEmpty()) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofInputStream(content.get()::newStream);
+        return sdkRequest.firstMatchingHeader("Content-Length")
+                .map(length -> HttpRequest.BodyPublishers.fromPublisher(publisher, Long.parseLong(length)))
+                .orElse(publisher);
+    }
+
+    private static SSLContext sslContext(TlsKeyManagersProvider keyManagersProvider,
+            TlsTrustManagersProvider trustManagersProvider) {
+        KeyManager[] keyManagers = keyManagersProvider != null ? keyManagersProvider.keyManagers() : null;
+        TrustManager[] trustManagers = trustManagersProvider != null ? trustManagersProvider.trustManagers() : null;
+        try {
+            if (keyManagers == null && trustManagers == null) {
+                return SSLContext.getDefault();
+            }
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(keyManagers, trustManagers, null);
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to create the SSL context of the JDK HTTP client", e);
+        }
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return duration != null && !duration.isZero() && !duration.isNegative();
+    }
+
+    private final class JdkExecutableHttpRequest implements ExecutableHttpRequest {
+
+        private final HttpRequest request;
+        private volatile CompletableFuture<HttpResponse<InputStream>> response;
+
+        private JdkExecutableHttpRequest(HttpRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public HttpExecuteResponse call() throws IOException {
+            HttpClient client = JdkSdkHttpClient.this.client;
+            if (client == null) {
+                throw new IllegalStateException("The JDK HTTP client is closed");
+            }
+            acquirePermit();
+            Permit permit = new Permit();
+            HttpResponse<InputStream> httpResponse;
+            try {
+                httpResponse = send(client);
+            } catch (IOException | RuntimeException e) {
+                permit.release();
+                throw e;
+            }
+
+            SdkHttpResponse.Builder sdkResponse = SdkHttpResponse.builder()
+                    .statusCode(httpResponse.statusCode());
+            httpResponse.headers().map().forEach((name, values) -> {
+                // pseudo headers are only used by HTTP/2
+                if (!name.startsWith(":")) {
+                    sdkResponse.putHeader(name, values);
+                }
+            });
+
+            InputStream body = new PermitReleasingInputStream(httpResponse.body(), permit);
+            return HttpExecuteResponse.builder()
+                    .response(sdkResponse.build())
+                    .responseBody(AbortableInputStream.create(body, () -> closeQuietly(body)))
+                    .build();
+        }
+
+        private void acquirePermit() throws IOException {
+            try {
+                if (!permits.tryAcquire(acquisitionTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    throw new IOException("Timed out after " + acquisitionTimeout
+                            + " waiting for one of the requests in flight to complete");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Request interrupted", e);
+            }
+        }
+
+        private HttpResponse<InputStream> send(HttpClient client) throws IOException {
+            CompletableFuture<HttpResponse<InputStream>> future = client.sendAsync(request,
+                    HttpResponse.BodyHandlers.ofInputStream());
+            this.response = future;
+
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new IOException("Request interrupted", e);
+            } catch (CancellationException e) {
+                throw new IOException("Request aborted", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) cause).getCause();
+                }
+                throw new IOException(cause);
+            }
+        }
+
+        @Override
+        public void abort() {
+            CompletableFuture<HttpResponse<InputStream>> future = this.response;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+
+        private void closeQuietly(InputStream body) {
+            try {
+                body.close();
+            } catch (IOException e) {
+                // ignored, the exchange is being aborted
+            }
+        }
+    }
+
+    /**
+     * A permit of a request in flight, released once.
+     */
+    private final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Releases the permit of the request once its response body is closed, which releases its connection.
+     */
+    private static final class PermitReleasingInputStream extends FilterInputStream {
+
+        private final Permit permit;
+
+        private PermitReleasingInputStream(InputStream in, Permit permit) {
+            super(in);
+            this.permit = permit;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                permit.release();
+            }
+        }
+    }
+
+    public static final class Builder implements SdkHttpClient.Builder<Builder> {
+
+        private Duration connectionTimeout;
+        private Duration responseTimeout;
+        private int maxConcurrency = 50;
+        private Duration connectionAcquisitionTimeout = Duration.ofSeconds(10);
+        private Protocol protocol = Protocol.HTTP1_1;
+        private boolean expectContinueEnabled;
+        private URI proxy;
+        private TlsKeyManagersProvider tlsKeyManagersProvider;
+        private TlsTrustManagersProvider tlsTrustManagersProvider;
+
+        private Builder() {
+        }
+
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+            return this;
+        }
+
+        /**
+         * The maximum time to wait for the response headers.
+         */
+        public Builder responseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+            return this;
+        }
+
+        /**
+         * The maximum number of requests in flight.
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * The maximum time to wait for one of the requests in flight to complete once there are {@code maxConcurrency}.
+         */
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+            return this;
+        }
+
+        public Builder protocol(Protocol protocol) {
+            this.protocol = protocol;
+            return this;
+        }
+
+        public Builder expectContinueEnabled(boolean expectContinueEnabled) {
+            this.expectContinueEnabled = expectContinueEnabled;
+            return this;
+        }
+
+        public Builder proxy(URI proxy) {
+            this.proxy = proxy;
+            return this;
+        }
+
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            this.tlsKeyManagersProvider = tlsKeyManagersProvider;
+            return this;
+        }
+
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            this.tlsTrustManagersProvider = tlsTrustManagersProvider;
+            return this;
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkSdkHttpClient(this);
+        }
+    }
+}
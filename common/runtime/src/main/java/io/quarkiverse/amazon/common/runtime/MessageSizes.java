@@ -0,0 +1,66 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import software.amazon.awssdk.core.SdkBytes;
+
+/**
+ * Estimates the size of SQS and SNS messages as computed by the services, which limit the size of a message and of a
+ * batch to 256 KB: the UTF-8 length of the body, plus the UTF-8 length of the name, data type and value of each message
+ * attribute.
+ */
+public final class MessageSizes {
+
+    /**
+     * The maximum size of an SQS or SNS message.
+     */
+    public static final int MAX_MESSAGE_SIZE = 256 * 1024;
+
+    private MessageSizes() {
+    }
+
+    /**
+     * @param body the body of the message
+     * @param attributes the message attributes, whose type depends on the service
+     * @return an estimate of the size of the message
+     */
+    public static <A> long estimateSize(String body, Map<String, A> attributes, Function<A, String> dataType,
+            Function<A, String> stringValue, Function<A, SdkBytes> binaryValue) {
+        long size = utf8Length(body);
+        for (Map.Entry<String, A> attribute : attributes.entrySet()) {
+            A value = attribute.getValue();
+            size += utf8Length(attribute.getKey()) + utf8Length(dataType.apply(value))
+                    + utf8Length(stringValue.apply(value));
+            SdkBytes binary = binaryValue.apply(value);
+            if (binary != null) {
+                size += binary.asByteArrayUnsafe().length;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return the length of the UTF-8 encoding of the value, without encoding it, or 0 if it is null
+     */
+    public static long utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,70 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link ComponentMeters} registered in the Micrometer global registry, only loaded when Micrometer is available.
+ */
+final class MicrometerComponentMeters<T> extends ComponentMeters<T> {
+
+    private final MeterRegistry registry = Metrics.globalRegistry;
+    private final T component;
+    private final String prefix;
+    private final Tags tags;
+    private final List<Meter> meters = new CopyOnWriteArrayList<>();
+
+    MicrometerComponentMeters(T component, String prefix, String... tags) {
+        this.component = component;
+        this.prefix = prefix;
+        this.tags = Tags.of(tags);
+    }
+
+    @Override
+    public ComponentMeters<T> counter(String name, String description, ToDoubleFunction<T> count) {
+        meters.add(FunctionCounter.builder(prefix + "." + name, component, count)
+                .description(description)
+                .tags(tags)
+                .register(registry));
+        return this;
+    }
+
+    @Override
+    public ComponentMeters<T> gauge(String name, String description, ToDoubleFunction<T> value) {
+        meters.add(Gauge.builder(prefix + "." + name, component, value)
+                .description(description)
+                .tags(tags)
+                .register(registry));
+        return this;
+    }
+
+    @Override
+    public LongConsumer timer(String name, String description) {
+        Timer timer = Timer.builder(prefix + "." + name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+        meters.add(timer);
+        return nanos -> timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void close() {
+        for (Meter meter : meters) {
+            registry.remove(meter);
+        }
+        meters.clear();
+    }
+}
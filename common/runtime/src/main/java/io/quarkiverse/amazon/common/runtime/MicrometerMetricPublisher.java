@@ -0,0 +1,197 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * A {@link MetricPublisher} recording the SDK metrics of an Amazon client in the Micrometer global registry, where
+ * Quarkus registers its meter registries.
+ * <p>
+ * Meters are tagged with the service, the name of the client and the operation. The connection pool gauges are updated
+ * from the HTTP client metrics reported by the Apache, Netty and AWS CRT-based HTTP clients on each request. As these
+ * clients do not expose their pool otherwise, the gauges report no value once no request was seen for
+ * {@link #POOL_STATE_TTL}, rather than the state of the pool at the last request.
+ */
+public final class MicrometerMetricPublisher implements MetricPublisher {
+
+    private static final String API_CALL_ATTEMPT = "ApiCallAttempt";
+    private static final String HTTP_CLIENT = "HttpClient";
+    private static final Duration POOL_STATE_TTL = Duration.ofMinutes(1);
+
+    private final MeterRegistry registry;
+    private final Tags tags;
+    private final double samplingRate;
+    private final Map<String, HttpPoolGauges> pools = new ConcurrentHashMap<>();
+
+    public MicrometerMetricPublisher(String service, String client, double samplingRate) {
+        this.registry = Metrics.globalRegistry;
+        this.tags = Tags.of("service", service, "client", client);
+        this.samplingRate = samplingRate;
+    }
+
+    @Override
+    public void publish(MetricCollection apiCall) {
+        // the pool gauges are cheap to update and must reflect the latest state, sampled or not
+        apiCall.childrenWithName(API_CALL_ATTEMPT)
+                .flatMap(attempt -> attempt.childrenWithName(HTTP_CLIENT))
+                .forEach(this::updatePool);
+
+        if (samplingRate < 1.0d && ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+            return;
+        }
+
+        Tags operationTags = tags.and("operation", first(apiCall, CoreMetric.OPERATION_NAME, "unknown"));
+
+        first(apiCall, CoreMetric.API_CALL_DURATION).ifPresent(duration -> Timer.builder("aws.sdk.api.call")
+                .description("Duration of the API calls, including retries")
+                .tags(operationTags)
+                .tag("successful", String.valueOf(first(apiCall, CoreMetric.API_CALL_SUCCESSFUL, false)))
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(duration));
+        recordDurations(apiCall, CoreMetric.MARSHALLING_DURATION, "aws.sdk.api.call.marshalling",
+                "Duration of the request marshalling", operationTags);
+        recordDurations(apiCall, CoreMetric.CREDENTIALS_FETCH_DURATION, "aws.sdk.api.call.credentials.fetch",
+                "Duration of the credentials resolution", operationTags);
+
+        int retries = first(apiCall, CoreMetric.RETRY_COUNT, 0);
+        if (retries > 0) {
+            Counter.builder("aws.sdk.api.call.retries")
+                    .description("Number of retried attempts")
+                    .tags(operationTags)
+                    .register(registry)
+                    .increment(retries);
+        }
+
+        apiCall.childrenWithName(API_CALL_ATTEMPT).forEach(attempt -> publishAttempt(attempt, operationTags));
+    }
+
+    private void publishAttempt(MetricCollection attempt, Tags operationTags) {
+        // depending on the SDK version, these durations are recorded per attempt
+        recordDurations(attempt, CoreMetric.MARSHALLING_DURATION, "aws.sdk.api.call.marshalling",
+                "Duration of the request marshalling", operationTags);
+        recordDurations(attempt, CoreMetric.CREDENTIALS_FETCH_DURATION, "aws.sdk.api.call.credentials.fetch",
+                "Duration of the credentials resolution", operationTags);
+
+        first(attempt, CoreMetric.SERVICE_CALL_DURATION).ifPresent(duration -> Timer.builder("aws.sdk.api.call.attempt")
+                .description("Duration of the HTTP exchanges with the service")
+                .tags(operationTags)
+                .tag("status", first(attempt, HttpMetric.HTTP_STATUS_CODE).map(String::valueOf).orElse("none"))
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(duration));
+
+        // includes the delay of the client-side rate limiter of the adaptive retry strategy
+        recordDurations(attempt, CoreMetric.BACKOFF_DELAY_DURATION, "aws.sdk.api.call.attempt.backoff",
+                "Delay applied by the retry strategy before the attempt", operationTags);
+
+        first(attempt, CoreMetric.ERROR_TYPE).ifPresent(errorType -> Counter.builder("aws.sdk.api.call.attempt.errors")
+                .description("Number of failed attempts, by error type such as Throttling or ServerError")
+                .tags(operationTags)
+                .tag("error.type", errorType)
+                .register(registry)
+                .increment());
+
+        attempt.childrenWithName(HTTP_CLIENT).forEach(http -> recordDurations(http, HttpMetric.CONCURRENCY_ACQUIRE_DURATION,
+                "aws.sdk.http.concurrency.acquire", "Time spent waiting for a connection or stream of the HTTP client",
+                operationTags));
+    }
+
+    private void updatePool(MetricCollection http) {
+        Optional<String> httpClientName = first(http, HttpMetric.HTTP_CLIENT_NAME);
+        if (httpClientName.isEmpty() || http.metricValues(HttpMetric.MAX_CONCURRENCY).isEmpty()) {
+            return;
+        }
+        pools.computeIfAbsent(httpClientName.get(), name -> new HttpPoolGauges(registry, tags.and("http.client", name)))
+                .update(http);
+    }
+
+    private void recordDurations(MetricCollection collection, SdkMetric<Duration> metric, String name, String description,
+            Tags operationTags) {
+        List<Duration> durations = collection.metricValues(metric);
+        if (durations.isEmpty()) {
+            return;
+        }
+        Timer timer = Timer.builder(name)
+                .description(description)
+                .tags(operationTags)
+                .publishPercentileHistogram()
+                .register(registry);
+        durations.forEach(timer::record);
+    }
+
+    private static <T> Optional<T> first(MetricCollection collection, SdkMetric<T> metric) {
+        List<T> values = collection.metricValues(metric);
+        return values.isEmpty() ? Optional.empty() : Optional.ofNullable(values.get(0));
+    }
+
+    private static <T> T first(MetricCollection collection, SdkMetric<T> metric, T defaultValue) {
+        return first(collection, metric).orElse(defaultValue);
+    }
+
+    /**
+     * The last known state of the connection pool of an HTTP client, reported as {@link Double#NaN} once stale.
+     * <p>
+     * With HTTP/2, the concurrency of the pool is expressed in streams rather than in connections.
+     */
+    private static final class HttpPoolGauges {
+
+        private final AtomicInteger max = new AtomicInteger();
+        private final AtomicInteger available = new AtomicInteger();
+        private final AtomicInteger leased = new AtomicInteger();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile long updatedAt;
+
+        private HttpPoolGauges(MeterRegistry registry, Tags tags) {
+            register(registry, "aws.sdk.http.pool.max", "Maximum number of concurrent requests of the HTTP client", tags,
+                    max);
+            register(registry, "aws.sdk.http.pool.available",
+                    "Number of additional requests that can be sent without opening a new connection", tags, available);
+            register(registry, "aws.sdk.http.pool.leased", "Number of connections or HTTP/2 streams in use", tags, leased);
+            register(registry, "aws.sdk.http.pool.pending", "Number of requests waiting for a connection or a stream",
+                    tags, pending);
+        }
+
+        private void register(MeterRegistry registry, String name, String description, Tags tags, AtomicInteger value) {
+            ToDoubleFunction<AtomicInteger> current = v -> System.nanoTime() - updatedAt > POOL_STATE_TTL.toNanos()
+                    ? Double.NaN
+                    : v.get();
+            Gauge.builder(name, value, current)
+                    .description(description)
+                    .tags(tags)
+                    .strongReference(true)
+                    .register(registry);
+        }
+
+        private void update(MetricCollection http) {
+            max.set(first(http, HttpMetric.MAX_CONCURRENCY, 0));
+            available.set(first(http, HttpMetric.AVAILABLE_CONCURRENCY, 0));
+            leased.set(first(http, HttpMetric.LEASED_CONCURRENCY, 0));
+            pending.set(first(http, HttpMetric.PENDING_CONCURRENCY_ACQUIRES, 0));
+            updatedAt = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void close() {
+        // meters are owned by the registry
+    }
+}
@@ -0,0 +1,82 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+/**
+ * Stores the payloads of SQS and SNS messages in S3 and sends the messages pointing to them, in the format of the Amazon
+ * SQS and SNS Extended Client Libraries.
+ * <p>
+ * The S3 client is an optional dependency of the extensions, so this class is only loaded by their extended payload
+ * clients.
+ */
+public final class PayloadS3Offloader {
+
+    private static final Log LOG = LogFactory.getLog(PayloadS3Offloader.class);
+
+    /**
+     * The maximum size of a message sent without storing its payload in S3.
+     */
+    public static final int MAX_THRESHOLD = MessageSizes.MAX_MESSAGE_SIZE;
+
+    private final S3AsyncClient s3;
+    private final Optional<String> bucket;
+    private final String keyPrefix;
+    private final String bucketProperty;
+
+    /**
+     * @param bucketProperty the property setting the bucket, reported when it is missing
+     */
+    public PayloadS3Offloader(S3AsyncClient s3, Optional<String> bucket, Optional<String> keyPrefix, String bucketProperty) {
+        this.s3 = s3;
+        this.bucket = bucket;
+        this.keyPrefix = keyPrefix.orElse("");
+        this.bucketProperty = bucketProperty;
+    }
+
+    /**
+     * Uploads a payload to S3, then sends the message pointing to it. The payload is deleted if the message is not sent.
+     *
+     * @param send sends the message pointing to the payload, which carries its length in the
+     *        {@link PayloadS3Pointer#EXTENDED_PAYLOAD_SIZE_ATTRIBUTE} attribute
+     * @return the future returned by {@code send}, or a failed future if the payload could not be uploaded
+     */
+    public <R> CompletableFuture<R> offload(AsyncRequestBody payload, long length,
+            Function<PayloadS3Pointer, CompletableFuture<R>> send) {
+        if (bucket.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                    "The " + bucketProperty + " property must be set to store message payloads in S3"));
+        }
+        PayloadS3Pointer pointer = new PayloadS3Pointer(bucket.get(), keyPrefix + UUID.randomUUID());
+        return s3.putObject(r -> r.bucket(pointer.bucket()).key(pointer.key()).contentLength(length), payload)
+                .thenCompose(put -> send.apply(pointer)
+                        .whenComplete((response, failure) -> {
+                            if (failure != null) {
+                                // the message was not sent, so nothing points to the payload anymore
+                                delete(pointer).whenComplete((ignored, deleteFailure) -> {
+                                    if (deleteFailure != null) {
+                                        LOG.warn("Unable to delete the payload " + pointer
+                                                + " of a message which was not sent", deleteFailure);
+                                    }
+                                });
+                            }
+                        }));
+    }
+
+    /**
+     * Deletes an offloaded payload from S3.
+     *
+     * @return a future completed once the payload is deleted
+     */
+    public CompletableFuture<Void> delete(PayloadS3Pointer pointer) {
+        return s3.deleteObject(r -> r.bucket(pointer.bucket()).key(pointer.key())).thenApply(ignored -> null);
+    }
+}
@@ -0,0 +1,88 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonWriter;
+
+/**
+ * Points to a message payload stored in S3 instead of being sent in the message.
+ * <p>
+ * It is serialized as the message body in the format of the Amazon SQS and SNS Extended Client Libraries, so the
+ * payloads offloaded by either side can be read by the other.
+ */
+public final class PayloadS3Pointer {
+
+    /**
+     * The message attribute holding the size of the offloaded payload.
+     */
+    public static final String EXTENDED_PAYLOAD_SIZE_ATTRIBUTE = "ExtendedPayloadSize";
+
+    private static final String POINTER_CLASS = "software.amazon.payloadoffloading.PayloadS3Pointer";
+
+    private final String bucket;
+    private final String key;
+
+    public PayloadS3Pointer(String bucket, String key) {
+        this.bucket = bucket;
+        this.key = key;
+    }
+
+    public String bucket() {
+        return bucket;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    /**
+     * @return the message body pointing to the payload
+     */
+    public String toJson() {
+        JsonWriter writer = JsonWriter.create();
+        writer.writeStartArray();
+        writer.writeValue(POINTER_CLASS);
+        writer.writeStartObject();
+        writer.writeFieldName("s3BucketName");
+        writer.writeValue(bucket);
+        writer.writeFieldName("s3Key");
+        writer.writeValue(key);
+        writer.writeEndObject();
+        writer.writeEndArray();
+        return new String(writer.getBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the pointer the message body holds, empty if the payload was not offloaded
+     */
+    public static Optional<PayloadS3Pointer> fromJson(String body) {
+        if (body == null || !body.startsWith("[") || !body.contains(POINTER_CLASS)) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode node = JsonNode.parser().parse(body);
+            List<JsonNode> array = node.asArray();
+            if (array.size() != 2 || !POINTER_CLASS.equals(array.get(0).text())) {
+                return Optional.empty();
+            }
+            Map<String, JsonNode> fields = array.get(1).asObject();
+            JsonNode bucket = fields.get("s3BucketName");
+            JsonNode key = fields.get("s3Key");
+            if (bucket == null || key == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new PayloadS3Pointer(bucket.text(), key.text()));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "s3://" + bucket + "/" + key;
+    }
+}
@@ -44,6 +44,16 @@ public interface SdkConfig {
     @WithConverter(DurationConverter.class)
     Optional<Duration> apiCallAttemptTimeout();
 
+    /**
+     * Retry strategy configuration
+     */
+    Retry retry();
+
+    /**
+     * SDK metrics configuration
+     */
+    Metrics metrics();
+
     /**
      * sdk client advanced options
      */
@@ -60,5 +70,109 @@ public interface SdkConfig {
          */
         @ConfigDocDefault("true")
         Optional<Boolean> useQuarkusScheduledExecutorService();
+
+        /**
+         * The maximum number of endpoints cached by the client.
+         * <p>
+         * The endpoint rules of the service are evaluated once per distinct set of endpoint parameters, e.g. once per
+         * bucket for S3, instead of once per request. `0` disables the cache.
+         */
+        @ConfigDocDefault("0")
+        Optional<Integer> endpointCacheSize();
+    }
+
+    @ConfigGroup
+    public interface Retry {
+
+        /**
+         * The retry strategy.
+         * <p>
+         * If not specified, the strategy is resolved by the SDK from the `aws.retryMode` system property, the
+         * `AWS_RETRY_MODE` environment variable or the profile file.
+         */
+        Optional<RetryStrategyType> mode();
+
+        /**
+         * The maximum number of attempts, including the initial attempt.
+         * <p>
+         * Set to `1` to disable retries.
+         */
+        @ConfigDocDefault("3")
+        Optional<Integer> maxAttempts();
+
+        /**
+         * Whether the retry token bucket is enabled, rejecting retries when too many of the recent attempts failed.
+         * <p>
+         * The token bucket is always enabled with the `adaptive` strategy.
+         */
+        @ConfigDocDefault("true")
+        Optional<Boolean> circuitBreakerEnabled();
+
+        /**
+         * Backoff applied before retrying a failed attempt
+         */
+        Backoff backoff();
+
+        /**
+         * Backoff applied before retrying a throttled attempt
+         */
+        Backoff throttlingBackoff();
+    }
+
+    @ConfigGroup
+    public interface Backoff {
+
+        /**
+         * The base delay of the exponential backoff with full jitter.
+         * <p>
+         * The SDK defaults to `0.1S` for failed attempts and to `1S` for throttled attempts.
+         */
+        @WithConverter(DurationConverter.class)
+        Optional<Duration> baseDelay();
+
+        /**
+         * The maximum delay between two attempts.
+         */
+        @ConfigDocDefault("20S")
+        @WithConverter(DurationConverter.class)
+        Optional<Duration> maxBackoff();
+    }
+
+    public enum RetryStrategyType {
+        /**
+         * Retries with exponential backoff, limited by a retry token bucket.
+         */
+        STANDARD,
+        /**
+         * The standard strategy with a client-side rate limiter that slows down all the requests of the client when
+         * the service throttles.
+         */
+        ADAPTIVE,
+        /**
+         * The strategy of the previous versions of the SDK.
+         */
+        LEGACY
+    }
+
+    @ConfigGroup
+    public interface Metrics {
+
+        /**
+         * Whether the SDK metrics of the client, such as the API call durations, retries and throttling errors, are
+         * published to Micrometer.
+         * <p>
+         * Metrics are only published when the `quarkus-micrometer` extension is present.
+         */
+        @ConfigDocDefault("true")
+        Optional<Boolean> enabled();
+
+        /**
+         * The ratio of API calls whose metrics are published, between `0` and `1`.
+         * <p>
+         * Sampling reduces the cost of recording the metrics of high throughput clients. Counters and timer counts then
+         * only reflect the sampled API calls.
+         */
+        @ConfigDocDefault("1")
+        Optional<Double> samplingRate();
     }
 }
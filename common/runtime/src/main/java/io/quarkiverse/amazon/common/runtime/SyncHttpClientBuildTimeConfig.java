@@ -8,6 +8,9 @@ public interface SyncHttpClientBuildTimeConfig {
 
     /**
      * Type of the sync HTTP client implementation
+     * <p>
+     * The `jdk` client is based on `java.net.http.HttpClient` and does not pin the carrier thread when used from a virtual
+     * thread.
      */
     @WithDefault(value = "url")
     SyncClientType type();
@@ -15,6 +18,7 @@ public interface SyncHttpClientBuildTimeConfig {
     public enum SyncClientType {
         URL,
         APACHE,
-        AWS_CRT
+        AWS_CRT,
+        JDK
     }
 }
@@ -28,6 +28,15 @@ public interface SyncHttpClientConfig {
     @WithConverter(DurationConverter.class)
     Duration socketTimeout();
 
+    /**
+     * Whether the HTTP client is shared with the other Amazon clients having the same sync client configuration.
+     * <p>
+     * When enabled, named clients and services with identical sync client configurations use the same HTTP client and
+     * connection pool. When disabled, each Amazon client builds its own HTTP client.
+     */
+    @WithDefault("true")
+    boolean shared();
+
     /**
      * TLS Key Managers provider configuration
      */
@@ -50,6 +59,12 @@ public interface SyncHttpClientConfig {
     @ConfigDocSection
     CrtHttpClientConfig crt();
 
+    /**
+     * JDK HTTP client specific configurations
+     */
+    @ConfigDocSection
+    JdkHttpClientConfig jdk();
+
     @ConfigGroup
     public interface ApacheHttpClientConfig {
         /**
@@ -75,7 +90,8 @@ public interface SyncHttpClientConfig {
         /**
          * The maximum number of connections allowed in the connection pool.
          * <p>
-         * Each built HTTP client has its own private connection pool.
+         * Each built HTTP client has its own private connection pool, which may be shared by several Amazon clients if
+         * `quarkus.<amazon-service>.sync-client.shared` is enabled.
          */
         @WithDefault("50")
         int maxConnections();
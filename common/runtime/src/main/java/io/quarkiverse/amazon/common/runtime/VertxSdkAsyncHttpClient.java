@@ -0,0 +1,287 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.net.JdkSSLEngineOptions;
+import io.vertx.core.net.OpenSSLEngineOptions;
+import io.vertx.core.net.SSLEngineOptions;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * An {@link SdkAsyncHttpClient} running on the Quarkus Vert.x instance.
+ * <p>
+ * Requests are sent from the Vert.x context of the caller, when there is one, so that the response callbacks run on the
+ * caller's (duplicated) context. Request and response bodies are streamed without being copied.
+ */
+public final class VertxSdkAsyncHttpClient implements SdkAsyncHttpClient {
+
+    private static final String CLIENT_NAME = "QuarkusVertx";
+
+    private final HttpClient client;
+    private final Duration readTimeout;
+    private final Duration connectionAcquisitionTimeout;
+
+    private VertxSdkAsyncHttpClient(Builder builder) {
+        this.client = builder.vertx.get().createHttpClient(builder.options, builder.poolOptions);
+        this.readTimeout = builder.readTimeout;
+        this.connectionAcquisitionTimeout = builder.connectionAcquisitionTimeout;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the Vert.x SSL engine options of the given SSL provider
+     */
+    static SSLEngineOptions sslEngineOptions(AsyncHttpClientConfig.SslProviderType sslProvider) {
+        return sslProvider == AsyncHttpClientConfig.SslProviderType.JDK ? new JdkSSLEngineOptions()
+                : new OpenSSLEngineOptions();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest asyncRequest) {
+        SdkHttpRequest sdkRequest = asyncRequest.request();
+        ResponseFuture future = new ResponseFuture(asyncRequest.responseHandler());
+
+        RequestOptions options = new RequestOptions()
+                .setMethod(HttpMethod.valueOf(sdkRequest.method().name()))
+                .setHost(sdkRequest.host())
+                .setPort(sdkRequest.port())
+                .setSsl("https".equalsIgnoreCase(sdkRequest.protocol()))
+                .setURI(requestUri(sdkRequest));
+        sdkRequest.forEachHeader((name, values) -> values.forEach(value -> options.addHeader(name, value)));
+        if (connectionAcquisitionTimeout != null && !connectionAcquisitionTimeout.isZero()) {
+            options.setConnectTimeout(connectionAcquisitionTimeout.toMillis());
+        }
+        if (readTimeout != null && !readTimeout.isZero()) {
+            options.setIdleTimeout(readTimeout.toMillis());
+        }
+
+        client.request(options).onComplete(ar -> {
+            if (ar.failed()) {
+                future.fail(ar.cause());
+                return;
+            }
+            HttpClientRequest request = ar.result();
+            request.response().onComplete(response -> {
+                if (response.failed()) {
+                    future.fail(response.cause());
+                } else {
+                    future.onResponse(response.result());
+                }
+            });
+            writeContent(asyncRequest.requestContentPublisher(), sdkRequest, request, future);
+        });
+
+        return future;
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private static String requestUri(SdkHttpRequest sdkRequest) {
+        String path = sdkRequest.encodedPath();
+        StringBuilder uri = new StringBuilder(path == null || path.isEmpty() ? "/" : path);
+        sdkRequest.encodedQueryParameters().ifPresent(query -> uri.append('?').append(query));
+        return uri.toString();
+    }
+
+    private static void writeContent(SdkHttpContentPublisher content, SdkHttpRequest sdkRequest,
+            HttpClientRequest request, ResponseFuture future) {
+        if (content == null) {
+            request.end();
+            return;
+        }
+        if (sdkRequest.firstMatchingHeader(HttpHeaders.CONTENT_LENGTH.toString()).isEmpty()) {
+            content.contentLength().ifPresentOrElse(
+                    length -> request.putHeader(HttpHeaders.CONTENT_LENGTH, Long.toString(length)),
+                    () -> request.setChunked(true));
+        }
+        content.subscribe(new Subscriber<ByteBuffer>() {
+
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                request.write(Buffer.buffer(Unpooled.wrappedBuffer(byteBuffer)));
+                if (request.writeQueueFull()) {
+                    request.drainHandler(v -> {
+                        request.drainHandler(null);
+                        subscription.request(1);
+                    });
+                } else {
+                    subscription.request(1);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                request.reset(0, t);
+                future.fail(t);
+            }
+
+            @Override
+            public void onComplete() {
+                request.end();
+            }
+        });
+    }
+
+    /**
+     * The future returned to the SDK, completed once the response body has been fully consumed.
+     */
+    private static final class ResponseFuture extends CompletableFuture<Void> {
+
+        private final SdkAsyncHttpResponseHandler handler;
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        private ResponseFuture(SdkAsyncHttpResponseHandler handler) {
+            this.handler = handler;
+        }
+
+        private void onResponse(HttpClientResponse response) {
+            // hold the body until the SDK subscribes to it
+            response.pause();
+
+            SdkHttpFullResponse.Builder sdkResponse = SdkHttpFullResponse.builder()
+                    .statusCode(response.statusCode())
+                    .statusText(response.statusMessage());
+            response.headers().forEach(header -> sdkResponse.appendHeader(header.getKey(), header.getValue()));
+
+            handler.onHeaders(sdkResponse.build());
+            handler.onStream(new ResponsePublisher(response, this));
+        }
+
+        private void fail(Throwable t) {
+            if (!isDone() && failed.compareAndSet(false, true)) {
+                handler.onError(t);
+                completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * Publishes the response body, using the Vert.x demand to apply the backpressure of the SDK subscriber.
+     */
+    private static final class ResponsePublisher implements Publisher<ByteBuffer> {
+
+        private final HttpClientResponse response;
+        private final ResponseFuture future;
+
+        private ResponsePublisher(HttpClientResponse response, ResponseFuture future) {
+            this.response = response;
+            this.future = future;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            response.handler(buffer -> subscriber.onNext(buffer.getByteBuf().nioBuffer()));
+            response.exceptionHandler(t -> {
+                subscriber.onError(t);
+                future.fail(t);
+            });
+            response.endHandler(v -> {
+                subscriber.onComplete();
+                future.complete(null);
+            });
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    response.fetch(n);
+                }
+
+                @Override
+                public void cancel() {
+                    response.handler(null);
+                    response.endHandler(null);
+                    response.request().reset();
+                    future.complete(null);
+                }
+            });
+        }
+    }
+
+    public static final class Builder implements SdkAsyncHttpClient.Builder<Builder> {
+
+        private Supplier<Vertx> vertx;
+        private HttpClientOptions options = new HttpClientOptions();
+        private PoolOptions poolOptions = new PoolOptions();
+        private Duration readTimeout;
+        private Duration connectionAcquisitionTimeout;
+
+        private Builder() {
+        }
+
+        /**
+         * The Vert.x instance, resolved when the HTTP client is built.
+         */
+        public Builder vertx(Supplier<Vertx> vertx) {
+            this.vertx = vertx;
+            return this;
+        }
+
+        public Builder options(HttpClientOptions options) {
+            this.options = options;
+            return this;
+        }
+
+        public Builder poolOptions(PoolOptions poolOptions) {
+            this.poolOptions = poolOptions;
+            return this;
+        }
+
+        public Builder readTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+            return this;
+        }
+
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+            return this;
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new VertxSdkAsyncHttpClient(this);
+        }
+    }
+}
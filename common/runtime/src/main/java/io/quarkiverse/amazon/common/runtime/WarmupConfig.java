@@ -0,0 +1,36 @@
+package io.quarkiverse.amazon.common.runtime;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigDocDefault;
+import io.quarkus.runtime.annotations.ConfigGroup;
+
+@ConfigGroup
+public interface WarmupConfig {
+
+    /**
+     * Whether the client is warmed up at startup.
+     * <p>
+     * The warm-up builds the client, resolves its credentials and, if an operation is configured, calls it to resolve the
+     * endpoint and open connections to the service.
+     */
+    @ConfigDocDefault("false")
+    Optional<Boolean> enabled();
+
+    /**
+     * The name of the client method called to warm up the client, e.g. `listTables` for DynamoDB.
+     * <p>
+     * It must be an operation without required parameters. Errors returned by the service, such as access denied, are
+     * ignored.
+     */
+    Optional<String> operation();
+
+    /**
+     * The number of concurrent calls of the warm-up operation, i.e. the number of connections opened in the connection pool
+     * of the client.
+     * <p>
+     * Connections are only opened by the calls of the warm-up operation: without an operation, none is opened.
+     */
+    @ConfigDocDefault("1")
+    Optional<Integer> connections();
+}
@@ -0,0 +1,256 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.BeanAccessor;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates the {@link BeanAccessor} of a DynamoDb mappable entity or immutable builder class.
+ * <p>
+ * The generated class exposes the public getters and setters of the class and of its indexed superclasses, its public
+ * static no-args factory methods and its public no-args constructor. Each member is given an index, and the
+ * {@code apply}, {@code accept} and {@code get} methods select the member to invoke with a binary search on the index of
+ * the accessor instance.
+ */
+final class BeanAccessorGenerator {
+
+    static final String SUFFIX = "$$DynamoDbAccessor";
+
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of("Z", boolean.class, "B", byte.class, "C", char.class,
+            "S", short.class, "I", int.class, "J", long.class, "F", float.class, "D", double.class);
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(boolean.class, Boolean.class, byte.class, Byte.class,
+            char.class, Character.class, short.class, Short.class, int.class, Integer.class, long.class, Long.class,
+            float.class, Float.class, double.class, Double.class);
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+
+    BeanAccessorGenerator(IndexView index, ClassOutput classOutput) {
+        this.index = index;
+        this.classOutput = classOutput;
+    }
+
+    static String accessorClassName(ClassInfo type) {
+        return type.name().toString() + SUFFIX;
+    }
+
+    /**
+     * @return the keys of the members exposed by the generated accessor, in index order, or an empty list if no accessor
+     *         was generated
+     */
+    List<String> generate(ClassInfo type) {
+        if (!Modifier.isPublic(type.flags()) || type.isAnnotation() || type.isEnum()) {
+            return List.of();
+        }
+
+        Map<String, Member> members = collectMembers(type);
+        if (members.isEmpty()) {
+            return List.of();
+        }
+
+        List<Member> getters = new ArrayList<>();
+        List<Member> setters = new ArrayList<>();
+        List<Member> factories = new ArrayList<>();
+        for (Member member : members.values()) {
+            if (member.method.isConstructor() || Modifier.isStatic(member.method.flags())) {
+                factories.add(member);
+            } else if (member.method.parametersCount() == 0) {
+                getters.add(member);
+            } else {
+                setters.add(member);
+            }
+        }
+
+        String accessorClassName = accessorClassName(type);
+        // one instance per member, apply, accept and get dispatch on the index inherited from BeanAccessor
+        FieldDescriptor indexField = FieldDescriptor.of(accessorClassName, "index", int.class);
+        MethodDescriptor unsupported = MethodDescriptor.ofMethod(accessorClassName, "unsupported",
+                IllegalStateException.class);
+        try (ClassCreator creator = ClassCreator.builder()
+                .classOutput(classOutput)
+                .className(accessorClassName)
+                .superClass(BeanAccessor.class)
+                .build()) {
+
+            MethodCreator constructor = creator.getMethodCreator(MethodDescriptor.INIT, void.class, int.class);
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(BeanAccessor.class, int.class),
+                    constructor.getThis(), constructor.getMethodParam(0));
+            constructor.returnValue(null);
+
+            if (!getters.isEmpty()) {
+                MethodCreator apply = creator.getMethodCreator("apply", Object.class, Object.class);
+                dispatch(apply, apply.readInstanceField(indexField, apply.getThis()), getters, 0, getters.size(), type);
+                apply.throwException(apply.invokeVirtualMethod(unsupported, apply.getThis()));
+            }
+            if (!setters.isEmpty()) {
+                MethodCreator accept = creator.getMethodCreator("accept", void.class, Object.class, Object.class);
+                dispatch(accept, accept.readInstanceField(indexField, accept.getThis()), setters, 0, setters.size(), type);
+                accept.throwException(accept.invokeVirtualMethod(unsupported, accept.getThis()));
+            }
+            if (!factories.isEmpty()) {
+                MethodCreator get = creator.getMethodCreator("get", Object.class);
+                dispatch(get, get.readInstanceField(indexField, get.getThis()), factories, 0, factories.size(), type);
+                get.throwException(get.invokeVirtualMethod(unsupported, get.getThis()));
+            }
+        }
+        return new ArrayList<>(members.keySet());
+    }
+
+    private Map<String, Member> collectMembers(ClassInfo type) {
+        Map<String, Member> members = new LinkedHashMap<>();
+        boolean instantiable = !type.isInterface() && !Modifier.isAbstract(type.flags());
+        ClassInfo current = type;
+        while (current != null) {
+            for (MethodInfo method : current.methods()) {
+                if (!isAccessible(type, current, method, instantiable)) {
+                    continue;
+                }
+                members.putIfAbsent(key(method), new Member(members.size(), method));
+            }
+            current = current.superName() == null ? null : index.getClassByName(current.superName());
+        }
+        return members;
+    }
+
+    private static boolean isAccessible(ClassInfo type, ClassInfo declaringClass, MethodInfo method,
+            boolean instantiable) {
+        if (!Modifier.isPublic(method.flags()) || method.isSynthetic() || (method.flags() & 0x0040) != 0) {
+            // bridge methods are skipped, the overriding method has the same key
+            return false;
+        }
+        if (method.isConstructor()) {
+            return declaringClass == type && instantiable && method.parametersCount() == 0;
+        }
+        if (method.isStaticInitializer()) {
+            return false;
+        }
+        if (Modifier.isStatic(method.flags())) {
+            // static methods of interfaces are not supported by StaticGetterMethod
+            return declaringClass == type && !type.isInterface() && method.parametersCount() == 0
+                    && method.returnType().kind() != org.jboss.jandex.Type.Kind.VOID;
+        }
+        if (method.parametersCount() == 0) {
+            return method.returnType().kind() != org.jboss.jandex.Type.Kind.VOID;
+        }
+        return method.parametersCount() == 1;
+    }
+
+    /**
+     * @return the key of the member, as computed by {@link BeanAccessor#key(java.lang.reflect.Executable)}
+     */
+    static String key(MethodInfo method) {
+        StringBuilder key = new StringBuilder(method.name()).append('(');
+        String[] parameterTypes = MethodDescriptor.of(method).getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(className(parameterTypes[i]));
+        }
+        return key.append(')').toString();
+    }
+
+    static String className(String descriptor) {
+        Class<?> primitive = PRIMITIVES.get(descriptor);
+        if (primitive != null) {
+            return primitive.getName();
+        }
+        if (descriptor.startsWith("[")) {
+            return descriptor.replace('/', '.');
+        }
+        return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+    }
+
+    private static ResultHandle box(BytecodeCreator bytecode, ResultHandle value, String descriptor) {
+        Class<?> primitive = PRIMITIVES.get(descriptor);
+        if (primitive == null) {
+            return value;
+        }
+        Class<?> wrapper = WRAPPERS.get(primitive);
+        return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(wrapper, "valueOf", wrapper, primitive), value);
+    }
+
+    private static ResultHandle unbox(BytecodeCreator bytecode, ResultHandle value, String descriptor) {
+        Class<?> primitive = PRIMITIVES.get(descriptor);
+        if (primitive == null) {
+            return bytecode.checkCast(value, descriptor.startsWith("[") ? descriptor : className(descriptor));
+        }
+        Class<?> wrapper = WRAPPERS.get(primitive);
+        return bytecode.invokeVirtualMethod(MethodDescriptor.ofMethod(wrapper, primitive.getName() + "Value", primitive),
+                bytecode.checkCast(value, wrapper));
+    }
+
+    private static void dispatch(BytecodeCreator bytecode, ResultHandle index, List<Member> members, int from, int to,
+            ClassInfo type) {
+        if (to - from == 1) {
+            Member member = members.get(from);
+            BytecodeCreator matching = bytecode.ifIntegerEqual(index, bytecode.load(member.index)).trueBranch();
+            invoke(matching, member, type);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        BranchResult branch = bytecode.ifIntegerLessThan(index, bytecode.load(members.get(middle).index));
+        dispatch(branch.trueBranch(), index, members, from, middle, type);
+        dispatch(branch.falseBranch(), index, members, middle, to, type);
+    }
+
+    private static void invoke(BytecodeCreator bytecode, Member member, ClassInfo type) {
+        MethodInfo method = member.method;
+        String typeName = type.name().toString();
+        if (method.isConstructor()) {
+            bytecode.returnValue(bytecode.newInstance(MethodDescriptor.ofConstructor(typeName)));
+            return;
+        }
+
+        MethodDescriptor descriptor = MethodDescriptor.of(method);
+        if (Modifier.isStatic(method.flags())) {
+            bytecode.returnValue(box(bytecode, bytecode.invokeStaticMethod(descriptor), descriptor.getReturnType()));
+            return;
+        }
+
+        // the method is invoked on the entity class, even when it is inherited
+        descriptor = MethodDescriptor.ofMethod(typeName, descriptor.getName(), descriptor.getReturnType(),
+                descriptor.getParameterTypes());
+        ResultHandle bean = bytecode.checkCast(bytecode.getMethodParam(0), typeName);
+        if (method.parametersCount() == 0) {
+            ResultHandle value = type.isInterface() ? bytecode.invokeInterfaceMethod(descriptor, bean)
+                    : bytecode.invokeVirtualMethod(descriptor, bean);
+            bytecode.returnValue(box(bytecode, value, descriptor.getReturnType()));
+        } else {
+            ResultHandle value = unbox(bytecode, bytecode.getMethodParam(1), descriptor.getParameterTypes()[0]);
+            if (type.isInterface()) {
+                bytecode.invokeInterfaceMethod(descriptor, bean, value);
+            } else {
+                bytecode.invokeVirtualMethod(descriptor, bean, value);
+            }
+            bytecode.returnValue(null);
+        }
+    }
+
+    private static final class Member {
+
+        private final int index;
+        private final MethodInfo method;
+
+        private Member(int index, MethodInfo method) {
+            this.index = index;
+            this.method = method;
+        }
+    }
+}
@@ -2,6 +2,11 @@ package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
 
 import org.jboss.jandex.DotName;
 
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.CachedDynamoDbTable;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbBatchLoader;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbBatchWriter;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbParallelScanner;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbProjection;
 import io.quarkiverse.amazon.dynamodb.enhanced.runtime.NamedDynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
@@ -20,11 +25,16 @@ public final class DotNames {
     public static final DotName DYNAMODB_ENHANCED_CLIENT = DotName.createSimple(DynamoDbEnhancedClient.class);
     public static final DotName DYNAMODB_ENHANCED_ASYNC_CLIENT = DotName
             .createSimple(DynamoDbEnhancedAsyncClient.class);
+    public static final DotName DYNAMODB_BATCH_LOADER = DotName.createSimple(DynamoDbBatchLoader.class);
+    public static final DotName DYNAMODB_BATCH_WRITER = DotName.createSimple(DynamoDbBatchWriter.class);
+    public static final DotName DYNAMODB_PARALLEL_SCANNER = DotName.createSimple(DynamoDbParallelScanner.class);
     public static final DotName DYNAMODB_ENHANCED_CLIENT_EXTENSION_NAME = DotName
             .createSimple(DynamoDbEnhancedClientExtension.class);
     public static final DotName DYNAMODB_ENHANCED_BEAN = DotName.createSimple(DynamoDbBean.class);
     public static final DotName DYNAMODB_ENHANCED_IMMUTABLE = DotName.createSimple(DynamoDbImmutable.class);
     public static final DotName DYNAMODB_NAMED_TABLE = DotName.createSimple(NamedDynamoDbTable.class);
+    public static final DotName DYNAMODB_CACHED_TABLE = DotName.createSimple(CachedDynamoDbTable.class);
+    public static final DotName DYNAMODB_PROJECTION = DotName.createSimple(DynamoDbProjection.class);
     public static final DotName DYNAMODB_TABLE = DotName.createSimple(DynamoDbTable.class);
     public static final DotName DYNAMODB_ASYNC_TABLE = DotName.createSimple(DynamoDbAsyncTable.class);
 
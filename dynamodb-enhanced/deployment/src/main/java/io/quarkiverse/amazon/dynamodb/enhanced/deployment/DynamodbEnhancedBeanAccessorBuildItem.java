@@ -0,0 +1,35 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import java.util.List;
+
+import org.jboss.jandex.DotName;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * The accessor generated for a DynamoDb mappable entity or immutable builder class.
+ */
+public final class DynamodbEnhancedBeanAccessorBuildItem extends MultiBuildItem {
+
+    private DotName className;
+    private String accessorClassName;
+    private List<String> members;
+
+    public DynamodbEnhancedBeanAccessorBuildItem(DotName className, String accessorClassName, List<String> members) {
+        this.className = className;
+        this.accessorClassName = accessorClassName;
+        this.members = members;
+    }
+
+    public DotName getClassName() {
+        return className;
+    }
+
+    public String getAccessorClassName() {
+        return accessorClassName;
+    }
+
+    public List<String> getMembers() {
+        return members;
+    }
+}
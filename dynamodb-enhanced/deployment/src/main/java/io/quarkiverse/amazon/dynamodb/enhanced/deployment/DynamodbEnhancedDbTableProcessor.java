@@ -1,16 +1,18 @@
 package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
 
+import static io.quarkiverse.amazon.common.deployment.ClientDeploymentUtil.injectionPointAnnotationsClient;
+
 import java.lang.annotation.Annotation;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import jakarta.enterprise.inject.spi.DeploymentException;
 import jakarta.inject.Singleton;
 
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationInstanceBuilder;
 import org.jboss.jandex.AnnotationTarget.Kind;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.ClassType;
@@ -19,14 +21,26 @@ import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.ParameterizedType;
 
+import io.quarkiverse.amazon.common.AmazonClient;
 import io.quarkiverse.amazon.common.deployment.RequireAmazonClientInjectionBuildItem;
 import io.quarkiverse.amazon.common.runtime.ClientUtil;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.CachingDynamoDbAsyncTable;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.CachingDynamoDbTable;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbEnhancedBuildTimeConfig;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbItemCache;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbItemCacheExtension;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbItemCacheRecorder;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbTableSchemas;
 import io.quarkiverse.amazon.dynamodb.enhanced.runtime.NamedDynamoDbTable;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.ProjectingDynamoDbAsyncTable;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.ProjectingDynamoDbTable;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
@@ -44,8 +58,8 @@ public class DynamodbEnhancedDbTableProcessor {
             "getInjectedReference", Object.class, Class.class, Annotation[].class);
 
     // static <T> TableSchema<T> fromClass(Class<T> annotatedClass)
-    public static final MethodDescriptor TABLE_SCHEMA_FROM_CLASS_METHOD = MethodDescriptor.ofMethod(TableSchema.class,
-            "fromClass", TableSchema.class,
+    public static final MethodDescriptor TABLE_SCHEMA_FROM_CLASS_METHOD = MethodDescriptor.ofMethod(
+            DynamoDbTableSchemas.class, "fromClass", TableSchema.class,
             Class.class);
 
     // <T> DynamoDbTable<T> table(String tableName, TableSchema<T> tableSchema);
@@ -66,8 +80,10 @@ public class DynamodbEnhancedDbTableProcessor {
     void discoverDynamoDbTable(CombinedIndexBuildItem combinedIndexBuildItem,
             BuildProducer<DynamodbEnhancedTableBuildItem> tables) {
 
-        Set<Map.Entry<String, DotName>> asyncSeen = new HashSet<>();
-        Set<Map.Entry<String, DotName>> syncSeen = new HashSet<>();
+        // a table bean is identified by its table name, client name and bean class, it is cached if any of its injection
+        // points is annotated with @CachedDynamoDbTable
+        Map<List<Object>, Boolean> asyncSeen = new LinkedHashMap<>();
+        Map<List<Object>, Boolean> syncSeen = new LinkedHashMap<>();
 
         IndexView index = combinedIndexBuildItem.getIndex();
         Collection<AnnotationInstance> ais = index.getAnnotations(DotNames.DYNAMODB_NAMED_TABLE);
@@ -75,7 +91,10 @@ public class DynamodbEnhancedDbTableProcessor {
             if (ano.target().kind().equals(Kind.FIELD)) {
                 FieldInfo field = ano.target().asField();
                 String tableName = ano.value().asString();
+                String clientName = ano.value("clientName") != null ? ano.value("clientName").asString()
+                        : ClientUtil.DEFAULT_CLIENT_NAME;
                 DotName beanClassName = field.type().asParameterizedType().arguments().get(0).name();
+                boolean cached = field.hasAnnotation(DotNames.DYNAMODB_CACHED_TABLE);
 
                 ClassInfo beanClass = index.getClassByName(beanClassName);
                 if (beanClass.annotation(DotNames.DYNAMODB_ENHANCED_BEAN) == null
@@ -83,23 +102,32 @@ public class DynamodbEnhancedDbTableProcessor {
                     throw new DeploymentException(String
                             .format("'%s' must be bean annotated with @DynamoDbBean or @DynamoDbImmutable", beanClassName));
                 }
+                if (cached && isProjection(index, beanClassName)) {
+                    throw new DeploymentException(String
+                            .format("The table of the projection '%s' cannot be cached", beanClassName));
+                }
 
                 if (DotNames.DYNAMODB_TABLE.equals(field.type().name())) {
-                    if (syncSeen.add(Map.entry(tableName, beanClassName))) {
-                        tables.produce(new DynamodbEnhancedTableBuildItem(tableName, beanClassName,
-                                DotNames.DYNAMODB_ENHANCED_CLIENT, DYNAMODB_ENHANCED_CLIENT_TABLE_METHOD,
-                                DotNames.DYNAMODB_TABLE));
-                    }
+                    syncSeen.merge(List.of(tableName, clientName, beanClassName), cached, Boolean::logicalOr);
                 }
                 if (DotNames.DYNAMODB_ASYNC_TABLE.equals(field.type().name())) {
-                    if (asyncSeen.add(Map.entry(tableName, beanClassName))) {
-                        tables.produce(new DynamodbEnhancedTableBuildItem(tableName, beanClassName,
-                                DotNames.DYNAMODB_ENHANCED_ASYNC_CLIENT, DYNAMODB_ENHANCED_ASYNC_CLIENT_TABLE_METHOD,
-                                DotNames.DYNAMODB_ASYNC_TABLE));
-                    }
+                    asyncSeen.merge(List.of(tableName, clientName, beanClassName), cached, Boolean::logicalOr);
                 }
             }
         }
+
+        syncSeen.forEach((table, cached) -> tables.produce(new DynamodbEnhancedTableBuildItem((String) table.get(0),
+                (String) table.get(1), (DotName) table.get(2), DotNames.DYNAMODB_ENHANCED_CLIENT,
+                DYNAMODB_ENHANCED_CLIENT_TABLE_METHOD, DotNames.DYNAMODB_TABLE, cached,
+                isProjection(index, (DotName) table.get(2)))));
+        asyncSeen.forEach((table, cached) -> tables.produce(new DynamodbEnhancedTableBuildItem((String) table.get(0),
+                (String) table.get(1), (DotName) table.get(2), DotNames.DYNAMODB_ENHANCED_ASYNC_CLIENT,
+                DYNAMODB_ENHANCED_ASYNC_CLIENT_TABLE_METHOD, DotNames.DYNAMODB_ASYNC_TABLE, cached,
+                isProjection(index, (DotName) table.get(2)))));
+    }
+
+    private static boolean isProjection(IndexView index, DotName beanClassName) {
+        return index.getClassByName(beanClassName).declaredAnnotation(DotNames.DYNAMODB_PROJECTION) != null;
     }
 
     @BuildStep
@@ -113,15 +141,38 @@ public class DynamodbEnhancedDbTableProcessor {
         // each table bean requires a DynamoDb Enhanced client
         tables.stream()
                 .map(table -> new RequireAmazonClientInjectionBuildItem(table.getClientClassName(),
-                        ClientUtil.DEFAULT_CLIENT_NAME))
+                        table.getClientName()))
                 .forEach(requireClientInjectionProducer::produce);
         // which in turn require a regular low-level DynamoDb client
         tables.stream()
                 .map(table -> new RequireAmazonClientInjectionBuildItem(getLowLevelClientClassName(table.getClientClassName()),
-                        ClientUtil.DEFAULT_CLIENT_NAME))
+                        table.getClientName()))
                 .forEach(requireClientInjectionProducer::produce);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void produceItemCacheBean(List<DynamodbEnhancedTableBuildItem> tables,
+            DynamoDbEnhancedBuildTimeConfig buildTimeConfig,
+            DynamoDbItemCacheRecorder recorder,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBean) {
+
+        boolean cachedTables = tables.stream().anyMatch(DynamodbEnhancedTableBuildItem::isCached);
+        // the extension looks the cache up programmatically
+        boolean extension = buildTimeConfig.clientExtensions().orElse(List.of()).stream()
+                .anyMatch(e -> DynamoDbItemCacheExtension.class.getName().equals(e.trim()));
+        if (!cachedTables && !extension) {
+            return;
+        }
+
+        syntheticBean.produce(SyntheticBeanBuildItem.configure(DynamoDbItemCache.class)
+                .scope(Singleton.class)
+                .setRuntimeInit()
+                .unremovable()
+                .supplier(recorder.createItemCache())
+                .done());
+    }
+
     public DotName getLowLevelClientClassName(DotName enhancedClientClassName) {
         if (DotNames.DYNAMODB_ENHANCED_CLIENT.equals(enhancedClientClassName)) {
             return DotNames.DYNAMODB_CLIENT;
@@ -131,38 +182,88 @@ public class DynamodbEnhancedDbTableProcessor {
     }
 
     static private SyntheticBeanBuildItem generateDynamoDbTableSyntheticBean(DynamodbEnhancedTableBuildItem table) {
-        return SyntheticBeanBuildItem
+        SyntheticBeanBuildItem.ExtendedBeanConfigurator configurator = SyntheticBeanBuildItem
                 .configure(table.getTableClassName())
                 .addType(ParameterizedType.builder(table.getTableClassName())
                         .addArgument(ClassType.create(table.getBeanClassName())).build())
                 .scope(Singleton.class)
-                .qualifiers(AnnotationInstance.builder(NamedDynamoDbTable.class).value(table.getTableName()).build())
+                .qualifiers(tableQualifier(table))
                 .unremovable()
                 .creator(methodCreator -> {
                     generateDynamoDbTableSyncTableProducerMethod(methodCreator, table);
                 })
-                .addInjectionPoint(ClassType.create(table.getClientClassName()))
-                .done();
+                .addInjectionPoint(ClassType.create(table.getClientClassName()),
+                        injectionPointAnnotationsClient(table.getClientName()));
+        if (table.isCached()) {
+            configurator.addInjectionPoint(ClassType.create(DotName.createSimple(DynamoDbItemCache.class)));
+        }
+        return configurator.done();
+    }
+
+    static private AnnotationInstance tableQualifier(DynamodbEnhancedTableBuildItem table) {
+        AnnotationInstanceBuilder qualifier = AnnotationInstance.builder(NamedDynamoDbTable.class)
+                .value(table.getTableName());
+        if (!ClientUtil.isDefaultClient(table.getClientName())) {
+            qualifier.add("clientName", table.getClientName());
+        }
+        return qualifier.build();
     }
 
     static private void generateDynamoDbTableSyncTableProducerMethod(MethodCreator methodCreator,
             DynamodbEnhancedTableBuildItem table) {
-        // DynamoDbEnhancedClient dynamoEnhancedClient = arg0.getInjectedReferenceMethod(DynamoDbEnhancedClient.class, {})
+        // DynamoDbEnhancedClient dynamoEnhancedClient = arg0.getInjectedReferenceMethod(DynamoDbEnhancedClient.class,
+        //         {} or { new AmazonClientLiteral(clientName) })
         // String tableName = "...";
         // Class beanClass = Class.forName("...", TCCL)
-        // TableSchema tableSchema = TableSchema.fromClass(beanClass)
+        // TableSchema tableSchema = DynamoDbTableSchemas.fromClass(beanClass)
         // dynamoEnhancedClient.table(tableName, tableSchema)
+        var clientQualifiersHandle = methodCreator.newArray(Annotation.class,
+                ClientUtil.isDefaultClient(table.getClientName()) ? 0 : 1);
+        if (!ClientUtil.isDefaultClient(table.getClientName())) {
+            methodCreator.writeArrayValue(clientQualifiersHandle, 0, methodCreator.newInstance(
+                    MethodDescriptor.ofConstructor(AmazonClient.AmazonClientLiteral.class, String.class),
+                    methodCreator.load(table.getClientName())));
+        }
         var dynamoEnhancedClientHandle = methodCreator.invokeInterfaceMethod(CREATION_CONTEXT_GET_INJECTED_REFERENCE_METHOD,
                 methodCreator.getMethodParam(0), methodCreator.loadClass(table.getClientClassName().toString()),
-                methodCreator.newArray(Annotation.class, 0));
+                clientQualifiersHandle);
         var tableNameHandler = methodCreator.load(table.getTableName());
         var beanClassHandler = methodCreator.loadClassFromTCCL(table.getBeanClassName().toString());
-        var tableSchemaHandle = methodCreator.invokeStaticInterfaceMethod(TABLE_SCHEMA_FROM_CLASS_METHOD,
+        var tableSchemaHandle = methodCreator.invokeStaticMethod(TABLE_SCHEMA_FROM_CLASS_METHOD,
                 beanClassHandler);
         var mappedTableHandle = methodCreator.invokeInterfaceMethod(table.getTableMethodDescriptor(),
                 dynamoEnhancedClientHandle, tableNameHandler,
                 tableSchemaHandle);
 
+        if (table.isCached()) {
+            // DynamoDbItemCache cache = arg0.getInjectedReference(DynamoDbItemCache.class, {})
+            // new CachingDynamoDbTable(mappedTable, cache)
+            var cacheHandle = methodCreator.invokeInterfaceMethod(CREATION_CONTEXT_GET_INJECTED_REFERENCE_METHOD,
+                    methodCreator.getMethodParam(0), methodCreator.loadClass(DynamoDbItemCache.class),
+                    methodCreator.newArray(Annotation.class, 0));
+            Class<?> cachingTableClass = DotNames.DYNAMODB_TABLE.equals(table.getTableClassName())
+                    ? CachingDynamoDbTable.class
+                    : CachingDynamoDbAsyncTable.class;
+            Class<?> tableClass = DotNames.DYNAMODB_TABLE.equals(table.getTableClassName())
+                    ? DynamoDbTable.class
+                    : DynamoDbAsyncTable.class;
+            mappedTableHandle = methodCreator.newInstance(
+                    MethodDescriptor.ofConstructor(cachingTableClass, tableClass, DynamoDbItemCache.class),
+                    mappedTableHandle, cacheHandle);
+        }
+
+        if (table.isProjection()) {
+            // new ProjectingDynamoDbTable(mappedTable)
+            Class<?> projectingTableClass = DotNames.DYNAMODB_TABLE.equals(table.getTableClassName())
+                    ? ProjectingDynamoDbTable.class
+                    : ProjectingDynamoDbAsyncTable.class;
+            Class<?> tableClass = DotNames.DYNAMODB_TABLE.equals(table.getTableClassName())
+                    ? DynamoDbTable.class
+                    : DynamoDbAsyncTable.class;
+            mappedTableHandle = methodCreator.newInstance(
+                    MethodDescriptor.ofConstructor(projectingTableClass, tableClass), mappedTableHandle);
+        }
+
         methodCreator.returnValue(mappedTableHandle);
     }
 }
@@ -5,13 +5,19 @@ import static io.quarkiverse.amazon.common.deployment.ClientDeploymentUtil.injec
 import static io.quarkiverse.amazon.common.deployment.ClientDeploymentUtil.namedClient;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.DeploymentException;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
@@ -28,11 +34,18 @@ import io.quarkiverse.amazon.common.deployment.AmazonClientAsyncResultBuildItem;
 import io.quarkiverse.amazon.common.deployment.AmazonClientSyncResultBuildItem;
 import io.quarkiverse.amazon.common.deployment.RequireAmazonClientInjectionBuildItem;
 import io.quarkiverse.amazon.dynamodb.enhanced.runtime.BeanTableSchemaSubstitutionImplementation;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbBatchLoader;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbBatchRecorder;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbBatchWriter;
 import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbEnhancedBuildTimeConfig;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbParallelScanner;
 import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamodbEnhancedClientRecorder;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.TableSchemaModel;
+import io.quarkus.arc.BeanDestroyer;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.arc.processor.InjectionPointInfo;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -40,6 +53,7 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeBuild;
 import io.quarkus.gizmo.Gizmo;
@@ -101,7 +115,10 @@ public class DynamodbEnhancedProcessor {
                 requireClientInjectionProducer.produce(new RequireAmazonClientInjectionBuildItem(
                         DotNames.DYNAMODB_CLIENT, getNamedClientInjection(injectionPoint)));
             }
-            if (DotNames.DYNAMODB_ENHANCED_ASYNC_CLIENT.equals(injectedType.name())) {
+            if (DotNames.DYNAMODB_ENHANCED_ASYNC_CLIENT.equals(injectedType.name())
+                    || DotNames.DYNAMODB_BATCH_WRITER.equals(injectedType.name())
+                    || DotNames.DYNAMODB_BATCH_LOADER.equals(injectedType.name())
+                    || DotNames.DYNAMODB_PARALLEL_SCANNER.equals(injectedType.name())) {
                 requireClientInjectionProducer.produce(new RequireAmazonClientInjectionBuildItem(
                         DotNames.DYNAMODB_ASYNC_CLIENT, getNamedClientInjection(injectionPoint)));
             }
@@ -160,6 +177,50 @@ public class DynamodbEnhancedProcessor {
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void createBatchClients(
+            DynamoDbBatchRecorder recorder,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBean,
+            List<AmazonClientAsyncResultBuildItem> asyncBuilder) {
+
+        String configName = "dynamodb";
+
+        // batch writers, loaders and scanners are only created for the async clients, they are removed if they are not
+        // injected
+        for (AmazonClientAsyncResultBuildItem amazonClientAsyncResultBuildItem : asyncBuilder) {
+            if (!configName.equals(amazonClientAsyncResultBuildItem.getAwsClientName())) {
+                continue;
+            }
+            syntheticBean.produce(namedClient(SyntheticBeanBuildItem
+                    .configure(DynamoDbBatchWriter.class), amazonClientAsyncResultBuildItem.getClientName())
+                    .scope(ApplicationScoped.class)
+                    .setRuntimeInit()
+                    .createWith(recorder.createDynamoDbBatchWriter(amazonClientAsyncResultBuildItem.getClientName()))
+                    .destroyer(BeanDestroyer.AutoCloseableDestroyer.class)
+                    .addInjectionPoint(ClassType.create(DynamoDbAsyncClient.class),
+                            injectionPointAnnotationsClient(amazonClientAsyncResultBuildItem.getClientName()))
+                    .done());
+            syntheticBean.produce(namedClient(SyntheticBeanBuildItem
+                    .configure(DynamoDbBatchLoader.class), amazonClientAsyncResultBuildItem.getClientName())
+                    .scope(ApplicationScoped.class)
+                    .setRuntimeInit()
+                    .createWith(recorder.createDynamoDbBatchLoader(amazonClientAsyncResultBuildItem.getClientName()))
+                    .destroyer(BeanDestroyer.AutoCloseableDestroyer.class)
+                    .addInjectionPoint(ClassType.create(DynamoDbAsyncClient.class),
+                            injectionPointAnnotationsClient(amazonClientAsyncResultBuildItem.getClientName()))
+                    .done());
+            syntheticBean.produce(namedClient(SyntheticBeanBuildItem
+                    .configure(DynamoDbParallelScanner.class), amazonClientAsyncResultBuildItem.getClientName())
+                    .scope(ApplicationScoped.class)
+                    .setRuntimeInit()
+                    .createWith(recorder.createDynamoDbParallelScanner(amazonClientAsyncResultBuildItem.getClientName()))
+                    .addInjectionPoint(ClassType.create(DynamoDbAsyncClient.class),
+                            injectionPointAnnotationsClient(amazonClientAsyncResultBuildItem.getClientName()))
+                    .done());
+        }
+    }
+
     @BuildStep
     public void discoverDynamoDbBeans(CombinedIndexBuildItem combinedIndexBuildItem,
             BuildProducer<DynamodbEnhancedBeanBuildItem> dynamodbEnhancedBeanBuildItems) {
@@ -178,14 +239,108 @@ public class DynamodbEnhancedProcessor {
         }
     }
 
+    @BuildStep
+    public void discoverDynamoDbProjections(CombinedIndexBuildItem combinedIndexBuildItem,
+            BuildProducer<DynamodbEnhancedProjectionBuildItem> projections) {
+        IndexView index = combinedIndexBuildItem.getIndex();
+
+        // Discover all DynamoDbProjection annotated classes, they are mapped as any other entity
+        for (AnnotationInstance annotationInstance : index.getAnnotations(DotNames.DYNAMODB_PROJECTION)) {
+            ClassInfo projectionClassInfo = annotationInstance.target().asClass();
+            DotName entityClassName = annotationInstance.value().asClass().name();
+            ClassInfo entityClassInfo = index.getClassByName(entityClassName);
+            if (!isMappable(projectionClassInfo) || entityClassInfo == null || !isMappable(entityClassInfo)) {
+                throw new DeploymentException(String.format(
+                        "The projection '%s' and its entity '%s' must be beans annotated with @DynamoDbBean or @DynamoDbImmutable",
+                        projectionClassInfo.name(), entityClassName));
+            }
+            projections.produce(new DynamodbEnhancedProjectionBuildItem(projectionClassInfo.name(), entityClassName));
+        }
+    }
+
+    private static boolean isMappable(ClassInfo classInfo) {
+        return classInfo.declaredAnnotation(DotNames.DYNAMODB_ENHANCED_BEAN) != null
+                || classInfo.declaredAnnotation(DotNames.DYNAMODB_ENHANCED_IMMUTABLE) != null;
+    }
+
+    @BuildStep
+    public void generateBeanAccessors(CombinedIndexBuildItem combinedIndexBuildItem,
+            List<DynamodbEnhancedBeanBuildItem> dynamodbEnhancedBeanBuildItems,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<DynamodbEnhancedBeanAccessorBuildItem> accessors,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        IndexView index = combinedIndexBuildItem.getIndex();
+        BeanAccessorGenerator generator = new BeanAccessorGenerator(index,
+                new GeneratedClassGizmoAdaptor(generatedClasses, true));
+
+        // immutable builders are mapped along with their immutable class
+        Set<DotName> classNames = new LinkedHashSet<>();
+        for (DynamodbEnhancedBeanBuildItem dynamodbEnhancedBeanBuildItem : dynamodbEnhancedBeanBuildItems) {
+            classNames.add(dynamodbEnhancedBeanBuildItem.getClassName());
+            ClassInfo classInfo = index.getClassByName(dynamodbEnhancedBeanBuildItem.getClassName());
+            AnnotationInstance immutable = classInfo == null ? null
+                    : classInfo.declaredAnnotation(DotNames.DYNAMODB_ENHANCED_IMMUTABLE);
+            if (immutable != null && immutable.value("builder") != null) {
+                classNames.add(immutable.value("builder").asClass().name());
+            }
+        }
+
+        for (DotName className : classNames) {
+            ClassInfo classInfo = index.getClassByName(className);
+            if (classInfo == null) {
+                continue;
+            }
+            List<String> members = generator.generate(classInfo);
+            if (!members.isEmpty()) {
+                String accessorClassName = BeanAccessorGenerator.accessorClassName(classInfo);
+                accessors.produce(new DynamodbEnhancedBeanAccessorBuildItem(className, accessorClassName, members));
+                reflectiveClass.produce(ReflectiveClassBuildItem.builder(accessorClassName).constructors().build());
+            }
+        }
+    }
+
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
     public void recordTableSchema(
             DynamoDbEnhancedBuildTimeConfig config,
             DynamodbEnhancedClientRecorder recorder,
+            CombinedIndexBuildItem combinedIndexBuildItem,
             List<DynamodbEnhancedBeanBuildItem> dynamodbEnhancedBeanBuildItems,
+            List<DynamodbEnhancedBeanAccessorBuildItem> accessors,
+            List<DynamodbEnhancedProjectionBuildItem> projections,
             BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
 
+        // the accessors must be registered before any table schema is created
+        Map<DotName, List<String>> accessorMembers = new HashMap<>();
+        for (DynamodbEnhancedBeanAccessorBuildItem accessor : accessors) {
+            recorder.registerBeanAccessors(accessor.getClassName().toString(), accessor.getAccessorClassName(),
+                    accessor.getMembers());
+            accessorMembers.put(accessor.getClassName(), accessor.getMembers());
+        }
+
+        // resolve the mapping of the entities now, so that their table schemas are not introspected at runtime
+        IndexView index = combinedIndexBuildItem.getIndex();
+        TableSchemaModelBuilder modelBuilder = new TableSchemaModelBuilder(index, accessorMembers);
+        List<TableSchemaModel> models = new ArrayList<>();
+        for (DynamodbEnhancedBeanBuildItem dynamodbEnhancedBeanBuildItem : dynamodbEnhancedBeanBuildItems) {
+            ClassInfo classInfo = index.getClassByName(dynamodbEnhancedBeanBuildItem.getClassName());
+            TableSchemaModel model = classInfo == null ? null : modelBuilder.build(classInfo);
+            if (model == null) {
+                continue;
+            }
+            models.add(model);
+            // converters and providers are instantiated with their no-args constructor
+            List<String> instantiated = new ArrayList<>(model.getConverterProviders());
+            model.getAttributes().stream()
+                    .map(TableSchemaModel.Attribute::getConverter)
+                    .filter(Objects::nonNull)
+                    .forEach(instantiated::add);
+            reflectiveClass.produce(ReflectiveClassBuildItem.builder(instantiated.toArray(new String[0]))
+                    .constructors().build());
+        }
+        recorder.registerTableSchemaModels(models);
+        recorder.registerProjections(projectionAttributes(models, projections));
+
         if (!config.createTableSchemas())
             return;
 
@@ -201,6 +356,57 @@ public class DynamodbEnhancedProcessor {
         recorder.createTableSchema(tableSchemaClasses);
     }
 
+    /**
+     * Resolves the attributes read by the projections, checking they are all attributes of their entity. The projections
+     * without a model are resolved at runtime from their table schema.
+     */
+    private static Map<String, List<String>> projectionAttributes(List<TableSchemaModel> models,
+            List<DynamodbEnhancedProjectionBuildItem> projections) {
+        Map<String, TableSchemaModel> modelsByClassName = new HashMap<>();
+        for (TableSchemaModel model : models) {
+            modelsByClassName.put(model.getClassName(), model);
+        }
+
+        Map<String, List<String>> projectionAttributes = new HashMap<>();
+        for (DynamodbEnhancedProjectionBuildItem projection : projections) {
+            Set<String> attributes = attributeNames(modelsByClassName.get(projection.getClassName().toString()),
+                    modelsByClassName);
+            Set<String> entityAttributes = attributeNames(
+                    modelsByClassName.get(projection.getEntityClassName().toString()), modelsByClassName);
+            if (attributes == null) {
+                continue;
+            }
+            if (entityAttributes != null && !entityAttributes.containsAll(attributes)) {
+                Set<String> unknown = new LinkedHashSet<>(attributes);
+                unknown.removeAll(entityAttributes);
+                throw new DeploymentException(
+                        String.format("The attributes %s of the projection '%s' are not attributes of '%s'",
+                                unknown, projection.getClassName(), projection.getEntityClassName()));
+            }
+            projectionAttributes.put(projection.getClassName().toString(), new ArrayList<>(attributes));
+        }
+        return projectionAttributes;
+    }
+
+    private static Set<String> attributeNames(TableSchemaModel model, Map<String, TableSchemaModel> models) {
+        if (model == null) {
+            return null;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (TableSchemaModel.Attribute attribute : model.getAttributes()) {
+            if (!attribute.isFlatten()) {
+                names.add(attribute.getName());
+                continue;
+            }
+            Set<String> flattened = attributeNames(models.get(attribute.getType().getClassName()), models);
+            if (flattened == null) {
+                return null;
+            }
+            names.addAll(flattened);
+        }
+        return names;
+    }
+
     @BuildStep(onlyIf = NativeBuild.class)
     public void registerClassesForReflectiveAccess(
             List<DynamodbEnhancedBeanBuildItem> dynamodbEnhancedBeanBuildItems,
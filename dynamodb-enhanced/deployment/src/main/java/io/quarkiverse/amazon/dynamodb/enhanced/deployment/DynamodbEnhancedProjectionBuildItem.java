@@ -0,0 +1,24 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import org.jboss.jandex.DotName;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+public final class DynamodbEnhancedProjectionBuildItem extends MultiBuildItem {
+
+    private DotName className;
+    private DotName entityClassName;
+
+    public DynamodbEnhancedProjectionBuildItem(DotName className, DotName entityClassName) {
+        this.className = className;
+        this.entityClassName = entityClassName;
+    }
+
+    public DotName getClassName() {
+        return className;
+    }
+
+    public DotName getEntityClassName() {
+        return entityClassName;
+    }
+}
@@ -8,25 +8,37 @@ import io.quarkus.gizmo.MethodDescriptor;
 public final class DynamodbEnhancedTableBuildItem extends MultiBuildItem {
 
     private String tableName;
+    private String clientName;
     private DotName beanClassName;
     private DotName clientClassName;
     private MethodDescriptor tableMethodDescriptor;
     private DotName tableClassName;
+    private boolean cached;
+    private boolean projection;
 
-    public DynamodbEnhancedTableBuildItem(String tableName, DotName beanClassName, DotName clientClassName,
+    public DynamodbEnhancedTableBuildItem(String tableName, String clientName, DotName beanClassName, DotName clientClassName,
             MethodDescriptor tableMethodDescriptor,
-            DotName tableClassName) {
+            DotName tableClassName,
+            boolean cached,
+            boolean projection) {
         this.tableName = tableName;
+        this.clientName = clientName;
         this.beanClassName = beanClassName;
         this.clientClassName = clientClassName;
         this.tableMethodDescriptor = tableMethodDescriptor;
         this.tableClassName = tableClassName;
+        this.cached = cached;
+        this.projection = projection;
     }
 
     public String getTableName() {
         return tableName;
     }
 
+    public String getClientName() {
+        return clientName;
+    }
+
     public DotName getBeanClassName() {
         return beanClassName;
     }
@@ -42,4 +54,12 @@ public final class DynamodbEnhancedTableBuildItem extends MultiBuildItem {
     public DotName getTableClassName() {
         return tableClassName;
     }
+
+    public boolean isCached() {
+        return cached;
+    }
+
+    public boolean isProjection() {
+        return projection;
+    }
 }
@@ -0,0 +1,458 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.TableSchemaModel;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.TableSchemaModel.TagKind;
+import io.quarkus.gizmo.DescriptorUtils;
+import software.amazon.awssdk.enhanced.dynamodb.DefaultAttributeConverterProvider;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbAtomicCounter;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbAutoGeneratedTimestampAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbAutoGeneratedUuid;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbVersionAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.BeanTableSchemaAttributeTag;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbFlatten;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnore;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnoreNulls;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPreserveEmptyObject;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbUpdateBehavior;
+
+/**
+ * Resolves the {@link TableSchemaModel} of a DynamoDb mappable entity from the index.
+ * <p>
+ * The rules mirror the introspection done by {@code BeanTableSchema} and {@code ImmutableTableSchema}: the bean
+ * properties of a {@code @DynamoDbBean} are the public getter and setter pairs of the class and its superclasses, the
+ * properties of a {@code @DynamoDbImmutable} are its public getters, matched with the setters of its builder. When an
+ * entity uses a mapping that can't be resolved at build time, such as a custom attribute tag, a generic property or an
+ * unindexed superclass, no model is built and the SDK introspects the entity at runtime.
+ */
+final class TableSchemaModelBuilder {
+
+    private static final Logger LOG = Logger.getLogger(TableSchemaModelBuilder.class);
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class);
+    private static final DotName LIST = DotName.createSimple(List.class);
+    private static final DotName MAP = DotName.createSimple(Map.class);
+    private static final DotName BOOLEAN = DotName.createSimple(Boolean.class);
+    private static final DotName TRANSIENT = DotName.createSimple(java.beans.Transient.class);
+    private static final DotName ATTRIBUTE = DotName.createSimple(DynamoDbAttribute.class);
+    private static final DotName CONVERTED_BY = DotName.createSimple(DynamoDbConvertedBy.class);
+    private static final DotName FLATTEN = DotName.createSimple(DynamoDbFlatten.class);
+    private static final DotName IGNORE = DotName.createSimple(DynamoDbIgnore.class);
+    private static final DotName IGNORE_NULLS = DotName.createSimple(DynamoDbIgnoreNulls.class);
+    private static final DotName PRESERVE_EMPTY_OBJECT = DotName.createSimple(DynamoDbPreserveEmptyObject.class);
+    private static final DotName ATTRIBUTE_TAG = DotName.createSimple(BeanTableSchemaAttributeTag.class);
+    private static final Map<DotName, TagKind> TAGS = Map.of(
+            DotName.createSimple(DynamoDbPartitionKey.class), TagKind.PARTITION_KEY,
+            DotName.createSimple(DynamoDbSortKey.class), TagKind.SORT_KEY,
+            DotName.createSimple(DynamoDbSecondaryPartitionKey.class), TagKind.SECONDARY_PARTITION_KEY,
+            DotName.createSimple(DynamoDbSecondarySortKey.class), TagKind.SECONDARY_SORT_KEY,
+            DotName.createSimple(DynamoDbUpdateBehavior.class), TagKind.UPDATE_BEHAVIOR,
+            DotName.createSimple(DynamoDbAtomicCounter.class), TagKind.ATOMIC_COUNTER,
+            DotName.createSimple(DynamoDbVersionAttribute.class), TagKind.VERSION,
+            DotName.createSimple(DynamoDbAutoGeneratedTimestampAttribute.class), TagKind.AUTO_GENERATED_TIMESTAMP,
+            DotName.createSimple(DynamoDbAutoGeneratedUuid.class), TagKind.AUTO_GENERATED_UUID);
+
+    // the methods ignored by the ImmutableIntrospector
+    private static final Set<String> IMMUTABLE_EXCLUDED_METHODS = Set.of("equals", "hashCode", "toString", "getClass",
+            "notify", "notifyAll", "wait", "toBuilder");
+
+    private final IndexView index;
+    private final Map<DotName, List<String>> accessors;
+
+    /**
+     * @param accessors the keys of the members exposed by the generated accessors, by class
+     */
+    TableSchemaModelBuilder(IndexView index, Map<DotName, List<String>> accessors) {
+        this.index = index;
+        this.accessors = accessors;
+    }
+
+    /**
+     * @return the model of the entity, or {@code null} if its schema must be introspected at runtime
+     */
+    TableSchemaModel build(ClassInfo type) {
+        try {
+            AnnotationInstance immutable = type.declaredAnnotation(DotNames.DYNAMODB_ENHANCED_IMMUTABLE);
+            if (immutable != null) {
+                return immutable(type, immutable);
+            }
+            AnnotationInstance bean = type.declaredAnnotation(DotNames.DYNAMODB_ENHANCED_BEAN);
+            return bean == null ? null : bean(type, bean);
+        } catch (UnsupportedMappingException e) {
+            LOG.debugf("The table schema of %s is created at runtime: %s", type.name(), e.getMessage());
+            return null;
+        }
+    }
+
+    private TableSchemaModel bean(ClassInfo type, AnnotationInstance bean) throws UnsupportedMappingException {
+        TableSchemaModel model = new TableSchemaModel();
+        model.setClassName(type.name().toString());
+        model.setNewItemClassName(model.getClassName());
+        model.setNewItemMember(member(type, "<init>()"));
+        model.setConverterProviders(converterProviders(bean));
+
+        // the Introspector sorts the properties by name
+        Map<String, MethodInfo> getters = new TreeMap<>();
+        Map<String, List<MethodInfo>> setters = new HashMap<>();
+        for (ClassInfo current : hierarchy(type, false)) {
+            Map<String, MethodInfo> declaredGetters = new HashMap<>();
+            for (MethodInfo method : current.methods()) {
+                if (!Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags()) || method.isSynthetic()
+                        || isBridge(method) || method.isConstructor()) {
+                    continue;
+                }
+                String name = method.name();
+                if (method.parametersCount() == 0 && name.length() > 3 && name.startsWith("get")
+                        && method.returnType().kind() != Type.Kind.VOID) {
+                    declaredGetters.putIfAbsent(decapitalize(name.substring(3)), method);
+                } else if (method.parametersCount() == 1 && name.length() > 3 && name.startsWith("set")
+                        && method.returnType().kind() == Type.Kind.VOID) {
+                    setters.computeIfAbsent(decapitalize(name.substring(3)), k -> new ArrayList<>()).add(method);
+                }
+            }
+            // "is" getters of boolean properties take precedence
+            for (MethodInfo method : current.methods()) {
+                String name = method.name();
+                if (Modifier.isPublic(method.flags()) && !Modifier.isStatic(method.flags()) && !method.isSynthetic()
+                        && !isBridge(method) && method.parametersCount() == 0 && name.length() > 2
+                        && name.startsWith("is") && isPrimitiveBoolean(method.returnType())) {
+                    declaredGetters.put(decapitalize(name.substring(2)), method);
+                }
+            }
+            // getters of subclasses override the ones of their superclasses
+            declaredGetters.forEach(getters::putIfAbsent);
+        }
+
+        for (Map.Entry<String, MethodInfo> property : getters.entrySet()) {
+            MethodInfo getter = property.getValue();
+            MethodInfo setter = null;
+            for (MethodInfo candidate : setters.getOrDefault(property.getKey(), List.of())) {
+                if (erasure(candidate.parameterType(0)).equals(erasure(getter.returnType()))) {
+                    setter = candidate;
+                    break;
+                }
+            }
+            if (setter == null || isIgnored(getter) || isIgnored(setter)) {
+                continue;
+            }
+            model.getAttributes().add(attribute(property.getKey(), type, getter, type, setter));
+        }
+        return model;
+    }
+
+    private TableSchemaModel immutable(ClassInfo type, AnnotationInstance immutable) throws UnsupportedMappingException {
+        ClassInfo builder = index.getClassByName(immutable.value("builder").asClass().name());
+        if (builder == null) {
+            throw new UnsupportedMappingException("the builder class is not indexed");
+        }
+
+        TableSchemaModel model = new TableSchemaModel();
+        model.setClassName(type.name().toString());
+        model.setBuilderClassName(builder.name().toString());
+        model.setConverterProviders(converterProviders(immutable));
+
+        Map<String, MethodInfo> builderMethods = new HashMap<>();
+        for (MethodInfo method : publicMethods(builder)) {
+            if (builderMethods.put(normalizeSetterName(method), method) != null) {
+                throw new UnsupportedMappingException("the builder has ambiguous setters for " + method.name());
+            }
+        }
+
+        MethodInfo build = builderMethods.remove("build");
+        if (build == null || build.parametersCount() != 0 || !build.returnType().name().equals(type.name())) {
+            throw new UnsupportedMappingException("the builder has no build method");
+        }
+        model.setBuildMember(member(builder, BeanAccessorGenerator.key(build)));
+
+        MethodInfo staticBuilder = type.method("builder");
+        if (staticBuilder != null && Modifier.isPublic(staticBuilder.flags()) && Modifier.isStatic(staticBuilder.flags())
+                && isAssignable(staticBuilder.returnType().name(), builder)) {
+            model.setNewItemClassName(type.name().toString());
+            model.setNewItemMember(member(type, BeanAccessorGenerator.key(staticBuilder)));
+        } else {
+            model.setNewItemClassName(builder.name().toString());
+            model.setNewItemMember(member(builder, "<init>()"));
+        }
+
+        Map<String, MethodInfo> getters = new TreeMap<>();
+        for (MethodInfo method : publicMethods(type)) {
+            if (method.parametersCount() != 0 || method.returnType().kind() == Type.Kind.VOID) {
+                throw new UnsupportedMappingException(method.name() + " is not a getter");
+            }
+            getters.put(normalizeGetterName(method), method);
+        }
+        for (Map.Entry<String, MethodInfo> property : getters.entrySet()) {
+            MethodInfo getter = property.getValue();
+            MethodInfo setter = builderMethods.remove(property.getKey());
+            if (setter == null || setter.parametersCount() != 1
+                    || !erasure(setter.parameterType(0)).equals(erasure(getter.returnType()))
+                    || (setter.returnType().kind() != Type.Kind.VOID
+                            && !isAssignable(setter.returnType().name(), builder))) {
+                throw new UnsupportedMappingException("the builder has no setter for " + property.getKey());
+            }
+            model.getAttributes().add(attribute(property.getKey(), type, getter, builder, setter));
+        }
+        if (!builderMethods.isEmpty()) {
+            throw new UnsupportedMappingException("the builder has methods without getter " + builderMethods.keySet());
+        }
+        return model;
+    }
+
+    private TableSchemaModel.Attribute attribute(String propertyName, ClassInfo getterClass, MethodInfo getter,
+            ClassInfo setterClass, MethodInfo setter) throws UnsupportedMappingException {
+        TableSchemaModel.Attribute attribute = new TableSchemaModel.Attribute();
+        AnnotationInstance name = annotation(getter, setter, ATTRIBUTE);
+        attribute.setName(name == null ? propertyName : name.value().asString());
+        attribute.setGetter(member(getterClass, BeanAccessorGenerator.key(getter)));
+        attribute.setSetter(member(setterClass, BeanAccessorGenerator.key(setter)));
+
+        if (annotation(getter, setter, FLATTEN) != null) {
+            if (getter.returnType().kind() != Type.Kind.CLASS) {
+                throw new UnsupportedMappingException(propertyName + " is not a flattenable class");
+            }
+            TableSchemaModel.Type type = new TableSchemaModel.Type();
+            type.setClassName(getter.returnType().name().toString());
+            attribute.setType(type);
+            attribute.setFlatten(true);
+            return attribute;
+        }
+
+        attribute.setType(type(getter.returnType()));
+        attribute.setPreserveEmptyObject(annotation(getter, setter, PRESERVE_EMPTY_OBJECT) != null);
+        attribute.setIgnoreNulls(annotation(getter, setter, IGNORE_NULLS) != null);
+        AnnotationInstance convertedBy = annotation(getter, setter, CONVERTED_BY);
+        if (convertedBy != null) {
+            attribute.setConverter(convertedBy.value().asClass().name().toString());
+        }
+
+        List<AnnotationInstance> annotations = new ArrayList<>(getter.declaredAnnotations());
+        annotations.addAll(setter.declaredAnnotations());
+        for (AnnotationInstance annotation : annotations) {
+            TagKind kind = TAGS.get(annotation.name());
+            if (kind == null) {
+                if (isAttributeTag(annotation.name())) {
+                    throw new UnsupportedMappingException(propertyName + " has the custom tag " + annotation.name());
+                }
+                continue;
+            }
+            TableSchemaModel.Tag tag = new TableSchemaModel.Tag();
+            tag.setKind(kind);
+            switch (kind) {
+                case SECONDARY_PARTITION_KEY:
+                case SECONDARY_SORT_KEY:
+                    tag.setValues(List.of(annotation.value("indexNames").asStringArray()));
+                    break;
+                case UPDATE_BEHAVIOR:
+                    tag.setValues(List.of(annotation.value().asEnum()));
+                    break;
+                case ATOMIC_COUNTER:
+                    tag.setValues(List.of(
+                            String.valueOf(annotation.valueWithDefault(index, "delta").asLong()),
+                            String.valueOf(annotation.valueWithDefault(index, "startValue").asLong())));
+                    break;
+                default:
+                    break;
+            }
+            attribute.getTags().add(tag);
+        }
+        return attribute;
+    }
+
+    private TableSchemaModel.Type type(Type type) throws UnsupportedMappingException {
+        TableSchemaModel.Type model = new TableSchemaModel.Type();
+        switch (type.kind()) {
+            case PRIMITIVE:
+            case ARRAY:
+                model.setClassName(erasure(type));
+                return model;
+            case CLASS:
+                model.setClassName(type.name().toString());
+                model.setDocument(isDocument(type.name()));
+                return model;
+            case PARAMETERIZED_TYPE:
+                model.setClassName(type.name().toString());
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    model.getArguments().add(type(argument));
+                }
+                if (isDocument(type.name()) && !type.name().equals(LIST) && !type.name().equals(MAP)) {
+                    throw new UnsupportedMappingException("generic document " + type.name());
+                }
+                return model;
+            default:
+                throw new UnsupportedMappingException("unsupported type " + type);
+        }
+    }
+
+    private boolean isDocument(DotName name) {
+        ClassInfo classInfo = index.getClassByName(name);
+        return classInfo != null && (classInfo.declaredAnnotation(DotNames.DYNAMODB_ENHANCED_BEAN) != null
+                || classInfo.declaredAnnotation(DotNames.DYNAMODB_ENHANCED_IMMUTABLE) != null);
+    }
+
+    private boolean isAttributeTag(DotName annotation) {
+        ClassInfo annotationClass = index.getClassByName(annotation);
+        return annotationClass != null && annotationClass.declaredAnnotation(ATTRIBUTE_TAG) != null;
+    }
+
+    private static List<String> converterProviders(AnnotationInstance mapping) {
+        AnnotationValue value = mapping.value("converterProviders");
+        List<String> providers = new ArrayList<>();
+        if (value == null) {
+            providers.add(DefaultAttributeConverterProvider.class.getName());
+        } else {
+            for (Type provider : value.asClassArray()) {
+                providers.add(provider.name().toString());
+            }
+        }
+        return providers;
+    }
+
+    /**
+     * @return the public instance methods mapped by the ImmutableIntrospector, the ones of subclasses first
+     */
+    private List<MethodInfo> publicMethods(ClassInfo type) throws UnsupportedMappingException {
+        Map<String, MethodInfo> methods = new LinkedHashMap<>();
+        for (ClassInfo current : hierarchy(type, true)) {
+            for (MethodInfo method : current.methods()) {
+                if (!Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags()) || method.isSynthetic()
+                        || isBridge(method) || method.isConstructor()
+                        || IMMUTABLE_EXCLUDED_METHODS.contains(method.name()) || isIgnored(method)) {
+                    continue;
+                }
+                methods.putIfAbsent(BeanAccessorGenerator.key(method), method);
+            }
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    /**
+     * @return the class, its superclasses up to {@code Object} excluded, and optionally its interfaces
+     */
+    private List<ClassInfo> hierarchy(ClassInfo type, boolean interfaces) throws UnsupportedMappingException {
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        List<DotName> pending = new ArrayList<>(List.of(type.name()));
+        while (!pending.isEmpty()) {
+            DotName name = pending.remove(0);
+            if (name.equals(OBJECT) || hierarchy.stream().anyMatch(c -> c.name().equals(name))) {
+                continue;
+            }
+            ClassInfo current = index.getClassByName(name);
+            if (current == null) {
+                throw new UnsupportedMappingException(name + " is not indexed");
+            }
+            hierarchy.add(current);
+            if (current.superName() != null) {
+                pending.add(current.superName());
+            }
+            if (interfaces) {
+                pending.addAll(current.interfaceNames());
+            }
+        }
+        return hierarchy;
+    }
+
+    private boolean isAssignable(DotName target, ClassInfo type) throws UnsupportedMappingException {
+        if (target.equals(OBJECT)) {
+            return true;
+        }
+        for (ClassInfo current : hierarchy(type, true)) {
+            if (current.name().equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String member(ClassInfo type, String key) throws UnsupportedMappingException {
+        List<String> members = accessors.get(type.name());
+        if (members == null || !members.contains(key)) {
+            throw new UnsupportedMappingException("no accessor for " + type.name() + "#" + key);
+        }
+        return key;
+    }
+
+    private static AnnotationInstance annotation(MethodInfo getter, MethodInfo setter, DotName name) {
+        AnnotationInstance annotation = getter.declaredAnnotation(name);
+        return annotation != null ? annotation : setter.declaredAnnotation(name);
+    }
+
+    private static boolean isIgnored(MethodInfo method) {
+        return method.declaredAnnotation(IGNORE) != null || method.declaredAnnotation(TRANSIENT) != null;
+    }
+
+    private static boolean isBridge(MethodInfo method) {
+        return (method.flags() & 0x0040) != 0;
+    }
+
+    private static boolean isPrimitiveBoolean(Type type) {
+        return type.kind() == Type.Kind.PRIMITIVE
+                && type.asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN;
+    }
+
+    private static String erasure(Type type) {
+        return BeanAccessorGenerator.className(DescriptorUtils.typeToString(type));
+    }
+
+    private static String normalizeGetterName(MethodInfo getter) {
+        String name = getter.name();
+        boolean isBoolean = getter.returnType().name().equals(BOOLEAN) || isPrimitiveBoolean(getter.returnType());
+        if (name.length() > 2 && Character.isUpperCase(name.charAt(2)) && name.startsWith("is") && isBoolean) {
+            return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+        }
+        if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith("get")) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    private static String normalizeSetterName(MethodInfo setter) {
+        String name = setter.name();
+        if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith("set")) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    /**
+     * @see java.beans.Introspector#decapitalize(String)
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static final class UnsupportedMappingException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private UnsupportedMappingException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+public class DynamoDBExampleBaseItem {
+
+    private String id;
+
+    @DynamoDbPartitionKey
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+}
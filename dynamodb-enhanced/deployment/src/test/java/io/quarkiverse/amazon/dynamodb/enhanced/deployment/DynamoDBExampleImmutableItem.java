@@ -0,0 +1,49 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+@DynamoDbImmutable(builder = DynamoDBExampleImmutableItem.Builder.class)
+public class DynamoDBExampleImmutableItem {
+
+    private final String id;
+    private final long version;
+
+    private DynamoDBExampleImmutableItem(Builder builder) {
+        this.id = builder.id;
+        this.version = builder.version;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @DynamoDbPartitionKey
+    public String id() {
+        return id;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public static final class Builder {
+
+        private String id;
+        private long version;
+
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder version(long version) {
+            this.version = version;
+            return this;
+        }
+
+        public DynamoDBExampleImmutableItem build() {
+            return new DynamoDBExampleImmutableItem(this);
+        }
+    }
+}
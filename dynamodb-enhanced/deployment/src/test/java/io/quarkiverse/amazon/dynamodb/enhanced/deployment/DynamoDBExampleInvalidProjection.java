@@ -0,0 +1,19 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbProjection;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+
+@DynamoDbBean
+@DynamoDbProjection(DynamoDBExampleItem.class)
+public class DynamoDBExampleInvalidProjection extends DynamoDBExampleBaseItem {
+
+    private String missing;
+
+    public String getMissing() {
+        return missing;
+    }
+
+    public void setMissing(String missing) {
+        this.missing = missing;
+    }
+}
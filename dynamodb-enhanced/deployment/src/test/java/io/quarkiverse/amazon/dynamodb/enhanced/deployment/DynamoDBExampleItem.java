@@ -0,0 +1,49 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import java.util.List;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+
+@DynamoDbBean
+public class DynamoDBExampleItem extends DynamoDBExampleBaseItem {
+
+    static volatile String nameReader;
+
+    private String name;
+    private int count;
+    private boolean active;
+    private List<String> tags;
+
+    public String getName() {
+        nameReader = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).getCallerClass().getName();
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,19 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbProjection;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+
+@DynamoDbBean
+@DynamoDbProjection(DynamoDBExampleItem.class)
+public class DynamoDBExampleItemSummary extends DynamoDBExampleBaseItem {
+
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
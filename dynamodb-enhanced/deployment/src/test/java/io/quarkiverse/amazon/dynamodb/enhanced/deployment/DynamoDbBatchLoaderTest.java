@@ -0,0 +1,134 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbBatchLoader;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbTableSchemas;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class DynamoDbBatchLoaderTest {
+
+    private static final StubServer STUB = StubServer.start(DynamoDbBatchLoaderTest.class)
+            .handle(DynamoDbBatchLoaderTest::handle);
+
+    private static final Pattern KEY = Pattern.compile("\"S\":\"(item-\\d+)\"");
+
+    private static final List<List<String>> REQUESTS = new CopyOnWriteArrayList<>();
+
+    @Inject
+    DynamoDbBatchLoader loader;
+
+    @Inject
+    DynamoDbEnhancedAsyncClient enhancedClient;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(DynamoDBExampleBaseItem.class, DynamoDBExampleItem.class)
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.dynamodb.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.dynamodbenhanced.batch-loader.window", "20ms")
+            .overrideConfigKey("quarkus.dynamodbenhanced.batch-loader.base-backoff", "1ms")
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() throws Exception {
+        DynamoDbAsyncTable<DynamoDBExampleItem> table = enhancedClient.table("items",
+                DynamoDbTableSchemas.fromClass(DynamoDBExampleItem.class));
+
+        // the first 60 items are read twice, and 160 items are read in total
+        List<CompletableFuture<Map<String, AttributeValue>>> futures = new ArrayList<>();
+        for (int i = 0; i < 220; i++) {
+            futures.add(loader.get("items", Map.of("id", AttributeValue.fromS("item-" + key(i)))));
+        }
+        CompletableFuture<DynamoDBExampleItem> mapped = loader.get(table, Key.builder().partitionValue("item-42").build());
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 220; i++) {
+            Map<String, AttributeValue> item = futures.get(i).join();
+            if (key(i) == 7) {
+                assertNull(item);
+            } else {
+                assertEquals("name-" + key(i), item.get("name").s());
+            }
+        }
+        assertEquals("name-42", mapped.get(10, TimeUnit.SECONDS).getName());
+
+        assertEquals(221, loader.requestedKeys());
+        assertEquals(60, loader.coalescedKeys());
+        assertEquals(160, loader.loadedItems());
+        assertEquals(1, loader.retriedKeys());
+        assertEquals(0, loader.failedKeys());
+        assertEquals(loader.sentBatches(), REQUESTS.size());
+        for (List<String> request : REQUESTS) {
+            assertTrue(request.size() <= 100);
+            assertEquals(request.size(), new HashSet<>(request).size());
+        }
+        assertEquals(2, REQUESTS.stream().filter(r -> r.contains("item-3")).count());
+        assertEquals(1, REQUESTS.stream().filter(r -> r.contains("item-159")).count());
+
+        // DynamoDB returns the numbers in a normalized form
+        Map<String, AttributeValue> number = loader.get("numbers", Map.of("id", AttributeValue.fromN("1.50")))
+                .get(10, TimeUnit.SECONDS);
+        assertEquals("one and a half", number.get("name").s());
+    }
+
+    private static int key(int i) {
+        return i < 120 ? i % 60 : i - 60;
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        String body = StubServer.body(exchange);
+        if (body.contains("\"numbers\"")) {
+            StubServer.respondJson(exchange, 200, "{\"Responses\":{\"numbers\":[{\"id\":{\"N\":\"1.5\"},"
+                    + "\"name\":{\"S\":\"one and a half\"}}]},\"UnprocessedKeys\":{}}");
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        Matcher matcher = KEY.matcher(body);
+        while (matcher.find()) {
+            keys.add(matcher.group(1));
+        }
+        // item-3 is unprocessed the first time it is requested and item-7 does not exist
+        boolean unprocessed = keys.contains("item-3") && REQUESTS.stream().noneMatch(r -> r.contains("item-3"));
+        REQUESTS.add(keys);
+        Set<String> returned = new HashSet<>(keys);
+        returned.remove("item-7");
+        if (unprocessed) {
+            returned.remove("item-3");
+        }
+        String items = returned.stream()
+                .map(key -> "{\"id\":{\"S\":\"" + key + "\"},\"name\":{\"S\":\"name-" + key.substring(5) + "\"}}")
+                .collect(Collectors.joining(","));
+        String unprocessedKeys = unprocessed ? "\"items\":{\"Keys\":[{\"id\":{\"S\":\"item-3\"}}]}" : "";
+        StubServer.respondJson(exchange, 200,
+                "{\"Responses\":{\"items\":[" + items + "]},\"UnprocessedKeys\":{" + unprocessedKeys + "}}");
+    }
+}
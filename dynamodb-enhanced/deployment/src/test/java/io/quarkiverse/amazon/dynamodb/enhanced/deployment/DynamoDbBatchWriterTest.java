@@ -0,0 +1,124 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbBatchWriter;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class DynamoDbBatchWriterTest {
+
+    private static final StubServer STUB = StubServer.start(DynamoDbBatchWriterTest.class)
+            .handle(DynamoDbBatchWriterTest::handle);
+
+    // the first batch writing item-0 leaves it unprocessed
+    private static final String UNPROCESSED_RESPONSE = "{\"UnprocessedItems\":{\"items\":[{\"PutRequest\":"
+            + "{\"Item\":{\"id\":{\"S\":\"item-0\"}}}}]}}";
+
+    // the first batch writing the first value of the ordered item leaves it unprocessed
+    private static final String ORDERED_UNPROCESSED_RESPONSE = "{\"UnprocessedItems\":{\"items\":[{\"PutRequest\":"
+            + "{\"Item\":{\"id\":{\"S\":\"ordered\"},\"value\":{\"S\":\"ordered-first\"}}}}]}}";
+
+    private static final String DESCRIBE_TABLE_RESPONSE = "{\"Table\":{\"TableName\":\"items\",\"KeySchema\":"
+            + "[{\"AttributeName\":\"id\",\"KeyType\":\"HASH\"}]}}";
+
+    private static final List<String> REQUESTS = new CopyOnWriteArrayList<>();
+    private static final CountDownLatch ORDERED_SENT = new CountDownLatch(1);
+    private static final CountDownLatch ORDERED_RELEASED = new CountDownLatch(1);
+
+    @Inject
+    DynamoDbBatchWriter writer;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.dynamodb.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.dynamodbenhanced.batch-writer.flush-interval", "10ms")
+            .overrideConfigKey("quarkus.dynamodbenhanced.batch-writer.base-backoff", "1ms")
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() throws Exception {
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            futures.add(writer.put("items", Map.of("id", AttributeValue.fromS("item-" + i))));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertEquals(writer.sentBatches(), REQUESTS.size());
+        assertEquals(2, REQUESTS.stream().filter(r -> r.contains("\"item-0\"")).count());
+        assertEquals(1, REQUESTS.stream().filter(r -> r.contains("\"item-29\"")).count());
+
+        // the raw writes of the same item are sent in distinct batches
+        REQUESTS.clear();
+        writer.put("items", Map.of("id", AttributeValue.fromS("same"), "value", AttributeValue.fromS("first")));
+        writer.put("items", Map.of("id", AttributeValue.fromS("same"), "value", AttributeValue.fromS("second")));
+        writer.delete("items", Map.of("id", AttributeValue.fromS("same")));
+        writer.flush().get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("first", "second", "same"), REQUESTS.stream()
+                .map(r -> r.contains("\"first\"") ? "first" : r.contains("\"second\"") ? "second" : "same")
+                .toList());
+        assertEquals(33, writer.writtenItems());
+        assertEquals(1, writer.retriedItems());
+        assertEquals(0, writer.failedItems());
+        assertEquals(0, writer.pendingWrites());
+
+        // a later write of an item waits for the retry of its unprocessed write
+        REQUESTS.clear();
+        CompletableFuture<Void> first = writer.put("items",
+                Map.of("id", AttributeValue.fromS("ordered"), "value", AttributeValue.fromS("ordered-first")));
+        ORDERED_SENT.await(10, TimeUnit.SECONDS);
+        CompletableFuture<Void> second = writer.put("items",
+                Map.of("id", AttributeValue.fromS("ordered"), "value", AttributeValue.fromS("ordered-second")));
+        // longer than the flush interval, the second write would be sent by now if it were not held back
+        Thread.sleep(100);
+        ORDERED_RELEASED.countDown();
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("ordered-first", "ordered-first", "ordered-second"), REQUESTS.stream()
+                .map(r -> r.contains("\"ordered-first\"") ? "ordered-first" : "ordered-second")
+                .toList());
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        String body = StubServer.body(exchange);
+        if ("DescribeTable".equals(StubServer.operation(exchange))) {
+            StubServer.respondJson(exchange, 200, DESCRIBE_TABLE_RESPONSE);
+            return;
+        }
+        if (body.contains("\"ordered-first\"") && REQUESTS.stream().noneMatch(r -> r.contains("\"ordered-first\""))) {
+            REQUESTS.add(body);
+            ORDERED_SENT.countDown();
+            try {
+                ORDERED_RELEASED.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubServer.respondJson(exchange, 200, ORDERED_UNPROCESSED_RESPONSE);
+            return;
+        }
+        boolean unprocessed = body.contains("\"item-0\"") && REQUESTS.stream().noneMatch(r -> r.contains("\"item-0\""));
+        REQUESTS.add(body);
+        StubServer.respondJson(exchange, 200, unprocessed ? UNPROCESSED_RESPONSE : "{}");
+    }
+}
@@ -0,0 +1,61 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class DynamoDbEnhancedBeanAccessorTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(DynamoDBExampleBaseItem.class, DynamoDBExampleItem.class,
+                            DynamoDBExampleImmutableItem.class, DynamoDBExampleImmutableItem.Builder.class)
+                    .addAsResource("full-config.properties", "application.properties"));
+
+    @Test
+    public void bean() {
+        TableSchema<DynamoDBExampleItem> schema = TableSchema.fromClass(DynamoDBExampleItem.class);
+
+        DynamoDBExampleItem item = new DynamoDBExampleItem();
+        item.setId("id");
+        item.setName("name");
+        item.setCount(42);
+        item.setActive(true);
+        item.setTags(List.of("a", "b"));
+
+        Map<String, AttributeValue> attributes = schema.itemToMap(item, true);
+        assertEquals(DynamoDBExampleItem.class.getName() + BeanAccessorGenerator.SUFFIX, DynamoDBExampleItem.nameReader);
+        assertEquals("id", attributes.get("id").s());
+        assertEquals("42", attributes.get("count").n());
+
+        DynamoDBExampleItem mapped = schema.mapToItem(attributes);
+        assertEquals("id", mapped.getId());
+        assertEquals("name", mapped.getName());
+        assertEquals(42, mapped.getCount());
+        assertTrue(mapped.isActive());
+        assertEquals(List.of("a", "b"), mapped.getTags());
+    }
+
+    @Test
+    public void immutable() {
+        TableSchema<DynamoDBExampleImmutableItem> schema = TableSchema.fromClass(DynamoDBExampleImmutableItem.class);
+
+        Map<String, AttributeValue> attributes = schema
+                .itemToMap(DynamoDBExampleImmutableItem.builder().id("id").version(3L).build(), true);
+        assertEquals("3", attributes.get("version").n());
+
+        DynamoDBExampleImmutableItem mapped = schema.mapToItem(attributes);
+        assertEquals("id", mapped.id());
+        assertEquals(3L, mapped.version());
+    }
+}
@@ -0,0 +1,76 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.NamedDynamoDbTable;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+
+public class DynamoDbEnhancedDbTableNamedClientTest {
+
+    private static final AtomicInteger DEFAULT_REQUESTS = new AtomicInteger();
+    private static final AtomicInteger HOT_REQUESTS = new AtomicInteger();
+
+    private static final StubServer DEFAULT_STUB = StubServer.start(DynamoDbEnhancedDbTableNamedClientTest.class)
+            .handle(exchange -> handle(exchange, DEFAULT_REQUESTS));
+    private static final StubServer HOT_STUB = StubServer.start(DynamoDbEnhancedDbTableNamedClientTest.class, "hot")
+            .handle(exchange -> handle(exchange, HOT_REQUESTS));
+
+    private static final String ITEM_RESPONSE = "{\"Item\":{\"id\":{\"S\":\"item-1\"}}}";
+
+    @Inject
+    @NamedDynamoDbTable("items")
+    DynamoDbTable<DynamoDBExampleItem> table;
+
+    @Inject
+    @NamedDynamoDbTable(value = "items", clientName = "hot")
+    DynamoDbTable<DynamoDBExampleItem> hotTable;
+
+    @Inject
+    @NamedDynamoDbTable(value = "items", clientName = "hot")
+    DynamoDbAsyncTable<DynamoDBExampleItem> hotAsyncTable;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(DynamoDBExampleBaseItem.class, DynamoDBExampleItem.class)
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.dynamodb.endpoint-override", DEFAULT_STUB.endpoint())
+            .overrideConfigKey("quarkus.dynamodb.hot.endpoint-override", HOT_STUB.endpoint())
+            .setAfterAllCustomizer(() -> {
+                DEFAULT_STUB.close();
+                HOT_STUB.close();
+            });
+
+    @Test
+    public void test() throws Exception {
+        Key key = Key.builder().partitionValue("item-1").build();
+
+        assertEquals("item-1", table.getItem(key).getId());
+        assertEquals("item-1", hotTable.getItem(key).getId());
+        assertEquals("item-1", hotAsyncTable.getItem(key).get(10, TimeUnit.SECONDS).getId());
+
+        assertEquals(1, DEFAULT_REQUESTS.get());
+        assertEquals(2, HOT_REQUESTS.get());
+    }
+
+    private static void handle(HttpExchange exchange, AtomicInteger requests) throws IOException {
+        StubServer.body(exchange);
+        requests.incrementAndGet();
+        StubServer.respondJson(exchange, 200, ITEM_RESPONSE);
+    }
+}
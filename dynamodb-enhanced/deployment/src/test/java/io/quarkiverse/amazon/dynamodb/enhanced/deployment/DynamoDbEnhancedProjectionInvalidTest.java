@@ -0,0 +1,33 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import jakarta.enterprise.inject.spi.DeploymentException;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.NamedDynamoDbTable;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+
+public class DynamoDbEnhancedProjectionInvalidTest {
+
+    @NamedDynamoDbTable("items")
+    @Inject
+    DynamoDbTable<DynamoDBExampleInvalidProjection> table;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setExpectedException(DeploymentException.class)
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(DynamoDBExampleBaseItem.class, DynamoDBExampleItem.class,
+                            DynamoDBExampleInvalidProjection.class)
+                    .addAsResource("full-config.properties", "application.properties"));
+
+    @Test
+    public void test() {
+        // should not be called, deployment exception should happen first.
+        Assertions.fail();
+    }
+}
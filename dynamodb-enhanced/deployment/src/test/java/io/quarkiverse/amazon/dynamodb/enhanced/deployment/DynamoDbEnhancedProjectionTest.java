@@ -0,0 +1,77 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.NamedDynamoDbTable;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+
+public class DynamoDbEnhancedProjectionTest {
+
+    private static final StubServer STUB = StubServer.start(DynamoDbEnhancedProjectionTest.class)
+            .handle(DynamoDbEnhancedProjectionTest::handle);
+
+    private static final String ITEMS_RESPONSE = "{\"Count\":1,\"Items\":[{\"id\":{\"S\":\"item-1\"},"
+            + "\"name\":{\"S\":\"summary\"}}]}";
+
+    private static final List<String> REQUESTS = new CopyOnWriteArrayList<>();
+
+    @Inject
+    @NamedDynamoDbTable("items")
+    DynamoDbTable<DynamoDBExampleItemSummary> table;
+
+    @Inject
+    @NamedDynamoDbTable("items")
+    DynamoDbAsyncTable<DynamoDBExampleItemSummary> asyncTable;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(DynamoDBExampleBaseItem.class, DynamoDBExampleItem.class,
+                            DynamoDBExampleItemSummary.class)
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.dynamodb.endpoint-override", STUB.endpoint())
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() throws Exception {
+
+        Key key = Key.builder().partitionValue("item-1").build();
+
+        assertEquals("summary", table.getItem(key).getName());
+        assertEquals("summary", asyncTable.getItem(key).get(10, TimeUnit.SECONDS).getName());
+        assertEquals("item-1", table.scan().items().iterator().next().getId());
+        assertThrows(UnsupportedOperationException.class, () -> table.putItem(new DynamoDBExampleItemSummary()));
+
+        assertEquals(3, REQUESTS.size());
+        for (String request : REQUESTS) {
+            assertTrue(request.contains("\"ProjectionExpression\""), request);
+            assertTrue(request.contains("\"id\""), request);
+            assertTrue(request.contains("\"name\""), request);
+            assertFalse(request.contains("\"count\""), request);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        REQUESTS.add(StubServer.body(exchange));
+        StubServer.respondJson(exchange, 200, ITEMS_RESPONSE);
+    }
+}
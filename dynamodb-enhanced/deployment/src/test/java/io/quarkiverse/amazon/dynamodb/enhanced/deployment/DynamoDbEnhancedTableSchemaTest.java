@@ -0,0 +1,68 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbTableSchemas;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+public class DynamoDbEnhancedTableSchemaTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(DynamoDBExampleBaseItem.class, DynamoDBExampleItem.class,
+                            DynamoDBExampleImmutableItem.class, DynamoDBExampleImmutableItem.Builder.class)
+                    .addAsResource("full-config.properties", "application.properties"));
+
+    @Test
+    public void bean() {
+        TableSchema<DynamoDBExampleItem> schema = DynamoDbTableSchemas.fromClass(DynamoDBExampleItem.class);
+        TableSchema<DynamoDBExampleItem> introspected = TableSchema.fromClass(DynamoDBExampleItem.class);
+
+        assertInstanceOf(StaticTableSchema.class, schema);
+        assertSame(schema, DynamoDbTableSchemas.fromClass(DynamoDBExampleItem.class));
+        assertEquals(new HashSet<>(introspected.attributeNames()), new HashSet<>(schema.attributeNames()));
+        assertEquals(introspected.tableMetadata().primaryPartitionKey(), schema.tableMetadata().primaryPartitionKey());
+
+        DynamoDBExampleItem item = new DynamoDBExampleItem();
+        item.setId("id");
+        item.setName("name");
+        item.setCount(42);
+        item.setActive(true);
+        item.setTags(List.of("a", "b"));
+        assertEquals(introspected.itemToMap(item, false), schema.itemToMap(item, false));
+        assertEquals(introspected.itemToMap(item, true), schema.itemToMap(item, true));
+
+        DynamoDBExampleItem mapped = schema.mapToItem(introspected.itemToMap(item, true));
+        assertEquals(introspected.itemToMap(item, false), schema.itemToMap(mapped, false));
+    }
+
+    @Test
+    public void immutable() {
+        TableSchema<DynamoDBExampleImmutableItem> schema = DynamoDbTableSchemas
+                .fromClass(DynamoDBExampleImmutableItem.class);
+        TableSchema<DynamoDBExampleImmutableItem> introspected = TableSchema.fromClass(DynamoDBExampleImmutableItem.class);
+
+        assertInstanceOf(StaticImmutableTableSchema.class, schema);
+        assertEquals(new HashSet<>(introspected.attributeNames()), new HashSet<>(schema.attributeNames()));
+        assertEquals(introspected.tableMetadata().primaryPartitionKey(), schema.tableMetadata().primaryPartitionKey());
+
+        DynamoDBExampleImmutableItem item = DynamoDBExampleImmutableItem.builder().id("id").version(3L).build();
+        assertEquals(introspected.itemToMap(item, true), schema.itemToMap(item, true));
+
+        DynamoDBExampleImmutableItem mapped = schema.mapToItem(introspected.itemToMap(item, true));
+        assertEquals("id", mapped.id());
+        assertEquals(3L, mapped.version());
+    }
+}
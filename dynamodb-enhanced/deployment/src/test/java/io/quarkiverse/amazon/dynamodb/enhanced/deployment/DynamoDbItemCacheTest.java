@@ -0,0 +1,93 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.CachedDynamoDbTable;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbItemCache;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.NamedDynamoDbTable;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+
+public class DynamoDbItemCacheTest {
+
+    private static final StubServer STUB = StubServer.start(DynamoDbItemCacheTest.class)
+            .handle(DynamoDbItemCacheTest::handle);
+
+    private static final String ITEM_RESPONSE = "{\"Item\":{\"id\":{\"S\":\"item-1\"},\"name\":{\"S\":\"cached\"}}}";
+
+    private static final AtomicInteger GET_REQUESTS = new AtomicInteger();
+
+    @Inject
+    @NamedDynamoDbTable("items")
+    @CachedDynamoDbTable
+    DynamoDbTable<DynamoDBExampleItem> table;
+
+    @Inject
+    @NamedDynamoDbTable("items")
+    @CachedDynamoDbTable
+    DynamoDbAsyncTable<DynamoDBExampleItem> asyncTable;
+
+    @Inject
+    DynamoDbItemCache cache;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(DynamoDBExampleBaseItem.class, DynamoDBExampleItem.class)
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.dynamodb.endpoint-override", STUB.endpoint())
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() throws Exception {
+
+        Key key = Key.builder().partitionValue("item-1").build();
+
+        assertEquals("cached", table.getItem(key).getName());
+        assertEquals("cached", table.getItem(key).getName());
+        assertEquals("cached", asyncTable.getItem(key).get(10, TimeUnit.SECONDS).getName());
+        assertEquals(1, GET_REQUESTS.get());
+
+        // consistent reads always go to DynamoDB
+        table.getItem(r -> r.key(key).consistentRead(true));
+        assertEquals(2, GET_REQUESTS.get());
+
+        DynamoDBExampleItem item = new DynamoDBExampleItem();
+        item.setId("item-1");
+        item.setName("updated");
+        table.putItem(item);
+        table.getItem(key);
+        assertEquals(3, GET_REQUESTS.get());
+
+        asyncTable.deleteItem(key).get(10, TimeUnit.SECONDS);
+        asyncTable.getItem(key).get(10, TimeUnit.SECONDS);
+        assertEquals(4, GET_REQUESTS.get());
+
+        assertEquals(2, cache.hits());
+        assertEquals(3, cache.misses());
+        assertEquals(1, cache.size());
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        StubServer.body(exchange);
+        boolean get = "GetItem".equals(StubServer.operation(exchange));
+        if (get) {
+            GET_REQUESTS.incrementAndGet();
+        }
+        StubServer.respondJson(exchange, 200, get ? ITEM_RESPONSE : "{}");
+    }
+}
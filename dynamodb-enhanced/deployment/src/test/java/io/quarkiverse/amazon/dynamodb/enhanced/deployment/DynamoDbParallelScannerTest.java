@@ -0,0 +1,162 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbParallelScanner;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.DynamoDbTableSchemas;
+import io.quarkiverse.amazon.dynamodb.enhanced.runtime.ScanCheckpoint;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+
+public class DynamoDbParallelScannerTest {
+
+    private static final StubServer STUB = StubServer.start(DynamoDbParallelScannerTest.class)
+            .handle(DynamoDbParallelScannerTest::handle);
+
+    private static final int PAGES = 3;
+
+    private static final int PAGE_SIZE = 2;
+
+    private static final Pattern SEGMENT = Pattern.compile("\"Segment\":(\\d+)");
+
+    private static final Pattern START_KEY = Pattern.compile("\"ExclusiveStartKey\":\\{\"id\":\\{\"S\":\"\\d+-(\\d+)\"}}");
+
+    @Inject
+    DynamoDbParallelScanner scanner;
+
+    @Inject
+    DynamoDbEnhancedAsyncClient enhancedClient;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(DynamoDBExampleBaseItem.class, DynamoDBExampleItem.class)
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.dynamodb.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.dynamodbenhanced.parallel-scan.prefetch", "16")
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void scan() {
+
+        List<Map<String, AttributeValue>> items = scanner
+                .scan(ScanRequest.builder().tableName("items").totalSegments(4).build())
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertEquals(expectedIds(4), ids(items));
+        assertEquals(items.size(), ids(items).size());
+
+        List<DynamoDBExampleItem> mapped = scanner
+                .scan(enhancedClient.table("items", DynamoDbTableSchemas.fromClass(DynamoDBExampleItem.class)))
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+        assertEquals(expectedIds(scanner.defaultTotalSegments()),
+                mapped.stream().map(DynamoDBExampleItem::getId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void resume() {
+
+        ScanRequest request = ScanRequest.builder().tableName("items").totalSegments(4).build();
+        ScanCheckpoint checkpoint = ScanCheckpoint.inMemory();
+
+        // the first scan is interrupted
+        List<Map<String, AttributeValue>> interrupted = scanner.scan(request, checkpoint)
+                .select().first(10)
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+        List<Map<String, AttributeValue>> resumed = scanner.scan(request, checkpoint)
+                .collect().asList().await().atMost(Duration.ofSeconds(10));
+
+        assertEquals(10, interrupted.size());
+        assertTrue(resumed.size() < 4 * PAGES * PAGE_SIZE);
+        Set<String> ids = ids(interrupted);
+        ids.addAll(ids(resumed));
+        assertEquals(expectedIds(4), ids);
+
+        // every segment is fully scanned
+        assertEquals(List.of(), scanner.scan(request, checkpoint).collect().asList().await()
+                .atMost(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    public void failedItemNotCheckpointed() {
+
+        ScanRequest request = ScanRequest.builder().tableName("items").totalSegments(1).build();
+        ScanCheckpoint checkpoint = ScanCheckpoint.inMemory();
+
+        // handling the last item of the first page fails
+        String lastItemOfFirstPage = "0-0-" + (PAGE_SIZE - 1);
+        assertThrows(IllegalStateException.class, () -> scanner.scan(request, checkpoint)
+                .invoke(item -> {
+                    if (lastItemOfFirstPage.equals(item.get("id").s())) {
+                        throw new IllegalStateException("Handling failed");
+                    }
+                })
+                .collect().asList().await().atMost(Duration.ofSeconds(10)));
+
+        assertNull(checkpoint.load(0));
+        assertEquals(expectedIds(1), ids(scanner.scan(request, checkpoint).collect().asList().await()
+                .atMost(Duration.ofSeconds(10))));
+    }
+
+    private static Set<String> ids(List<Map<String, AttributeValue>> items) {
+        return items.stream().map(item -> item.get("id").s()).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static Set<String> expectedIds(int totalSegments) {
+        Set<String> ids = new HashSet<>();
+        for (int segment = 0; segment < totalSegments; segment++) {
+            for (int page = 0; page < PAGES; page++) {
+                for (int i = 0; i < PAGE_SIZE; i++) {
+                    ids.add(segment + "-" + page + "-" + i);
+                }
+            }
+        }
+        return ids;
+    }
+
+    // each segment has PAGES pages of PAGE_SIZE items, the last evaluated key of a page is "<segment>-<page>"
+    private static void handle(HttpExchange exchange) throws IOException {
+        String body = StubServer.body(exchange);
+        Matcher segmentMatcher = SEGMENT.matcher(body);
+        int segment = segmentMatcher.find() ? Integer.parseInt(segmentMatcher.group(1)) : 0;
+        Matcher startKeyMatcher = START_KEY.matcher(body);
+        int page = startKeyMatcher.find() ? Integer.parseInt(startKeyMatcher.group(1)) + 1 : 0;
+        StringBuilder response = new StringBuilder("{\"Items\":[");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            if (i > 0) {
+                response.append(',');
+            }
+            response.append("{\"id\":{\"S\":\"").append(segment).append('-').append(page).append('-').append(i)
+                    .append("\"},\"name\":{\"S\":\"name\"}}");
+        }
+        response.append("],\"Count\":").append(PAGE_SIZE);
+        if (page < PAGES - 1) {
+            response.append(",\"LastEvaluatedKey\":{\"id\":{\"S\":\"").append(segment).append('-').append(page)
+                    .append("\"}}");
+        }
+        StubServer.respondJson(exchange, 200, response.append('}').toString());
+    }
+}
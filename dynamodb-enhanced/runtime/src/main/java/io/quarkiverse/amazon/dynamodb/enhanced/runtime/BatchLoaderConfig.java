@@ -0,0 +1,50 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface BatchLoaderConfig {
+
+    /**
+     * The number of keys requested in a `BatchGetItem` request, at most 100.
+     * <p>
+     * A batch is sent as soon as this number of distinct keys is collected.
+     */
+    @WithDefault("100")
+    int batchSize();
+
+    /**
+     * The time during which the keys are collected before being requested in a partial batch. With a zero window, the
+     * keys requested until the loader thread picks up the batch are coalesced.
+     */
+    @WithDefault("1ms")
+    Duration window();
+
+    /**
+     * The maximum number of `BatchGetItem` requests in flight. Keys remain collected while this limit is reached.
+     */
+    @WithDefault("8")
+    int maxConcurrentBatches();
+
+    /**
+     * The maximum number of attempts of a key returned in the `UnprocessedKeys` of a response, including the first one.
+     */
+    @WithDefault("10")
+    int maxAttempts();
+
+    /**
+     * The base delay of the exponential backoff applied before requesting unprocessed keys again. The delay is drawn at
+     * random between zero and the backoff of the attempt.
+     */
+    @WithDefault("20ms")
+    Duration baseBackoff();
+
+    /**
+     * The maximum delay before requesting unprocessed keys again.
+     */
+    @WithDefault("2s")
+    Duration maxBackoff();
+}
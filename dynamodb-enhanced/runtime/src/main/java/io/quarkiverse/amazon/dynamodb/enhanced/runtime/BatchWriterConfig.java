@@ -0,0 +1,57 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface BatchWriterConfig {
+
+    /**
+     * The number of writes sent in a `BatchWriteItem` request, at most 25.
+     * <p>
+     * A batch is sent as soon as this number of writes is buffered.
+     */
+    @WithDefault("25")
+    int batchSize();
+
+    /**
+     * The maximum time a write is buffered before being sent in a partial batch.
+     */
+    @WithDefault("50ms")
+    Duration flushInterval();
+
+    /**
+     * The maximum number of `BatchWriteItem` requests in flight. Writes remain buffered while this limit is reached.
+     */
+    @WithDefault("8")
+    int maxConcurrentBatches();
+
+    /**
+     * The maximum number of writes buffered, in flight or waiting for a retry. Writes submitted beyond this limit are
+     * rejected.
+     */
+    @WithDefault("10000")
+    int maxPendingWrites();
+
+    /**
+     * The maximum number of attempts of a write returned in the `UnprocessedItems` of a response, including the first
+     * one.
+     */
+    @WithDefault("10")
+    int maxAttempts();
+
+    /**
+     * The base delay of the exponential backoff applied before retrying unprocessed writes. The delay is drawn at random
+     * between zero and the backoff of the attempt.
+     */
+    @WithDefault("50ms")
+    Duration baseBackoff();
+
+    /**
+     * The maximum delay before retrying unprocessed writes.
+     */
+    @WithDefault("5s")
+    Duration maxBackoff();
+}
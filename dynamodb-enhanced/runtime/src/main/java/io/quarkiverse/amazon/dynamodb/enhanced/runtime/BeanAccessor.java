@@ -0,0 +1,96 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.BeanAttributeGetter;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.BeanAttributeSetter;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.ObjectConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.ObjectGetterMethod;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.StaticGetterMethod;
+
+/**
+ * Base class of the accessors generated at build time for the DynamoDb mappable entities.
+ * <p>
+ * One accessor class is generated per {@code @DynamoDbBean}, {@code @DynamoDbImmutable} and immutable builder class. An
+ * instance of the generated class stands for one member of the entity, a getter, a setter, the no-args constructor or a
+ * static factory method, identified by its index, and invokes it directly instead of going through reflection or method
+ * handles.
+ * <p>
+ * The accessors are registered at startup and looked up by {@link BeanTableSchemaSubstitutionImplementation} when the
+ * {@code TableSchema} of an entity is created.
+ */
+public abstract class BeanAccessor implements BeanAttributeGetter<Object, Object>, BeanAttributeSetter<Object, Object>,
+        ObjectConstructor<Object>, ObjectGetterMethod<Object, Object>, StaticGetterMethod<Object> {
+
+    private static final Map<Class<?>, Map<String, BeanAccessor>> ACCESSORS = new ConcurrentHashMap<>();
+
+    protected final int index;
+
+    protected BeanAccessor(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Registers the accessors of the members of the given class.
+     *
+     * @param type the entity or builder class
+     * @param accessors the accessors indexed by the {@link #key(Executable) key} of the member they invoke
+     */
+    public static void register(Class<?> type, Map<String, BeanAccessor> accessors) {
+        ACCESSORS.put(type, Map.copyOf(accessors));
+    }
+
+    /**
+     * @return the generated accessor invoking the given member of the given class, or {@code null} if there is none
+     */
+    static BeanAccessor find(Class<?> type, Executable member) {
+        return find(type, key(member));
+    }
+
+    /**
+     * @return the generated accessor invoking the member of the given class with the given key, or {@code null} if
+     *         there is none
+     */
+    static BeanAccessor find(Class<?> type, String key) {
+        Map<String, BeanAccessor> accessors = ACCESSORS.get(type);
+        return accessors == null ? null : accessors.get(key);
+    }
+
+    /**
+     * @return the key of a member, made of its name, {@code <init>} for a constructor, and of its parameter types
+     */
+    public static String key(Executable member) {
+        StringBuilder key = new StringBuilder(member instanceof Constructor ? "<init>" : member.getName()).append('(');
+        Class<?>[] parameterTypes = member.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(parameterTypes[i].getName());
+        }
+        return key.append(')').toString();
+    }
+
+    @Override
+    public Object apply(Object bean) {
+        throw unsupported();
+    }
+
+    @Override
+    public void accept(Object bean, Object value) {
+        throw unsupported();
+    }
+
+    @Override
+    public Object get() {
+        throw unsupported();
+    }
+
+    protected IllegalStateException unsupported() {
+        return new IllegalStateException(
+                "Accessor " + getClass().getName() + " has no member #" + index + " of the expected kind");
+    }
+}
@@ -18,11 +18,19 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.StaticGetterMeth
  * They are used to replace runtime generated lambdas with method handles and are the runtime counterparts of the bytecode
  * changes made in DynamodbEnhancedProcessor.
  * Runtime generated lambdas are not supported by native-image and we have class loader problems anyway.
+ *
+ * The accessors generated at build time for the discovered entities are used when available, method handles and
+ * reflection are only used for the other classes.
  */
+@SuppressWarnings("unchecked")
 public class BeanTableSchemaSubstitutionImplementation {
 
     public static <BeanT, GetterT> ObjectGetterMethod<BeanT, GetterT> ObjectGetterMethod_create(Class<BeanT> beanClass,
             Method buildMethod) {
+        BeanAccessor accessor = BeanAccessor.find(beanClass, buildMethod);
+        if (accessor != null) {
+            return (ObjectGetterMethod<BeanT, GetterT>) (ObjectGetterMethod<?, ?>) accessor;
+        }
         try {
             MethodHandle mh = MethodHandles.publicLookup().unreflect(buildMethod);
             return new FunctionWrapper<BeanT, GetterT>(mh);
@@ -34,12 +42,20 @@ public class BeanTableSchemaSubstitutionImplementation {
 
     public static <BeanT, GetterT> BeanAttributeGetter<BeanT, GetterT> BeanAttributeGetter_create(Class<BeanT> beanClass,
             Method getter) {
+        BeanAccessor accessor = BeanAccessor.find(beanClass, getter);
+        if (accessor != null) {
+            return (BeanAttributeGetter<BeanT, GetterT>) (BeanAttributeGetter<?, ?>) accessor;
+        }
         // change back to MethodHandle after https://github.com/oracle/graal/issues/5672 is resolved
         return new GetterWrapper<BeanT, GetterT>(getter);
     }
 
     public static <BeanT, SetterT> BeanAttributeSetter<BeanT, SetterT> BeanAttributeSetter_create(Class<BeanT> beanClass,
             Method setter) {
+        BeanAccessor accessor = BeanAccessor.find(beanClass, setter);
+        if (accessor != null) {
+            return (BeanAttributeSetter<BeanT, SetterT>) (BeanAttributeSetter<?, ?>) accessor;
+        }
         try {
             MethodHandle mh = MethodHandles.publicLookup().unreflect(setter);
             return new BiConsumerWrapper<BeanT, SetterT>(mh);
@@ -51,6 +67,10 @@ public class BeanTableSchemaSubstitutionImplementation {
 
     public static <BeanT> ObjectConstructor<BeanT> ObjectConstructor_create(Class<BeanT> beanClass,
             Constructor<BeanT> noArgsConstructor) {
+        BeanAccessor accessor = BeanAccessor.find(beanClass, noArgsConstructor);
+        if (accessor != null) {
+            return (ObjectConstructor<BeanT>) (ObjectConstructor<?>) accessor;
+        }
         try {
             MethodHandle mh = MethodHandles.publicLookup().unreflectConstructor(noArgsConstructor);
             return new SupplierWrapper<>(mh);
@@ -61,6 +81,10 @@ public class BeanTableSchemaSubstitutionImplementation {
     }
 
     public static <GetterT> StaticGetterMethod<GetterT> StaticGetterMethod_create(Method buildMethod) {
+        BeanAccessor accessor = BeanAccessor.find(buildMethod.getDeclaringClass(), buildMethod);
+        if (accessor != null) {
+            return (StaticGetterMethod<GetterT>) (StaticGetterMethod<?>) accessor;
+        }
         try {
             MethodHandle mh = MethodHandles.publicLookup().unreflect(buildMethod);
             return new SupplierWrapper<>(mh);
@@ -0,0 +1,19 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Serves the item reads of a table injected with {@link NamedDynamoDbTable} from the {@link DynamoDbItemCache}.
+ * <p>
+ * The cache applies to the table bean, so to every injection point of the same table and item class.
+ */
+@Target({ FIELD })
+@Retention(RUNTIME)
+@Documented
+public @interface CachedDynamoDbTable {
+}
@@ -0,0 +1,272 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.CreateTableEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedResponse;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * A {@link DynamoDbAsyncTable} serving the eventually consistent {@code getItem} calls from a {@link DynamoDbItemCache}
+ * and invalidating the items it puts, updates and deletes.
+ * <p>
+ * The consistent reads are sent to DynamoDB and cache their result. The other operations are delegated as is.
+ */
+public class CachingDynamoDbAsyncTable<T> implements DynamoDbAsyncTable<T> {
+
+    private final DynamoDbAsyncTable<T> delegate;
+    private final DynamoDbItemCache cache;
+
+    public CachingDynamoDbAsyncTable(DynamoDbAsyncTable<T> delegate, DynamoDbItemCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public CompletableFuture<T> getItem(GetItemEnhancedRequest request) {
+        Map<String, AttributeValue> key = request.key().keyMap(tableSchema(), TableMetadata.primaryIndexName());
+        if (!Boolean.TRUE.equals(request.consistentRead())) {
+            Map<String, AttributeValue> cached = cache.get(tableName(), key);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(tableSchema().mapToItem(cached));
+            }
+        }
+        long stamp = cache.stamp();
+        return delegate.getItem(request).thenApply(item -> {
+            if (item != null) {
+                cache.put(tableName(), key, tableSchema().itemToMap(item, true), stamp);
+            }
+            return item;
+        });
+    }
+
+    @Override
+    public CompletableFuture<T> getItem(Consumer<GetItemEnhancedRequest.Builder> requestConsumer) {
+        GetItemEnhancedRequest.Builder builder = GetItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return getItem(builder.build());
+    }
+
+    @Override
+    public CompletableFuture<T> getItem(Key key) {
+        return getItem(r -> r.key(key));
+    }
+
+    @Override
+    public CompletableFuture<T> getItem(T keyItem) {
+        return getItem(keyFrom(keyItem));
+    }
+
+    @Override
+    public CompletableFuture<GetItemEnhancedResponse<T>> getItemWithResponse(GetItemEnhancedRequest request) {
+        return delegate.getItemWithResponse(request);
+    }
+
+    @Override
+    public CompletableFuture<GetItemEnhancedResponse<T>> getItemWithResponse(
+            Consumer<GetItemEnhancedRequest.Builder> requestConsumer) {
+        return delegate.getItemWithResponse(requestConsumer);
+    }
+
+    @Override
+    public CompletableFuture<Void> putItem(PutItemEnhancedRequest<T> request) {
+        return invalidating(delegate.putItem(request), keyFrom(request.item()));
+    }
+
+    @Override
+    public CompletableFuture<Void> putItem(Consumer<PutItemEnhancedRequest.Builder<T>> requestConsumer) {
+        PutItemEnhancedRequest.Builder<T> builder = PutItemEnhancedRequest.builder(tableSchema().itemType().rawClass());
+        requestConsumer.accept(builder);
+        return putItem(builder.build());
+    }
+
+    @Override
+    public CompletableFuture<Void> putItem(T item) {
+        return putItem(r -> r.item(item));
+    }
+
+    @Override
+    public CompletableFuture<PutItemEnhancedResponse<T>> putItemWithResponse(PutItemEnhancedRequest<T> request) {
+        return invalidating(delegate.putItemWithResponse(request), keyFrom(request.item()));
+    }
+
+    @Override
+    public CompletableFuture<PutItemEnhancedResponse<T>> putItemWithResponse(
+            Consumer<PutItemEnhancedRequest.Builder<T>> requestConsumer) {
+        PutItemEnhancedRequest.Builder<T> builder = PutItemEnhancedRequest.builder(tableSchema().itemType().rawClass());
+        requestConsumer.accept(builder);
+        return putItemWithResponse(builder.build());
+    }
+
+    @Override
+    public CompletableFuture<T> updateItem(UpdateItemEnhancedRequest<T> request) {
+        return invalidating(delegate.updateItem(request), keyFrom(request.item()));
+    }
+
+    @Override
+    public CompletableFuture<T> updateItem(Consumer<UpdateItemEnhancedRequest.Builder<T>> requestConsumer) {
+        UpdateItemEnhancedRequest.Builder<T> builder = UpdateItemEnhancedRequest
+                .builder(tableSchema().itemType().rawClass());
+        requestConsumer.accept(builder);
+        return updateItem(builder.build());
+    }
+
+    @Override
+    public CompletableFuture<T> updateItem(T item) {
+        return updateItem(r -> r.item(item));
+    }
+
+    @Override
+    public CompletableFuture<UpdateItemEnhancedResponse<T>> updateItemWithResponse(UpdateItemEnhancedRequest<T> request) {
+        return invalidating(delegate.updateItemWithResponse(request), keyFrom(request.item()));
+    }
+
+    @Override
+    public CompletableFuture<UpdateItemEnhancedResponse<T>> updateItemWithResponse(
+            Consumer<UpdateItemEnhancedRequest.Builder<T>> requestConsumer) {
+        UpdateItemEnhancedRequest.Builder<T> builder = UpdateItemEnhancedRequest
+                .builder(tableSchema().itemType().rawClass());
+        requestConsumer.accept(builder);
+        return updateItemWithResponse(builder.build());
+    }
+
+    @Override
+    public CompletableFuture<T> deleteItem(DeleteItemEnhancedRequest request) {
+        return invalidating(delegate.deleteItem(request), request.key());
+    }
+
+    @Override
+    public CompletableFuture<T> deleteItem(Consumer<DeleteItemEnhancedRequest.Builder> requestConsumer) {
+        DeleteItemEnhancedRequest.Builder builder = DeleteItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return deleteItem(builder.build());
+    }
+
+    @Override
+    public CompletableFuture<T> deleteItem(Key key) {
+        return deleteItem(r -> r.key(key));
+    }
+
+    @Override
+    public CompletableFuture<T> deleteItem(T keyItem) {
+        return deleteItem(keyFrom(keyItem));
+    }
+
+    @Override
+    public CompletableFuture<DeleteItemEnhancedResponse<T>> deleteItemWithResponse(DeleteItemEnhancedRequest request) {
+        return invalidating(delegate.deleteItemWithResponse(request), request.key());
+    }
+
+    @Override
+    public CompletableFuture<DeleteItemEnhancedResponse<T>> deleteItemWithResponse(
+            Consumer<DeleteItemEnhancedRequest.Builder> requestConsumer) {
+        DeleteItemEnhancedRequest.Builder builder = DeleteItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return deleteItemWithResponse(builder.build());
+    }
+
+    private <R> CompletableFuture<R> invalidating(CompletableFuture<R> write, Key key) {
+        Map<String, AttributeValue> keyMap = key.keyMap(tableSchema(), TableMetadata.primaryIndexName());
+        return write.whenComplete((r, error) -> cache.invalidate(tableName(), keyMap));
+    }
+
+    @Override
+    public DynamoDbAsyncIndex<T> index(String indexName) {
+        return delegate.index(indexName);
+    }
+
+    @Override
+    public CompletableFuture<Void> createTable(CreateTableEnhancedRequest request) {
+        return delegate.createTable(request);
+    }
+
+    @Override
+    public CompletableFuture<Void> createTable(Consumer<CreateTableEnhancedRequest.Builder> requestConsumer) {
+        return delegate.createTable(requestConsumer);
+    }
+
+    @Override
+    public CompletableFuture<Void> createTable() {
+        return delegate.createTable();
+    }
+
+    @Override
+    public PagePublisher<T> query(QueryEnhancedRequest request) {
+        return delegate.query(request);
+    }
+
+    @Override
+    public PagePublisher<T> query(Consumer<QueryEnhancedRequest.Builder> requestConsumer) {
+        return delegate.query(requestConsumer);
+    }
+
+    @Override
+    public PagePublisher<T> query(QueryConditional queryConditional) {
+        return delegate.query(queryConditional);
+    }
+
+    @Override
+    public PagePublisher<T> scan(ScanEnhancedRequest request) {
+        return delegate.scan(request);
+    }
+
+    @Override
+    public PagePublisher<T> scan(Consumer<ScanEnhancedRequest.Builder> requestConsumer) {
+        return delegate.scan(requestConsumer);
+    }
+
+    @Override
+    public PagePublisher<T> scan() {
+        return delegate.scan();
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteTable() {
+        return delegate.deleteTable().whenComplete((r, error) -> cache.invalidateAll());
+    }
+
+    @Override
+    public CompletableFuture<DescribeTableEnhancedResponse> describeTable() {
+        return delegate.describeTable();
+    }
+
+    @Override
+    public DynamoDbEnhancedClientExtension mapperExtension() {
+        return delegate.mapperExtension();
+    }
+
+    @Override
+    public TableSchema<T> tableSchema() {
+        return delegate.tableSchema();
+    }
+
+    @Override
+    public String tableName() {
+        return delegate.tableName();
+    }
+
+    @Override
+    public Key keyFrom(T item) {
+        return delegate.keyFrom(item);
+    }
+}
@@ -0,0 +1,295 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.CreateTableEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedResponse;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * A {@link DynamoDbTable} serving the eventually consistent {@code getItem} calls from a {@link DynamoDbItemCache} and
+ * invalidating the items it puts, updates and deletes.
+ * <p>
+ * The consistent reads are sent to DynamoDB and cache their result. The other operations are delegated as is.
+ */
+public class CachingDynamoDbTable<T> implements DynamoDbTable<T> {
+
+    private final DynamoDbTable<T> delegate;
+    private final DynamoDbItemCache cache;
+
+    public CachingDynamoDbTable(DynamoDbTable<T> delegate, DynamoDbItemCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public T getItem(GetItemEnhancedRequest request) {
+        Map<String, AttributeValue> key = request.key().keyMap(tableSchema(), TableMetadata.primaryIndexName());
+        if (!Boolean.TRUE.equals(request.consistentRead())) {
+            Map<String, AttributeValue> cached = cache.get(tableName(), key);
+            if (cached != null) {
+                return tableSchema().mapToItem(cached);
+            }
+        }
+        long stamp = cache.stamp();
+        T item = delegate.getItem(request);
+        if (item != null) {
+            cache.put(tableName(), key, tableSchema().itemToMap(item, true), stamp);
+        }
+        return item;
+    }
+
+    @Override
+    public T getItem(Consumer<GetItemEnhancedRequest.Builder> requestConsumer) {
+        GetItemEnhancedRequest.Builder builder = GetItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return getItem(builder.build());
+    }
+
+    @Override
+    public T getItem(Key key) {
+        return getItem(r -> r.key(key));
+    }
+
+    @Override
+    public T getItem(T keyItem) {
+        return getItem(keyFrom(keyItem));
+    }
+
+    @Override
+    public GetItemEnhancedResponse<T> getItemWithResponse(GetItemEnhancedRequest request) {
+        return delegate.getItemWithResponse(request);
+    }
+
+    @Override
+    public GetItemEnhancedResponse<T> getItemWithResponse(Consumer<GetItemEnhancedRequest.Builder> requestConsumer) {
+        return delegate.getItemWithResponse(requestConsumer);
+    }
+
+    @Override
+    public void putItem(PutItemEnhancedRequest<T> request) {
+        try {
+            delegate.putItem(request);
+        } finally {
+            invalidate(keyFrom(request.item()));
+        }
+    }
+
+    @Override
+    public void putItem(Consumer<PutItemEnhancedRequest.Builder<T>> requestConsumer) {
+        PutItemEnhancedRequest.Builder<T> builder = PutItemEnhancedRequest.builder(tableSchema().itemType().rawClass());
+        requestConsumer.accept(builder);
+        putItem(builder.build());
+    }
+
+    @Override
+    public void putItem(T item) {
+        putItem(r -> r.item(item));
+    }
+
+    @Override
+    public PutItemEnhancedResponse<T> putItemWithResponse(PutItemEnhancedRequest<T> request) {
+        try {
+            return delegate.putItemWithResponse(request);
+        } finally {
+            invalidate(keyFrom(request.item()));
+        }
+    }
+
+    @Override
+    public PutItemEnhancedResponse<T> putItemWithResponse(Consumer<PutItemEnhancedRequest.Builder<T>> requestConsumer) {
+        PutItemEnhancedRequest.Builder<T> builder = PutItemEnhancedRequest.builder(tableSchema().itemType().rawClass());
+        requestConsumer.accept(builder);
+        return putItemWithResponse(builder.build());
+    }
+
+    @Override
+    public T updateItem(UpdateItemEnhancedRequest<T> request) {
+        try {
+            return delegate.updateItem(request);
+        } finally {
+            invalidate(keyFrom(request.item()));
+        }
+    }
+
+    @Override
+    public T updateItem(Consumer<UpdateItemEnhancedRequest.Builder<T>> requestConsumer) {
+        UpdateItemEnhancedRequest.Builder<T> builder = UpdateItemEnhancedRequest
+                .builder(tableSchema().itemType().rawClass());
+        requestConsumer.accept(builder);
+        return updateItem(builder.build());
+    }
+
+    @Override
+    public T updateItem(T item) {
+        return updateItem(r -> r.item(item));
+    }
+
+    @Override
+    public UpdateItemEnhancedResponse<T> updateItemWithResponse(UpdateItemEnhancedRequest<T> request) {
+        try {
+            return delegate.updateItemWithResponse(request);
+        } finally {
+            invalidate(keyFrom(request.item()));
+        }
+    }
+
+    @Override
+    public UpdateItemEnhancedResponse<T> updateItemWithResponse(
+            Consumer<UpdateItemEnhancedRequest.Builder<T>> requestConsumer) {
+        UpdateItemEnhancedRequest.Builder<T> builder = UpdateItemEnhancedRequest
+                .builder(tableSchema().itemType().rawClass());
+        requestConsumer.accept(builder);
+        return updateItemWithResponse(builder.build());
+    }
+
+    @Override
+    public T deleteItem(DeleteItemEnhancedRequest request) {
+        try {
+            return delegate.deleteItem(request);
+        } finally {
+            invalidate(request.key());
+        }
+    }
+
+    @Override
+    public T deleteItem(Consumer<DeleteItemEnhancedRequest.Builder> requestConsumer) {
+        DeleteItemEnhancedRequest.Builder builder = DeleteItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return deleteItem(builder.build());
+    }
+
+    @Override
+    public T deleteItem(Key key) {
+        return deleteItem(r -> r.key(key));
+    }
+
+    @Override
+    public T deleteItem(T keyItem) {
+        return deleteItem(keyFrom(keyItem));
+    }
+
+    @Override
+    public DeleteItemEnhancedResponse<T> deleteItemWithResponse(DeleteItemEnhancedRequest request) {
+        try {
+            return delegate.deleteItemWithResponse(request);
+        } finally {
+            invalidate(request.key());
+        }
+    }
+
+    @Override
+    public DeleteItemEnhancedResponse<T> deleteItemWithResponse(
+            Consumer<DeleteItemEnhancedRequest.Builder> requestConsumer) {
+        DeleteItemEnhancedRequest.Builder builder = DeleteItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return deleteItemWithResponse(builder.build());
+    }
+
+    private void invalidate(Key key) {
+        cache.invalidate(tableName(), key.keyMap(tableSchema(), TableMetadata.primaryIndexName()));
+    }
+
+    @Override
+    public DynamoDbIndex<T> index(String indexName) {
+        return delegate.index(indexName);
+    }
+
+    @Override
+    public void createTable(CreateTableEnhancedRequest request) {
+        delegate.createTable(request);
+    }
+
+    @Override
+    public void createTable(Consumer<CreateTableEnhancedRequest.Builder> requestConsumer) {
+        delegate.createTable(requestConsumer);
+    }
+
+    @Override
+    public void createTable() {
+        delegate.createTable();
+    }
+
+    @Override
+    public PageIterable<T> query(QueryEnhancedRequest request) {
+        return delegate.query(request);
+    }
+
+    @Override
+    public PageIterable<T> query(Consumer<QueryEnhancedRequest.Builder> requestConsumer) {
+        return delegate.query(requestConsumer);
+    }
+
+    @Override
+    public PageIterable<T> query(QueryConditional queryConditional) {
+        return delegate.query(queryConditional);
+    }
+
+    @Override
+    public PageIterable<T> scan(ScanEnhancedRequest request) {
+        return delegate.scan(request);
+    }
+
+    @Override
+    public PageIterable<T> scan(Consumer<ScanEnhancedRequest.Builder> requestConsumer) {
+        return delegate.scan(requestConsumer);
+    }
+
+    @Override
+    public PageIterable<T> scan() {
+        return delegate.scan();
+    }
+
+    @Override
+    public void deleteTable() {
+        try {
+            delegate.deleteTable();
+        } finally {
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public DescribeTableEnhancedResponse describeTable() {
+        return delegate.describeTable();
+    }
+
+    @Override
+    public DynamoDbEnhancedClientExtension mapperExtension() {
+        return delegate.mapperExtension();
+    }
+
+    @Override
+    public TableSchema<T> tableSchema() {
+        return delegate.tableSchema();
+    }
+
+    @Override
+    public String tableName() {
+        return delegate.tableName();
+    }
+
+    @Override
+    public Key keyFrom(T item) {
+        return delegate.keyFrom(item);
+    }
+}
@@ -0,0 +1,290 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkiverse.amazon.common.runtime.Batcher;
+import io.quarkiverse.amazon.common.runtime.ComponentMeters;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+/**
+ * Coalesces the item reads issued concurrently into {@code BatchGetItem} requests sent through the
+ * {@link DynamoDbAsyncClient}.
+ * <p>
+ * The keys requested during a short window are collected and the reads of the same item are merged, so that the item is
+ * requested once and every caller gets it. A batch is sent as soon as enough distinct keys are collected to fill it, 100
+ * keys, or once the window elapses, and batches are sent concurrently, up to a configured limit. The keys returned in
+ * the {@code UnprocessedKeys} of a response are requested again after an exponential backoff with full jitter.
+ * <p>
+ * The keys are matched with the items of the responses by value, the numbers being compared by their numeric value as
+ * DynamoDB returns them in a normalized form, e.g. {@code 1} for {@code 1.0}.
+ * <p>
+ * The reads are eventually consistent and return the whole item.
+ * <p>
+ * When Micrometer is available, the counters and gauges of the loader are registered as
+ * {@code aws.dynamodb.batch.loader.*} meters tagged with the client.
+ */
+public class DynamoDbBatchLoader implements AutoCloseable {
+
+    static final int MAX_BATCH_SIZE = 100;
+
+    // the keys of all the tables are merged in the same batches
+    private static final String BATCH_GET_ITEM = "BatchGetItem";
+
+    private final DynamoDbAsyncClient client;
+    private final LoadBatcher batcher;
+
+    // guarded by the batcher, the collected loads are indexed by table name and normalized key
+    private final Map<List<Object>, Load> collected = new HashMap<>();
+
+    private final LongAdder requestedKeys = new LongAdder();
+    private final LongAdder coalescedKeys = new LongAdder();
+    private final LongAdder loadedItems = new LongAdder();
+    private ComponentMeters<DynamoDbBatchLoader> meters = ComponentMeters.none();
+
+    public DynamoDbBatchLoader(DynamoDbAsyncClient client, BatchLoaderConfig config) {
+        this(client, config.batchSize(), config.window(), config.maxConcurrentBatches(), config.maxAttempts(),
+                config.baseBackoff(), config.maxBackoff());
+    }
+
+    DynamoDbBatchLoader(DynamoDbAsyncClient client, int batchSize, Duration window, int maxConcurrentBatches,
+            int maxAttempts, Duration baseBackoff, Duration maxBackoff) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("The batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        if (maxConcurrentBatches < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("The maximum number of concurrent batches and attempts must be positive");
+        }
+        this.client = client;
+        this.batcher = new LoadBatcher(batchSize, window, maxConcurrentBatches, maxAttempts, baseBackoff, maxBackoff);
+    }
+
+    void registerMeters(String clientName) {
+        batcher.registerMeters("aws.dynamodb.batch.loader", "client", clientName);
+        meters = ComponentMeters.of(this, "aws.dynamodb.batch.loader", "client", clientName)
+                .counter("requested", "Number of reads requested", DynamoDbBatchLoader::requestedKeys)
+                .counter("coalesced", "Number of reads merged with the read of the same item",
+                        DynamoDbBatchLoader::coalescedKeys)
+                .counter("loaded", "Number of items returned by DynamoDB", DynamoDbBatchLoader::loadedItems);
+    }
+
+    /**
+     * Reads an item from a table.
+     *
+     * @param key the primary key of the item
+     * @return a future completed with the item, or with {@code null} if there is no item with this key
+     */
+    public CompletableFuture<Map<String, AttributeValue>> get(String tableName, Map<String, AttributeValue> key) {
+        requestedKeys.increment();
+        List<Object> id = id(tableName, key);
+        Load load;
+        synchronized (batcher) {
+            load = collected.get(id);
+            if (load != null) {
+                coalescedKeys.increment();
+            } else {
+                load = new Load(tableName, key, id);
+                collected.put(id, load);
+                batcher.submit(BATCH_GET_ITEM, load);
+                if (load.future().isDone()) {
+                    // rejected, or already sent and failed
+                    collected.remove(id, load);
+                }
+            }
+        }
+        // each caller gets its own future
+        return load.future().copy();
+    }
+
+    /**
+     * Reads an item from a mapped table.
+     *
+     * @return a future completed with the item, or with {@code null} if there is no item with this key
+     */
+    public <T> CompletableFuture<T> get(MappedTableResource<T> table, Key key) {
+        return get(table.tableName(), key.keyMap(table.tableSchema(), TableMetadata.primaryIndexName()))
+                .thenApply(item -> item == null ? null : table.tableSchema().mapToItem(item));
+    }
+
+    /**
+     * @return the number of reads requested since the loader was created
+     */
+    public long requestedKeys() {
+        return requestedKeys.sum();
+    }
+
+    /**
+     * @return the number of reads merged with the read of the same item
+     */
+    public long coalescedKeys() {
+        return coalescedKeys.sum();
+    }
+
+    /**
+     * @return the number of items returned by DynamoDB
+     */
+    public long loadedItems() {
+        return loadedItems.sum();
+    }
+
+    /**
+     * @return the number of keys requested again because they were returned as unprocessed
+     */
+    public long retriedKeys() {
+        return batcher.retriedEntries();
+    }
+
+    /**
+     * @return the number of keys that failed, either because their request failed or because their attempts were
+     *         exhausted
+     */
+    public long failedKeys() {
+        return batcher.failedEntries();
+    }
+
+    /**
+     * @return the number of {@code BatchGetItem} requests sent
+     */
+    public long sentBatches() {
+        return batcher.sentBatches();
+    }
+
+    /**
+     * @return the number of distinct keys waiting to be requested
+     */
+    public int collectedKeys() {
+        return batcher.bufferedEntries();
+    }
+
+    /**
+     * @return the number of {@code BatchGetItem} requests in flight
+     */
+    public int inFlightBatches() {
+        return batcher.inFlightBatches();
+    }
+
+    /**
+     * Requests the collected keys, waits for the pending reads and rejects any further read.
+     */
+    @Override
+    public void close() {
+        batcher.close();
+        meters.close();
+    }
+
+    private CompletableFuture<Void> batchGetItem(List<Load> batch) {
+        Map<String, List<Map<String, AttributeValue>>> keys = new LinkedHashMap<>();
+        for (Load load : batch) {
+            keys.computeIfAbsent(load.tableName, t -> new ArrayList<>()).add(load.key);
+        }
+        Map<String, KeysAndAttributes> requestItems = new LinkedHashMap<>();
+        keys.forEach(
+                (tableName, tableKeys) -> requestItems.put(tableName, KeysAndAttributes.builder().keys(tableKeys).build()));
+        return client.batchGetItem(BatchGetItemRequest.builder().requestItems(requestItems).build())
+                .thenAccept(response -> {
+                    Map<List<Object>, Load> loads = new HashMap<>();
+                    Map<String, Set<Set<String>>> keyNames = new HashMap<>();
+                    for (Load load : batch) {
+                        loads.put(load.id, load);
+                        keyNames.computeIfAbsent(load.tableName, t -> new LinkedHashSet<>()).add(load.key.keySet());
+                    }
+                    response.responses().forEach((tableName, items) -> {
+                        for (Map<String, AttributeValue> item : items) {
+                            for (Set<String> names : keyNames.getOrDefault(tableName, Set.of())) {
+                                Map<String, AttributeValue> key = new HashMap<>();
+                                names.forEach(name -> key.put(name, item.get(name)));
+                                Load load = loads.remove(id(tableName, key));
+                                if (load != null) {
+                                    loadedItems.increment();
+                                    load.succeeded(item);
+                                    break;
+                                }
+                            }
+                        }
+                    });
+                    response.unprocessedKeys().forEach((tableName, keysAndAttributes) -> {
+                        for (Map<String, AttributeValue> key : keysAndAttributes.keys()) {
+                            Load load = loads.remove(id(tableName, key));
+                            if (load != null) {
+                                load.failed(new IllegalStateException("The key was not processed by DynamoDB after "
+                                        + (load.attempts() + 1) + " attempts"), true);
+                            }
+                        }
+                    });
+                    // the keys neither returned nor unprocessed have no item
+                    for (Load load : loads.values()) {
+                        load.succeeded(null);
+                    }
+                });
+    }
+
+    /**
+     * @return the identity of a key of a table, whose numbers are compared by their numeric value
+     */
+    private static List<Object> id(String tableName, Map<String, AttributeValue> key) {
+        Map<String, Object> values = new HashMap<>();
+        key.forEach((name, value) -> values.put(name,
+                value != null && value.type() == AttributeValue.Type.N ? new BigDecimal(value.n()).stripTrailingZeros()
+                        : value));
+        return List.of(tableName, values);
+    }
+
+    private final class LoadBatcher extends Batcher<String, Load> {
+
+        private LoadBatcher(int batchSize, Duration window, int maxConcurrentBatches, int maxAttempts,
+                Duration baseBackoff, Duration maxBackoff) {
+            // the size of the requested keys is not limited, only the size of the responses is
+            super("DynamoDB batch loader", batchSize, Long.MAX_VALUE, window, maxConcurrentBatches, Integer.MAX_VALUE,
+                    maxAttempts - 1, baseBackoff, maxBackoff);
+        }
+
+        @Override
+        protected CompletableFuture<?> send(String key, List<Load> batch) {
+            // the keys sent are no longer collected, a later read of the same item requests it again
+            for (Load load : batch) {
+                collected.remove(load.id, load);
+            }
+            return batchGetItem(batch);
+        }
+
+        @Override
+        protected Object group(String key, Load load) {
+            return load.id;
+        }
+
+        @Override
+        protected boolean admit(String key, Load load, List<Load> batch) {
+            // BatchGetItem rejects duplicate keys, a key requested while it waits for its retry goes in the next batch
+            return batch.stream().noneMatch(other -> other.id.equals(load.id));
+        }
+    }
+
+    private static final class Load extends Batcher.Entry<Map<String, AttributeValue>> {
+
+        private final String tableName;
+        private final Map<String, AttributeValue> key;
+        private final List<Object> id;
+
+        private Load(String tableName, Map<String, AttributeValue> key, List<Object> id) {
+            super(DynamoDbBatchWriter.estimateSize(key));
+            this.tableName = tableName;
+            this.key = key;
+            this.id = id;
+        }
+    }
+}
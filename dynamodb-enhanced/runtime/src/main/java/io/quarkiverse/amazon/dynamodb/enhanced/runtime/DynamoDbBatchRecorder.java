@@ -0,0 +1,73 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.util.function.Function;
+
+import io.quarkiverse.amazon.common.runtime.ClientUtil;
+import io.quarkus.arc.SyntheticCreationalContext;
+import io.quarkus.runtime.annotations.Recorder;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+
+@Recorder
+public class DynamoDbBatchRecorder {
+
+    final DynamoDbEnhancedConfig config;
+
+    public DynamoDbBatchRecorder(DynamoDbEnhancedConfig config) {
+        this.config = config;
+    }
+
+    public Function<SyntheticCreationalContext<DynamoDbBatchWriter>, DynamoDbBatchWriter> createDynamoDbBatchWriter(
+            String clientName) {
+        return new Function<SyntheticCreationalContext<DynamoDbBatchWriter>, DynamoDbBatchWriter>() {
+            @Override
+            public DynamoDbBatchWriter apply(SyntheticCreationalContext<DynamoDbBatchWriter> context) {
+                DynamoDbAsyncClient client;
+                if (ClientUtil.isDefaultClient(clientName))
+                    client = context.getInjectedReference(DynamoDbAsyncClient.class);
+                else
+                    client = context.getInjectedReference(DynamoDbAsyncClient.class,
+                            new io.quarkiverse.amazon.common.AmazonClient.AmazonClientLiteral(clientName));
+
+                DynamoDbBatchWriter writer = new DynamoDbBatchWriter(client, config.batchWriter());
+                writer.registerMeters(clientName);
+                return writer;
+            }
+        };
+    }
+
+    public Function<SyntheticCreationalContext<DynamoDbBatchLoader>, DynamoDbBatchLoader> createDynamoDbBatchLoader(
+            String clientName) {
+        return new Function<SyntheticCreationalContext<DynamoDbBatchLoader>, DynamoDbBatchLoader>() {
+            @Override
+            public DynamoDbBatchLoader apply(SyntheticCreationalContext<DynamoDbBatchLoader> context) {
+                DynamoDbAsyncClient client;
+                if (ClientUtil.isDefaultClient(clientName))
+                    client = context.getInjectedReference(DynamoDbAsyncClient.class);
+                else
+                    client = context.getInjectedReference(DynamoDbAsyncClient.class,
+                            new io.quarkiverse.amazon.common.AmazonClient.AmazonClientLiteral(clientName));
+
+                DynamoDbBatchLoader loader = new DynamoDbBatchLoader(client, config.batchLoader());
+                loader.registerMeters(clientName);
+                return loader;
+            }
+        };
+    }
+
+    public Function<SyntheticCreationalContext<DynamoDbParallelScanner>, DynamoDbParallelScanner> createDynamoDbParallelScanner(
+            String clientName) {
+        return new Function<SyntheticCreationalContext<DynamoDbParallelScanner>, DynamoDbParallelScanner>() {
+            @Override
+            public DynamoDbParallelScanner apply(SyntheticCreationalContext<DynamoDbParallelScanner> context) {
+                DynamoDbAsyncClient client;
+                if (ClientUtil.isDefaultClient(clientName))
+                    client = context.getInjectedReference(DynamoDbAsyncClient.class);
+                else
+                    client = context.getInjectedReference(DynamoDbAsyncClient.class,
+                            new io.quarkiverse.amazon.common.AmazonClient.AmazonClientLiteral(clientName));
+
+                return new DynamoDbParallelScanner(client, config.parallelScan());
+            }
+        };
+    }
+}
@@ -0,0 +1,381 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkiverse.amazon.common.runtime.Batcher;
+import io.quarkiverse.amazon.common.runtime.MessageSizes;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Buffers item puts and deletes and writes them with {@code BatchWriteItem} requests sent through the
+ * {@link DynamoDbAsyncClient}.
+ * <p>
+ * A batch is sent as soon as enough writes are buffered to fill it, 25 writes or 16 MB, or once the oldest buffered write
+ * waited for the flush interval. Batches are sent concurrently, up to a configured limit. The writes returned in the
+ * {@code UnprocessedItems} of a response are retried after an exponential backoff with full jitter, and the future
+ * returned for each write completes once the write is processed, or fails once its attempts are exhausted.
+ * <p>
+ * {@code BatchWriteItem} rejects batches writing the same item twice. The writes are keyed by the primary key of their
+ * item and a write is deferred to the next batch when the current one already writes the same item, or while an earlier
+ * write of the same item waits for its retry. The primary key of the raw attribute maps put in a table is read from its
+ * key schema, which is taken from the mapped writes and the deletes of the table, or else described once with
+ * {@code DescribeTable}. The raw puts wait for the key schema of their table before being sent.
+ * <p>
+ * A flush sends the writes buffered when it is requested, including those held back by the concurrency limit, which are
+ * sent as soon as a batch completes instead of waiting for the flush interval.
+ * <p>
+ * When Micrometer is available, the counters and gauges of the writer are registered as
+ * {@code aws.dynamodb.batch.writer.*} meters tagged with the client.
+ */
+public class DynamoDbBatchWriter implements AutoCloseable {
+
+    static final int MAX_BATCH_SIZE = 25;
+    static final long MAX_BATCH_BYTES = 16L * 1024 * 1024;
+
+    // the writes of all the tables are merged in the same batches
+    private static final String BATCH_WRITE_ITEM = "BatchWriteItem";
+
+    private final DynamoDbAsyncClient client;
+    private final WriteBatcher batcher;
+
+    // guarded by the batcher
+    private final Set<String> describedTables = new HashSet<>();
+
+    private final Map<String, List<String>> keyAttributeNames = new ConcurrentHashMap<>();
+
+    public DynamoDbBatchWriter(DynamoDbAsyncClient client, BatchWriterConfig config) {
+        this(client, config.batchSize(), config.flushInterval(), config.maxConcurrentBatches(), config.maxPendingWrites(),
+                config.maxAttempts(), config.baseBackoff(), config.maxBackoff());
+    }
+
+    DynamoDbBatchWriter(DynamoDbAsyncClient client, int batchSize, Duration flushInterval, int maxConcurrentBatches,
+            int maxPendingWrites, int maxAttempts, Duration baseBackoff, Duration maxBackoff) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("The batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        if (maxConcurrentBatches < 1 || maxPendingWrites < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum number of concurrent batches, pending writes and attempts must be positive");
+        }
+        this.client = client;
+        this.batcher = new WriteBatcher(batchSize, flushInterval, maxConcurrentBatches, maxPendingWrites, maxAttempts,
+                baseBackoff, maxBackoff);
+    }
+
+    void registerMeters(String clientName) {
+        batcher.registerMeters("aws.dynamodb.batch.writer", "client", clientName);
+    }
+
+    /**
+     * Puts an item in a table.
+     *
+     * @return a future completed once the item is written
+     */
+    public CompletableFuture<Void> put(String tableName, Map<String, AttributeValue> item) {
+        List<String> keyAttributes = keyAttributeNames.get(tableName);
+        return submit(tableName, WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build(),
+                keyAttributes == null ? null : key(keyAttributes, item), estimateSize(item));
+    }
+
+    /**
+     * Puts an item in a mapped table. The item is mapped by the table schema, the extensions of the enhanced client, such
+     * as the versioned record extension, are not applied.
+     *
+     * @return a future completed once the item is written
+     */
+    public <T> CompletableFuture<Void> put(MappedTableResource<T> table, T item) {
+        TableSchema<T> tableSchema = table.tableSchema();
+        Map<String, AttributeValue> attributes = tableSchema.itemToMap(item, true);
+        List<String> keyAttributes = List.copyOf(tableSchema.tableMetadata().primaryKeys());
+        keyAttributeNames.putIfAbsent(table.tableName(), keyAttributes);
+        Map<String, AttributeValue> key = key(keyAttributes, attributes);
+        return submit(table.tableName(),
+                WriteRequest.builder().putRequest(PutRequest.builder().item(attributes).build()).build(), key,
+                estimateSize(attributes));
+    }
+
+    /**
+     * Deletes an item from a table.
+     *
+     * @param key the primary key of the item
+     * @return a future completed once the item is deleted
+     */
+    public CompletableFuture<Void> delete(String tableName, Map<String, AttributeValue> key) {
+        keyAttributeNames.putIfAbsent(tableName, List.copyOf(key.keySet()));
+        return submit(tableName, WriteRequest.builder().deleteRequest(DeleteRequest.builder().key(key).build()).build(),
+                key, estimateSize(key));
+    }
+
+    /**
+     * Deletes an item from a mapped table.
+     *
+     * @return a future completed once the item is deleted
+     */
+    public <T> CompletableFuture<Void> delete(MappedTableResource<T> table, Key key) {
+        return delete(table.tableName(), key.keyMap(table.tableSchema(), TableMetadata.primaryIndexName()));
+    }
+
+    /**
+     * Sends the buffered writes without waiting for the flush interval.
+     *
+     * @return a future completed once the writes submitted before the flush are processed, or failed if one of them
+     *         failed
+     */
+    public CompletableFuture<Void> flush() {
+        return batcher.flush();
+    }
+
+    /**
+     * @return the number of items written since the writer was created
+     */
+    public long writtenItems() {
+        return batcher.completedEntries();
+    }
+
+    /**
+     * @return the number of writes retried because they were returned as unprocessed
+     */
+    public long retriedItems() {
+        return batcher.retriedEntries();
+    }
+
+    /**
+     * @return the number of writes that failed, either because their request failed or because their attempts were
+     *         exhausted
+     */
+    public long failedItems() {
+        return batcher.failedEntries();
+    }
+
+    /**
+     * @return the number of {@code BatchWriteItem} requests sent
+     */
+    public long sentBatches() {
+        return batcher.sentBatches();
+    }
+
+    /**
+     * @return the number of writes buffered, in flight or waiting for a retry
+     */
+    public int pendingWrites() {
+        return batcher.pendingEntries();
+    }
+
+    /**
+     * @return the number of writes waiting to be sent
+     */
+    public int bufferedWrites() {
+        return batcher.bufferedEntries();
+    }
+
+    /**
+     * @return the number of {@code BatchWriteItem} requests in flight
+     */
+    public int inFlightBatches() {
+        return batcher.inFlightBatches();
+    }
+
+    /**
+     * Flushes the buffered writes, waits for the pending ones and rejects any further write.
+     */
+    @Override
+    public void close() {
+        batcher.close();
+    }
+
+    private CompletableFuture<Void> submit(String tableName, WriteRequest request, Map<String, AttributeValue> key,
+            long size) {
+        Write write = new Write(tableName, request, key, size);
+        batcher.submit(BATCH_WRITE_ITEM, write);
+        if (key == null && !write.future().isDone()) {
+            describeKeySchema(tableName);
+        }
+        return write.future();
+    }
+
+    private CompletableFuture<Void> batchWriteItem(List<Write> batch) {
+        Map<String, List<WriteRequest>> requestItems = new LinkedHashMap<>();
+        for (Write write : batch) {
+            requestItems.computeIfAbsent(write.tableName, t -> new ArrayList<>()).add(write.request);
+        }
+        return client.batchWriteItem(BatchWriteItemRequest.builder().requestItems(requestItems).build())
+                .thenAccept(response -> {
+                    Map<List<Object>, ArrayDeque<Write>> writes = new HashMap<>();
+                    for (Write write : batch) {
+                        writes.computeIfAbsent(List.of(write.tableName, write.request), k -> new ArrayDeque<>())
+                                .add(write);
+                    }
+                    Set<Write> unprocessed = new HashSet<>();
+                    response.unprocessedItems().forEach((tableName, requests) -> {
+                        for (WriteRequest request : requests) {
+                            ArrayDeque<Write> matching = writes.get(List.of(tableName, request));
+                            if (matching != null && !matching.isEmpty()) {
+                                unprocessed.add(matching.poll());
+                            }
+                        }
+                    });
+                    for (Write write : batch) {
+                        if (unprocessed.contains(write)) {
+                            write.failed(new IllegalStateException("The write was not processed by DynamoDB after "
+                                    + (write.attempts() + 1) + " attempts"), true);
+                        } else {
+                            write.succeeded(null);
+                        }
+                    }
+                });
+    }
+
+    private void describeKeySchema(String tableName) {
+        synchronized (batcher) {
+            if (!describedTables.add(tableName)) {
+                return;
+            }
+        }
+        CompletableFuture<DescribeTableResponse> response;
+        try {
+            response = client.describeTable(DescribeTableRequest.builder().tableName(tableName).build());
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((r, error) -> {
+            List<Write> unresolved = List.of();
+            synchronized (batcher) {
+                if (error == null) {
+                    keyAttributeNames.putIfAbsent(tableName,
+                            r.table().keySchema().stream().map(KeySchemaElement::attributeName).toList());
+                } else if (!keyAttributeNames.containsKey(tableName)) {
+                    // the next raw put of the table describes it again
+                    describedTables.remove(tableName);
+                    unresolved = batcher.remove(BATCH_WRITE_ITEM,
+                            write -> write.key == null && write.tableName.equals(tableName));
+                }
+                batcher.drain(BATCH_WRITE_ITEM);
+            }
+            for (Write write : unresolved) {
+                batcher.fail(write, error);
+            }
+        });
+    }
+
+    private static Map<String, AttributeValue> key(List<String> keyAttributes, Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        for (String keyAttribute : keyAttributes) {
+            key.put(keyAttribute, item.get(keyAttribute));
+        }
+        return key;
+    }
+
+    /**
+     * @return an estimate of the size of the attributes, as computed by DynamoDB
+     */
+    static long estimateSize(Map<String, AttributeValue> attributes) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> attribute : attributes.entrySet()) {
+            size += MessageSizes.utf8Length(attribute.getKey()) + estimateSize(attribute.getValue());
+        }
+        return size;
+    }
+
+    private static long estimateSize(AttributeValue value) {
+        if (value == null) {
+            return 0;
+        }
+        switch (value.type()) {
+            case S:
+                return MessageSizes.utf8Length(value.s());
+            case N:
+                return value.n().length();
+            case B:
+                return value.b().asByteArrayUnsafe().length;
+            case SS:
+                return value.ss().stream().mapToLong(MessageSizes::utf8Length).sum();
+            case NS:
+                return value.ns().stream().mapToLong(String::length).sum();
+            case BS:
+                return value.bs().stream().mapToLong(b -> b.asByteArrayUnsafe().length).sum();
+            case M:
+                return 3 + estimateSize(value.m());
+            case L:
+                return 3 + value.l().stream().mapToLong(v -> 1 + estimateSize(v)).sum();
+            default:
+                return 1;
+        }
+    }
+
+    private final class WriteBatcher extends Batcher<String, Write> {
+
+        private WriteBatcher(int batchSize, Duration flushInterval, int maxConcurrentBatches, int maxPendingWrites,
+                int maxAttempts, Duration baseBackoff, Duration maxBackoff) {
+            super("DynamoDB batch writer", batchSize, MAX_BATCH_BYTES, flushInterval, maxConcurrentBatches,
+                    maxPendingWrites, maxAttempts - 1, baseBackoff, maxBackoff);
+        }
+
+        @Override
+        protected CompletableFuture<?> send(String key, List<Write> batch) {
+            return batchWriteItem(batch);
+        }
+
+        @Override
+        protected Object group(String key, Write write) {
+            if (write.key == null) {
+                List<String> keyAttributes = keyAttributeNames.get(write.tableName);
+                if (keyAttributes == null) {
+                    // the raw puts of the table wait for its key schema, in their order
+                    return write.tableName;
+                }
+                write.key = key(keyAttributes, write.request.putRequest().item());
+            }
+            return List.of(write.tableName, write.key);
+        }
+
+        @Override
+        protected boolean admit(String key, Write write, List<Write> batch) {
+            // writes of an item already written by the batch are deferred to the next one
+            return write.key != null && batch.stream()
+                    .noneMatch(other -> other.tableName.equals(write.tableName) && other.key.equals(write.key));
+        }
+
+        @Override
+        protected boolean ordered(String key) {
+            // an unprocessed write is retried before the later writes of its item
+            return true;
+        }
+    }
+
+    private static final class Write extends Batcher.Entry<Void> {
+
+        private final String tableName;
+        private final WriteRequest request;
+        // the primary key of the item, resolved once the key schema of the table is known, guarded by the batcher
+        private Object key;
+
+        private Write(String tableName, WriteRequest request, Object key, long size) {
+            super(size);
+            this.tableName = tableName;
+            this.request = request;
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import io.quarkus.runtime.annotations.ConfigDocSection;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+
+@ConfigMapping(prefix = "quarkus.dynamodbenhanced")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface DynamoDbEnhancedConfig {
+
+    /**
+     * Configuration of the `DynamoDbBatchWriter` beans
+     */
+    @ConfigDocSection
+    BatchWriterConfig batchWriter();
+
+    /**
+     * Configuration of the `DynamoDbBatchLoader` beans
+     */
+    @ConfigDocSection
+    BatchLoaderConfig batchLoader();
+
+    /**
+     * Configuration of the `DynamoDbParallelScanner` beans
+     */
+    @ConfigDocSection
+    ParallelScanConfig parallelScan();
+
+    /**
+     * Configuration of the cache of the tables annotated with `@CachedDynamoDbTable`
+     */
+    @ConfigDocSection
+    ItemCacheConfig itemCache();
+}
@@ -0,0 +1,158 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkiverse.amazon.common.runtime.ComponentMeters;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * In-process cache of the items read through the tables annotated with {@link CachedDynamoDbTable}.
+ * <p>
+ * The items are indexed by table name and primary key, and evicted once the cache is full, the least recently read
+ * first, or once they expire. The writes through the cached tables invalidate the items they modify, as do the writes
+ * through any table of an enhanced client configured with the {@link DynamoDbItemCacheExtension}. The items modified by
+ * other clients are stale until they expire.
+ * <p>
+ * When Micrometer is available, the hits, misses, evictions and size of the cache are registered as
+ * {@code aws.dynamodb.item.cache.*} meters.
+ */
+public class DynamoDbItemCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // guarded by this
+    private final LinkedHashMap<List<Object>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long invalidations;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public DynamoDbItemCache(ItemCacheConfig config) {
+        this(config.maxSize(), config.ttl());
+    }
+
+    DynamoDbItemCache(int maxSize, Duration ttl) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size of the cache must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    void registerMeters() {
+        ComponentMeters.of(this, "aws.dynamodb.item.cache")
+                .counter("hits", "Number of reads served from the cache", DynamoDbItemCache::hits)
+                .counter("misses", "Number of reads which were not cached", DynamoDbItemCache::misses)
+                .counter("evictions", "Number of items evicted because the cache was full or because they expired",
+                        DynamoDbItemCache::evictions)
+                .gauge("size", "Number of cached items, including the expired ones not evicted yet",
+                        DynamoDbItemCache::size);
+    }
+
+    /**
+     * @return the cached item, or {@code null} if it is not cached or expired
+     */
+    public synchronized Map<String, AttributeValue> get(String tableName, Map<String, AttributeValue> key) {
+        List<Object> id = List.of(tableName, key);
+        Entry entry = entries.get(id);
+        if (entry != null && System.nanoTime() - entry.expiresAt >= 0) {
+            entries.remove(id);
+            evictions.increment();
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.item;
+    }
+
+    /**
+     * @return a stamp to pass to {@link #put(String, Map, Map, long)} when caching the result of a read started now
+     */
+    public synchronized long stamp() {
+        return invalidations;
+    }
+
+    /**
+     * Caches an item, unless an item was invalidated since the read of this one started, in which case it could be
+     * stale.
+     *
+     * @param stamp the {@link #stamp()} taken before reading the item
+     */
+    public synchronized void put(String tableName, Map<String, AttributeValue> key, Map<String, AttributeValue> item,
+            long stamp) {
+        if (stamp != invalidations) {
+            return;
+        }
+        entries.put(List.of(tableName, key), new Entry(item, System.nanoTime() + ttlNanos));
+        if (entries.size() > maxSize) {
+            var eldest = entries.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Removes an item from the cache.
+     */
+    public synchronized void invalidate(String tableName, Map<String, AttributeValue> key) {
+        invalidations++;
+        entries.remove(List.of(tableName, key));
+    }
+
+    /**
+     * Removes every item from the cache.
+     */
+    public synchronized void invalidateAll() {
+        invalidations++;
+        entries.clear();
+    }
+
+    /**
+     * @return the number of reads served from the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of reads which were not cached
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of items evicted because the cache was full or because they expired
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of cached items, including the expired ones not evicted yet
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+
+        private final Map<String, AttributeValue> item;
+        private final long expiresAt;
+
+        private Entry(Map<String, AttributeValue> item, long expiresAt) {
+            this.item = item;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
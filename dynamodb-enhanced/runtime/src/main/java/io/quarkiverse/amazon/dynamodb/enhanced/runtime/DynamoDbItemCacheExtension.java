@@ -0,0 +1,38 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbExtensionContext;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.WriteModification;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Invalidates the items of the {@link DynamoDbItemCache} written by the puts and updates of an enhanced client, including
+ * the batch and transactional ones, through tables which are not cached.
+ * <p>
+ * Register it with {@code quarkus.dynamodbenhanced.client-extensions}. The enhanced client does not call its extensions
+ * on deletes, the items deleted through tables which are not cached remain cached until they expire.
+ */
+public class DynamoDbItemCacheExtension implements DynamoDbEnhancedClientExtension {
+
+    @Override
+    public WriteModification beforeWrite(DynamoDbExtensionContext.BeforeWrite context) {
+        ArcContainer container = Arc.container();
+        if (container != null) {
+            InstanceHandle<DynamoDbItemCache> cache = container.instance(DynamoDbItemCache.class);
+            if (cache.isAvailable()) {
+                Map<String, AttributeValue> key = new HashMap<>();
+                for (String keyAttribute : context.tableMetadata().primaryKeys()) {
+                    key.put(keyAttribute, context.items().get(keyAttribute));
+                }
+                cache.get().invalidate(context.operationContext().tableName(), key);
+            }
+        }
+        return WriteModification.builder().build();
+    }
+}
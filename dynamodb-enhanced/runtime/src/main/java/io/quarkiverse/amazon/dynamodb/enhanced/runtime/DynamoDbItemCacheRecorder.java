@@ -0,0 +1,26 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.util.function.Supplier;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class DynamoDbItemCacheRecorder {
+
+    final DynamoDbEnhancedConfig config;
+
+    public DynamoDbItemCacheRecorder(DynamoDbEnhancedConfig config) {
+        this.config = config;
+    }
+
+    public Supplier<DynamoDbItemCache> createItemCache() {
+        return new Supplier<DynamoDbItemCache>() {
+            @Override
+            public DynamoDbItemCache get() {
+                DynamoDbItemCache cache = new DynamoDbItemCache(config.itemCache());
+                cache.registerMeters();
+                return cache;
+            }
+        };
+    }
+}
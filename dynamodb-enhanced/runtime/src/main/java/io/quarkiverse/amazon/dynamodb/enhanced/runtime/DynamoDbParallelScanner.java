@@ -0,0 +1,198 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+/**
+ * Scans a table with parallel segments through the {@link DynamoDbAsyncClient} and streams the items as a {@link Multi}.
+ * <p>
+ * The table is split into the {@code TotalSegments} of the scan request or, if it does not set them, into a number of
+ * segments proportional to the available processors, and the segments are scanned concurrently. Each segment fetches its
+ * pages one at a time, and only once the items of its previous page were requested, so a slow consumer slows the scan
+ * down instead of buffering the table in memory. The items of the different segments are interleaved.
+ * <p>
+ * A {@link ScanCheckpoint} can be given to save the progress of each segment and to resume an interrupted scan. The
+ * progress of a segment is saved once the last item of a page was handled downstream, i.e. when the next item is emitted
+ * or when the scan completes, and the items of a page are emitted again if the scan is interrupted before then.
+ */
+public class DynamoDbParallelScanner {
+
+    static final int MAX_TOTAL_SEGMENTS = 1_000_000;
+    static final int MIN_PREFETCH = 16;
+
+    private final DynamoDbAsyncClient client;
+    private final int defaultTotalSegments;
+    private final int prefetch;
+
+    public DynamoDbParallelScanner(DynamoDbAsyncClient client, ParallelScanConfig config) {
+        this(client, Runtime.getRuntime().availableProcessors() * config.segmentsPerProcessor(), config.prefetch());
+    }
+
+    DynamoDbParallelScanner(DynamoDbAsyncClient client, int defaultTotalSegments, int prefetch) {
+        if (defaultTotalSegments < 1) {
+            throw new IllegalArgumentException("The number of segments must be positive");
+        }
+        // the merge buffers the items of each segment in a queue of at least 16 items
+        if (prefetch < MIN_PREFETCH) {
+            throw new IllegalArgumentException("The prefetch must be at least " + MIN_PREFETCH);
+        }
+        this.client = client;
+        this.defaultTotalSegments = Math.min(defaultTotalSegments, MAX_TOTAL_SEGMENTS);
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * @return the number of segments of the scans which do not set their total number of segments
+     */
+    public int defaultTotalSegments() {
+        return defaultTotalSegments;
+    }
+
+    /**
+     * Scans a table. The filter, projection and consistency of the request apply to each segment.
+     *
+     * @return the items of the table
+     */
+    public Multi<Map<String, AttributeValue>> scan(ScanRequest request) {
+        return scan(request, null);
+    }
+
+    /**
+     * Scans a table, resuming the segments from the given checkpoint and saving their progress in it.
+     *
+     * @return the items of the table which were not emitted by the previous scans using the checkpoint
+     */
+    public Multi<Map<String, AttributeValue>> scan(ScanRequest request, ScanCheckpoint checkpoint) {
+        int totalSegments = request.totalSegments() != null ? request.totalSegments() : defaultTotalSegments;
+        List<Multi<Entry>> segments = new ArrayList<>(totalSegments);
+        for (int segment = 0; segment < totalSegments; segment++) {
+            segments.add(scanSegment(request.toBuilder().segment(segment).totalSegments(totalSegments).build(),
+                    checkpoint));
+        }
+        Multi<Entry> entries = Multi.createBy().merging().withConcurrency(totalSegments).withRequests(prefetch)
+                .streams(segments);
+        if (checkpoint != null) {
+            // the progress is saved once the items are handled downstream, not when they are buffered by the merge
+            Multi<Entry> merged = entries;
+            entries = Multi.createFrom().deferred(() -> {
+                Progress progress = new Progress(checkpoint);
+                return merged.invoke(progress::emitted).onCompletion().invoke(progress::save);
+            });
+        }
+        return entries.filter(entry -> entry.item != null).map(entry -> entry.item);
+    }
+
+    /**
+     * Scans a mapped table.
+     *
+     * @return the items of the table
+     */
+    public <T> Multi<T> scan(MappedTableResource<T> table) {
+        return scan(table, null);
+    }
+
+    /**
+     * Scans a mapped table, resuming the segments from the given checkpoint and saving their progress in it.
+     *
+     * @return the items of the table which were not emitted by the previous scans using the checkpoint
+     */
+    public <T> Multi<T> scan(MappedTableResource<T> table, ScanCheckpoint checkpoint) {
+        return scan(ScanRequest.builder().tableName(table.tableName()).build(), checkpoint)
+                .map(item -> table.tableSchema().mapToItem(item));
+    }
+
+    private Multi<Entry> scanSegment(ScanRequest request, ScanCheckpoint checkpoint) {
+        int segment = request.segment();
+        Map<String, AttributeValue> startKey = checkpoint == null ? null : checkpoint.load(segment);
+        if (startKey != null && startKey.isEmpty()) {
+            // the segment was fully scanned
+            return Multi.createFrom().empty();
+        }
+        return Multi.createBy().repeating()
+                .uni(() -> new Cursor(startKey), cursor -> Uni.createFrom()
+                        .completionStage(() -> client.scan(request.toBuilder().exclusiveStartKey(cursor.key).build()))
+                        .invoke(response -> cursor.key = lastEvaluatedKey(response)))
+                .whilst(response -> !lastEvaluatedKey(response).isEmpty())
+                .onItem().transformToIterable(response -> {
+                    List<Map<String, AttributeValue>> items = response.items();
+                    List<Entry> entries = new ArrayList<>(Math.max(items.size(), 1));
+                    for (int i = 0; i < items.size() - 1; i++) {
+                        entries.add(new Entry(items.get(i), segment, null));
+                    }
+                    // the last entry of a page carries its progress, pages without items are marked by an empty entry
+                    Map<String, AttributeValue> progress = checkpoint == null ? null : lastEvaluatedKey(response);
+                    entries.add(new Entry(items.isEmpty() ? null : items.get(items.size() - 1), segment, progress));
+                    return entries;
+                });
+    }
+
+    private static Map<String, AttributeValue> lastEvaluatedKey(ScanResponse response) {
+        return response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : Map.of();
+    }
+
+    private static final class Entry {
+
+        private final Map<String, AttributeValue> item;
+        private final int segment;
+        private final Map<String, AttributeValue> lastEvaluatedKey;
+
+        private Entry(Map<String, AttributeValue> item, int segment, Map<String, AttributeValue> lastEvaluatedKey) {
+            this.item = item;
+            this.segment = segment;
+            this.lastEvaluatedKey = lastEvaluatedKey;
+        }
+    }
+
+    /**
+     * The progress of a scan, whose emissions are serialized by the merge.
+     */
+    private static final class Progress {
+
+        private final ScanCheckpoint checkpoint;
+        // the last emitted entry carrying the progress of its segment, saved once it was handled downstream
+        private Entry pending;
+
+        private Progress(ScanCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        private void emitted(Entry entry) {
+            // the previous entry was handled downstream before the next one is emitted
+            save();
+            if (entry.lastEvaluatedKey == null) {
+                return;
+            }
+            if (entry.item == null) {
+                // the empty entries of the pages without items are not emitted downstream
+                checkpoint.save(entry.segment, entry.lastEvaluatedKey);
+            } else {
+                pending = entry;
+            }
+        }
+
+        private void save() {
+            if (pending != null) {
+                checkpoint.save(pending.segment, pending.lastEvaluatedKey);
+                pending = null;
+            }
+        }
+    }
+
+    private static final class Cursor {
+
+        private Map<String, AttributeValue> key;
+
+        private Cursor(Map<String, AttributeValue> key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a {@code @DynamoDbBean} or {@code @DynamoDbImmutable} class as a projection of the items of another entity.
+ * <p>
+ * A table of the projection injected with {@link NamedDynamoDbTable} only reads the attributes of the projection, and
+ * rejects the writes. The attributes of the projection must be attributes of the entity.
+ */
+@Target({ TYPE })
+@Retention(RUNTIME)
+@Documented
+public @interface DynamoDbProjection {
+
+    /**
+     * @return the entity the items are projected from
+     */
+    Class<?> value();
+}
@@ -0,0 +1,71 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+/**
+ * The attributes of the {@link DynamoDbProjection} classes, resolved at build time.
+ * <p>
+ * The requests of the projected tables are rewritten to only read these attributes. The requests already projecting
+ * attributes are left untouched.
+ */
+public final class DynamoDbProjections {
+
+    private static final Map<String, List<String>> ATTRIBUTES = new ConcurrentHashMap<>();
+
+    private DynamoDbProjections() {
+    }
+
+    /**
+     * Registers the attributes of a projection.
+     */
+    public static void register(String className, List<String> attributes) {
+        ATTRIBUTES.put(className, List.copyOf(attributes));
+    }
+
+    /**
+     * @return the attributes read by the given projection schema, those resolved at build time if any, or the
+     *         attributes of the schema otherwise
+     */
+    public static List<String> attributes(TableSchema<?> schema) {
+        List<String> attributes = ATTRIBUTES.get(schema.itemType().rawClass().getName());
+        return attributes != null ? attributes : schema.attributeNames();
+    }
+
+    static QueryEnhancedRequest project(QueryEnhancedRequest request, List<String> attributes) {
+        if (isProjected(request.attributesToProject(), request.nestedAttributesToProject())) {
+            return request;
+        }
+        return request.toBuilder().attributesToProject(attributes).build();
+    }
+
+    static ScanEnhancedRequest project(ScanEnhancedRequest request, List<String> attributes) {
+        if (isProjected(request.attributesToProject(), request.nestedAttributesToProject())) {
+            return request;
+        }
+        return request.toBuilder().attributesToProject(attributes).build();
+    }
+
+    /**
+     * A {@code GetItem} request cannot project attributes, the item is read by a {@code Query} matching its whole primary
+     * key, which consumes the same read capacity.
+     */
+    static QueryEnhancedRequest project(GetItemEnhancedRequest request, List<String> attributes) {
+        return QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(request.key()))
+                .consistentRead(request.consistentRead())
+                .attributesToProject(attributes)
+                .build();
+    }
+
+    private static boolean isProjected(List<?> attributes, List<?> nestedAttributes) {
+        return (attributes != null && !attributes.isEmpty()) || (nestedAttributes != null && !nestedAttributes.isEmpty());
+    }
+}
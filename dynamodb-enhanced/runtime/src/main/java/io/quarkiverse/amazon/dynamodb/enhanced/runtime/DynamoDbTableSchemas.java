@@ -0,0 +1,315 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverterProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DefaultAttributeConverterProvider;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.AutoGeneratedTimestampRecordExtension;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.AutoGeneratedUuidExtension;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.VersionedRecordExtension;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTag;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.UpdateBehavior;
+
+/**
+ * The {@code TableSchema} of the DynamoDb mappable entities, created from the {@link TableSchemaModel} resolved at build
+ * time.
+ * <p>
+ * The schemas are assembled with the {@code StaticTableSchema} and {@code StaticImmutableTableSchema} builders, using the
+ * generated {@link BeanAccessor} of the entities as getters, setters and item suppliers, the same way
+ * {@code BeanTableSchema} and {@code ImmutableTableSchema} would from the introspection of the entity class. Entities
+ * without a model, such as those using custom attribute tags or generic properties, are delegated to
+ * {@link TableSchema#fromClass(Class)}.
+ */
+public final class DynamoDbTableSchemas {
+
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of("boolean", boolean.class, "byte", byte.class, "char",
+            char.class, "short", short.class, "int", int.class, "long", long.class, "float", float.class, "double",
+            double.class);
+
+    private static final Map<Class<?>, TableSchemaModel> MODELS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, TableSchema<?>> SCHEMAS = new ConcurrentHashMap<>();
+    private static final Set<Class<?>> CREATING = new HashSet<>();
+
+    private DynamoDbTableSchemas() {
+    }
+
+    /**
+     * Registers the model of an entity, replacing any previously created schema.
+     */
+    public static void register(TableSchemaModel model) {
+        Class<?> type = loadClass(model.getClassName());
+        MODELS.put(type, model);
+        SCHEMAS.remove(type);
+    }
+
+    /**
+     * @return the schema of the given entity, created from its model if there is one, or by
+     *         {@link TableSchema#fromClass(Class)} otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TableSchema<T> fromClass(Class<T> type) {
+        TableSchema<?> schema = SCHEMAS.get(type);
+        if (schema != null) {
+            return (TableSchema<T>) schema;
+        }
+        TableSchemaModel model = MODELS.get(type);
+        if (model == null) {
+            // cached by the SDK
+            return TableSchema.fromClass(type);
+        }
+        synchronized (CREATING) {
+            schema = SCHEMAS.get(type);
+            if (schema != null) {
+                return (TableSchema<T>) schema;
+            }
+            if (!CREATING.add(type)) {
+                // recursive entities are resolved lazily by the SDK
+                return TableSchema.fromClass(type);
+            }
+            try {
+                schema = model.getBuilderClassName() == null ? createBeanSchema(type, model)
+                        : createImmutableSchema(type, loadClass(model.getBuilderClassName()), model);
+                SCHEMAS.put(type, schema);
+                return (TableSchema<T>) schema;
+            } finally {
+                CREATING.remove(type);
+            }
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static TableSchema<?> createBeanSchema(Class<?> type, TableSchemaModel model) {
+        StaticTableSchema.Builder builder = StaticTableSchema.builder(type)
+                .newItemSupplier((Supplier) accessor(type, model.getNewItemMember()))
+                .attributeConverterProviders(converterProviders(model));
+
+        List<StaticAttribute> attributes = new ArrayList<>();
+        for (TableSchemaModel.Attribute attribute : model.getAttributes()) {
+            Function getter = accessor(type, attribute.getGetter());
+            BiConsumer setter = accessor(type, attribute.getSetter());
+            if (attribute.isFlatten()) {
+                builder.flatten(fromClass(loadClass(attribute.getType().getClassName())), getter, setter);
+                continue;
+            }
+            StaticAttribute.Builder attributeBuilder = StaticAttribute.builder(type, enhancedType(attribute.getType(),
+                    attribute))
+                    .name(attribute.getName())
+                    .getter(getter)
+                    .setter(setter)
+                    .tags(tags(attribute));
+            if (attribute.getConverter() != null) {
+                attributeBuilder.attributeConverter(attributeConverter(attribute.getConverter()));
+            }
+            attributes.add(attributeBuilder.build());
+        }
+        return builder.attributes(attributes).build();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static TableSchema<?> createImmutableSchema(Class<?> type, Class<?> builderType, TableSchemaModel model) {
+        StaticImmutableTableSchema.Builder builder = StaticImmutableTableSchema.builder(type, builderType)
+                .newItemBuilder((Supplier) accessor(loadClass(model.getNewItemClassName()), model.getNewItemMember()),
+                        (Function) accessor(builderType, model.getBuildMember()))
+                .attributeConverterProviders(converterProviders(model));
+
+        List<ImmutableAttribute> attributes = new ArrayList<>();
+        for (TableSchemaModel.Attribute attribute : model.getAttributes()) {
+            Function getter = accessor(type, attribute.getGetter());
+            BiConsumer setter = accessor(builderType, attribute.getSetter());
+            if (attribute.isFlatten()) {
+                builder.flatten(fromClass(loadClass(attribute.getType().getClassName())), getter, setter);
+                continue;
+            }
+            ImmutableAttribute.Builder attributeBuilder = ImmutableAttribute.builder(type, builderType,
+                    enhancedType(attribute.getType(), attribute))
+                    .name(attribute.getName())
+                    .getter(getter)
+                    .setter(setter)
+                    .tags(tags(attribute));
+            if (attribute.getConverter() != null) {
+                attributeBuilder.attributeConverter(attributeConverter(attribute.getConverter()));
+            }
+            attributes.add(attributeBuilder.build());
+        }
+        return builder.attributes(attributes).build();
+    }
+
+    private static BeanAccessor accessor(Class<?> type, String key) {
+        BeanAccessor accessor = BeanAccessor.find(type, key);
+        if (accessor == null) {
+            throw new IllegalStateException("No accessor registered for " + type.getName() + "#" + key);
+        }
+        return accessor;
+    }
+
+    private static List<AttributeConverterProvider> converterProviders(TableSchemaModel model) {
+        List<AttributeConverterProvider> providers = new ArrayList<>(model.getConverterProviders().size());
+        for (String provider : model.getConverterProviders()) {
+            providers.add(DefaultAttributeConverterProvider.class.getName().equals(provider)
+                    ? DefaultAttributeConverterProvider.create()
+                    : (AttributeConverterProvider) newInstance(provider));
+        }
+        return providers;
+    }
+
+    private static AttributeConverter<?> attributeConverter(String converter) {
+        return (AttributeConverter<?>) newInstance(converter);
+    }
+
+    private static Object newInstance(String className) {
+        try {
+            return loadClass(className).getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to instantiate " + className
+                    + ", it must have a public no-args constructor", e);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static EnhancedType<?> enhancedType(TableSchemaModel.Type type, TableSchemaModel.Attribute attribute) {
+        Class<?> rawType = loadClass(type.getClassName());
+        List<TableSchemaModel.Type> arguments = type.getArguments();
+        if (rawType == List.class && arguments.size() == 1) {
+            return EnhancedType.listOf(enhancedType(arguments.get(0), attribute));
+        }
+        if (rawType == Map.class && arguments.size() == 2) {
+            return EnhancedType.mapOf(EnhancedType.of(javaType(arguments.get(0))),
+                    enhancedType(arguments.get(1), attribute));
+        }
+        if (type.isDocument()) {
+            return EnhancedType.documentOf((Class) rawType, fromClass(rawType), document -> document
+                    .preserveEmptyObject(attribute.isPreserveEmptyObject())
+                    .ignoreNulls(attribute.isIgnoreNulls()));
+        }
+        return EnhancedType.of(javaType(type));
+    }
+
+    private static Type javaType(TableSchemaModel.Type type) {
+        Class<?> rawType = loadClass(type.getClassName());
+        if (type.getArguments().isEmpty()) {
+            return rawType;
+        }
+        Type[] arguments = new Type[type.getArguments().size()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = javaType(type.getArguments().get(i));
+        }
+        return new ParameterizedTypeImpl(rawType, arguments);
+    }
+
+    private static List<StaticAttributeTag> tags(TableSchemaModel.Attribute attribute) {
+        List<StaticAttributeTag> tags = new ArrayList<>(attribute.getTags().size());
+        for (TableSchemaModel.Tag tag : attribute.getTags()) {
+            List<String> values = tag.getValues();
+            switch (tag.getKind()) {
+                case PARTITION_KEY:
+                    tags.add(StaticAttributeTags.primaryPartitionKey());
+                    break;
+                case SORT_KEY:
+                    tags.add(StaticAttributeTags.primarySortKey());
+                    break;
+                case SECONDARY_PARTITION_KEY:
+                    tags.add(StaticAttributeTags.secondaryPartitionKey(values));
+                    break;
+                case SECONDARY_SORT_KEY:
+                    tags.add(StaticAttributeTags.secondarySortKey(values));
+                    break;
+                case UPDATE_BEHAVIOR:
+                    tags.add(StaticAttributeTags.updateBehavior(UpdateBehavior.valueOf(values.get(0))));
+                    break;
+                case ATOMIC_COUNTER:
+                    tags.add(StaticAttributeTags.atomicCounter(Long.parseLong(values.get(0)),
+                            Long.parseLong(values.get(1))));
+                    break;
+                case VERSION:
+                    tags.add(VersionedRecordExtension.AttributeTags.versionAttribute());
+                    break;
+                case AUTO_GENERATED_TIMESTAMP:
+                    tags.add(AutoGeneratedTimestampRecordExtension.AttributeTags.autoGeneratedTimestampAttribute());
+                    break;
+                case AUTO_GENERATED_UUID:
+                    tags.add(AutoGeneratedUuidExtension.AttributeTags.autoGeneratedUuidAttribute());
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown attribute tag " + tag.getKind());
+            }
+        }
+        return tags;
+    }
+
+    private static Class<?> loadClass(String className) {
+        Class<?> primitive = PRIMITIVES.get(className);
+        if (primitive != null) {
+            return primitive;
+        }
+        try {
+            return Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to load " + className, e);
+        }
+    }
+
+    private static final class ParameterizedTypeImpl implements ParameterizedType {
+
+        private final Class<?> rawType;
+        private final Type[] arguments;
+
+        private ParameterizedTypeImpl(Class<?> rawType, Type[] arguments) {
+            this.rawType = rawType;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return arguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return rawType.getDeclaringClass();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ParameterizedType)) {
+                return false;
+            }
+            ParameterizedType other = (ParameterizedType) obj;
+            return rawType.equals(other.getRawType()) && Arrays.equals(arguments, other.getActualTypeArguments())
+                    && other.getOwnerType() == getOwnerType();
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(arguments) ^ rawType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return rawType.getTypeName() + Arrays.toString(arguments).replace('[', '<').replace(']', '>');
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -18,7 +21,6 @@ import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.client.ExtensionResolver;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -33,9 +35,35 @@ public class DynamodbEnhancedClientRecorder {
         this.buildTimeConfig = buildTimeConfig;
     }
 
+    public void registerBeanAccessors(String typeName, String accessorClassName, List<String> members) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            Class<?> type = Class.forName(typeName, false, classLoader);
+            Constructor<? extends BeanAccessor> constructor = Class.forName(accessorClassName, true, classLoader)
+                    .asSubclass(BeanAccessor.class).getConstructor(int.class);
+            Map<String, BeanAccessor> accessors = new HashMap<>();
+            for (int i = 0; i < members.size(); i++) {
+                accessors.put(members.get(i), constructor.newInstance(i));
+            }
+            BeanAccessor.register(type, accessors);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to register the accessors of " + typeName, e);
+        }
+    }
+
+    public void registerTableSchemaModels(List<TableSchemaModel> models) {
+        for (TableSchemaModel model : models) {
+            DynamoDbTableSchemas.register(model);
+        }
+    }
+
+    public void registerProjections(Map<String, List<String>> projections) {
+        projections.forEach(DynamoDbProjections::register);
+    }
+
     public void createTableSchema(List<Class<?>> tableSchemClasses) {
         for (Class<?> tableSchemaClass : tableSchemClasses) {
-            TableSchema.fromClass(tableSchemaClass);
+            DynamoDbTableSchemas.fromClass(tableSchemaClass);
         }
     }
 
@@ -0,0 +1,22 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface ItemCacheConfig {
+
+    /**
+     * The maximum number of items cached. The least recently read items are evicted first.
+     */
+    @WithDefault("10000")
+    int maxSize();
+
+    /**
+     * The time after which a cached item expires. It bounds how stale an item modified by another client can be.
+     */
+    @WithDefault("60s")
+    Duration ttl();
+}
@@ -9,8 +9,13 @@ import java.lang.annotation.Target;
 
 import jakarta.inject.Qualifier;
 
+import io.quarkiverse.amazon.common.runtime.ClientUtil;
+
 /**
  * Specification of DynamoDb table to be injected.
+ * <p>
+ * The table is bound to the enhanced client of the default DynamoDb client, unless a named client is specified. Both
+ * {@code DynamoDbTable} and {@code DynamoDbAsyncTable} can be injected, the latter using the async client.
  */
 @Target({ FIELD })
 @Retention(RUNTIME)
@@ -22,4 +27,10 @@ public @interface NamedDynamoDbTable {
      * @return name of the table to be injected
      */
     String value();
+
+    /**
+     * @return name of the DynamoDb client, as configured with {@code quarkus.dynamodb."client-name".*}, the table is bound
+     *         to
+     */
+    String clientName() default ClientUtil.DEFAULT_CLIENT_NAME;
 }
@@ -0,0 +1,22 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface ParallelScanConfig {
+
+    /**
+     * The number of segments scanned in parallel per available processor, when the scan does not set its total number of
+     * segments.
+     */
+    @WithDefault("2")
+    int segmentsPerProcessor();
+
+    /**
+     * The number of items requested from each segment at a time, at least 16. A segment fetches its next page once the
+     * items of its current page were consumed.
+     */
+    @WithDefault("256")
+    int prefetch();
+}
@@ -0,0 +1,196 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+/**
+ * A read-only {@link DynamoDbAsyncTable} of a {@link DynamoDbProjection}, reading only the attributes of the projection.
+ * <p>
+ * The writes are rejected with an {@link UnsupportedOperationException}, as they would replace the whole item with the
+ * projected attributes.
+ */
+public class ProjectingDynamoDbAsyncTable<T> implements DynamoDbAsyncTable<T> {
+
+    private final DynamoDbAsyncTable<T> delegate;
+    private final List<String> attributes;
+
+    public ProjectingDynamoDbAsyncTable(DynamoDbAsyncTable<T> delegate) {
+        this.delegate = delegate;
+        this.attributes = DynamoDbProjections.attributes(delegate.tableSchema());
+    }
+
+    @Override
+    public CompletableFuture<T> getItem(GetItemEnhancedRequest request) {
+        AtomicReference<T> item = new AtomicReference<>();
+        return delegate.query(DynamoDbProjections.project(request, attributes)).items().limit(1)
+                .subscribe(item::set)
+                .thenApply(ignored -> item.get());
+    }
+
+    @Override
+    public CompletableFuture<T> getItem(Consumer<GetItemEnhancedRequest.Builder> requestConsumer) {
+        GetItemEnhancedRequest.Builder builder = GetItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return getItem(builder.build());
+    }
+
+    @Override
+    public CompletableFuture<T> getItem(Key key) {
+        return getItem(r -> r.key(key));
+    }
+
+    @Override
+    public CompletableFuture<T> getItem(T keyItem) {
+        return getItem(keyFrom(keyItem));
+    }
+
+    @Override
+    public PagePublisher<T> query(QueryEnhancedRequest request) {
+        return delegate.query(DynamoDbProjections.project(request, attributes));
+    }
+
+    @Override
+    public PagePublisher<T> query(Consumer<QueryEnhancedRequest.Builder> requestConsumer) {
+        QueryEnhancedRequest.Builder builder = QueryEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return query(builder.build());
+    }
+
+    @Override
+    public PagePublisher<T> query(QueryConditional queryConditional) {
+        return query(r -> r.queryConditional(queryConditional));
+    }
+
+    @Override
+    public PagePublisher<T> scan(ScanEnhancedRequest request) {
+        return delegate.scan(DynamoDbProjections.project(request, attributes));
+    }
+
+    @Override
+    public PagePublisher<T> scan(Consumer<ScanEnhancedRequest.Builder> requestConsumer) {
+        ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return scan(builder.build());
+    }
+
+    @Override
+    public PagePublisher<T> scan() {
+        return scan(ScanEnhancedRequest.builder().build());
+    }
+
+    @Override
+    public DynamoDbAsyncIndex<T> index(String indexName) {
+        return new ProjectingIndex<>(delegate.index(indexName), attributes);
+    }
+
+    @Override
+    public CompletableFuture<DescribeTableEnhancedResponse> describeTable() {
+        return delegate.describeTable();
+    }
+
+    @Override
+    public DynamoDbEnhancedClientExtension mapperExtension() {
+        return delegate.mapperExtension();
+    }
+
+    @Override
+    public TableSchema<T> tableSchema() {
+        return delegate.tableSchema();
+    }
+
+    @Override
+    public String tableName() {
+        return delegate.tableName();
+    }
+
+    @Override
+    public Key keyFrom(T item) {
+        return delegate.keyFrom(item);
+    }
+
+    private static final class ProjectingIndex<T> implements DynamoDbAsyncIndex<T> {
+
+        private final DynamoDbAsyncIndex<T> delegate;
+        private final List<String> attributes;
+
+        private ProjectingIndex(DynamoDbAsyncIndex<T> delegate, List<String> attributes) {
+            this.delegate = delegate;
+            this.attributes = attributes;
+        }
+
+        @Override
+        public SdkPublisher<Page<T>> query(QueryEnhancedRequest request) {
+            return delegate.query(DynamoDbProjections.project(request, attributes));
+        }
+
+        @Override
+        public SdkPublisher<Page<T>> query(Consumer<QueryEnhancedRequest.Builder> requestConsumer) {
+            QueryEnhancedRequest.Builder builder = QueryEnhancedRequest.builder();
+            requestConsumer.accept(builder);
+            return query(builder.build());
+        }
+
+        @Override
+        public SdkPublisher<Page<T>> query(QueryConditional queryConditional) {
+            return query(r -> r.queryConditional(queryConditional));
+        }
+
+        @Override
+        public SdkPublisher<Page<T>> scan(ScanEnhancedRequest request) {
+            return delegate.scan(DynamoDbProjections.project(request, attributes));
+        }
+
+        @Override
+        public SdkPublisher<Page<T>> scan(Consumer<ScanEnhancedRequest.Builder> requestConsumer) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            requestConsumer.accept(builder);
+            return scan(builder.build());
+        }
+
+        @Override
+        public SdkPublisher<Page<T>> scan() {
+            return scan(ScanEnhancedRequest.builder().build());
+        }
+
+        @Override
+        public DynamoDbEnhancedClientExtension mapperExtension() {
+            return delegate.mapperExtension();
+        }
+
+        @Override
+        public TableSchema<T> tableSchema() {
+            return delegate.tableSchema();
+        }
+
+        @Override
+        public String tableName() {
+            return delegate.tableName();
+        }
+
+        @Override
+        public String indexName() {
+            return delegate.indexName();
+        }
+
+        @Override
+        public Key keyFrom(T item) {
+            return delegate.keyFrom(item);
+        }
+    }
+}
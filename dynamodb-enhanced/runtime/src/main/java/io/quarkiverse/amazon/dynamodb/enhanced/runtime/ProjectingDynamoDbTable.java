@@ -0,0 +1,191 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+/**
+ * A read-only {@link DynamoDbTable} of a {@link DynamoDbProjection}, reading only the attributes of the projection.
+ * <p>
+ * The writes are rejected with an {@link UnsupportedOperationException}, as they would replace the whole item with the
+ * projected attributes.
+ */
+public class ProjectingDynamoDbTable<T> implements DynamoDbTable<T> {
+
+    private final DynamoDbTable<T> delegate;
+    private final List<String> attributes;
+
+    public ProjectingDynamoDbTable(DynamoDbTable<T> delegate) {
+        this.delegate = delegate;
+        this.attributes = DynamoDbProjections.attributes(delegate.tableSchema());
+    }
+
+    @Override
+    public T getItem(GetItemEnhancedRequest request) {
+        return delegate.query(DynamoDbProjections.project(request, attributes)).items().stream().findFirst().orElse(null);
+    }
+
+    @Override
+    public T getItem(Consumer<GetItemEnhancedRequest.Builder> requestConsumer) {
+        GetItemEnhancedRequest.Builder builder = GetItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return getItem(builder.build());
+    }
+
+    @Override
+    public T getItem(Key key) {
+        return getItem(r -> r.key(key));
+    }
+
+    @Override
+    public T getItem(T keyItem) {
+        return getItem(keyFrom(keyItem));
+    }
+
+    @Override
+    public PageIterable<T> query(QueryEnhancedRequest request) {
+        return delegate.query(DynamoDbProjections.project(request, attributes));
+    }
+
+    @Override
+    public PageIterable<T> query(Consumer<QueryEnhancedRequest.Builder> requestConsumer) {
+        QueryEnhancedRequest.Builder builder = QueryEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return query(builder.build());
+    }
+
+    @Override
+    public PageIterable<T> query(QueryConditional queryConditional) {
+        return query(r -> r.queryConditional(queryConditional));
+    }
+
+    @Override
+    public PageIterable<T> scan(ScanEnhancedRequest request) {
+        return delegate.scan(DynamoDbProjections.project(request, attributes));
+    }
+
+    @Override
+    public PageIterable<T> scan(Consumer<ScanEnhancedRequest.Builder> requestConsumer) {
+        ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return scan(builder.build());
+    }
+
+    @Override
+    public PageIterable<T> scan() {
+        return scan(ScanEnhancedRequest.builder().build());
+    }
+
+    @Override
+    public DynamoDbIndex<T> index(String indexName) {
+        return new ProjectingIndex<>(delegate.index(indexName), attributes);
+    }
+
+    @Override
+    public DescribeTableEnhancedResponse describeTable() {
+        return delegate.describeTable();
+    }
+
+    @Override
+    public DynamoDbEnhancedClientExtension mapperExtension() {
+        return delegate.mapperExtension();
+    }
+
+    @Override
+    public TableSchema<T> tableSchema() {
+        return delegate.tableSchema();
+    }
+
+    @Override
+    public String tableName() {
+        return delegate.tableName();
+    }
+
+    @Override
+    public Key keyFrom(T item) {
+        return delegate.keyFrom(item);
+    }
+
+    private static final class ProjectingIndex<T> implements DynamoDbIndex<T> {
+
+        private final DynamoDbIndex<T> delegate;
+        private final List<String> attributes;
+
+        private ProjectingIndex(DynamoDbIndex<T> delegate, List<String> attributes) {
+            this.delegate = delegate;
+            this.attributes = attributes;
+        }
+
+        @Override
+        public SdkIterable<Page<T>> query(QueryEnhancedRequest request) {
+            return delegate.query(DynamoDbProjections.project(request, attributes));
+        }
+
+        @Override
+        public SdkIterable<Page<T>> query(Consumer<QueryEnhancedRequest.Builder> requestConsumer) {
+            QueryEnhancedRequest.Builder builder = QueryEnhancedRequest.builder();
+            requestConsumer.accept(builder);
+            return query(builder.build());
+        }
+
+        @Override
+        public SdkIterable<Page<T>> query(QueryConditional queryConditional) {
+            return query(r -> r.queryConditional(queryConditional));
+        }
+
+        @Override
+        public SdkIterable<Page<T>> scan(ScanEnhancedRequest request) {
+            return delegate.scan(DynamoDbProjections.project(request, attributes));
+        }
+
+        @Override
+        public SdkIterable<Page<T>> scan(Consumer<ScanEnhancedRequest.Builder> requestConsumer) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            requestConsumer.accept(builder);
+            return scan(builder.build());
+        }
+
+        @Override
+        public SdkIterable<Page<T>> scan() {
+            return scan(ScanEnhancedRequest.builder().build());
+        }
+
+        @Override
+        public DynamoDbEnhancedClientExtension mapperExtension() {
+            return delegate.mapperExtension();
+        }
+
+        @Override
+        public TableSchema<T> tableSchema() {
+            return delegate.tableSchema();
+        }
+
+        @Override
+        public String tableName() {
+            return delegate.tableName();
+        }
+
+        @Override
+        public String indexName() {
+            return delegate.indexName();
+        }
+
+        @Override
+        public Key keyFrom(T item) {
+            return delegate.keyFrom(item);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Stores the progress of the segments of a parallel scan, so that an interrupted scan can be resumed.
+ * <p>
+ * A scan must be resumed with the same request and the same total number of segments.
+ *
+ * @see DynamoDbParallelScanner
+ */
+public interface ScanCheckpoint {
+
+    /**
+     * @return the last key evaluated in the segment, an empty map if the segment was fully scanned, or {@code null} if
+     *         the scan of the segment did not start
+     */
+    Map<String, AttributeValue> load(int segment);
+
+    /**
+     * Saves the progress of a segment, once the last item of a page was handled downstream.
+     *
+     * @param lastEvaluatedKey the last key evaluated in the segment, or an empty map if the segment was fully scanned
+     */
+    void save(int segment, Map<String, AttributeValue> lastEvaluatedKey);
+
+    /**
+     * @return a checkpoint storing the progress of the segments in memory
+     */
+    static ScanCheckpoint inMemory() {
+        Map<Integer, Map<String, AttributeValue>> keys = new ConcurrentHashMap<>();
+        return new ScanCheckpoint() {
+            @Override
+            public Map<String, AttributeValue> load(int segment) {
+                return keys.get(segment);
+            }
+
+            @Override
+            public void save(int segment, Map<String, AttributeValue> lastEvaluatedKey) {
+                keys.put(segment, Map.copyOf(lastEvaluatedKey));
+            }
+        };
+    }
+}
@@ -0,0 +1,261 @@
+package io.quarkiverse.amazon.dynamodb.enhanced.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The mapping of a DynamoDb mappable entity, resolved at build time from its annotations.
+ * <p>
+ * It is recorded at build time and turned into a {@code StaticTableSchema} or a {@code StaticImmutableTableSchema} at
+ * runtime by {@link DynamoDbTableSchemas}, without introspecting the entity class. Members are identified by the keys of
+ * their {@link BeanAccessor}.
+ */
+public class TableSchemaModel {
+
+    private String className;
+    private String builderClassName;
+    private String newItemClassName;
+    private String newItemMember;
+    private String buildMember;
+    private List<String> converterProviders = new ArrayList<>();
+    private List<Attribute> attributes = new ArrayList<>();
+
+    /**
+     * @return the entity class
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    public void setClassName(String className) {
+        this.className = className;
+    }
+
+    /**
+     * @return the builder class of an immutable entity, {@code null} for a bean
+     */
+    public String getBuilderClassName() {
+        return builderClassName;
+    }
+
+    public void setBuilderClassName(String builderClassName) {
+        this.builderClassName = builderClassName;
+    }
+
+    /**
+     * @return the class declaring the member creating new items, or builders of new items
+     */
+    public String getNewItemClassName() {
+        return newItemClassName;
+    }
+
+    public void setNewItemClassName(String newItemClassName) {
+        this.newItemClassName = newItemClassName;
+    }
+
+    /**
+     * @return the no-args constructor or static factory method creating new items, or builders of new items
+     */
+    public String getNewItemMember() {
+        return newItemMember;
+    }
+
+    public void setNewItemMember(String newItemMember) {
+        this.newItemMember = newItemMember;
+    }
+
+    /**
+     * @return the build method of the builder of an immutable entity
+     */
+    public String getBuildMember() {
+        return buildMember;
+    }
+
+    public void setBuildMember(String buildMember) {
+        this.buildMember = buildMember;
+    }
+
+    public List<String> getConverterProviders() {
+        return converterProviders;
+    }
+
+    public void setConverterProviders(List<String> converterProviders) {
+        this.converterProviders = converterProviders;
+    }
+
+    public List<Attribute> getAttributes() {
+        return attributes;
+    }
+
+    public void setAttributes(List<Attribute> attributes) {
+        this.attributes = attributes;
+    }
+
+    public static class Attribute {
+
+        private String name;
+        private String getter;
+        private String setter;
+        private Type type;
+        private String converter;
+        private boolean flatten;
+        private boolean preserveEmptyObject;
+        private boolean ignoreNulls;
+        private List<Tag> tags = new ArrayList<>();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getGetter() {
+            return getter;
+        }
+
+        public void setGetter(String getter) {
+            this.getter = getter;
+        }
+
+        public String getSetter() {
+            return setter;
+        }
+
+        public void setSetter(String setter) {
+            this.setter = setter;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public void setType(Type type) {
+            this.type = type;
+        }
+
+        /**
+         * @return the class of the attribute converter, {@code null} to use the converter providers
+         */
+        public String getConverter() {
+            return converter;
+        }
+
+        public void setConverter(String converter) {
+            this.converter = converter;
+        }
+
+        /**
+         * @return whether the attributes of the property value are flattened in the item
+         */
+        public boolean isFlatten() {
+            return flatten;
+        }
+
+        public void setFlatten(boolean flatten) {
+            this.flatten = flatten;
+        }
+
+        public boolean isPreserveEmptyObject() {
+            return preserveEmptyObject;
+        }
+
+        public void setPreserveEmptyObject(boolean preserveEmptyObject) {
+            this.preserveEmptyObject = preserveEmptyObject;
+        }
+
+        public boolean isIgnoreNulls() {
+            return ignoreNulls;
+        }
+
+        public void setIgnoreNulls(boolean ignoreNulls) {
+            this.ignoreNulls = ignoreNulls;
+        }
+
+        public List<Tag> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<Tag> tags) {
+            this.tags = tags;
+        }
+    }
+
+    /**
+     * The generic type of a property.
+     */
+    public static class Type {
+
+        private String className;
+        private boolean document;
+        private List<Type> arguments = new ArrayList<>();
+
+        /**
+         * @return the erased class, primitive or array class name of the type
+         */
+        public String getClassName() {
+            return className;
+        }
+
+        public void setClassName(String className) {
+            this.className = className;
+        }
+
+        /**
+         * @return whether the type is a mappable entity, stored as a nested document
+         */
+        public boolean isDocument() {
+            return document;
+        }
+
+        public void setDocument(boolean document) {
+            this.document = document;
+        }
+
+        public List<Type> getArguments() {
+            return arguments;
+        }
+
+        public void setArguments(List<Type> arguments) {
+            this.arguments = arguments;
+        }
+    }
+
+    /**
+     * An attribute tag, derived from an annotation of the SDK.
+     */
+    public static class Tag {
+
+        private TagKind kind;
+        private List<String> values = new ArrayList<>();
+
+        public TagKind getKind() {
+            return kind;
+        }
+
+        public void setKind(TagKind kind) {
+            this.kind = kind;
+        }
+
+        public List<String> getValues() {
+            return values;
+        }
+
+        public void setValues(List<String> values) {
+            this.values = values;
+        }
+    }
+
+    public enum TagKind {
+        PARTITION_KEY,
+        SORT_KEY,
+        SECONDARY_PARTITION_KEY,
+        SECONDARY_SORT_KEY,
+        UPDATE_BEHAVIOR,
+        ATOMIC_COUNTER,
+        VERSION,
+        AUTO_GENERATED_TIMESTAMP,
+        AUTO_GENERATED_UUID
+    }
+}
@@ -19,9 +19,11 @@ import io.quarkiverse.amazon.common.deployment.spi.EventLoopGroupBuildItem;
 import io.quarkiverse.amazon.common.runtime.AmazonClientApacheTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientAwsCrtTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientCommonRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientJdkTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientNettyTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientOpenTelemetryRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientUrlConnectionTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientVertxTransportRecorder;
 import io.quarkiverse.amazon.dynamodb.runtime.DynamodbBuildTimeConfig;
 import io.quarkiverse.amazon.dynamodb.runtime.DynamodbRecorder;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
@@ -157,6 +159,20 @@ public class DynamodbProcessor extends AbstractAmazonServiceProcessor {
                 syncTransports);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupJdkSyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
+            DynamodbRecorder recorder,
+            AmazonClientJdkTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientSyncTransportBuildItem> syncTransports) {
+
+        createJdkSyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.syncClient(),
+                recorder.getSyncConfig(),
+                syncTransports);
+    }
+
     @BuildStep(onlyIf = AmazonHttpClients.IsAmazonNettyHttpServicePresent.class)
     @Record(ExecutionTime.RUNTIME_INIT)
     void setupNettyAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients, DynamodbRecorder recorder,
@@ -184,6 +200,19 @@ public class DynamodbProcessor extends AbstractAmazonServiceProcessor {
                 asyncTransports);
     }
 
+    @BuildStep(onlyIf = AmazonHttpClients.IsQuarkusVertxPresent.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupVertxAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients, DynamodbRecorder recorder,
+            AmazonClientVertxTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientAsyncTransportBuildItem> asyncTransports) {
+
+        createVertxAsyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.asyncClient(),
+                recorder.getAsyncConfig(),
+                asyncTransports);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void createClientBuilders(DynamodbRecorder recorder,
@@ -0,0 +1,46 @@
+package io.quarkiverse.amazon.dynamodb.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+
+public class DynamodbAsyncClientVertxTest {
+
+    private static final StubServer STUB = StubServer.start(DynamodbAsyncClientVertxTest.class)
+            .handle(DynamodbAsyncClientVertxTest::handle);
+
+    @Inject
+    DynamoDbAsyncClient client;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("async-vertx.properties", "application.properties"))
+            .overrideConfigKey("quarkus.dynamodb.endpoint-override", STUB.endpoint())
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() {
+        List<String> tableNames = client.listTables().join().tableNames();
+
+        assertEquals(List.of("DynamoDB_20120810.ListTables"), tableNames);
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        StubServer.body(exchange);
+        StubServer.respondJson(exchange, 200,
+                "{\"TableNames\":[\"" + exchange.getRequestHeaders().getFirst("X-Amz-Target") + "\"]}");
+    }
+}
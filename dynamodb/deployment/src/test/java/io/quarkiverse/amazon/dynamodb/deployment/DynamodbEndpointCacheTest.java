@@ -0,0 +1,66 @@
+package io.quarkiverse.amazon.dynamodb.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.AmazonClient;
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointProvider;
+
+public class DynamodbEndpointCacheTest {
+
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+    private static final StubServer STUB = StubServer.start(DynamodbEndpointCacheTest.class)
+            .handle(DynamodbEndpointCacheTest::handle);
+
+    @Inject
+    DynamoDbClient client;
+
+    @Inject
+    @AmazonClient("custom")
+    DynamoDbClient customClient;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("endpoint-cache.properties", "application.properties"))
+            .overrideConfigKey("quarkus.dynamodb.endpoint-override", STUB.endpoint())
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() {
+        client.listTables();
+        client.listTables();
+        customClient.listTables();
+
+        // every request reaches the endpoint override, cached or not
+        assertEquals(3, REQUESTS.get());
+
+        EndpointProvider defaultProvider = DynamoDbEndpointProvider.defaultProvider();
+        assertTrue(client.serviceClientConfiguration().endpointProvider().isPresent());
+        assertFalse(defaultProvider.getClass()
+                .equals(client.serviceClientConfiguration().endpointProvider().get().getClass()));
+        assertEquals(defaultProvider.getClass(),
+                customClient.serviceClientConfiguration().endpointProvider().get().getClass());
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        StubServer.body(exchange);
+        REQUESTS.incrementAndGet();
+        StubServer.respondJson(exchange, 200, "{\"TableNames\":[]}");
+    }
+}
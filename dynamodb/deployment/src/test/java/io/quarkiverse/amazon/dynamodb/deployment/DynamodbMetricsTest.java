@@ -0,0 +1,87 @@
+package io.quarkiverse.amazon.dynamodb.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkiverse.amazon.common.AmazonClient;
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+public class DynamodbMetricsTest {
+
+    private static final StubServer STUB = StubServer.start(DynamodbMetricsTest.class)
+            .handle(DynamodbMetricsTest::handle);
+
+    @Inject
+    DynamoDbClient client;
+
+    @Inject
+    @AmazonClient("custom")
+    DynamoDbClient customClient;
+
+    SimpleMeterRegistry registry;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("metrics.properties", "application.properties"))
+            .overrideConfigKey("quarkus.dynamodb.endpoint-override", STUB.endpoint())
+            .setAfterAllCustomizer(STUB::close);
+
+    @BeforeEach
+    public void addRegistry() {
+        registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    public void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    public void test() {
+        client.listTables();
+        customClient.listTables();
+
+        Timer apiCall = registry.find("aws.sdk.api.call")
+                .tags("service", "dynamodb", "client", "<default>", "operation", "ListTables", "successful", "true")
+                .timer();
+        assertNotNull(apiCall);
+        assertEquals(1, apiCall.count());
+        assertNotNull(registry.find("aws.sdk.api.call.attempt").tags("status", "200").timer());
+        assertNotNull(registry.find("aws.sdk.api.call.marshalling").timer());
+
+        assertNull(registry.find("aws.sdk.api.call").tags("client", "custom").timer());
+
+        Gauge maxConnections = registry.find("aws.sdk.http.pool.max")
+                .tags("service", "dynamodb", "client", "<default>", "http.client", "Apache")
+                .gauge();
+        assertNotNull(maxConnections);
+        assertEquals(5, maxConnections.value());
+        assertNotNull(registry.find("aws.sdk.http.pool.leased").gauge());
+        assertNotNull(registry.find("aws.sdk.http.pool.pending").gauge());
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        StubServer.body(exchange);
+        StubServer.respondJson(exchange, 200, "{\"TableNames\":[]}");
+    }
+}
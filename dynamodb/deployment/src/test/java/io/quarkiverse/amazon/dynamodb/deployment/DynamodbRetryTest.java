@@ -0,0 +1,56 @@
+package io.quarkiverse.amazon.dynamodb.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.AmazonClient;
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+
+public class DynamodbRetryTest {
+
+    private static final AtomicInteger ATTEMPTS = new AtomicInteger();
+    private static final StubServer STUB = StubServer.start(DynamodbRetryTest.class)
+            .handle(DynamodbRetryTest::handle);
+
+    @Inject
+    DynamoDbClient client;
+
+    @Inject
+    @AmazonClient("custom")
+    DynamoDbClient customClient;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("retry.properties", "application.properties"))
+            .overrideConfigKey("quarkus.dynamodb.endpoint-override", STUB.endpoint())
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() {
+        assertThrows(DynamoDbException.class, () -> client.listTables());
+        assertEquals(2, ATTEMPTS.getAndSet(0));
+
+        assertThrows(DynamoDbException.class, () -> customClient.listTables());
+        assertEquals(4, ATTEMPTS.get());
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        StubServer.body(exchange);
+        ATTEMPTS.incrementAndGet();
+        StubServer.respondJson(exchange, 500, "{\"__type\":\"com.amazonaws.dynamodb.v20120810#InternalServerError\"}");
+    }
+}
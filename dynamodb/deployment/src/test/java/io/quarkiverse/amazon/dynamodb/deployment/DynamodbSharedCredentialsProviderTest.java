@@ -0,0 +1,47 @@
+package io.quarkiverse.amazon.dynamodb.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.amazon.common.AmazonClient;
+import io.quarkiverse.amazon.common.runtime.AmazonCredentialsProviderRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+public class DynamodbSharedCredentialsProviderTest {
+
+    @Inject
+    DynamoDbClient client;
+
+    @Inject
+    @AmazonClient("same")
+    DynamoDbClient clientSame;
+
+    @Inject
+    @AmazonClient("other")
+    DynamoDbClient clientOther;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("shared-credentials.properties", "application.properties"));
+
+    @Test
+    public void test() {
+        assertEquals("test-key", credentials(client).resolveCredentials().accessKeyId());
+        assertEquals("test-key", credentials(clientSame).resolveCredentials().accessKeyId());
+        assertEquals("other-key", credentials(clientOther).resolveCredentials().accessKeyId());
+
+        // the default and "same" clients share the same provider
+        assertEquals(2, AmazonCredentialsProviderRegistry.size());
+    }
+
+    private static AwsCredentialsProvider credentials(DynamoDbClient client) {
+        return (AwsCredentialsProvider) client.serviceClientConfiguration().credentialsProvider();
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkiverse.amazon.dynamodb.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.amazon.common.AmazonClient;
+import io.quarkiverse.amazon.common.runtime.AmazonClientTransportRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+public class DynamodbSharedTransportTest {
+
+    @Inject
+    DynamoDbClient client;
+
+    @Inject
+    @AmazonClient("custom")
+    DynamoDbClient clientCustom;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("sync-urlconn-full-config.properties", "application.properties"));
+
+    @Test
+    public void test() {
+        assertNotNull(client.serviceClientConfiguration());
+        assertNotNull(clientCustom.serviceClientConfiguration());
+
+        // both clients use the same http client
+        assertEquals(1, AmazonClientTransportRegistry.size());
+    }
+}
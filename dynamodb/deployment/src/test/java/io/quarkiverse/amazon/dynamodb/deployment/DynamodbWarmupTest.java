@@ -0,0 +1,66 @@
+package io.quarkiverse.amazon.dynamodb.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.AmazonClient;
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.common.runtime.AmazonClientWarmup;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+public class DynamodbWarmupTest {
+
+    // the warmup requests are handled by either copy of the test class, which share their count through a property
+    private static final String REQUESTS_PROPERTY = "dynamodb.warmup.requests";
+    private static final StubServer STUB = StubServer.start(DynamodbWarmupTest.class)
+            .handle(DynamodbWarmupTest::handle);
+
+    @Inject
+    DynamoDbClient client;
+
+    @Inject
+    @AmazonClient("custom")
+    DynamoDbClient customClient;
+
+    @Inject
+    AmazonClientWarmup warmup;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("warmup.properties", "application.properties"))
+            .overrideConfigKey("quarkus.dynamodb.endpoint-override", STUB.endpoint())
+            .setAfterAllCustomizer(() -> {
+                STUB.close();
+                System.clearProperty(REQUESTS_PROPERTY);
+            });
+
+    @Test
+    public void test() throws InterruptedException {
+        for (int i = 0; i < 100 && !warmup.isDone(); i++) {
+            Thread.sleep(100);
+        }
+
+        assertTrue(warmup.isDone());
+        assertEquals("2", System.getProperty(REQUESTS_PROPERTY));
+        assertTrue(warmup.timings().containsKey("dynamodb:DynamoDbClient"));
+        assertEquals(1, warmup.timings().size());
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        System.getProperties().merge(REQUESTS_PROPERTY, "1",
+                (count, one) -> String.valueOf(Integer.parseInt((String) count) + 1));
+        StubServer.body(exchange);
+        StubServer.respondJson(exchange, 200, "{\"TableNames\":[]}");
+    }
+}
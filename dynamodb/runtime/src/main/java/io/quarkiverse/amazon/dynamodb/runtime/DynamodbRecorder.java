@@ -2,14 +2,19 @@ package io.quarkiverse.amazon.dynamodb.runtime;
 
 import io.quarkiverse.amazon.common.runtime.AmazonClientRecorder;
 import io.quarkiverse.amazon.common.runtime.AsyncHttpClientConfig;
+import io.quarkiverse.amazon.common.runtime.EndpointCache;
 import io.quarkiverse.amazon.common.runtime.HasAmazonClientRuntimeConfig;
 import io.quarkiverse.amazon.common.runtime.SyncHttpClientConfig;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.awscore.client.builder.AwsAsyncClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbBaseClientBuilder;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointParams;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointProvider;
 
 @Recorder
 public class DynamodbRecorder extends AmazonClientRecorder {
@@ -44,4 +49,14 @@ public class DynamodbRecorder extends AmazonClientRecorder {
     public AwsAsyncClientBuilder<?, ?> getAsyncClientBuilder() {
         return DynamoDbAsyncClient.builder();
     }
+
+    @Override
+    protected void setEndpointCache(AwsClientBuilder<?, ?> builder, int maxSize) {
+        EndpointCache<DynamoDbEndpointParams> cache = new EndpointCache<>(
+                DynamoDbEndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint(), p.accountId(),
+                        p.accountIdEndpointMode()),
+                maxSize);
+        ((DynamoDbBaseClientBuilder<?, ?>) builder).endpointProvider(cache::resolveEndpoint);
+    }
 }
@@ -2,14 +2,19 @@ package io.quarkiverse.amazon.inspector.runtime;
 
 import io.quarkiverse.amazon.common.runtime.AmazonClientRecorder;
 import io.quarkiverse.amazon.common.runtime.AsyncHttpClientConfig;
+import io.quarkiverse.amazon.common.runtime.EndpointCache;
 import io.quarkiverse.amazon.common.runtime.HasAmazonClientRuntimeConfig;
 import io.quarkiverse.amazon.common.runtime.SyncHttpClientConfig;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.awscore.client.builder.AwsAsyncClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.services.inspector.InspectorAsyncClient;
+import software.amazon.awssdk.services.inspector.InspectorBaseClientBuilder;
 import software.amazon.awssdk.services.inspector.InspectorClient;
+import software.amazon.awssdk.services.inspector.endpoints.InspectorEndpointParams;
+import software.amazon.awssdk.services.inspector.endpoints.InspectorEndpointProvider;
 
 @Recorder
 public class InspectorRecorder extends AmazonClientRecorder {
@@ -44,4 +49,13 @@ public class InspectorRecorder extends AmazonClientRecorder {
     public AwsAsyncClientBuilder<?, ?> getAsyncClientBuilder() {
         return InspectorAsyncClient.builder();
     }
+
+    @Override
+    protected void setEndpointCache(AwsClientBuilder<?, ?> builder, int maxSize) {
+        EndpointCache<InspectorEndpointParams> cache = new EndpointCache<>(
+                InspectorEndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint()),
+                maxSize);
+        ((InspectorBaseClientBuilder<?, ?>) builder).endpointProvider(cache::resolveEndpoint);
+    }
 }
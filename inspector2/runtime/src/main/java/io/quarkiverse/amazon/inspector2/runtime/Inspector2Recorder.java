@@ -2,14 +2,19 @@ package io.quarkiverse.amazon.inspector2.runtime;
 
 import io.quarkiverse.amazon.common.runtime.AmazonClientRecorder;
 import io.quarkiverse.amazon.common.runtime.AsyncHttpClientConfig;
+import io.quarkiverse.amazon.common.runtime.EndpointCache;
 import io.quarkiverse.amazon.common.runtime.HasAmazonClientRuntimeConfig;
 import io.quarkiverse.amazon.common.runtime.SyncHttpClientConfig;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.awscore.client.builder.AwsAsyncClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.services.inspector2.Inspector2AsyncClient;
+import software.amazon.awssdk.services.inspector2.Inspector2BaseClientBuilder;
 import software.amazon.awssdk.services.inspector2.Inspector2Client;
+import software.amazon.awssdk.services.inspector2.endpoints.Inspector2EndpointParams;
+import software.amazon.awssdk.services.inspector2.endpoints.Inspector2EndpointProvider;
 
 @Recorder
 public class Inspector2Recorder extends AmazonClientRecorder {
@@ -44,4 +49,13 @@ public class Inspector2Recorder extends AmazonClientRecorder {
     public AwsAsyncClientBuilder<?, ?> getAsyncClientBuilder() {
         return Inspector2AsyncClient.builder();
     }
+
+    @Override
+    protected void setEndpointCache(AwsClientBuilder<?, ?> builder, int maxSize) {
+        EndpointCache<Inspector2EndpointParams> cache = new EndpointCache<>(
+                Inspector2EndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint()),
+                maxSize);
+        ((Inspector2BaseClientBuilder<?, ?>) builder).endpointProvider(cache::resolveEndpoint);
+    }
 }
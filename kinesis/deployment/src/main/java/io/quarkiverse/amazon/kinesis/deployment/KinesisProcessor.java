@@ -1,7 +1,14 @@
 package io.quarkiverse.amazon.kinesis.deployment;
 
+import static io.quarkiverse.amazon.common.deployment.ClientDeploymentUtil.getNamedClientInjection;
+import static io.quarkiverse.amazon.common.deployment.ClientDeploymentUtil.injectionPointAnnotationsClient;
+import static io.quarkiverse.amazon.common.deployment.ClientDeploymentUtil.namedClient;
+
 import java.util.List;
 
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.jboss.jandex.ClassType;
 import org.jboss.jandex.DotName;
 
 import io.quarkiverse.amazon.common.deployment.AbstractAmazonServiceProcessor;
@@ -19,13 +26,19 @@ import io.quarkiverse.amazon.common.deployment.spi.EventLoopGroupBuildItem;
 import io.quarkiverse.amazon.common.runtime.AmazonClientApacheTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientAwsCrtTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientCommonRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientJdkTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientNettyTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientOpenTelemetryRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientUrlConnectionTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientVertxTransportRecorder;
 import io.quarkiverse.amazon.kinesis.runtime.KinesisBuildTimeConfig;
+import io.quarkiverse.amazon.kinesis.runtime.KinesisProducer;
+import io.quarkiverse.amazon.kinesis.runtime.KinesisProducerRecorder;
 import io.quarkiverse.amazon.kinesis.runtime.KinesisRecorder;
+import io.quarkus.arc.BeanDestroyer;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -42,6 +55,7 @@ import software.amazon.awssdk.services.kinesis.KinesisClientBuilder;
 public class KinesisProcessor extends AbstractAmazonServiceProcessor {
 
     private static final String AMAZON_CLIENT_NAME = "amazon-kinesis";
+    private static final DotName KINESIS_PRODUCER = DotName.createSimple(KinesisProducer.class.getName());
 
     KinesisBuildTimeConfig buildTimeConfig;
 
@@ -84,6 +98,14 @@ public class KinesisProcessor extends AbstractAmazonServiceProcessor {
             BuildProducer<RequireAmazonClientInjectionBuildItem> requireClientInjectionProducer) {
 
         discoverClientInjectionPointsInternal(beanRegistrationPhase, requireClientInjectionProducer);
+
+        for (InjectionPointInfo injectionPoint : beanRegistrationPhase.getInjectionPoints()) {
+            // the producers are built on top of the async clients
+            if (KINESIS_PRODUCER.equals(injectionPoint.getRequiredType().name())) {
+                requireClientInjectionProducer.produce(new RequireAmazonClientInjectionBuildItem(asyncClientName(),
+                        getNamedClientInjection(injectionPoint)));
+            }
+        }
     }
 
     @BuildStep
@@ -148,6 +170,20 @@ public class KinesisProcessor extends AbstractAmazonServiceProcessor {
                 syncTransports);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupJdkSyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients,
+            KinesisRecorder recorder,
+            AmazonClientJdkTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientSyncTransportBuildItem> syncTransports) {
+
+        createJdkSyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.syncClient(),
+                recorder.getSyncConfig(),
+                syncTransports);
+    }
+
     @BuildStep(onlyIf = AmazonHttpClients.IsAmazonNettyHttpServicePresent.class)
     @Record(ExecutionTime.RUNTIME_INIT)
     void setupNettyAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients, KinesisRecorder recorder,
@@ -175,6 +211,19 @@ public class KinesisProcessor extends AbstractAmazonServiceProcessor {
                 asyncTransports);
     }
 
+    @BuildStep(onlyIf = AmazonHttpClients.IsQuarkusVertxPresent.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupVertxAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients, KinesisRecorder recorder,
+            AmazonClientVertxTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientAsyncTransportBuildItem> asyncTransports) {
+
+        createVertxAsyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.asyncClient(),
+                recorder.getAsyncConfig(),
+                asyncTransports);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void createClientBuilders(KinesisRecorder recorder,
@@ -208,4 +257,27 @@ public class KinesisProcessor extends AbstractAmazonServiceProcessor {
                 launchModeBuildItem,
                 executorBuildItem);
     }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void createProducers(KinesisProducerRecorder recorder,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBean,
+            List<AmazonClientAsyncResultBuildItem> asyncBuilder) {
+
+        // producers are only created for the async clients, they are removed if they are not injected
+        for (AmazonClientAsyncResultBuildItem amazonClientAsyncResultBuildItem : asyncBuilder) {
+            if (!configName().equals(amazonClientAsyncResultBuildItem.getAwsClientName())) {
+                continue;
+            }
+            syntheticBean.produce(namedClient(SyntheticBeanBuildItem
+                    .configure(KinesisProducer.class), amazonClientAsyncResultBuildItem.getClientName())
+                    .scope(ApplicationScoped.class)
+                    .setRuntimeInit()
+                    .createWith(recorder.createKinesisProducer(amazonClientAsyncResultBuildItem.getClientName()))
+                    .destroyer(BeanDestroyer.AutoCloseableDestroyer.class)
+                    .addInjectionPoint(ClassType.create(KinesisAsyncClient.class),
+                            injectionPointAnnotationsClient(amazonClientAsyncResultBuildItem.getClientName()))
+                    .done());
+        }
+    }
 }
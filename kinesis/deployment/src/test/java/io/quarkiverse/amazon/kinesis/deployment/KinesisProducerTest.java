@@ -0,0 +1,252 @@
+package io.quarkiverse.amazon.kinesis.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.kinesis.runtime.KinesisProducer;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.utils.Md5Utils;
+
+public class KinesisProducerTest {
+
+    static {
+        // the stub speaks JSON rather than CBOR
+        System.setProperty("aws.cborEnabled", "false");
+    }
+
+    private static final StubServer STUB = StubServer.start(KinesisProducerTest.class)
+            .handle(KinesisProducerTest::handle);
+    private static final String STREAM = "stream";
+    private static final BigInteger MAX_HASH_KEY = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+    private static final BigInteger SPLIT_HASH_KEY = BigInteger.ONE.shiftLeft(127);
+    private static final byte[] MAGIC = { (byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2 };
+
+    // the Kinesis records of each PutRecords request
+    private static final List<List<Entry>> REQUESTS = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger LIST_SHARDS = new AtomicInteger();
+    private static final AtomicBoolean THROTTLED = new AtomicBoolean();
+
+    @Inject
+    KinesisProducer producer;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.kinesis.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.kinesis.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.kinesis.async-client.type", "netty")
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() throws Exception {
+
+        // the records put to the same shard are aggregated
+        List<CompletableFuture<PutRecordResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String key = "key-" + i;
+            responses.add(producer.putRecord(r -> r.streamName(STREAM).partitionKey(key)
+                    .data(SdkBytes.fromUtf8String("record-" + key))));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(shardOf(hashKey("key-" + i)), responses.get(i).get(10, TimeUnit.SECONDS).shardId());
+        }
+        assertEquals(1, LIST_SHARDS.get());
+        assertEquals(1, REQUESTS.size());
+        assertEquals(2, REQUESTS.get(0).size());
+        List<String> keys = new ArrayList<>();
+        for (Entry entry : REQUESTS.get(0)) {
+            for (String[] record : deaggregate(entry.data)) {
+                assertEquals(entry.shardId, shardOf(hashKey(record[0])));
+                assertEquals("record-" + record[0], record[1]);
+                keys.add(record[0]);
+            }
+        }
+        assertEquals(100, keys.size());
+        assertEquals(50.0, producer.aggregationRatio(), 0.001);
+
+        // the explicit hash keys select the shards
+        REQUESTS.clear();
+        CompletableFuture<PutRecordResponse> first = producer.putRecord(r -> r.streamName(STREAM)
+                .partitionKey("same").explicitHashKey("0").data(SdkBytes.fromUtf8String("first")));
+        CompletableFuture<PutRecordResponse> last = producer.putRecord(r -> r.streamName(STREAM)
+                .partitionKey("same").explicitHashKey(MAX_HASH_KEY.toString()).data(SdkBytes.fromUtf8String("last")));
+        assertEquals("shardId-000000000000", first.get(10, TimeUnit.SECONDS).shardId());
+        assertEquals("shardId-000000000001", last.get(10, TimeUnit.SECONDS).shardId());
+        assertEquals(1, REQUESTS.size());
+        assertEquals(List.of("first", "last"), REQUESTS.get(0).stream()
+                .map(entry -> new String(entry.data, StandardCharsets.UTF_8)).sorted().toList());
+
+        // only the failed entries are sent again
+        REQUESTS.clear();
+        CompletableFuture<PutRecordResponse> throttled = producer.putRecord(r -> r.streamName(STREAM)
+                .partitionKey("throttled").data(SdkBytes.fromUtf8String("throttled")));
+        assertEquals(shardOf(hashKey("throttled")), throttled.get(10, TimeUnit.SECONDS).shardId());
+        assertEquals(2, REQUESTS.size());
+        assertEquals(1, producer.retriedKinesisRecords());
+
+        // the records exceeding the throughput of their shard are held back
+        REQUESTS.clear();
+        byte[] large = new byte[600 * 1024];
+        List<CompletableFuture<PutRecordResponse>> largeResponses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            largeResponses.add(producer.putRecord(r -> r.streamName(STREAM).partitionKey("large")
+                    .data(SdkBytes.fromByteArray(large))));
+        }
+        CompletableFuture.allOf(largeResponses.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(2, 1), REQUESTS.stream().map(List::size).toList());
+        assertTrue(producer.rateLimitedRecords() > 0);
+
+        assertEquals(106, producer.publishedUserRecords());
+        assertEquals(0, producer.failedUserRecords());
+        assertEquals(6, producer.putRecordsRequests());
+        assertEquals(0, producer.pendingUserRecords());
+    }
+
+    private static BigInteger hashKey(String partitionKey) {
+        return new BigInteger(1, Md5Utils.computeMD5Hash(partitionKey.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String shardOf(BigInteger hashKey) {
+        return hashKey.compareTo(SPLIT_HASH_KEY) < 0 ? "shardId-000000000000" : "shardId-000000000001";
+    }
+
+    // decodes an aggregated record into the partition key and the data of its user records
+    private static List<String[]> deaggregate(byte[] aggregated) {
+        assertArrayEquals(MAGIC, Arrays.copyOfRange(aggregated, 0, MAGIC.length));
+        byte[] message = Arrays.copyOfRange(aggregated, MAGIC.length, aggregated.length - 16);
+        assertArrayEquals(Md5Utils.computeMD5Hash(message),
+                Arrays.copyOfRange(aggregated, aggregated.length - 16, aggregated.length));
+        List<String> partitionKeys = new ArrayList<>();
+        List<String[]> records = new ArrayList<>();
+        int[] position = { 0 };
+        while (position[0] < message.length) {
+            int tag = (int) readVarint(message, position);
+            byte[] field = readBytes(message, position);
+            if (tag >>> 3 == 1) {
+                partitionKeys.add(new String(field, StandardCharsets.UTF_8));
+            } else if (tag >>> 3 == 3) {
+                int[] recordPosition = { 0 };
+                int partitionKeyIndex = -1;
+                byte[] data = null;
+                while (recordPosition[0] < field.length) {
+                    int recordTag = (int) readVarint(field, recordPosition);
+                    if (recordTag >>> 3 == 1) {
+                        partitionKeyIndex = (int) readVarint(field, recordPosition);
+                    } else if (recordTag >>> 3 == 3) {
+                        data = readBytes(field, recordPosition);
+                    }
+                }
+                records.add(new String[] { String.valueOf(partitionKeyIndex), new String(data, StandardCharsets.UTF_8) });
+            }
+        }
+        for (String[] record : records) {
+            record[0] = partitionKeys.get(Integer.parseInt(record[0]));
+        }
+        return records;
+    }
+
+    private static long readVarint(byte[] bytes, int[] position) {
+        long value = 0;
+        for (int shift = 0;; shift += 7) {
+            byte b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static byte[] readBytes(byte[] bytes, int[] position) {
+        int length = (int) readVarint(bytes, position);
+        byte[] value = Arrays.copyOfRange(bytes, position[0], position[0] + length);
+        position[0] += length;
+        return value;
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        JsonNode body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = JsonNode.parser().parse(in);
+        }
+        String response = "ListShards".equals(StubServer.operation(exchange)) ? listShards() : putRecords(body);
+        StubServer.respond(exchange, 200, "application/x-amz-json-1.1", response);
+    }
+
+    private static String listShards() {
+        LIST_SHARDS.incrementAndGet();
+        return "{\"Shards\":["
+                + shard("shardId-000000000000", BigInteger.ZERO, SPLIT_HASH_KEY.subtract(BigInteger.ONE)) + ","
+                + shard("shardId-000000000001", SPLIT_HASH_KEY, MAX_HASH_KEY) + "]}";
+    }
+
+    private static String shard(String shardId, BigInteger startingHashKey, BigInteger endingHashKey) {
+        return "{\"ShardId\":\"" + shardId + "\",\"HashKeyRange\":{\"StartingHashKey\":\"" + startingHashKey
+                + "\",\"EndingHashKey\":\"" + endingHashKey + "\"},"
+                + "\"SequenceNumberRange\":{\"StartingSequenceNumber\":\"0\"}}";
+    }
+
+    private static String putRecords(JsonNode body) {
+        List<Entry> entries = new ArrayList<>();
+        StringBuilder results = new StringBuilder();
+        int failed = 0;
+        for (JsonNode record : body.field("Records").get().asArray()) {
+            String partitionKey = record.field("PartitionKey").get().asString();
+            BigInteger hashKey = record.field("ExplicitHashKey").map(key -> new BigInteger(key.asString()))
+                    .orElseGet(() -> hashKey(partitionKey));
+            Entry entry = new Entry(Base64.getDecoder().decode(record.field("Data").get().asString()),
+                    shardOf(hashKey));
+            entries.add(entry);
+            if (results.length() > 0) {
+                results.append(',');
+            }
+            if ("throttled".equals(partitionKey) && THROTTLED.compareAndSet(false, true)) {
+                failed++;
+                results.append("{\"ErrorCode\":\"ProvisionedThroughputExceededException\",")
+                        .append("\"ErrorMessage\":\"Rate exceeded for shard\"}");
+            } else {
+                results.append("{\"SequenceNumber\":\"").append(entries.size()).append("\",\"ShardId\":\"")
+                        .append(entry.shardId).append("\"}");
+            }
+        }
+        REQUESTS.add(entries);
+        return "{\"FailedRecordCount\":" + failed + ",\"Records\":[" + results + "],\"EncryptionType\":\"NONE\"}";
+    }
+
+    private static final class Entry {
+
+        private final byte[] data;
+        private final String shardId;
+
+        private Entry(byte[] data, String shardId) {
+            this.data = data;
+            this.shardId = shardId;
+        }
+    }
+}
@@ -22,4 +22,10 @@ public interface KinesisConfig extends HasAmazonClientRuntimeConfig {
      */
     @ConfigDocSection
     AsyncHttpClientConfig asyncClient();
+
+    /**
+     * Configuration of the `KinesisProducer` beans
+     */
+    @ConfigDocSection
+    ProducerConfig producer();
 }
@@ -0,0 +1,675 @@
+package io.quarkiverse.amazon.kinesis.runtime;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import io.quarkiverse.amazon.common.runtime.Batcher;
+import io.quarkiverse.amazon.common.runtime.ComponentMeters;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.EncryptionType;
+import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.services.kinesis.model.ListShardsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+import software.amazon.awssdk.services.kinesis.model.Shard;
+import software.amazon.awssdk.utils.Md5Utils;
+
+/**
+ * Puts user records to Kinesis streams within {@code PutRecords} requests sent through the {@link KinesisAsyncClient},
+ * without the native daemon of the Kinesis Producer Library.
+ * <p>
+ * The shards of each stream are listed to predict the shard of each user record from its explicit hash key, or from
+ * the MD5 digest of its partition key. The user records predicted to the same shard are aggregated into Kinesis records
+ * in the format of the Kinesis Producer Library, which the Kinesis Client Library deaggregates. An aggregated record
+ * has the partition key of its first user record, and its hash key as explicit hash key. Until the shards of a stream
+ * are first listed, its user records are buffered, and they are sent unaggregated if the shards cannot be listed. The
+ * shards are listed again when a record is put to another shard than the predicted one.
+ * <p>
+ * A request is sent as soon as enough Kinesis records are buffered to fill it, 500 records or 5 MB, or once the oldest
+ * buffered record waited for the flush interval. The records put to each shard are limited to its throughput, and
+ * requests are sent concurrently, up to a configured limit. The future returned for each user record completes with
+ * the response the single {@code PutRecord} request would have returned, the user records of an aggregated record
+ * sharing its sequence number, or fails with a {@link KinesisException} if its entry failed.
+ * <p>
+ * The Kinesis records whose entry failed are sent again in a later request, after an exponential backoff with full
+ * jitter and up to the configured number of retries, while the rest of their request is not. The later records of the
+ * shard of a retried record are held back until it is sent again, but a retried record may still be put after records
+ * of its shard which were in flight. The sequence number for ordering and the override configuration of the requests
+ * are not applied.
+ * <p>
+ * When Micrometer is available, the counters and gauges of the producer, of its Kinesis records as well as of its user
+ * records, are registered as {@code aws.kinesis.producer.*} meters tagged with the client.
+ */
+public class KinesisProducer implements AutoCloseable {
+
+    private static final Log LOG = LogFactory.getLog(KinesisProducer.class);
+
+    static final int MAX_RECORDS_PER_REQUEST = 500;
+    static final long MAX_REQUEST_BYTES = 5L * 1024 * 1024;
+    static final int MAX_RECORD_BYTES = 1024 * 1024;
+    static final int SHARD_RECORDS_PER_SECOND = 1000;
+    static final int SHARD_BYTES_PER_SECOND = 1024 * 1024;
+
+    private static final long RATE_LIMIT_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long SHARD_REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long SHARD_LISTING_RETRY_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final String THROUGHPUT_EXCEEDED = "ProvisionedThroughputExceededException";
+
+    private final KinesisAsyncClient client;
+    private final boolean aggregationEnabled;
+    private final int aggregationMaxSize;
+    private final int maxPendingRecords;
+    private final double rateLimit;
+    private final RecordBatcher batcher;
+
+    // guarded by the batcher
+    private final Map<String, Stream> streams = new LinkedHashMap<>();
+
+    private final Set<UserRecord> pending = ConcurrentHashMap.newKeySet();
+    private final LongAdder sentUserRecords = new LongAdder();
+    private final LongAdder publishedUserRecords = new LongAdder();
+    private final LongAdder failedUserRecords = new LongAdder();
+    private final LongAdder rateLimitedRecords = new LongAdder();
+    private ComponentMeters<KinesisProducer> meters = ComponentMeters.none();
+
+    public KinesisProducer(KinesisAsyncClient client, ProducerConfig config) {
+        this(client, config.aggregationEnabled(), config.aggregationMaxSize(), config.maxRecordsPerRequest(),
+                config.flushInterval(), config.maxInFlightRequests(), config.maxPendingRecords(), config.maxRetries(),
+                config.baseBackoff(), config.maxBackoff(), config.rateLimit());
+    }
+
+    public KinesisProducer(KinesisAsyncClient client, boolean aggregationEnabled, int aggregationMaxSize,
+            int maxRecordsPerRequest, Duration flushInterval, int maxInFlightRequests, int maxPendingRecords,
+            int maxRetries, Duration baseBackoff, Duration maxBackoff, int rateLimit) {
+        if (aggregationMaxSize < 1 || aggregationMaxSize > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("The aggregation size must be between 1 and " + MAX_RECORD_BYTES);
+        }
+        if (maxRecordsPerRequest < 1 || maxRecordsPerRequest > MAX_RECORDS_PER_REQUEST) {
+            throw new IllegalArgumentException(
+                    "The number of records per request must be between 1 and " + MAX_RECORDS_PER_REQUEST);
+        }
+        if (maxInFlightRequests < 1 || maxPendingRecords < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum number of requests in flight and of pending records must be positive");
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("The number of retries must not be negative");
+        }
+        if (rateLimit < 1) {
+            throw new IllegalArgumentException("The rate limit must be positive");
+        }
+        this.client = client;
+        this.aggregationEnabled = aggregationEnabled;
+        this.aggregationMaxSize = aggregationMaxSize;
+        this.maxPendingRecords = maxPendingRecords;
+        this.rateLimit = rateLimit / 100.0;
+        this.batcher = new RecordBatcher(maxRecordsPerRequest, flushInterval, maxInFlightRequests, maxRetries,
+                baseBackoff, maxBackoff);
+    }
+
+    /**
+     * Puts a user record to a stream within a {@code PutRecords} request.
+     *
+     * @return a future completed once the record is put
+     */
+    public CompletableFuture<PutRecordResponse> putRecord(PutRecordRequest request) {
+        String streamKey = request.streamARN() != null ? request.streamARN() : request.streamName();
+        if (streamKey == null || request.partitionKey() == null || request.data() == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("The stream, the partition key and the data of the record are required"));
+        }
+        UserRecord record;
+        try {
+            record = new UserRecord(request);
+        } catch (NumberFormatException e) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("The explicit hash key must be a decimal number", e));
+        }
+        if (record.size > MAX_RECORD_BYTES) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "The data and the partition key of the record must not exceed " + MAX_RECORD_BYTES + " bytes"));
+        }
+        synchronized (batcher) {
+            if (batcher.isClosed()) {
+                return CompletableFuture.failedFuture(new IllegalStateException("The Kinesis producer is closed"));
+            }
+            if (pending.size() >= maxPendingRecords) {
+                return CompletableFuture.failedFuture(new RejectedExecutionException(
+                        "The Kinesis producer has " + maxPendingRecords + " pending records"));
+            }
+            pending.add(record);
+            Stream stream = streams.computeIfAbsent(streamKey, key -> new Stream(request));
+            if (stream.shards == null && !stream.listing && System.nanoTime() - stream.nextListing >= 0) {
+                listShards(stream);
+            }
+            if (stream.shards == null && stream.listing) {
+                stream.unassigned.addLast(record);
+            } else {
+                assign(stream, record);
+            }
+            batcher.drain(stream.key);
+        }
+        return record.future;
+    }
+
+    /**
+     * Puts a user record to a stream within a {@code PutRecords} request.
+     *
+     * @return a future completed once the record is put
+     */
+    public CompletableFuture<PutRecordResponse> putRecord(Consumer<PutRecordRequest.Builder> request) {
+        return putRecord(PutRecordRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Sends the buffered records without waiting for the flush interval.
+     *
+     * @return a future completed once the records submitted before the flush are processed, or failed if one of them
+     *         failed
+     */
+    public CompletableFuture<Void> flush() {
+        return batcher.flush();
+    }
+
+    void registerMeters(String clientName) {
+        batcher.registerMeters("aws.kinesis.producer", "client", clientName);
+        meters = ComponentMeters.of(this, "aws.kinesis.producer", "client", clientName)
+                .counter("user.records.sent", "Number of user records sent within Kinesis records, including the retried ones",
+                        producer -> producer.sentUserRecords.sum())
+                .counter("user.records.published", "Number of user records put", KinesisProducer::publishedUserRecords)
+                .counter("user.records.failed", "Number of user records that failed", KinesisProducer::failedUserRecords)
+                .counter("rate.limited", "Number of times a Kinesis record was held back by the rate limit of its shard",
+                        KinesisProducer::rateLimitedRecords)
+                .gauge("user.records.pending", "Number of user records buffered or in flight",
+                        KinesisProducer::pendingUserRecords)
+                .gauge("aggregation.ratio", "Average number of user records per Kinesis record sent",
+                        KinesisProducer::aggregationRatio);
+    }
+
+    /**
+     * @return the number of {@code PutRecords} requests sent
+     */
+    public long putRecordsRequests() {
+        return batcher.sentBatches();
+    }
+
+    /**
+     * @return the number of Kinesis records sent within {@code PutRecords} requests, including the retried ones
+     */
+    public long sentKinesisRecords() {
+        return batcher.batchedEntries();
+    }
+
+    /**
+     * @return the number of user records put
+     */
+    public long publishedUserRecords() {
+        return publishedUserRecords.sum();
+    }
+
+    /**
+     * @return the number of user records that failed, either because their request failed or because the entry of
+     *         their Kinesis record failed and was not retried
+     */
+    public long failedUserRecords() {
+        return failedUserRecords.sum();
+    }
+
+    /**
+     * @return the number of times a Kinesis record was sent again after its entry failed
+     */
+    public long retriedKinesisRecords() {
+        return batcher.retriedEntries();
+    }
+
+    /**
+     * @return the average number of user records per Kinesis record sent
+     */
+    public double aggregationRatio() {
+        long records = batcher.batchedEntries();
+        return records == 0 ? 0 : (double) sentUserRecords.sum() / records;
+    }
+
+    /**
+     * @return the average number of Kinesis records per {@code PutRecords} request
+     */
+    public double averageRecordsPerRequest() {
+        long requests = batcher.sentBatches();
+        return requests == 0 ? 0 : (double) batcher.batchedEntries() / requests;
+    }
+
+    /**
+     * @return the number of times a Kinesis record was held back because its shard reached the rate limit
+     */
+    public long rateLimitedRecords() {
+        return rateLimitedRecords.sum();
+    }
+
+    /**
+     * @return the number of user records buffered or in flight
+     */
+    public int pendingUserRecords() {
+        return pending.size();
+    }
+
+    /**
+     * @return the number of {@code PutRecords} requests in flight
+     */
+    public int inFlightRequests() {
+        return batcher.inFlightBatches();
+    }
+
+    /**
+     * Flushes the buffered records, waits for the pending ones and rejects any further record.
+     */
+    @Override
+    public void close() {
+        batcher.close();
+        meters.close();
+    }
+
+    // guarded by the batcher
+    private void assign(Stream stream, UserRecord record) {
+        Map.Entry<BigInteger, ShardRange> shard = stream.shards == null ? null : stream.shards.floorEntry(record.hashKey);
+        String shardId = shard != null && record.hashKey.compareTo(shard.getValue().endingHashKey) <= 0
+                ? shard.getValue().shardId
+                : null;
+        if (shardId == null || !aggregationEnabled) {
+            buffer(stream, KinesisRecord.plain(record, shardId));
+            return;
+        }
+        Aggregation aggregation = stream.aggregations.get(shardId);
+        if (aggregation != null && aggregation.sizeWith(record) > aggregationMaxSize) {
+            seal(stream, aggregation);
+            aggregation = null;
+        }
+        if (aggregation == null) {
+            aggregation = new Aggregation(shardId);
+            if (aggregation.sizeWith(record) > aggregationMaxSize) {
+                buffer(stream, KinesisRecord.plain(record, shardId));
+                return;
+            }
+            stream.aggregations.put(shardId, aggregation);
+        }
+        aggregation.add(record);
+    }
+
+    // guarded by the batcher
+    private void seal(Stream stream, Aggregation aggregation) {
+        stream.aggregations.remove(aggregation.shardId);
+        buffer(stream, aggregation.records.size() == 1
+                ? KinesisRecord.plain(aggregation.records.get(0), aggregation.shardId)
+                : KinesisRecord.aggregated(aggregation));
+    }
+
+    // guarded by the batcher
+    private void buffer(Stream stream, KinesisRecord record) {
+        record.future().whenComplete((result, error) -> {
+            if (error == null) {
+                PutRecordResponse response = PutRecordResponse.builder()
+                        .shardId(result.shardId())
+                        .sequenceNumber(result.sequenceNumber())
+                        .encryptionType(record.encryptionType)
+                        .build();
+                for (UserRecord userRecord : record.userRecords) {
+                    pending.remove(userRecord);
+                    publishedUserRecords.increment();
+                    userRecord.future.complete(response);
+                }
+            } else {
+                for (UserRecord userRecord : record.userRecords) {
+                    pending.remove(userRecord);
+                    failedUserRecords.increment();
+                    userRecord.future.completeExceptionally(error);
+                }
+            }
+        });
+        batcher.enqueue(stream.key, record);
+    }
+
+    private CompletableFuture<Void> putRecords(Stream stream, List<KinesisRecord> batch) {
+        List<PutRecordsRequestEntry> entries = new ArrayList<>(batch.size());
+        for (KinesisRecord record : batch) {
+            sentUserRecords.add(record.userRecords.size());
+            entries.add(PutRecordsRequestEntry.builder()
+                    .partitionKey(record.partitionKey)
+                    .explicitHashKey(record.explicitHashKey)
+                    .data(record.data)
+                    .build());
+        }
+        return client
+                .putRecords(PutRecordsRequest.builder().streamName(stream.streamName).streamARN(stream.streamArn)
+                        .records(entries).build())
+                .thenAccept(response -> {
+                    for (int i = 0; i < batch.size() && i < response.records().size(); i++) {
+                        KinesisRecord record = batch.get(i);
+                        PutRecordsResultEntry result = response.records().get(i);
+                        if (result.errorCode() == null) {
+                            record.encryptionType = response.encryptionType();
+                            record.succeeded(result);
+                        } else {
+                            // any failed entry is sent again
+                            record.failed(KinesisException.builder()
+                                    .message(result.errorCode() + ": " + result.errorMessage())
+                                    .statusCode(THROUGHPUT_EXCEEDED.equals(result.errorCode()) ? 400 : 500)
+                                    .awsErrorDetails(AwsErrorDetails.builder()
+                                            .errorCode(result.errorCode())
+                                            .errorMessage(result.errorMessage())
+                                            .serviceName("Kinesis")
+                                            .build())
+                                    .build(), true);
+                        }
+                    }
+                });
+    }
+
+    // guarded by the batcher
+    private void listShards(Stream stream) {
+        stream.listing = true;
+        ListShardsRequest request = ListShardsRequest.builder().streamName(stream.streamName).streamARN(stream.streamArn)
+                .build();
+        listShards(request, new TreeMap<>()).whenComplete((shards, error) -> listed(stream, shards, error));
+    }
+
+    private CompletableFuture<TreeMap<BigInteger, ShardRange>> listShards(ListShardsRequest request,
+            TreeMap<BigInteger, ShardRange> shards) {
+        try {
+            return client.listShards(request).thenCompose(response -> {
+                for (Shard shard : response.shards()) {
+                    // only the open shards receive records
+                    if (shard.sequenceNumberRange() == null
+                            || shard.sequenceNumberRange().endingSequenceNumber() == null) {
+                        shards.put(new BigInteger(shard.hashKeyRange().startingHashKey()),
+                                new ShardRange(shard.shardId(), new BigInteger(shard.hashKeyRange().endingHashKey())));
+                    }
+                }
+                if (response.nextToken() == null) {
+                    return CompletableFuture.completedFuture(shards);
+                }
+                return listShards(ListShardsRequest.builder().nextToken(response.nextToken()).build(), shards);
+            });
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void listed(Stream stream, TreeMap<BigInteger, ShardRange> shards, Throwable error) {
+        synchronized (batcher) {
+            stream.listing = false;
+            if (error == null) {
+                stream.shards = shards;
+                stream.limiters.keySet().retainAll(shards.values().stream().map(shard -> shard.shardId).toList());
+                stream.nextListing = System.nanoTime() + SHARD_REFRESH_INTERVAL_NANOS;
+            } else {
+                LOG.warn("Unable to list the shards of the Kinesis stream " + stream.key
+                        + ", its records are not aggregated until they are listed", error);
+                stream.nextListing = System.nanoTime() + SHARD_LISTING_RETRY_NANOS;
+            }
+            while (!stream.unassigned.isEmpty()) {
+                assign(stream, stream.unassigned.pollFirst());
+            }
+            if (stream.flushOnListed || batcher.isClosed()) {
+                stream.flushOnListed = false;
+                batcher.flush(stream.key);
+            } else {
+                batcher.drain(stream.key);
+            }
+        }
+    }
+
+    private final class RecordBatcher extends Batcher<String, KinesisRecord> {
+
+        private RecordBatcher(int maxRecordsPerRequest, Duration flushInterval, int maxInFlightRequests, int maxRetries,
+                Duration baseBackoff, Duration maxBackoff) {
+            // the user records are counted against the maximum number of pending records
+            super("Kinesis producer", maxRecordsPerRequest, MAX_REQUEST_BYTES, flushInterval, maxInFlightRequests,
+                    Integer.MAX_VALUE, maxRetries, baseBackoff, maxBackoff);
+        }
+
+        @Override
+        public CompletableFuture<Void> flush() {
+            CompletableFuture<?>[] futures = pending.stream().map(record -> record.future)
+                    .toArray(CompletableFuture[]::new);
+            super.flush();
+            return CompletableFuture.allOf(futures);
+        }
+
+        @Override
+        protected CompletableFuture<?> send(String key, List<KinesisRecord> batch) {
+            return putRecords(streams.get(key), batch);
+        }
+
+        @Override
+        protected Object group(String key, KinesisRecord record) {
+            return record.shardId;
+        }
+
+        @Override
+        protected boolean admit(String key, KinesisRecord record, List<KinesisRecord> batch) {
+            if (record.shardId == null || streams.get(key).limiter(record.shardId, rateLimit).tryAcquire(record.size())) {
+                return true;
+            }
+            // the later records of the shard are held back too, to keep their order
+            rateLimitedRecords.increment();
+            drainLater(key, RATE_LIMIT_DELAY_NANOS);
+            return false;
+        }
+
+        @Override
+        protected boolean staging(String key) {
+            Stream stream = streams.get(key);
+            return stream != null && (!stream.aggregations.isEmpty() || !stream.unassigned.isEmpty());
+        }
+
+        @Override
+        protected void flushing(String key) {
+            Stream stream = streams.get(key);
+            if (stream != null) {
+                // the records waiting for the shards to be listed are flushed once they are
+                stream.flushOnListed = !stream.unassigned.isEmpty();
+                for (Aggregation aggregation : new ArrayList<>(stream.aggregations.values())) {
+                    seal(stream, aggregation);
+                }
+            }
+        }
+
+        @Override
+        protected void completed(String key, List<KinesisRecord> batch, Throwable error) {
+            Stream stream = streams.get(key);
+            boolean mispredicted = false;
+            for (KinesisRecord record : batch) {
+                if (record.shardId == null) {
+                    continue;
+                }
+                if (record.result() != null) {
+                    mispredicted |= !record.shardId.equals(record.result().shardId());
+                } else if (record.error() instanceof KinesisException
+                        && THROUGHPUT_EXCEEDED.equals(((KinesisException) record.error()).awsErrorDetails().errorCode())) {
+                    stream.limiter(record.shardId, rateLimit).exhaust();
+                }
+            }
+            if (mispredicted && !stream.listing && System.nanoTime() - stream.nextListing >= 0) {
+                listShards(stream);
+            }
+        }
+    }
+
+    private static final class Stream {
+
+        private final String key;
+        private final String streamName;
+        private final String streamArn;
+        private final ArrayDeque<UserRecord> unassigned = new ArrayDeque<>();
+        private final Map<String, Aggregation> aggregations = new LinkedHashMap<>();
+        private final Map<String, ShardLimiter> limiters = new HashMap<>();
+        private TreeMap<BigInteger, ShardRange> shards;
+        private boolean listing;
+        private boolean flushOnListed;
+        private long nextListing = System.nanoTime();
+
+        private Stream(PutRecordRequest request) {
+            this.key = request.streamARN() != null ? request.streamARN() : request.streamName();
+            this.streamName = request.streamName();
+            this.streamArn = request.streamARN();
+        }
+
+        private ShardLimiter limiter(String shardId, double rateLimit) {
+            return limiters.computeIfAbsent(shardId, id -> new ShardLimiter(rateLimit));
+        }
+    }
+
+    private static final class ShardRange {
+
+        private final String shardId;
+        private final BigInteger endingHashKey;
+
+        private ShardRange(String shardId, BigInteger endingHashKey) {
+            this.shardId = shardId;
+            this.endingHashKey = endingHashKey;
+        }
+    }
+
+    /**
+     * A token bucket of the records and the bytes a shard accepts per second. The bytes of a record are acquired as long
+     * as some remain, so that records larger than the remaining bytes are not held back forever.
+     */
+    private static final class ShardLimiter {
+
+        private final double recordsPerSecond;
+        private final double bytesPerSecond;
+        private double records;
+        private double bytes;
+        private long refilledAt = System.nanoTime();
+
+        private ShardLimiter(double rateLimit) {
+            this.recordsPerSecond = SHARD_RECORDS_PER_SECOND * rateLimit;
+            this.bytesPerSecond = SHARD_BYTES_PER_SECOND * rateLimit;
+            this.records = recordsPerSecond;
+            this.bytes = bytesPerSecond;
+        }
+
+        private boolean tryAcquire(long size) {
+            refill();
+            if (records < 1 || bytes <= 0) {
+                return false;
+            }
+            records--;
+            bytes -= size;
+            return true;
+        }
+
+        private void exhaust() {
+            refill();
+            records = Math.min(records, 0);
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            double seconds = (now - refilledAt) / 1e9;
+            refilledAt = now;
+            records = Math.min(recordsPerSecond, records + seconds * recordsPerSecond);
+            bytes = Math.min(bytesPerSecond, bytes + seconds * bytesPerSecond);
+        }
+    }
+
+    private static final class Aggregation {
+
+        private final String shardId;
+        private final KinesisRecordAggregator aggregator = new KinesisRecordAggregator();
+        private final List<UserRecord> records = new ArrayList<>();
+
+        private Aggregation(String shardId) {
+            this.shardId = shardId;
+        }
+
+        // the size of the Kinesis record, including the partition key of the first user record
+        private long sizeWith(UserRecord record) {
+            UserRecord first = records.isEmpty() ? record : records.get(0);
+            return aggregator.encodedSizeWith(record.partitionKey, record.explicitHashKey, record.data)
+                    + first.partitionKeyBytes;
+        }
+
+        private void add(UserRecord record) {
+            aggregator.add(record.partitionKey, record.explicitHashKey, record.data);
+            records.add(record);
+        }
+    }
+
+    private static final class KinesisRecord extends Batcher.Entry<PutRecordsResultEntry> {
+
+        private final List<UserRecord> userRecords;
+        private final String partitionKey;
+        private final String explicitHashKey;
+        private final SdkBytes data;
+        private final String shardId;
+        private volatile EncryptionType encryptionType;
+
+        private KinesisRecord(List<UserRecord> userRecords, String partitionKey, String explicitHashKey, SdkBytes data,
+                long size, String shardId) {
+            super(size);
+            this.userRecords = userRecords;
+            this.partitionKey = partitionKey;
+            this.explicitHashKey = explicitHashKey;
+            this.data = data;
+            this.shardId = shardId;
+        }
+
+        private static KinesisRecord plain(UserRecord record, String shardId) {
+            return new KinesisRecord(List.of(record), record.partitionKey, record.explicitHashKey,
+                    SdkBytes.fromByteArrayUnsafe(record.data), record.size, shardId);
+        }
+
+        private static KinesisRecord aggregated(Aggregation aggregation) {
+            UserRecord first = aggregation.records.get(0);
+            byte[] data = aggregation.aggregator.toBytes();
+            return new KinesisRecord(List.copyOf(aggregation.records), first.partitionKey, first.hashKey.toString(),
+                    SdkBytes.fromByteArrayUnsafe(data), data.length + first.partitionKeyBytes, aggregation.shardId);
+        }
+    }
+
+    private static final class UserRecord {
+
+        private final String partitionKey;
+        private final String explicitHashKey;
+        private final byte[] data;
+        private final int partitionKeyBytes;
+        private final long size;
+        private final BigInteger hashKey;
+        private final CompletableFuture<PutRecordResponse> future = new CompletableFuture<>();
+
+        private UserRecord(PutRecordRequest request) {
+            byte[] partitionKey = request.partitionKey().getBytes(StandardCharsets.UTF_8);
+            this.partitionKey = request.partitionKey();
+            this.explicitHashKey = request.explicitHashKey();
+            this.data = request.data().asByteArrayUnsafe();
+            this.partitionKeyBytes = partitionKey.length;
+            this.size = (long) data.length + partitionKeyBytes;
+            this.hashKey = explicitHashKey != null
+                    ? new BigInteger(explicitHashKey)
+                    : new BigInteger(1, Md5Utils.computeMD5Hash(partitionKey));
+        }
+    }
+}
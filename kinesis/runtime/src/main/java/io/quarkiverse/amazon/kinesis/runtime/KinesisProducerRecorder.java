@@ -0,0 +1,37 @@
+package io.quarkiverse.amazon.kinesis.runtime;
+
+import java.util.function.Function;
+
+import io.quarkiverse.amazon.common.runtime.ClientUtil;
+import io.quarkus.arc.SyntheticCreationalContext;
+import io.quarkus.runtime.annotations.Recorder;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+
+@Recorder
+public class KinesisProducerRecorder {
+
+    final KinesisConfig config;
+
+    public KinesisProducerRecorder(KinesisConfig config) {
+        this.config = config;
+    }
+
+    public Function<SyntheticCreationalContext<KinesisProducer>, KinesisProducer> createKinesisProducer(
+            String clientName) {
+        return new Function<SyntheticCreationalContext<KinesisProducer>, KinesisProducer>() {
+            @Override
+            public KinesisProducer apply(SyntheticCreationalContext<KinesisProducer> context) {
+                KinesisAsyncClient client;
+                if (ClientUtil.isDefaultClient(clientName))
+                    client = context.getInjectedReference(KinesisAsyncClient.class);
+                else
+                    client = context.getInjectedReference(KinesisAsyncClient.class,
+                            new io.quarkiverse.amazon.common.AmazonClient.AmazonClientLiteral(clientName));
+
+                KinesisProducer producer = new KinesisProducer(client, config.producer());
+                producer.registerMeters(clientName);
+                return producer;
+            }
+        };
+    }
+}
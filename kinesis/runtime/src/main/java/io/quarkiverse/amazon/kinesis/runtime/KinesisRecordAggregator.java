@@ -0,0 +1,183 @@
+package io.quarkiverse.amazon.kinesis.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.awssdk.utils.Md5Utils;
+
+/**
+ * Encodes user records into an aggregated Kinesis record in the format of the Kinesis Producer Library, which the
+ * Kinesis Client Library deaggregates: a magic number, followed by an {@code AggregatedRecord} protobuf message and by
+ * its MD5 digest.
+ * <p>
+ * The partition keys and explicit hash keys of the user records are stored once in tables referenced by the records.
+ */
+final class KinesisRecordAggregator {
+
+    static final byte[] MAGIC = { (byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2 };
+    private static final int DIGEST_LENGTH = 16;
+
+    // the fields of the AggregatedRecord message
+    private static final int PARTITION_KEY_TABLE = 1;
+    private static final int EXPLICIT_HASH_KEY_TABLE = 2;
+    private static final int RECORDS = 3;
+
+    // the fields of the Record message
+    private static final int PARTITION_KEY_INDEX = 1;
+    private static final int EXPLICIT_HASH_KEY_INDEX = 2;
+    private static final int DATA = 3;
+
+    private static final int VARINT = 0;
+    private static final int LENGTH_DELIMITED = 2;
+
+    private final Map<String, Integer> partitionKeys = new LinkedHashMap<>();
+    private final Map<String, Integer> explicitHashKeys = new LinkedHashMap<>();
+    private final List<Record> records = new ArrayList<>();
+    private long messageSize;
+
+    int size() {
+        return records.size();
+    }
+
+    boolean isEmpty() {
+        return records.isEmpty();
+    }
+
+    /**
+     * @return the size of the aggregated record
+     */
+    long encodedSize() {
+        return MAGIC.length + messageSize + DIGEST_LENGTH;
+    }
+
+    /**
+     * @return the size of the aggregated record if the given user record was added to it
+     */
+    long encodedSizeWith(String partitionKey, String explicitHashKey, byte[] data) {
+        long size = encodedSize();
+        Integer partitionKeyIndex = partitionKeys.get(partitionKey);
+        if (partitionKeyIndex == null) {
+            partitionKeyIndex = partitionKeys.size();
+            size += fieldSize(partitionKey.getBytes(StandardCharsets.UTF_8).length);
+        }
+        Integer explicitHashKeyIndex = null;
+        if (explicitHashKey != null) {
+            explicitHashKeyIndex = explicitHashKeys.get(explicitHashKey);
+            if (explicitHashKeyIndex == null) {
+                explicitHashKeyIndex = explicitHashKeys.size();
+                size += fieldSize(explicitHashKey.getBytes(StandardCharsets.UTF_8).length);
+            }
+        }
+        return size + fieldSize(recordSize(partitionKeyIndex, explicitHashKeyIndex, data.length));
+    }
+
+    void add(String partitionKey, String explicitHashKey, byte[] data) {
+        Integer partitionKeyIndex = partitionKeys.get(partitionKey);
+        if (partitionKeyIndex == null) {
+            partitionKeyIndex = partitionKeys.size();
+            partitionKeys.put(partitionKey, partitionKeyIndex);
+            messageSize += fieldSize(partitionKey.getBytes(StandardCharsets.UTF_8).length);
+        }
+        Integer explicitHashKeyIndex = null;
+        if (explicitHashKey != null) {
+            explicitHashKeyIndex = explicitHashKeys.get(explicitHashKey);
+            if (explicitHashKeyIndex == null) {
+                explicitHashKeyIndex = explicitHashKeys.size();
+                explicitHashKeys.put(explicitHashKey, explicitHashKeyIndex);
+                messageSize += fieldSize(explicitHashKey.getBytes(StandardCharsets.UTF_8).length);
+            }
+        }
+        Record record = new Record(partitionKeyIndex, explicitHashKeyIndex, data);
+        records.add(record);
+        messageSize += fieldSize(record.size);
+    }
+
+    /**
+     * @return the aggregated record
+     */
+    byte[] toBytes() {
+        ByteArrayOutputStream message = new ByteArrayOutputStream((int) messageSize);
+        for (String partitionKey : partitionKeys.keySet()) {
+            writeBytes(message, PARTITION_KEY_TABLE, partitionKey.getBytes(StandardCharsets.UTF_8));
+        }
+        for (String explicitHashKey : explicitHashKeys.keySet()) {
+            writeBytes(message, EXPLICIT_HASH_KEY_TABLE, explicitHashKey.getBytes(StandardCharsets.UTF_8));
+        }
+        for (Record record : records) {
+            writeTag(message, RECORDS, LENGTH_DELIMITED);
+            writeVarint(message, record.size);
+            writeTag(message, PARTITION_KEY_INDEX, VARINT);
+            writeVarint(message, record.partitionKeyIndex);
+            if (record.explicitHashKeyIndex != null) {
+                writeTag(message, EXPLICIT_HASH_KEY_INDEX, VARINT);
+                writeVarint(message, record.explicitHashKeyIndex);
+            }
+            writeBytes(message, DATA, record.data);
+        }
+        byte[] messageBytes = message.toByteArray();
+
+        ByteArrayOutputStream aggregated = new ByteArrayOutputStream(MAGIC.length + messageBytes.length + DIGEST_LENGTH);
+        aggregated.writeBytes(MAGIC);
+        aggregated.writeBytes(messageBytes);
+        aggregated.writeBytes(Md5Utils.computeMD5Hash(messageBytes));
+        return aggregated.toByteArray();
+    }
+
+    private static long recordSize(int partitionKeyIndex, Integer explicitHashKeyIndex, int dataLength) {
+        long size = 1 + varintSize(partitionKeyIndex);
+        if (explicitHashKeyIndex != null) {
+            size += 1 + varintSize(explicitHashKeyIndex);
+        }
+        return size + fieldSize(dataLength);
+    }
+
+    // the size of a length delimited field, whose tag fits in a byte
+    private static long fieldSize(long length) {
+        return 1 + varintSize(length) + length;
+    }
+
+    private static int varintSize(long value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, int field, byte[] value) {
+        writeTag(out, field, LENGTH_DELIMITED);
+        writeVarint(out, value.length);
+        out.writeBytes(value);
+    }
+
+    private static void writeTag(ByteArrayOutputStream out, int field, int wireType) {
+        writeVarint(out, (field << 3) | wireType);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static final class Record {
+
+        private final int partitionKeyIndex;
+        private final Integer explicitHashKeyIndex;
+        private final byte[] data;
+        private final long size;
+
+        private Record(int partitionKeyIndex, Integer explicitHashKeyIndex, byte[] data) {
+            this.partitionKeyIndex = partitionKeyIndex;
+            this.explicitHashKeyIndex = explicitHashKeyIndex;
+            this.data = data;
+            this.size = recordSize(partitionKeyIndex, explicitHashKeyIndex, data.length);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.quarkiverse.amazon.kinesis.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface ProducerConfig {
+
+    /**
+     * Whether the records put to the same shard are aggregated into Kinesis records, in the format of the Kinesis
+     * Producer Library.
+     */
+    @WithDefault("true")
+    boolean aggregationEnabled();
+
+    /**
+     * The maximum size in bytes of an aggregated Kinesis record.
+     */
+    @WithDefault("51200")
+    int aggregationMaxSize();
+
+    /**
+     * The number of Kinesis records sent in a `PutRecords` request, at most 500.
+     * <p>
+     * A request is sent as soon as this number of records to the same stream is buffered, or 5 MB of records.
+     */
+    @WithDefault("500")
+    int maxRecordsPerRequest();
+
+    /**
+     * The maximum time a record is buffered before being sent in a partial request.
+     */
+    @WithDefault("100ms")
+    Duration flushInterval();
+
+    /**
+     * The maximum number of `PutRecords` requests in flight. Records remain buffered while this limit is reached.
+     */
+    @WithDefault("16")
+    int maxInFlightRequests();
+
+    /**
+     * The maximum number of records buffered or in flight. Records submitted beyond this limit are rejected.
+     */
+    @WithDefault("100000")
+    int maxPendingRecords();
+
+    /**
+     * The number of times a Kinesis record whose entry failed is sent again in a later request.
+     */
+    @WithDefault("3")
+    int maxRetries();
+
+    /**
+     * The base delay of the exponential backoff applied before sending failed records again. The delay is drawn at
+     * random between zero and the backoff of the attempt.
+     */
+    @WithDefault("100ms")
+    Duration baseBackoff();
+
+    /**
+     * The maximum delay before sending failed records again.
+     */
+    @WithDefault("5s")
+    Duration maxBackoff();
+
+    /**
+     * The percentage of the throughput of a shard, 1000 records and 1 MiB per second, the records put to a shard are
+     * limited to. The records exceeding it remain buffered.
+     */
+    @WithDefault("100")
+    int rateLimit();
+}
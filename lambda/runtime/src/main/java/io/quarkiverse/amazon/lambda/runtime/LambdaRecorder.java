@@ -4,8 +4,12 @@ import io.quarkiverse.amazon.common.runtime.*;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.awscore.client.builder.AwsAsyncClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.services.lambda.*;
+import software.amazon.awssdk.services.lambda.LambdaBaseClientBuilder;
+import software.amazon.awssdk.services.lambda.endpoints.LambdaEndpointParams;
+import software.amazon.awssdk.services.lambda.endpoints.LambdaEndpointProvider;
 
 @Recorder
 public class LambdaRecorder extends AmazonClientRecorder {
@@ -40,4 +44,13 @@ public class LambdaRecorder extends AmazonClientRecorder {
     public AwsAsyncClientBuilder<?, ?> getAsyncClientBuilder() {
         return LambdaAsyncClient.builder();
     }
+
+    @Override
+    protected void setEndpointCache(AwsClientBuilder<?, ?> builder, int maxSize) {
+        EndpointCache<LambdaEndpointParams> cache = new EndpointCache<>(
+                LambdaEndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint()),
+                maxSize);
+        ((LambdaBaseClientBuilder<?, ?>) builder).endpointProvider(cache::resolveEndpoint);
+    }
 }
@@ -2,14 +2,19 @@ package io.quarkiverse.amazon.paymentcryptography.runtime;
 
 import io.quarkiverse.amazon.common.runtime.AmazonClientRecorder;
 import io.quarkiverse.amazon.common.runtime.AsyncHttpClientConfig;
+import io.quarkiverse.amazon.common.runtime.EndpointCache;
 import io.quarkiverse.amazon.common.runtime.HasAmazonClientRuntimeConfig;
 import io.quarkiverse.amazon.common.runtime.SyncHttpClientConfig;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.awscore.client.builder.AwsAsyncClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.services.paymentcryptography.PaymentCryptographyAsyncClient;
+import software.amazon.awssdk.services.paymentcryptography.PaymentCryptographyBaseClientBuilder;
 import software.amazon.awssdk.services.paymentcryptography.PaymentCryptographyClient;
+import software.amazon.awssdk.services.paymentcryptography.endpoints.PaymentCryptographyEndpointParams;
+import software.amazon.awssdk.services.paymentcryptography.endpoints.PaymentCryptographyEndpointProvider;
 
 @Recorder
 public class PaymentCryptographyRecorder extends AmazonClientRecorder {
@@ -44,4 +49,13 @@ public class PaymentCryptographyRecorder extends AmazonClientRecorder {
     public AwsAsyncClientBuilder<?, ?> getAsyncClientBuilder() {
         return PaymentCryptographyAsyncClient.builder();
     }
+
+    @Override
+    protected void setEndpointCache(AwsClientBuilder<?, ?> builder, int maxSize) {
+        EndpointCache<PaymentCryptographyEndpointParams> cache = new EndpointCache<>(
+                PaymentCryptographyEndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint()),
+                maxSize);
+        ((PaymentCryptographyBaseClientBuilder<?, ?>) builder).endpointProvider(cache::resolveEndpoint);
+    }
 }
@@ -2,14 +2,19 @@ package io.quarkiverse.amazon.paymentcryptographydata.runtime;
 
 import io.quarkiverse.amazon.common.runtime.AmazonClientRecorder;
 import io.quarkiverse.amazon.common.runtime.AsyncHttpClientConfig;
+import io.quarkiverse.amazon.common.runtime.EndpointCache;
 import io.quarkiverse.amazon.common.runtime.HasAmazonClientRuntimeConfig;
 import io.quarkiverse.amazon.common.runtime.SyncHttpClientConfig;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.awscore.client.builder.AwsAsyncClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.services.paymentcryptographydata.PaymentCryptographyDataAsyncClient;
+import software.amazon.awssdk.services.paymentcryptographydata.PaymentCryptographyDataBaseClientBuilder;
 import software.amazon.awssdk.services.paymentcryptographydata.PaymentCryptographyDataClient;
+import software.amazon.awssdk.services.paymentcryptographydata.endpoints.PaymentCryptographyDataEndpointParams;
+import software.amazon.awssdk.services.paymentcryptographydata.endpoints.PaymentCryptographyDataEndpointProvider;
 
 @Recorder
 public class PaymentCryptographyDataRecorder extends AmazonClientRecorder {
@@ -44,4 +49,13 @@ public class PaymentCryptographyDataRecorder extends AmazonClientRecorder {
     public AwsAsyncClientBuilder<?, ?> getAsyncClientBuilder() {
         return PaymentCryptographyDataAsyncClient.builder();
     }
+
+    @Override
+    protected void setEndpointCache(AwsClientBuilder<?, ?> builder, int maxSize) {
+        EndpointCache<PaymentCryptographyDataEndpointParams> cache = new EndpointCache<>(
+                PaymentCryptographyDataEndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint()),
+                maxSize);
+        ((PaymentCryptographyDataBaseClientBuilder<?, ?>) builder).endpointProvider(cache::resolveEndpoint);
+    }
 }
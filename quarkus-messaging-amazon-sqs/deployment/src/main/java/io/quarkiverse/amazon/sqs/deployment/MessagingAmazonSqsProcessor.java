@@ -1,7 +1,30 @@
 package io.quarkiverse.amazon.sqs.deployment;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+import io.quarkiverse.amazon.sqs.messaging.runtime.SqsChannelDecorator;
+import io.quarkiverse.amazon.sqs.messaging.runtime.SqsMessageGroupIdCustomizer;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ConfigDescriptionBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.smallrye.reactivemessaging.deployment.items.ChannelDirection;
+import io.quarkus.smallrye.reactivemessaging.deployment.items.ConnectorManagedChannelBuildItem;
+import io.smallrye.common.annotation.Identifier;
+import io.smallrye.reactive.messaging.aws.sqs.SqsConnector;
+import io.smallrye.reactive.messaging.aws.sqs.SqsReceiveMessageRequestCustomizer;
 
 /**
  * Processor
@@ -10,8 +33,89 @@ public class MessagingAmazonSqsProcessor {
 
     private static final String FEATURE = "messaging-amazon-sqs";
 
+    private static final DotName IDENTIFIER = DotName.createSimple(Identifier.class.getName());
+    private static final DotName RECEIVE_REQUEST_CUSTOMIZER = DotName
+            .createSimple(SqsReceiveMessageRequestCustomizer.class.getName());
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FEATURE);
     }
+
+    @BuildStep
+    AdditionalBeanBuildItem channelBeans() {
+        return AdditionalBeanBuildItem.builder()
+                .addBeanClasses(SqsChannelDecorator.class, SqsMessageGroupIdCustomizer.class)
+                .setUnremovable()
+                .build();
+    }
+
+    @BuildStep
+    void registerChannelOptions(List<ConnectorManagedChannelBuildItem> channels,
+            CombinedIndexBuildItem combinedIndexBuildItem,
+            BuildProducer<ConfigDescriptionBuildItem> configDescriptions,
+            BuildProducer<RunTimeConfigurationDefaultBuildItem> configDefaults) {
+
+        Set<String> customizedChannels = customizerIdentifiers(combinedIndexBuildItem.getIndex());
+
+        for (ConnectorManagedChannelBuildItem channel : channels) {
+            if (channel.getDirection() != ChannelDirection.INCOMING
+                    || !SqsConnector.CONNECTOR_NAME.equals(channel.getConnector())) {
+                continue;
+            }
+            String prefix = "mp.messaging.incoming." + channel.getName() + ".";
+
+            configDescriptions.produce(option(prefix + SqsChannelDecorator.ACK_BATCH, "false",
+                    "Whether the acknowledged messages are deleted with `DeleteMessageBatch` requests", "boolean"));
+            configDescriptions.produce(option(prefix + SqsChannelDecorator.ACK_BATCH_SIZE, "10",
+                    "The number of acknowledged messages deleted in a `DeleteMessageBatch` request, at most 10", "int"));
+            configDescriptions.produce(option(prefix + SqsChannelDecorator.ACK_BATCH_FLUSH_INTERVAL, "50ms",
+                    "The maximum time an acknowledged message waits before being deleted in a partial batch",
+                    "java.time.Duration"));
+            configDescriptions.produce(option(prefix + SqsChannelDecorator.MAX_CONCURRENCY, null,
+                    "The maximum number of messages of the channel emitted and not acknowledged yet", "int"));
+            configDescriptions.produce(option(prefix + SqsChannelDecorator.FIFO_GROUP_ORDERING, "true",
+                    "Whether a message is held back until the previous message of its `MessageGroupId` is acknowledged,"
+                            + " when `max-concurrency` is set",
+                    "boolean"));
+
+            // the connector looks the customizer up by the channel name unless one is configured, so the default one
+            // requesting the message group ids is only set for the channels without a customizer bean. It is set whether
+            // the channel orders the groups or not, as max-concurrency and fifo.group-ordering are runtime options
+            if (!customizedChannels.contains(channel.getName())) {
+                configDefaults.produce(new RunTimeConfigurationDefaultBuildItem(prefix + "receive.request.customizer",
+                        SqsMessageGroupIdCustomizer.IDENTIFIER));
+            }
+        }
+    }
+
+    private static ConfigDescriptionBuildItem option(String name, String defaultValue, String docs, String type) {
+        return new ConfigDescriptionBuildItem(name, defaultValue, docs, type, List.of(), ConfigPhase.RUN_TIME);
+    }
+
+    private static Set<String> customizerIdentifiers(IndexView index) {
+        Set<DotName> customizers = index.getAllKnownImplementors(RECEIVE_REQUEST_CUSTOMIZER).stream()
+                .map(ClassInfo::name)
+                .collect(Collectors.toSet());
+        return index.getAnnotations(IDENTIFIER).stream()
+                .filter(identifier -> isCustomizer(identifier.target(), customizers))
+                .map(AnnotationInstance::value)
+                .map(value -> value.asString())
+                .collect(Collectors.toSet());
+    }
+
+    private static boolean isCustomizer(AnnotationTarget target, Set<DotName> customizers) {
+        switch (target.kind()) {
+            case CLASS:
+                return customizers.contains(target.asClass().name());
+            case METHOD:
+                return RECEIVE_REQUEST_CUSTOMIZER.equals(target.asMethod().returnType().name())
+                        || customizers.contains(target.asMethod().returnType().name());
+            case FIELD:
+                return RECEIVE_REQUEST_CUSTOMIZER.equals(target.asField().type().name())
+                        || customizers.contains(target.asField().type().name());
+            default:
+                return false;
+        }
+    }
 }
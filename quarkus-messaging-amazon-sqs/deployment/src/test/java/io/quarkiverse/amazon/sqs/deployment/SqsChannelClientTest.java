@@ -0,0 +1,92 @@
+package io.quarkiverse.amazon.sqs.deployment;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.Interceptor;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.sqs.deployment.SqsChannelOptionsTest.OrderConsumer;
+import io.quarkiverse.amazon.sqs.deployment.SqsChannelOptionsTest.SqsStub;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.test.QuarkusUnitTest;
+
+class SqsChannelClientTest {
+
+    private static final int MESSAGES = 30;
+
+    private static final StubServer STUB = StubServer.start(SqsStub.class);
+    private static final StubServer CLIENT_BEAN_STUB = StubServer.start(ClientBeanStub.class);
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(SqsStub.class, OrderConsumer.class, ClientBeanStub.class)
+                    .addAsResource(new StringAsset(
+                            """
+                                    quarkus.http.test-port=0
+                                    quarkus.sqs.devservices.enabled=false
+                                    quarkus.sqs.aws.region=us-east-2
+                                    quarkus.sqs.aws.credentials.type=static
+                                    quarkus.sqs.aws.credentials.static-provider.access-key-id=test-key
+                                    quarkus.sqs.aws.credentials.static-provider.secret-access-key=test-secret
+                                    quarkus.sqs.async-client.type=netty
+                                    mp.messaging.incoming.orders.region=us-west-1
+                                    mp.messaging.incoming.orders.credentials-provider=software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider
+                                    mp.messaging.incoming.orders.ack.batch=true
+                                    mp.messaging.incoming.orders.ack.batch.flush-interval=20ms"""),
+                            "application.properties"))
+            .overrideConfigKey("quarkus.sqs.endpoint-override", CLIENT_BEAN_STUB.endpoint())
+            .overrideConfigKey("mp.messaging.incoming.orders.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("mp.messaging.incoming.orders.queue.url", STUB.endpoint() + "/000000000000/orders.fifo")
+            .setAfterAllCustomizer(() -> {
+                STUB.close();
+                CLIENT_BEAN_STUB.close();
+            });
+
+    @Inject
+    SqsStub stub;
+
+    @Inject
+    ClientBeanStub clientBeanStub;
+
+    @Test
+    void test() {
+        await().until(() -> stub.deleted.size() == MESSAGES);
+
+        // the channel configures its own client, which deletes the messages it receives
+        assertEquals(0, stub.singleDeletes.get());
+        assertEquals(0, clientBeanStub.requests.get());
+
+        // the message group ids are requested by default, the ordering options being read at runtime
+        assertTrue(stub.groupIdRequested);
+    }
+
+    /**
+     * Counts the requests sent with the {@code SqsAsyncClient} bean.
+     */
+    @Singleton
+    public static class ClientBeanStub {
+
+        final AtomicInteger requests = new AtomicInteger();
+
+        void install(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+            StubServer.start(ClientBeanStub.class).handle(exchange -> {
+                StubServer.body(exchange);
+                requests.incrementAndGet();
+                StubServer.respond(exchange, 500, "text/plain", "");
+            });
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package io.quarkiverse.amazon.sqs.deployment;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.Interceptor;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+import software.amazon.awssdk.utils.Md5Utils;
+
+class SqsChannelOptionsTest {
+
+    private static final int GROUPS = 6;
+    private static final int MESSAGES_PER_GROUP = 5;
+
+    private static final StubServer STUB = StubServer.start(SqsStub.class);
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(SqsStub.class, OrderConsumer.class)
+                    .addAsResource(new StringAsset(
+                            """
+                                    quarkus.http.test-port=0
+                                    quarkus.sqs.devservices.enabled=false
+                                    quarkus.sqs.aws.region=us-east-2
+                                    quarkus.sqs.aws.credentials.type=static
+                                    quarkus.sqs.aws.credentials.static-provider.access-key-id=test-key
+                                    quarkus.sqs.aws.credentials.static-provider.secret-access-key=test-secret
+                                    quarkus.sqs.async-client.type=netty
+                                    mp.messaging.incoming.orders.ack.batch=true
+                                    mp.messaging.incoming.orders.ack.batch.flush-interval=20ms
+                                    mp.messaging.incoming.orders.max-concurrency=4"""),
+                            "application.properties"))
+            .overrideConfigKey("quarkus.sqs.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("mp.messaging.incoming.orders.queue.url", STUB.endpoint() + "/000000000000/orders.fifo")
+            .setAfterAllCustomizer(STUB::close);
+
+    @Inject
+    SqsStub stub;
+
+    @Inject
+    OrderConsumer consumer;
+
+    @Test
+    void test() {
+        await().until(() -> stub.deleted.size() == GROUPS * MESSAGES_PER_GROUP);
+
+        // the acknowledgements are batched and the receive requests ask for the message group ids
+        assertEquals(0, stub.singleDeletes.get());
+        assertTrue(stub.deleteBatches.get() < GROUPS * MESSAGES_PER_GROUP);
+        assertTrue(stub.groupIdRequested);
+
+        // the concurrency is bounded and the messages of a group are handled one after the other, in order
+        assertTrue(consumer.maxInFlight.get() <= 4);
+        assertTrue(consumer.maxInFlight.get() > 1);
+        assertTrue(consumer.overlappingGroups.isEmpty());
+        for (int group = 0; group < GROUPS; group++) {
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < MESSAGES_PER_GROUP; i++) {
+                expected.add("group-" + group + "-" + i);
+            }
+            assertEquals(expected, consumer.handled.get("group-" + group));
+        }
+    }
+
+    @Singleton
+    public static class OrderConsumer {
+
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final Map<String, List<String>> handled = new ConcurrentHashMap<>();
+        final Map<String, Boolean> activeGroups = new ConcurrentHashMap<>();
+        final List<String> overlappingGroups = new CopyOnWriteArrayList<>();
+
+        @Incoming("orders")
+        @Blocking(ordered = false)
+        public void consume(String order) throws InterruptedException {
+            String group = order.substring(0, order.lastIndexOf('-'));
+            if (activeGroups.putIfAbsent(group, true) != null) {
+                overlappingGroups.add(group);
+            }
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            handled.computeIfAbsent(group, g -> new CopyOnWriteArrayList<>()).add(order);
+            inFlight.decrementAndGet();
+            activeGroups.remove(group);
+        }
+    }
+
+    /**
+     * Answers the SQS requests of the channel, from before the channel starts.
+     */
+    @Singleton
+    public static class SqsStub {
+
+        private static final Pattern MAX_MESSAGES = Pattern.compile("\"MaxNumberOfMessages\":(\\d+)");
+        private static final Pattern RECEIPT_HANDLE = Pattern.compile("\"ReceiptHandle\":\"([^\"]*)\"");
+
+        final Queue<String> queue = new ConcurrentLinkedQueue<>();
+        final List<String> deleted = new CopyOnWriteArrayList<>();
+        final AtomicInteger deleteBatches = new AtomicInteger();
+        final AtomicInteger singleDeletes = new AtomicInteger();
+        volatile boolean groupIdRequested;
+
+        SqsStub() {
+            for (int i = 0; i < MESSAGES_PER_GROUP; i++) {
+                for (int group = 0; group < GROUPS; group++) {
+                    queue.add("group-" + group + "-" + i);
+                }
+            }
+        }
+
+        void install(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+            StubServer.start(SqsStub.class).handle(this::handle);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            StubServer.respondJson(exchange, 200, response(StubServer.operation(exchange), StubServer.body(exchange)));
+        }
+
+        private String response(String target, String body) {
+            switch (target) {
+                case "ReceiveMessage":
+                    if (body.contains("MessageGroupId")) {
+                        groupIdRequested = true;
+                    }
+                    Matcher maxMessages = MAX_MESSAGES.matcher(body);
+                    int count = maxMessages.find() ? Integer.parseInt(maxMessages.group(1)) : 1;
+                    List<String> messages = new ArrayList<>();
+                    String message;
+                    while (messages.size() < count && (message = queue.poll()) != null) {
+                        String group = message.substring(0, message.lastIndexOf('-'));
+                        messages.add("{\"MessageId\":\"" + message + "\",\"ReceiptHandle\":\"handle-" + message
+                                + "\",\"Body\":\"" + message + "\",\"MD5OfBody\":\"" + md5(message)
+                                + "\",\"Attributes\":{\"MessageGroupId\":\"" + group + "\"}}");
+                    }
+                    if (messages.isEmpty()) {
+                        sleep();
+                    }
+                    return "{\"Messages\":[" + String.join(",", messages) + "]}";
+                case "DeleteMessageBatch":
+                    deleteBatches.incrementAndGet();
+                    List<String> entries = new ArrayList<>();
+                    Matcher receiptHandles = RECEIPT_HANDLE.matcher(body);
+                    int id = 0;
+                    while (receiptHandles.find()) {
+                        deleted.add(receiptHandles.group(1));
+                        entries.add("{\"Id\":\"" + id++ + "\"}");
+                    }
+                    return "{\"Successful\":[" + String.join(",", entries) + "],\"Failed\":[]}";
+                case "DeleteMessage":
+                    singleDeletes.incrementAndGet();
+                    return "{}";
+                default:
+                    return "{}";
+            }
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private static String md5(String value) {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : Md5Utils.computeMD5Hash(value.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.quarkiverse.amazon.sqs.messaging.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.quarkiverse.amazon.sqs.runtime.SqsBatchManager;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.PublisherDecorator;
+import io.smallrye.reactive.messaging.aws.sqs.SqsConnector;
+import io.smallrye.reactive.messaging.aws.sqs.SqsConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.aws.sqs.SqsIncomingMetadata;
+import io.smallrye.reactive.messaging.aws.sqs.SqsManager;
+import io.smallrye.reactive.messaging.providers.impl.ConnectorConfig;
+
+/**
+ * Applies the options the extension adds to the incoming channels of the SQS connector:
+ * <ul>
+ * <li>{@code ack.batch} deletes the acknowledged messages with {@code DeleteMessageBatch} requests, sent once
+ * {@code ack.batch.size} messages are acknowledged or after {@code ack.batch.flush-interval},</li>
+ * <li>{@code max-concurrency} bounds the number of messages emitted and not acknowledged yet,</li>
+ * <li>{@code fifo.group-ordering} holds a message back until the previous message of its {@code MessageGroupId} is
+ * acknowledged, when {@code max-concurrency} is set.</li>
+ * </ul>
+ * The options are read from the channel configuration, then from the connector configuration.
+ * <p>
+ * The acknowledged messages are deleted with the client the connector receives them with, which is the
+ * {@link software.amazon.awssdk.services.sqs.SqsAsyncClient} bean unless the channel configures its own region.
+ */
+@ApplicationScoped
+public class SqsChannelDecorator implements PublisherDecorator {
+
+    public static final String ACK_BATCH = "ack.batch";
+    public static final String ACK_BATCH_SIZE = "ack.batch.size";
+    public static final String ACK_BATCH_FLUSH_INTERVAL = "ack.batch.flush-interval";
+    public static final String MAX_CONCURRENCY = "max-concurrency";
+    public static final String FIFO_GROUP_ORDERING = "fifo.group-ordering";
+
+    private static final String INCOMING_PREFIX = "mp.messaging.incoming.";
+    private static final String ACK_DELETE = "ack.delete";
+    private static final int MAX_IN_FLIGHT_ACK_BATCHES = 16;
+    private static final int MAX_PENDING_ACKS = 10000;
+
+    @Inject
+    SqsManager sqsManager;
+
+    private final List<SqsBatchManager> batchManagers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, List<String> channelNames,
+            boolean isConnector) {
+        if (!isConnector || channelNames.size() != 1) {
+            return publisher;
+        }
+        String channel = channelNames.get(0);
+        Config config = ConfigProvider.getConfig();
+        if (!SqsConnector.CONNECTOR_NAME.equals(
+                config.getOptionalValue(INCOMING_PREFIX + channel + ".connector", String.class).orElse(null))) {
+            return publisher;
+        }
+
+        Multi<? extends Message<?>> decorated = publisher;
+        if (option(config, channel, ACK_BATCH, Boolean.class).orElse(false)
+                && option(config, channel, ACK_DELETE, Boolean.class).orElse(true)) {
+            decorated = batchAcks(decorated, config, channel);
+        }
+        int maxConcurrency = option(config, channel, MAX_CONCURRENCY, Integer.class).orElse(0);
+        if (maxConcurrency > 0) {
+            boolean groupOrdering = option(config, channel, FIFO_GROUP_ORDERING, Boolean.class).orElse(true);
+            decorated = new SqsChannelGate(maxConcurrency, groupOrdering).apply(decorated);
+        }
+        return decorated;
+    }
+
+    private Multi<? extends Message<?>> batchAcks(Multi<? extends Message<?>> publisher, Config config, String channel) {
+        // the connector selects the client and resolves the queue url from the channel configuration
+        SqsConnectorIncomingConfiguration channelConfig = new SqsConnectorIncomingConfiguration(
+                new ConnectorConfig(INCOMING_PREFIX, config, channel) {
+                });
+        SqsBatchManager batchManager = new SqsBatchManager(sqsManager.getClient(channelConfig),
+                option(config, channel, ACK_BATCH_SIZE, Integer.class).orElse(10),
+                option(config, channel, ACK_BATCH_FLUSH_INTERVAL, Duration.class).orElse(Duration.ofMillis(50)),
+                MAX_IN_FLIGHT_ACK_BATCHES, MAX_PENDING_ACKS);
+        batchManagers.add(batchManager);
+
+        Uni<String> queueUrl = Uni.createFrom().deferred(() -> sqsManager.getQueueUrl(channelConfig))
+                .onFailure().retry().atMost(3)
+                .memoize().indefinitely();
+
+        return publisher.map(message -> {
+            Optional<SqsIncomingMetadata> metadata = message.getMetadata(SqsIncomingMetadata.class);
+            if (metadata.isEmpty()) {
+                return message;
+            }
+            String receiptHandle = metadata.get().getMessage().receiptHandle();
+            return message.withAckWithMetadata(ignored -> queueUrl.subscribeAsCompletionStage()
+                    .thenCompose(url -> batchManager.deleteMessage(r -> r.queueUrl(url).receiptHandle(receiptHandle)))
+                    .thenApply(response -> null));
+        });
+    }
+
+    /**
+     * @return the value of an option of an incoming channel, or of the connector if the channel doesn't set it
+     */
+    private static <T> Optional<T> option(Config config, String channel, String name, Class<T> type) {
+        Optional<T> value = config.getOptionalValue(INCOMING_PREFIX + channel + "." + name, type);
+        if (value.isPresent()) {
+            return value;
+        }
+        return config.getOptionalValue("mp.messaging.connector." + SqsConnector.CONNECTOR_NAME + "." + name, type);
+    }
+
+    @PreDestroy
+    void close() {
+        for (SqsBatchManager batchManager : batchManagers) {
+            batchManager.close();
+        }
+    }
+}
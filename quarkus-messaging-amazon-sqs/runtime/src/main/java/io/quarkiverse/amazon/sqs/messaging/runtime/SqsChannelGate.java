@@ -0,0 +1,111 @@
+package io.quarkiverse.amazon.sqs.messaging.runtime;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.aws.sqs.SqsIncomingMetadata;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+
+/**
+ * Bounds the number of messages of a channel emitted and not acknowledged yet and, when the messages have a
+ * {@code MessageGroupId}, emits a message only once the previous message of its group is acknowledged.
+ */
+final class SqsChannelGate {
+
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    private final int maxConcurrency;
+    private final boolean groupOrdering;
+
+    // guarded by this
+    private int availablePermits;
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private final Map<String, CompletableFuture<Void>> lastOfGroup = new HashMap<>();
+
+    SqsChannelGate(int maxConcurrency, boolean groupOrdering) {
+        this.maxConcurrency = maxConcurrency;
+        this.groupOrdering = groupOrdering;
+        this.availablePermits = maxConcurrency;
+    }
+
+    Multi<? extends Message<?>> apply(Multi<? extends Message<?>> publisher) {
+        // the merge bounds the number of messages waiting for their group or for a permit
+        return publisher.onItem().transformToUni(this::admit).merge(maxConcurrency);
+    }
+
+    private Uni<Message<?>> admit(Message<?> message) {
+        String group = groupOrdering ? groupId(message) : null;
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        CompletableFuture<Void> previous = COMPLETED;
+        if (group != null) {
+            synchronized (this) {
+                previous = lastOfGroup.getOrDefault(group, COMPLETED);
+                lastOfGroup.put(group, done);
+            }
+            done.whenComplete((r, e) -> {
+                synchronized (this) {
+                    lastOfGroup.remove(group, done);
+                }
+            });
+        }
+        CompletionStage<Message<?>> admitted = previous
+                .thenCompose(ignored -> acquire())
+                .thenApply(ignored -> released(message, done));
+        return Uni.createFrom().completionStage(admitted);
+    }
+
+    private Message<?> released(Message<?> message, CompletableFuture<Void> done) {
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                release();
+                done.complete(null);
+            }
+        };
+        return message
+                .withAckWithMetadata(metadata -> {
+                    release.run();
+                    return message.ack(metadata);
+                })
+                .withNackWithMetadata((failure, metadata) -> {
+                    release.run();
+                    return message.nack(failure, metadata);
+                });
+    }
+
+    private synchronized CompletableFuture<Void> acquire() {
+        if (availablePermits > 0) {
+            availablePermits--;
+            return COMPLETED;
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.addLast(waiter);
+        return waiter;
+    }
+
+    private void release() {
+        CompletableFuture<Void> waiter;
+        synchronized (this) {
+            waiter = waiters.pollFirst();
+            if (waiter == null) {
+                availablePermits++;
+                return;
+            }
+        }
+        waiter.complete(null);
+    }
+
+    private static String groupId(Message<?> message) {
+        return message.getMetadata(SqsIncomingMetadata.class)
+                .map(metadata -> metadata.getMessage().attributes().get(MessageSystemAttributeName.MESSAGE_GROUP_ID))
+                .orElse(null);
+    }
+}
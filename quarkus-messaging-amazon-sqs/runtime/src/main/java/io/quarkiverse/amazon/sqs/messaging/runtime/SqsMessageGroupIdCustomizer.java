@@ -0,0 +1,26 @@
+package io.quarkiverse.amazon.sqs.messaging.runtime;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.smallrye.common.annotation.Identifier;
+import io.smallrye.reactive.messaging.aws.sqs.SqsReceiveMessageRequestCustomizer;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+
+/**
+ * Requests the {@code MessageGroupId} of the received messages, so that the messages of a FIFO queue can be
+ * ordered per group.
+ * <p>
+ * It is the default receive request customizer of the incoming SQS channels which do not have their own.
+ */
+@ApplicationScoped
+@Identifier(SqsMessageGroupIdCustomizer.IDENTIFIER)
+public class SqsMessageGroupIdCustomizer implements SqsReceiveMessageRequestCustomizer {
+
+    public static final String IDENTIFIER = "quarkus-amazon-sqs-message-group-id";
+
+    @Override
+    public void customize(ReceiveMessageRequest.Builder builder) {
+        builder.messageSystemAttributeNames(MessageSystemAttributeName.MESSAGE_GROUP_ID);
+    }
+}
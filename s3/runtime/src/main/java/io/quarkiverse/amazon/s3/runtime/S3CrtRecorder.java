@@ -4,6 +4,7 @@ import java.net.URI;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
+import io.quarkiverse.amazon.common.runtime.AmazonCredentialsProviderRegistry;
 import io.quarkiverse.amazon.common.runtime.AwsConfig;
 import io.quarkiverse.amazon.common.runtime.ClientUtil;
 import io.quarkiverse.amazon.common.runtime.RuntimeConfigurationError;
@@ -13,7 +14,6 @@ import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3CrtAsyncClientBuilder;
 import software.amazon.awssdk.utils.StringUtils;
@@ -51,9 +51,9 @@ public class S3CrtRecorder {
         SdkConfig sdkConfig = config.clients().get(ClientUtil.DEFAULT_CLIENT_NAME).sdk();
 
         awsConfig.region().ifPresent(builder::region);
-        AwsCredentialsProvider credential = awsConfig.credentials().map(c -> c.type().create(c, "quarkus." + awsServiceName))
-                .orElseGet(() -> DefaultCredentialsProvider.builder().asyncCredentialUpdateEnabled(false)
-                        .reuseLastProviderEnabled(false).build());
+        AwsCredentialsProvider credential = awsConfig.credentials()
+                .map(c -> AmazonCredentialsProviderRegistry.shared(c, "quarkus." + awsServiceName))
+                .orElseGet(AmazonCredentialsProviderRegistry::sharedDefault);
 
         builder.credentialsProvider(credential);
 
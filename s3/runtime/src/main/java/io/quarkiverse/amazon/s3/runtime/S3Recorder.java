@@ -2,11 +2,13 @@ package io.quarkiverse.amazon.s3.runtime;
 
 import io.quarkiverse.amazon.common.runtime.AmazonClientRecorder;
 import io.quarkiverse.amazon.common.runtime.AsyncHttpClientConfig;
+import io.quarkiverse.amazon.common.runtime.EndpointCache;
 import io.quarkiverse.amazon.common.runtime.HasAmazonClientRuntimeConfig;
 import io.quarkiverse.amazon.common.runtime.SyncHttpClientConfig;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import software.amazon.awssdk.awscore.client.builder.AwsAsyncClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.awscore.presigner.SdkPresigner;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -15,6 +17,8 @@ import software.amazon.awssdk.services.s3.S3BaseClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointParams;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Recorder
@@ -80,4 +84,16 @@ public class S3Recorder extends AmazonClientRecorder {
         config.profileName().ifPresent(s3ConfigBuilder::profileName);
         return s3ConfigBuilder;
     }
+
+    @Override
+    protected void setEndpointCache(AwsClientBuilder<?, ?> builder, int maxSize) {
+        // all the parameters but the object keys, prefixes, copy sources and deleted keys, which don't shape the endpoint
+        EndpointCache<S3EndpointParams> cache = new EndpointCache<>(S3EndpointProvider.defaultProvider()::resolveEndpoint,
+                p -> EndpointCache.key(p.region(), p.useFips(), p.useDualStack(), p.endpoint(), p.bucket(),
+                        p.forcePathStyle(), p.accelerate(), p.useGlobalEndpoint(), p.useObjectLambdaEndpoint(),
+                        p.disableAccessPoints(), p.disableMultiRegionAccessPoints(), p.useArnRegion(),
+                        p.useS3ExpressControlEndpoint(), p.disableS3ExpressSessionAuth()),
+                maxSize);
+        ((S3BaseClientBuilder<?, ?>) builder).endpointProvider(cache::resolveEndpoint);
+    }
 }
@@ -1,7 +1,16 @@
 package io.quarkiverse.amazon.sns.deployment;
 
+import static io.quarkiverse.amazon.common.deployment.ClientDeploymentUtil.getNamedClientInjection;
+import static io.quarkiverse.amazon.common.deployment.ClientDeploymentUtil.injectionPointAnnotationsClient;
+import static io.quarkiverse.amazon.common.deployment.ClientDeploymentUtil.namedClient;
+
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
 
+import org.jboss.jandex.ClassType;
 import org.jboss.jandex.DotName;
 
 import io.quarkiverse.amazon.common.deployment.AbstractAmazonServiceProcessor;
@@ -11,6 +20,7 @@ import io.quarkiverse.amazon.common.deployment.AmazonClientInterceptorsPathBuild
 import io.quarkiverse.amazon.common.deployment.AmazonClientSyncResultBuildItem;
 import io.quarkiverse.amazon.common.deployment.AmazonClientSyncTransportBuildItem;
 import io.quarkiverse.amazon.common.deployment.AmazonHttpClients;
+import io.quarkiverse.amazon.common.deployment.AmazonS3Clients;
 import io.quarkiverse.amazon.common.deployment.RequireAmazonClientBuildItem;
 import io.quarkiverse.amazon.common.deployment.RequireAmazonClientInjectionBuildItem;
 import io.quarkiverse.amazon.common.deployment.RequireAmazonClientTransportBuilderBuildItem;
@@ -19,13 +29,22 @@ import io.quarkiverse.amazon.common.deployment.spi.EventLoopGroupBuildItem;
 import io.quarkiverse.amazon.common.runtime.AmazonClientApacheTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientAwsCrtTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientCommonRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientJdkTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientNettyTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientOpenTelemetryRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientUrlConnectionTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientVertxTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.ClientUtil;
+import io.quarkiverse.amazon.sns.runtime.SnsBatchPublisher;
+import io.quarkiverse.amazon.sns.runtime.SnsBatchRecorder;
 import io.quarkiverse.amazon.sns.runtime.SnsBuildTimeConfig;
+import io.quarkiverse.amazon.sns.runtime.SnsExtendedPayloadClient;
+import io.quarkiverse.amazon.sns.runtime.SnsExtendedPayloadRecorder;
 import io.quarkiverse.amazon.sns.runtime.SnsRecorder;
+import io.quarkus.arc.BeanDestroyer;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -43,6 +62,10 @@ public class SnsProcessor extends AbstractAmazonServiceProcessor {
 
     private static final String AMAZON_CLIENT_NAME = "amazon-sns";
 
+    private static final DotName SNS_BATCH_PUBLISHER = DotName.createSimple(SnsBatchPublisher.class.getName());
+    private static final DotName SNS_EXTENDED_PAYLOAD_CLIENT = DotName
+            .createSimple(SnsExtendedPayloadClient.class.getName());
+
     SnsBuildTimeConfig buildTimeConfig;
 
     @Override
@@ -84,6 +107,24 @@ public class SnsProcessor extends AbstractAmazonServiceProcessor {
             BuildProducer<RequireAmazonClientInjectionBuildItem> requireClientInjectionProducer) {
 
         discoverClientInjectionPointsInternal(beanRegistrationPhase, requireClientInjectionProducer);
+
+        for (InjectionPointInfo injectionPoint : beanRegistrationPhase.getInjectionPoints()) {
+            DotName injectedType = injectionPoint.getRequiredType().name();
+            // the batch publishers are built on top of the async clients
+            if (SNS_BATCH_PUBLISHER.equals(injectedType)) {
+                requireClientInjectionProducer.produce(new RequireAmazonClientInjectionBuildItem(asyncClientName(),
+                        getNamedClientInjection(injectionPoint)));
+            }
+            // the extended payload clients store the large messages through the default S3 async client
+            if (SNS_EXTENDED_PAYLOAD_CLIENT.equals(injectedType)) {
+                requireClientInjectionProducer.produce(new RequireAmazonClientInjectionBuildItem(asyncClientName(),
+                        getNamedClientInjection(injectionPoint)));
+                requireClientInjectionProducer.produce(new RequireAmazonClientInjectionBuildItem(
+                        AmazonS3Clients.S3_ASYNC_CLIENT_NAME, ClientUtil.DEFAULT_CLIENT_NAME));
+                requireClientInjectionProducer.produce(new RequireAmazonClientInjectionBuildItem(
+                        SNS_EXTENDED_PAYLOAD_CLIENT, getNamedClientInjection(injectionPoint)));
+            }
+        }
     }
 
     @BuildStep
@@ -147,6 +188,19 @@ public class SnsProcessor extends AbstractAmazonServiceProcessor {
                 syncTransports);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupJdkSyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients, SnsRecorder recorder,
+            AmazonClientJdkTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientSyncTransportBuildItem> syncTransports) {
+
+        createJdkSyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.syncClient(),
+                recorder.getSyncConfig(),
+                syncTransports);
+    }
+
     @BuildStep(onlyIf = AmazonHttpClients.IsAmazonNettyHttpServicePresent.class)
     @Record(ExecutionTime.RUNTIME_INIT)
     void setupNettyAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients, SnsRecorder recorder,
@@ -174,6 +228,19 @@ public class SnsProcessor extends AbstractAmazonServiceProcessor {
                 asyncTransports);
     }
 
+    @BuildStep(onlyIf = AmazonHttpClients.IsQuarkusVertxPresent.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupVertxAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients, SnsRecorder recorder,
+            AmazonClientVertxTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientAsyncTransportBuildItem> asyncTransports) {
+
+        createVertxAsyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.asyncClient(),
+                recorder.getAsyncConfig(),
+                asyncTransports);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void createClientBuilders(SnsRecorder recorder,
@@ -207,4 +274,56 @@ public class SnsProcessor extends AbstractAmazonServiceProcessor {
                 launchModeBuildItem,
                 executorBuildItem);
     }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void createBatchPublishers(SnsBatchRecorder recorder,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBean,
+            List<AmazonClientAsyncResultBuildItem> asyncBuilder) {
+
+        // batch publishers are only created for the async clients, they are removed if they are not injected
+        for (AmazonClientAsyncResultBuildItem amazonClientAsyncResultBuildItem : asyncBuilder) {
+            if (!configName().equals(amazonClientAsyncResultBuildItem.getAwsClientName())) {
+                continue;
+            }
+            syntheticBean.produce(namedClient(SyntheticBeanBuildItem
+                    .configure(SnsBatchPublisher.class), amazonClientAsyncResultBuildItem.getClientName())
+                    .scope(ApplicationScoped.class)
+                    .setRuntimeInit()
+                    .createWith(recorder.createSnsBatchPublisher(amazonClientAsyncResultBuildItem.getClientName()))
+                    .destroyer(BeanDestroyer.AutoCloseableDestroyer.class)
+                    .addInjectionPoint(ClassType.create(SnsAsyncClient.class),
+                            injectionPointAnnotationsClient(amazonClientAsyncResultBuildItem.getClientName()))
+                    .done());
+        }
+    }
+
+    @BuildStep(onlyIf = AmazonS3Clients.IsS3AsyncClientPresent.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void createExtendedPayloadClients(SnsExtendedPayloadRecorder recorder,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBean,
+            List<AmazonClientAsyncResultBuildItem> asyncBuilder,
+            List<RequireAmazonClientInjectionBuildItem> amazonClientInjections) {
+
+        // extended payload clients are only created when they are injected, as they require an S3 client
+        Set<String> injectedClientNames = amazonClientInjections.stream()
+                .filter(item -> SNS_EXTENDED_PAYLOAD_CLIENT.equals(item.getClassName()))
+                .map(RequireAmazonClientInjectionBuildItem::getName)
+                .collect(Collectors.toSet());
+        for (AmazonClientAsyncResultBuildItem amazonClientAsyncResultBuildItem : asyncBuilder) {
+            if (!configName().equals(amazonClientAsyncResultBuildItem.getAwsClientName())
+                    || !injectedClientNames.contains(amazonClientAsyncResultBuildItem.getClientName())) {
+                continue;
+            }
+            syntheticBean.produce(namedClient(SyntheticBeanBuildItem
+                    .configure(SnsExtendedPayloadClient.class), amazonClientAsyncResultBuildItem.getClientName())
+                    .scope(ApplicationScoped.class)
+                    .setRuntimeInit()
+                    .createWith(recorder.createSnsExtendedPayloadClient(amazonClientAsyncResultBuildItem.getClientName()))
+                    .addInjectionPoint(ClassType.create(SnsAsyncClient.class),
+                            injectionPointAnnotationsClient(amazonClientAsyncResultBuildItem.getClientName()))
+                    .addInjectionPoint(ClassType.create(AmazonS3Clients.S3_ASYNC_CLIENT_NAME))
+                    .done());
+        }
+    }
 }
@@ -0,0 +1,154 @@
+package io.quarkiverse.amazon.sns.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.sns.runtime.SnsBatchPublisher;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.services.sns.model.PublishResponse;
+import software.amazon.awssdk.services.sns.model.SnsException;
+
+public class SnsBatchPublisherTest {
+
+    private static final StubServer STUB = StubServer.start(SnsBatchPublisherTest.class)
+            .handle(SnsBatchPublisherTest::handle);
+    private static final String TOPIC = "arn:aws:sns:us-east-2:000000000000:topic";
+    private static final String OTHER_TOPIC = "arn:aws:sns:us-east-2:000000000000:other";
+
+    // the topic and the messages of each PublishBatch request
+    private static final List<String> BATCH_TOPICS = new CopyOnWriteArrayList<>();
+    private static final List<List<String>> BATCHES = new CopyOnWriteArrayList<>();
+    private static final AtomicBoolean FLAKY_FAILED = new AtomicBoolean();
+
+    @Inject
+    SnsBatchPublisher publisher;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.sns.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.sns.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.sns.batch-publisher.flush-interval", "100ms")
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() throws Exception {
+
+        // full batches are sent per topic
+        List<CompletableFuture<PublishResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String message = "message-" + i;
+            responses.add(publisher.publish(p -> p.topicArn(TOPIC).message(message)));
+        }
+        responses.add(publisher.publish(p -> p.topicArn(OTHER_TOPIC).message("other")));
+        for (int i = 0; i < 20; i++) {
+            assertEquals("message-" + i, responses.get(i).get(10, TimeUnit.SECONDS).messageId());
+        }
+        assertEquals("other", responses.get(20).get(10, TimeUnit.SECONDS).messageId());
+        assertEquals(3, BATCHES.size());
+        assertEquals(1, BATCH_TOPICS.stream().filter(OTHER_TOPIC::equals).count());
+        assertEquals(2, BATCHES.stream().filter(batch -> batch.size() == 10).count());
+
+        // the batches are packed up to 256 KB
+        BATCHES.clear();
+        String large = "x".repeat(100 * 1024);
+        List<CompletableFuture<PublishResponse>> largeResponses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            largeResponses.add(publisher.publish(p -> p.topicArn(TOPIC).message(large)));
+        }
+        CompletableFuture.allOf(largeResponses.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(2, 1), BATCHES.stream().map(List::size).toList());
+
+        // only the failed entries are retried, and only if the failure is not caused by the sender
+        BATCHES.clear();
+        CompletableFuture<PublishResponse> ok = publisher.publish(p -> p.topicArn(TOPIC).message("ok"));
+        CompletableFuture<PublishResponse> flaky = publisher.publish(p -> p.topicArn(TOPIC).message("flaky"));
+        CompletableFuture<PublishResponse> invalid = publisher.publish(p -> p.topicArn(TOPIC).message("invalid"));
+        assertEquals("ok", ok.get(10, TimeUnit.SECONDS).messageId());
+        assertEquals("flaky", flaky.get(10, TimeUnit.SECONDS).messageId());
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> invalid.get(10, TimeUnit.SECONDS));
+        assertEquals("InvalidParameter", ((SnsException) failure.getCause()).awsErrorDetails().errorCode());
+        assertEquals(List.of(List.of("ok", "flaky", "invalid"), List.of("flaky")), BATCHES);
+
+        assertEquals(1, publisher.retriedMessages());
+        assertEquals(1, publisher.failedMessages());
+        assertEquals(26, publisher.publishedMessages());
+        assertEquals(7, publisher.sentBatches());
+        assertEquals(28, publisher.batchedEntries());
+        assertEquals(0.4, publisher.batchFillRatio(), 0.001);
+        assertTrue(publisher.averageBatchBytes() > 0);
+        assertEquals(0, publisher.pendingMessages());
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        StubServer.respond(exchange, 200, "text/xml", publishBatch(StubServer.body(exchange)));
+    }
+
+    private static String publishBatch(String body) {
+        String topic = null;
+        Map<Integer, String> ids = new TreeMap<>();
+        Map<Integer, String> messages = new TreeMap<>();
+        for (String parameter : body.split("&")) {
+            String[] nameAndValue = parameter.split("=", 2);
+            String name = nameAndValue[0];
+            String value = nameAndValue.length > 1 ? URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8) : "";
+            if ("TopicArn".equals(name)) {
+                topic = value;
+            } else if (name.startsWith("PublishBatchRequestEntries.member.")) {
+                String[] parts = name.split("\\.");
+                int index = Integer.parseInt(parts[2]);
+                if ("Id".equals(parts[3])) {
+                    ids.put(index, value);
+                } else if ("Message".equals(parts[3])) {
+                    messages.put(index, value);
+                }
+            }
+        }
+        BATCH_TOPICS.add(topic);
+        BATCHES.add(new ArrayList<>(messages.values()));
+
+        StringBuilder successful = new StringBuilder();
+        StringBuilder failed = new StringBuilder();
+        for (Map.Entry<Integer, String> message : messages.entrySet()) {
+            String id = ids.get(message.getKey());
+            String messageId = message.getValue().length() > 100 ? "large" : message.getValue();
+            if ("invalid".equals(message.getValue())) {
+                failed.append("<member><Id>").append(id).append("</Id><Code>InvalidParameter</Code>")
+                        .append("<Message>invalid</Message><SenderFault>true</SenderFault></member>");
+            } else if ("flaky".equals(message.getValue()) && FLAKY_FAILED.compareAndSet(false, true)) {
+                failed.append("<member><Id>").append(id).append("</Id><Code>InternalError</Code>")
+                        .append("<Message>flaky</Message><SenderFault>false</SenderFault></member>");
+            } else {
+                successful.append("<member><Id>").append(id).append("</Id><MessageId>").append(messageId)
+                        .append("</MessageId></member>");
+            }
+        }
+        return "<PublishBatchResponse xmlns=\"http://sns.amazonaws.com/doc/2010-03-31/\"><PublishBatchResult>"
+                + "<Successful>" + successful + "</Successful><Failed>" + failed + "</Failed></PublishBatchResult>"
+                + "<ResponseMetadata><RequestId>request</RequestId></ResponseMetadata></PublishBatchResponse>";
+    }
+}
@@ -0,0 +1,174 @@
+package io.quarkiverse.amazon.sns.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.common.runtime.PayloadS3Pointer;
+import io.quarkiverse.amazon.sns.runtime.SnsExtendedPayloadClient;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.sns.model.PublishResponse;
+import software.amazon.awssdk.utils.Md5Utils;
+
+public class SnsExtendedPayloadClientTest {
+
+    private static final StubServer STUB = StubServer.start(SnsExtendedPayloadClientTest.class)
+            .handle(SnsExtendedPayloadClientTest::handle);
+    private static final String TOPIC_ARN = "arn:aws:sns:us-east-2:000000000000:topic";
+
+    private static final List<String> PUBLISHED = new CopyOnWriteArrayList<>();
+    private static final List<String> PAYLOAD_SIZES = new CopyOnWriteArrayList<>();
+    private static final Map<String, byte[]> OBJECTS = new ConcurrentHashMap<>();
+
+    @Inject
+    SnsExtendedPayloadClient client;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.sns.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.sns.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.sns.extended-payload.bucket", "payloads")
+            .overrideConfigKey("quarkus.sns.extended-payload.threshold", "1024")
+            .overrideConfigKey("quarkus.s3.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.s3.path-style-access", "true")
+            .overrideConfigKey("quarkus.s3.aws.region", "us-east-2")
+            .overrideConfigKey("quarkus.s3.aws.credentials.type", "static")
+            .overrideConfigKey("quarkus.s3.aws.credentials.static-provider.access-key-id", "test-key")
+            .overrideConfigKey("quarkus.s3.aws.credentials.static-provider.secret-access-key", "test-secret")
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() throws Exception {
+
+        // a small message is published as is
+        client.publish(r -> r.topicArn(TOPIC_ARN).message("small")).get(10, TimeUnit.SECONDS);
+        assertEquals("small", PUBLISHED.get(0));
+        assertTrue(OBJECTS.isEmpty());
+
+        // a large message is stored in S3 and the published message points to it
+        String large = "x".repeat(4096);
+        client.publish(r -> r.topicArn(TOPIC_ARN).message(large)).get(10, TimeUnit.SECONDS);
+        PayloadS3Pointer pointer = PayloadS3Pointer.fromJson(PUBLISHED.get(1)).orElseThrow();
+        assertEquals("payloads", pointer.bucket());
+        assertEquals(large, new String(OBJECTS.get("/payloads/" + pointer.key()), StandardCharsets.UTF_8));
+        assertEquals(List.of("4096"), PAYLOAD_SIZES);
+
+        // a streamed message is always stored in S3
+        byte[] binary = new byte[100_000];
+        for (int i = 0; i < binary.length; i++) {
+            binary[i] = (byte) i;
+        }
+        client.publish(r -> r.topicArn(TOPIC_ARN), AsyncRequestBody.fromBytes(binary)).get(10, TimeUnit.SECONDS);
+        PayloadS3Pointer streamed = PayloadS3Pointer.fromJson(PUBLISHED.get(2)).orElseThrow();
+        assertArrayEquals(binary, OBJECTS.get("/payloads/" + streamed.key()));
+
+        // the messages which cannot be stored in S3 fail the returned future
+        CompletableFuture<PublishResponse> json = client.publish(r -> r.topicArn(TOPIC_ARN)
+                .messageStructure("json").message(large));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> json.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+        assertEquals(3, PUBLISHED.size());
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+        if ("/".equals(exchange.getRequestURI().getPath())) {
+            sns(exchange, new String(body, StandardCharsets.UTF_8));
+        } else {
+            s3(exchange, body);
+        }
+    }
+
+    private static void sns(HttpExchange exchange, String body) throws IOException {
+        String payloadSize = null;
+        for (String parameter : body.split("&")) {
+            String[] nameAndValue = parameter.split("=", 2);
+            String value = URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8);
+            if ("Message".equals(nameAndValue[0])) {
+                PUBLISHED.add(value);
+            } else if (nameAndValue[0].endsWith(".Value.StringValue")) {
+                payloadSize = value;
+            }
+        }
+        if (payloadSize != null && PUBLISHED.size() == 2) {
+            PAYLOAD_SIZES.add(payloadSize);
+        }
+        exchange.getResponseHeaders().add("Content-Type", "text/xml");
+        send(exchange, ("<PublishResponse xmlns=\"http://sns.amazonaws.com/doc/2010-03-31/\"><PublishResult><MessageId>"
+                + PUBLISHED.size() + "</MessageId></PublishResult><ResponseMetadata><RequestId>request</RequestId>"
+                + "</ResponseMetadata></PublishResponse>").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void s3(HttpExchange exchange, byte[] body) throws IOException {
+        String contentSha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        byte[] object = contentSha256 != null && contentSha256.startsWith("STREAMING-") ? unchunk(body) : body;
+        OBJECTS.put(exchange.getRequestURI().getPath(), object);
+        exchange.getResponseHeaders().add("ETag", "\"" + hex(Md5Utils.computeMD5Hash(object)) + "\"");
+        send(exchange, new byte[0]);
+    }
+
+    private static byte[] unchunk(byte[] body) {
+        // aws-chunked: <hex size>;chunk-signature=<signature>\r\n<data>\r\n
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int position = 0;
+        while (position < body.length) {
+            int lineEnd = position;
+            while (body[lineEnd] != '\r') {
+                lineEnd++;
+            }
+            String header = new String(body, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.substring(0, header.indexOf(';')), 16);
+            if (size == 0) {
+                break;
+            }
+            out.write(body, lineEnd + 2, size);
+            position = lineEnd + 2 + size + 2;
+        }
+        return out.toByteArray();
+    }
+
+    private static void send(HttpExchange exchange, byte[] response) throws IOException {
+        exchange.sendResponseHeaders(200, response.length == 0 ? -1 : response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
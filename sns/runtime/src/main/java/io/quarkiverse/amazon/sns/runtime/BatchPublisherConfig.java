@@ -0,0 +1,56 @@
+package io.quarkiverse.amazon.sns.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface BatchPublisherConfig {
+
+    /**
+     * The number of messages merged in a `PublishBatch` request, at most 10.
+     * <p>
+     * A batch is sent as soon as this number of messages to the same topic is buffered.
+     */
+    @WithDefault("10")
+    int maxBatchSize();
+
+    /**
+     * The maximum time a message is buffered before being published in a partial batch.
+     */
+    @WithDefault("50ms")
+    Duration flushInterval();
+
+    /**
+     * The maximum number of `PublishBatch` requests in flight. Messages remain buffered while this limit is reached.
+     */
+    @WithDefault("16")
+    int maxInFlightBatches();
+
+    /**
+     * The maximum number of messages buffered or in flight. Messages submitted beyond this limit are rejected.
+     */
+    @WithDefault("10000")
+    int maxPendingMessages();
+
+    /**
+     * The number of times a message whose entry failed with a server error or was throttled is published again in a
+     * later batch.
+     */
+    @WithDefault("3")
+    int maxRetries();
+
+    /**
+     * The base delay of the exponential backoff applied before publishing failed messages again. The delay is drawn at
+     * random between zero and the backoff of the attempt.
+     */
+    @WithDefault("50ms")
+    Duration baseBackoff();
+
+    /**
+     * The maximum delay before publishing failed messages again.
+     */
+    @WithDefault("5s")
+    Duration maxBackoff();
+}
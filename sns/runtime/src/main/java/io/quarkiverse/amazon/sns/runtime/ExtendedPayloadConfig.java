@@ -0,0 +1,34 @@
+package io.quarkiverse.amazon.sns.runtime;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface ExtendedPayloadConfig {
+
+    /**
+     * The S3 bucket the messages too large to be published are stored in.
+     * <p>
+     * It is required to offload messages.
+     */
+    Optional<String> bucket();
+
+    /**
+     * The prefix of the keys of the messages stored in S3.
+     */
+    Optional<String> keyPrefix();
+
+    /**
+     * The size in bytes of the message and attributes above which the message is stored in S3, at most 262144.
+     */
+    @WithDefault("262144")
+    int threshold();
+
+    /**
+     * Whether every message is stored in S3, whatever its size.
+     */
+    @WithDefault("false")
+    boolean alwaysThroughS3();
+}
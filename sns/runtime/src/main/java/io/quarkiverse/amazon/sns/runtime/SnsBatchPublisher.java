@@ -0,0 +1,266 @@
+package io.quarkiverse.amazon.sns.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import io.quarkiverse.amazon.common.runtime.Batcher;
+import io.quarkiverse.amazon.common.runtime.MessageSizes;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResultEntry;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.PublishResponse;
+import software.amazon.awssdk.services.sns.model.SnsException;
+
+/**
+ * Merges the messages published to the same topic into {@code PublishBatch} requests sent through the
+ * {@link SnsAsyncClient}.
+ * <p>
+ * A batch is sent as soon as enough messages are buffered to fill it, 10 messages or 256 KB, or once the oldest
+ * buffered message waited for the flush interval. Batches are sent concurrently, up to a configured limit. The future
+ * returned for each message completes with the response the single {@code Publish} request would have returned, or
+ * fails with an {@link SnsException} if its entry failed.
+ * <p>
+ * The messages whose entry failed with a server error or was throttled are published again in a later batch, after an
+ * exponential backoff with full jitter and up to the configured number of retries, while the rest of their batch is
+ * not. For FIFO topics, the later messages of the group of a message are held back while it is in flight or waits for
+ * its retry, so that the messages of a group are published in order.
+ * <p>
+ * Only the messages published to a topic can be batched. The override configuration of the requests is not applied to
+ * the batch requests.
+ * <p>
+ * When Micrometer is available, the counters and gauges of the publisher are registered as
+ * {@code aws.sns.batch.publisher.*} meters tagged with the client.
+ */
+public class SnsBatchPublisher implements AutoCloseable {
+
+    static final int MAX_BATCH_SIZE = 10;
+    static final long MAX_BATCH_BYTES = 256L * 1024;
+
+    private final SnsAsyncClient client;
+    private final PublishBatcher batcher;
+
+    public SnsBatchPublisher(SnsAsyncClient client, BatchPublisherConfig config) {
+        this(client, config.maxBatchSize(), config.flushInterval(), config.maxInFlightBatches(),
+                config.maxPendingMessages(), config.maxRetries(), config.baseBackoff(), config.maxBackoff());
+    }
+
+    public SnsBatchPublisher(SnsAsyncClient client, int maxBatchSize, Duration flushInterval, int maxInFlightBatches,
+            int maxPendingMessages, int maxRetries, Duration baseBackoff, Duration maxBackoff) {
+        if (maxBatchSize < 1 || maxBatchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("The batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        if (maxInFlightBatches < 1 || maxPendingMessages < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum number of batches in flight and of pending messages must be positive");
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("The number of retries must not be negative");
+        }
+        this.client = client;
+        this.batcher = new PublishBatcher(maxBatchSize, flushInterval, maxInFlightBatches, maxPendingMessages,
+                maxRetries, baseBackoff, maxBackoff);
+    }
+
+    void registerMeters(String clientName) {
+        batcher.registerMeters("aws.sns.batch.publisher", "client", clientName);
+    }
+
+    /**
+     * Publishes a message to a topic within a {@code PublishBatch} request.
+     *
+     * @return a future completed once the message is published
+     */
+    public CompletableFuture<PublishResponse> publish(PublishRequest request) {
+        if (request.topicArn() == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Only the messages published to a topic can be batched"));
+        }
+        PendingMessage entry = new PendingMessage(request, estimateSize(request));
+        batcher.submit(request.topicArn(), entry);
+        return entry.future();
+    }
+
+    /**
+     * Publishes a message to a topic within a {@code PublishBatch} request.
+     *
+     * @return a future completed once the message is published
+     */
+    public CompletableFuture<PublishResponse> publish(Consumer<PublishRequest.Builder> request) {
+        return publish(PublishRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Publishes the buffered messages without waiting for the flush interval.
+     *
+     * @return a future completed once the messages submitted before the flush are processed, or failed if one of them
+     *         failed
+     */
+    public CompletableFuture<Void> flush() {
+        return batcher.flush();
+    }
+
+    /**
+     * @return the number of {@code PublishBatch} requests sent
+     */
+    public long sentBatches() {
+        return batcher.sentBatches();
+    }
+
+    /**
+     * @return the number of entries sent within {@code PublishBatch} requests, including the retried ones
+     */
+    public long batchedEntries() {
+        return batcher.batchedEntries();
+    }
+
+    /**
+     * @return the number of messages published
+     */
+    public long publishedMessages() {
+        return batcher.completedEntries();
+    }
+
+    /**
+     * @return the number of messages that failed, either because their batch request failed or because their entry
+     *         failed and was not retried
+     */
+    public long failedMessages() {
+        return batcher.failedEntries();
+    }
+
+    /**
+     * @return the number of times a message was published again after its entry failed
+     */
+    public long retriedMessages() {
+        return batcher.retriedEntries();
+    }
+
+    /**
+     * @return the average number of entries per batch over the maximum batch size, between 0 and 1
+     */
+    public double batchFillRatio() {
+        return batcher.batchFillRatio();
+    }
+
+    /**
+     * @return the average size in bytes of the batches
+     */
+    public long averageBatchBytes() {
+        return batcher.averageBatchBytes();
+    }
+
+    /**
+     * @return the number of messages buffered, in flight or waiting for a retry
+     */
+    public int pendingMessages() {
+        return batcher.pendingEntries();
+    }
+
+    /**
+     * @return the number of {@code PublishBatch} requests in flight
+     */
+    public int inFlightBatches() {
+        return batcher.inFlightBatches();
+    }
+
+    /**
+     * Flushes the buffered messages, waits for the pending ones and rejects any further message.
+     */
+    @Override
+    public void close() {
+        batcher.close();
+    }
+
+    private CompletableFuture<Void> publishBatch(String topicArn, List<PendingMessage> batch) {
+        List<PublishBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PublishRequest request = batch.get(i).request;
+            entries.add(PublishBatchRequestEntry.builder()
+                    .id(String.valueOf(i))
+                    .message(request.message())
+                    .subject(request.subject())
+                    .messageStructure(request.messageStructure())
+                    .messageAttributes(request.messageAttributes())
+                    .messageDeduplicationId(request.messageDeduplicationId())
+                    .messageGroupId(request.messageGroupId())
+                    .build());
+        }
+        return client
+                .publishBatch(PublishBatchRequest.builder().topicArn(topicArn).publishBatchRequestEntries(entries).build())
+                .thenAccept(response -> {
+                    for (PublishBatchResultEntry result : response.successful()) {
+                        batch.get(Integer.parseInt(result.id())).succeeded(PublishResponse.builder()
+                                .messageId(result.messageId())
+                                .sequenceNumber(result.sequenceNumber())
+                                .build());
+                    }
+                    failed(batch, response.failed());
+                });
+    }
+
+    private static void failed(List<PendingMessage> batch, List<BatchResultErrorEntry> failures) {
+        for (BatchResultErrorEntry failure : failures) {
+            boolean retryable = !Boolean.TRUE.equals(failure.senderFault())
+                    || (failure.code() != null && failure.code().startsWith("Throttl"));
+            batch.get(Integer.parseInt(failure.id())).failed(SnsException.builder()
+                    .message(failure.code() + ": " + failure.message())
+                    .statusCode(Boolean.TRUE.equals(failure.senderFault()) ? 400 : 500)
+                    .awsErrorDetails(AwsErrorDetails.builder()
+                            .errorCode(failure.code())
+                            .errorMessage(failure.message())
+                            .serviceName("Sns")
+                            .build())
+                    .build(), retryable);
+        }
+    }
+
+    /**
+     * @return an estimate of the size of the message, as computed by SNS
+     */
+    static long estimateSize(PublishRequest request) {
+        return MessageSizes.estimateSize(request.message(), request.messageAttributes(),
+                MessageAttributeValue::dataType, MessageAttributeValue::stringValue, MessageAttributeValue::binaryValue);
+    }
+
+    private final class PublishBatcher extends Batcher<String, PendingMessage> {
+
+        private PublishBatcher(int maxBatchSize, Duration flushInterval, int maxInFlightBatches, int maxPendingMessages,
+                int maxRetries, Duration baseBackoff, Duration maxBackoff) {
+            super("SNS batch publisher", maxBatchSize, MAX_BATCH_BYTES, flushInterval, maxInFlightBatches,
+                    maxPendingMessages, maxRetries, baseBackoff, maxBackoff);
+        }
+
+        @Override
+        protected CompletableFuture<?> send(String topicArn, List<PendingMessage> batch) {
+            return publishBatch(topicArn, batch);
+        }
+
+        @Override
+        protected Object group(String topicArn, PendingMessage entry) {
+            return entry.request.messageGroupId();
+        }
+
+        @Override
+        protected boolean ordered(String topicArn) {
+            return topicArn.endsWith(".fifo");
+        }
+    }
+
+    private static final class PendingMessage extends Batcher.Entry<PublishResponse> {
+
+        private final PublishRequest request;
+
+        private PendingMessage(PublishRequest request, long size) {
+            super(size);
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkiverse.amazon.sns.runtime;
+
+import java.util.function.Function;
+
+import io.quarkiverse.amazon.common.runtime.ClientUtil;
+import io.quarkus.arc.SyntheticCreationalContext;
+import io.quarkus.runtime.annotations.Recorder;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+
+@Recorder
+public class SnsBatchRecorder {
+
+    final SnsConfig config;
+
+    public SnsBatchRecorder(SnsConfig config) {
+        this.config = config;
+    }
+
+    public Function<SyntheticCreationalContext<SnsBatchPublisher>, SnsBatchPublisher> createSnsBatchPublisher(
+            String clientName) {
+        return new Function<SyntheticCreationalContext<SnsBatchPublisher>, SnsBatchPublisher>() {
+            @Override
+            public SnsBatchPublisher apply(SyntheticCreationalContext<SnsBatchPublisher> context) {
+                SnsAsyncClient client;
+                if (ClientUtil.isDefaultClient(clientName))
+                    client = context.getInjectedReference(SnsAsyncClient.class);
+                else
+                    client = context.getInjectedReference(SnsAsyncClient.class,
+                            new io.quarkiverse.amazon.common.AmazonClient.AmazonClientLiteral(clientName));
+
+                SnsBatchPublisher publisher = new SnsBatchPublisher(client, config.batchPublisher());
+                publisher.registerMeters(clientName);
+                return publisher;
+            }
+        };
+    }
+}
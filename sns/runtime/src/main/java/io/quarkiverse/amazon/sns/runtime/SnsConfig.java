@@ -22,4 +22,16 @@ public interface SnsConfig extends HasAmazonClientRuntimeConfig {
      */
     @ConfigDocSection
     AsyncHttpClientConfig asyncClient();
+
+    /**
+     * Configuration of the `SnsBatchPublisher` beans
+     */
+    @ConfigDocSection
+    BatchPublisherConfig batchPublisher();
+
+    /**
+     * Configuration of the `SnsExtendedPayloadClient` beans
+     */
+    @ConfigDocSection
+    ExtendedPayloadConfig extendedPayload();
 }
@@ -0,0 +1,110 @@
+package io.quarkiverse.amazon.sns.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import io.quarkiverse.amazon.common.runtime.PayloadS3Offloader;
+import io.quarkiverse.amazon.common.runtime.PayloadS3Pointer;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.PublishResponse;
+
+/**
+ * Publishes messages which may be too large for SNS, storing them in S3 through the {@link S3AsyncClient}.
+ * <p>
+ * A message larger than the configured threshold is uploaded to S3 and the published message carries a pointer to
+ * it, in the format of the Amazon SNS Extended Client Library. The SQS queues subscribed to the topic with raw message
+ * delivery receive the pointer, which the {@code SqsExtendedPayloadClient} of the SQS extension resolves.
+ */
+public class SnsExtendedPayloadClient {
+
+    private final SnsAsyncClient sns;
+    private final PayloadS3Offloader offloader;
+    private final int threshold;
+    private final boolean alwaysThroughS3;
+
+    public SnsExtendedPayloadClient(SnsAsyncClient sns, S3AsyncClient s3, ExtendedPayloadConfig config) {
+        if (config.threshold() < 0 || config.threshold() > PayloadS3Offloader.MAX_THRESHOLD) {
+            throw new IllegalArgumentException("The threshold must be between 0 and " + PayloadS3Offloader.MAX_THRESHOLD);
+        }
+        this.sns = sns;
+        this.offloader = new PayloadS3Offloader(s3, config.bucket(), config.keyPrefix(),
+                "quarkus.sns.extended-payload.bucket");
+        this.threshold = config.threshold();
+        this.alwaysThroughS3 = config.alwaysThroughS3();
+    }
+
+    /**
+     * Publishes a message, storing it in S3 if it is larger than the threshold.
+     *
+     * @return a future completed once the message is published
+     */
+    public CompletableFuture<PublishResponse> publish(PublishRequest request) {
+        if (!alwaysThroughS3 && SnsBatchPublisher.estimateSize(request) <= threshold) {
+            return sns.publish(request);
+        }
+        if ("json".equals(request.messageStructure())) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("A message with a JSON structure cannot be stored in S3"));
+        }
+        byte[] message = request.message().getBytes(StandardCharsets.UTF_8);
+        return offload(request, AsyncRequestBody.fromBytes(message), message.length);
+    }
+
+    /**
+     * Publishes a message, storing it in S3 if it is larger than the threshold.
+     *
+     * @return a future completed once the message is published
+     */
+    public CompletableFuture<PublishResponse> publish(Consumer<PublishRequest.Builder> request) {
+        return publish(PublishRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Publishes a message streamed to S3 from the given payload, whatever its size. The message of the request is
+     * ignored.
+     *
+     * @param payload the message, of a known length
+     * @return a future completed once the message is published
+     */
+    public CompletableFuture<PublishResponse> publish(PublishRequest request, AsyncRequestBody payload) {
+        Optional<Long> length = payload.contentLength();
+        if (length.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("The length of the payload must be known"));
+        }
+        return offload(request, payload, length.get());
+    }
+
+    /**
+     * Publishes a message streamed to S3 from the given payload, whatever its size. The message of the request is
+     * ignored.
+     *
+     * @param payload the message, of a known length
+     * @return a future completed once the message is published
+     */
+    public CompletableFuture<PublishResponse> publish(Consumer<PublishRequest.Builder> request,
+            AsyncRequestBody payload) {
+        return publish(PublishRequest.builder().applyMutation(request).build(), payload);
+    }
+
+    private CompletableFuture<PublishResponse> offload(PublishRequest request, AsyncRequestBody payload, long length) {
+        return offloader.offload(payload, length, pointer -> {
+            Map<String, MessageAttributeValue> attributes = new HashMap<>(request.messageAttributes());
+            attributes.put(PayloadS3Pointer.EXTENDED_PAYLOAD_SIZE_ATTRIBUTE, MessageAttributeValue.builder()
+                    .dataType("Number")
+                    .stringValue(Long.toString(length))
+                    .build());
+            return sns.publish(request.toBuilder()
+                    .message(pointer.toJson())
+                    .messageAttributes(attributes)
+                    .build());
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkiverse.amazon.sns.runtime;
+
+import java.util.function.Function;
+
+import io.quarkiverse.amazon.common.runtime.ClientUtil;
+import io.quarkus.arc.SyntheticCreationalContext;
+import io.quarkus.runtime.annotations.Recorder;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+
+@Recorder
+public class SnsExtendedPayloadRecorder {
+
+    final SnsConfig config;
+
+    public SnsExtendedPayloadRecorder(SnsConfig config) {
+        this.config = config;
+    }
+
+    public Function<SyntheticCreationalContext<SnsExtendedPayloadClient>, SnsExtendedPayloadClient> createSnsExtendedPayloadClient(
+            String clientName) {
+        return new Function<SyntheticCreationalContext<SnsExtendedPayloadClient>, SnsExtendedPayloadClient>() {
+            @Override
+            public SnsExtendedPayloadClient apply(SyntheticCreationalContext<SnsExtendedPayloadClient> context) {
+                SnsAsyncClient client;
+                if (ClientUtil.isDefaultClient(clientName))
+                    client = context.getInjectedReference(SnsAsyncClient.class);
+                else
+                    client = context.getInjectedReference(SnsAsyncClient.class,
+                            new io.quarkiverse.amazon.common.AmazonClient.AmazonClientLiteral(clientName));
+
+                return new SnsExtendedPayloadClient(client, context.getInjectedReference(S3AsyncClient.class),
+                        config.extendedPayload());
+            }
+        };
+    }
+}
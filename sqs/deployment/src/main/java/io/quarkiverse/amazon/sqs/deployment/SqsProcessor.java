@@ -1,7 +1,16 @@
 package io.quarkiverse.amazon.sqs.deployment;
 
+import static io.quarkiverse.amazon.common.deployment.ClientDeploymentUtil.getNamedClientInjection;
+import static io.quarkiverse.amazon.common.deployment.ClientDeploymentUtil.injectionPointAnnotationsClient;
+import static io.quarkiverse.amazon.common.deployment.ClientDeploymentUtil.namedClient;
+
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
 
+import org.jboss.jandex.ClassType;
 import org.jboss.jandex.DotName;
 
 import io.quarkiverse.amazon.common.deployment.AbstractAmazonServiceProcessor;
@@ -11,6 +20,7 @@ import io.quarkiverse.amazon.common.deployment.AmazonClientInterceptorsPathBuild
 import io.quarkiverse.amazon.common.deployment.AmazonClientSyncResultBuildItem;
 import io.quarkiverse.amazon.common.deployment.AmazonClientSyncTransportBuildItem;
 import io.quarkiverse.amazon.common.deployment.AmazonHttpClients;
+import io.quarkiverse.amazon.common.deployment.AmazonS3Clients;
 import io.quarkiverse.amazon.common.deployment.RequireAmazonClientBuildItem;
 import io.quarkiverse.amazon.common.deployment.RequireAmazonClientInjectionBuildItem;
 import io.quarkiverse.amazon.common.deployment.RequireAmazonClientTransportBuilderBuildItem;
@@ -19,13 +29,23 @@ import io.quarkiverse.amazon.common.deployment.spi.EventLoopGroupBuildItem;
 import io.quarkiverse.amazon.common.runtime.AmazonClientApacheTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientAwsCrtTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientCommonRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientJdkTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientNettyTransportRecorder;
 import io.quarkiverse.amazon.common.runtime.AmazonClientUrlConnectionTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.AmazonClientVertxTransportRecorder;
+import io.quarkiverse.amazon.common.runtime.ClientUtil;
+import io.quarkiverse.amazon.sqs.runtime.SqsBatchManager;
+import io.quarkiverse.amazon.sqs.runtime.SqsBatchRecorder;
 import io.quarkiverse.amazon.sqs.runtime.SqsBuildTimeConfig;
+import io.quarkiverse.amazon.sqs.runtime.SqsConsumerEngine;
+import io.quarkiverse.amazon.sqs.runtime.SqsExtendedPayloadClient;
+import io.quarkiverse.amazon.sqs.runtime.SqsExtendedPayloadRecorder;
 import io.quarkiverse.amazon.sqs.runtime.SqsOpenTelemetryRecorder;
 import io.quarkiverse.amazon.sqs.runtime.SqsRecorder;
+import io.quarkus.arc.BeanDestroyer;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -43,6 +63,11 @@ public class SqsProcessor extends AbstractAmazonServiceProcessor {
 
     private static final String AMAZON_CLIENT_NAME = "amazon-sqs";
 
+    private static final DotName SQS_BATCH_MANAGER = DotName.createSimple(SqsBatchManager.class.getName());
+    private static final DotName SQS_CONSUMER_ENGINE = DotName.createSimple(SqsConsumerEngine.class.getName());
+    private static final DotName SQS_EXTENDED_PAYLOAD_CLIENT = DotName
+            .createSimple(SqsExtendedPayloadClient.class.getName());
+
     SqsBuildTimeConfig buildTimeConfig;
 
     @Override
@@ -84,6 +109,25 @@ public class SqsProcessor extends AbstractAmazonServiceProcessor {
             BuildProducer<RequireAmazonClientInjectionBuildItem> requireClientInjectionProducer) {
 
         discoverClientInjectionPointsInternal(beanRegistrationPhase, requireClientInjectionProducer);
+
+        // the batch managers and consumer engines are built on top of the async clients
+        for (InjectionPointInfo injectionPoint : beanRegistrationPhase.getInjectionPoints()) {
+            DotName injectedType = injectionPoint.getRequiredType().name();
+            if (SQS_BATCH_MANAGER.equals(injectedType) || SQS_CONSUMER_ENGINE.equals(injectedType)) {
+                requireClientInjectionProducer.produce(new RequireAmazonClientInjectionBuildItem(asyncClientName(),
+                        getNamedClientInjection(injectionPoint)));
+            }
+            // the extended payload clients store the large payloads through the default S3 async client
+            if (SQS_EXTENDED_PAYLOAD_CLIENT.equals(injectedType)) {
+                requireClientInjectionProducer.produce(new RequireAmazonClientInjectionBuildItem(asyncClientName(),
+                        getNamedClientInjection(injectionPoint)));
+                requireClientInjectionProducer
+                        .produce(new RequireAmazonClientInjectionBuildItem(AmazonS3Clients.S3_ASYNC_CLIENT_NAME,
+                                ClientUtil.DEFAULT_CLIENT_NAME));
+                requireClientInjectionProducer.produce(new RequireAmazonClientInjectionBuildItem(
+                        SQS_EXTENDED_PAYLOAD_CLIENT, getNamedClientInjection(injectionPoint)));
+            }
+        }
     }
 
     @BuildStep
@@ -147,6 +191,19 @@ public class SqsProcessor extends AbstractAmazonServiceProcessor {
                 syncTransports);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupJdkSyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients, SqsRecorder recorder,
+            AmazonClientJdkTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientSyncTransportBuildItem> syncTransports) {
+
+        createJdkSyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.syncClient(),
+                recorder.getSyncConfig(),
+                syncTransports);
+    }
+
     @BuildStep(onlyIf = AmazonHttpClients.IsAmazonNettyHttpServicePresent.class)
     @Record(ExecutionTime.RUNTIME_INIT)
     void setupNettyAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients, SqsRecorder recorder,
@@ -174,6 +231,19 @@ public class SqsProcessor extends AbstractAmazonServiceProcessor {
                 asyncTransports);
     }
 
+    @BuildStep(onlyIf = AmazonHttpClients.IsQuarkusVertxPresent.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupVertxAsyncTransport(List<RequireAmazonClientTransportBuilderBuildItem> amazonClients, SqsRecorder recorder,
+            AmazonClientVertxTransportRecorder transportRecorder,
+            BuildProducer<AmazonClientAsyncTransportBuildItem> asyncTransports) {
+
+        createVertxAsyncTransportBuilder(amazonClients,
+                transportRecorder,
+                buildTimeConfig.asyncClient(),
+                recorder.getAsyncConfig(),
+                asyncTransports);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void createClientBuilders(SqsRecorder recorder,
@@ -207,4 +277,68 @@ public class SqsProcessor extends AbstractAmazonServiceProcessor {
                 launchModeBuildItem,
                 executorBuildItem);
     }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void createBatchManagersAndConsumerEngines(SqsBatchRecorder recorder,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBean,
+            List<AmazonClientAsyncResultBuildItem> asyncBuilder,
+            ExecutorBuildItem executorBuildItem) {
+
+        // batch managers and consumer engines are only created for the async clients, they are removed if they are not
+        // injected
+        for (AmazonClientAsyncResultBuildItem amazonClientAsyncResultBuildItem : asyncBuilder) {
+            if (!configName().equals(amazonClientAsyncResultBuildItem.getAwsClientName())) {
+                continue;
+            }
+            syntheticBean.produce(namedClient(SyntheticBeanBuildItem
+                    .configure(SqsBatchManager.class), amazonClientAsyncResultBuildItem.getClientName())
+                    .scope(ApplicationScoped.class)
+                    .setRuntimeInit()
+                    .createWith(recorder.createSqsBatchManager(amazonClientAsyncResultBuildItem.getClientName()))
+                    .destroyer(BeanDestroyer.AutoCloseableDestroyer.class)
+                    .addInjectionPoint(ClassType.create(SqsAsyncClient.class),
+                            injectionPointAnnotationsClient(amazonClientAsyncResultBuildItem.getClientName()))
+                    .done());
+            syntheticBean.produce(namedClient(SyntheticBeanBuildItem
+                    .configure(SqsConsumerEngine.class), amazonClientAsyncResultBuildItem.getClientName())
+                    .scope(ApplicationScoped.class)
+                    .setRuntimeInit()
+                    .createWith(recorder.createSqsConsumerEngine(amazonClientAsyncResultBuildItem.getClientName(),
+                            executorBuildItem.getExecutorProxy()))
+                    .destroyer(BeanDestroyer.AutoCloseableDestroyer.class)
+                    .addInjectionPoint(ClassType.create(SqsAsyncClient.class),
+                            injectionPointAnnotationsClient(amazonClientAsyncResultBuildItem.getClientName()))
+                    .done());
+        }
+    }
+
+    @BuildStep(onlyIf = AmazonS3Clients.IsS3AsyncClientPresent.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void createExtendedPayloadClients(SqsExtendedPayloadRecorder recorder,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBean,
+            List<AmazonClientAsyncResultBuildItem> asyncBuilder,
+            List<RequireAmazonClientInjectionBuildItem> amazonClientInjections) {
+
+        // extended payload clients are only created when they are injected, as they require an S3 client
+        Set<String> injectedClientNames = amazonClientInjections.stream()
+                .filter(item -> SQS_EXTENDED_PAYLOAD_CLIENT.equals(item.getClassName()))
+                .map(RequireAmazonClientInjectionBuildItem::getName)
+                .collect(Collectors.toSet());
+        for (AmazonClientAsyncResultBuildItem amazonClientAsyncResultBuildItem : asyncBuilder) {
+            if (!configName().equals(amazonClientAsyncResultBuildItem.getAwsClientName())
+                    || !injectedClientNames.contains(amazonClientAsyncResultBuildItem.getClientName())) {
+                continue;
+            }
+            syntheticBean.produce(namedClient(SyntheticBeanBuildItem
+                    .configure(SqsExtendedPayloadClient.class), amazonClientAsyncResultBuildItem.getClientName())
+                    .scope(ApplicationScoped.class)
+                    .setRuntimeInit()
+                    .createWith(recorder.createSqsExtendedPayloadClient(amazonClientAsyncResultBuildItem.getClientName()))
+                    .addInjectionPoint(ClassType.create(SqsAsyncClient.class),
+                            injectionPointAnnotationsClient(amazonClientAsyncResultBuildItem.getClientName()))
+                    .addInjectionPoint(ClassType.create(AmazonS3Clients.S3_ASYNC_CLIENT_NAME))
+                    .done());
+        }
+    }
 }
@@ -0,0 +1,118 @@
+package io.quarkiverse.amazon.sqs.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.sqs.runtime.SqsBatchManager;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.utils.Md5Utils;
+
+public class SqsBatchManagerFifoTest {
+
+    private static final StubServer STUB = StubServer.start(SqsBatchManagerFifoTest.class)
+            .handle(SqsBatchManagerFifoTest::handle);
+    private static final String QUEUE_URL = STUB.endpoint() + "/000000000000/queue.fifo";
+
+    private static final Pattern ID = Pattern.compile("\"Id\":\"(\\d+)\"");
+    private static final Pattern BODY = Pattern.compile("\"MessageBody\":\"([^\"]*)\"");
+
+    // the bodies of the messages of each batch, in the order the batches are received
+    private static final List<List<String>> BATCHES = new CopyOnWriteArrayList<>();
+    private static final CountDownLatch FIRST_BATCH_RELEASED = new CountDownLatch(1);
+
+    @Inject
+    SqsBatchManager manager;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.sqs.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.sqs.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.sqs.batch-manager.flush-interval", "10s")
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() throws Exception {
+        List<CompletableFuture<SendMessageResponse>> sends = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sends.add(send("group-a", "a-" + i));
+        }
+        // the second batch of the group waits for the first one, which is held by the server
+        assertEquals(1, manager.sentBatches());
+
+        // the other groups are not held back
+        List<CompletableFuture<SendMessageResponse>> otherGroup = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            otherGroup.add(send("group-b", "b-" + i));
+        }
+        CompletableFuture.allOf(otherGroup.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        FIRST_BATCH_RELEASED.countDown();
+        CompletableFuture.allOf(sends.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        List<String> groupA = BATCHES.stream().flatMap(List::stream).filter(body -> body.startsWith("a-")).toList();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expected.add("a-" + i);
+        }
+        assertEquals(expected, groupA);
+    }
+
+    private CompletableFuture<SendMessageResponse> send(String group, String body) {
+        return manager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageGroupId(group).messageDeduplicationId(body)
+                .messageBody(body));
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        String body = StubServer.body(exchange);
+        List<String> bodies = new ArrayList<>();
+        Matcher bodyMatcher = BODY.matcher(body);
+        while (bodyMatcher.find()) {
+            bodies.add(bodyMatcher.group(1));
+        }
+        BATCHES.add(bodies);
+        if (bodies.contains("a-0")) {
+            try {
+                FIRST_BATCH_RELEASED.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<String> successful = new ArrayList<>();
+        Matcher ids = ID.matcher(body);
+        for (int i = 0; ids.find(); i++) {
+            String message = bodies.get(i);
+            successful.add("{\"Id\":\"" + ids.group(1) + "\",\"MessageId\":\"id-" + message + "\",\"MD5OfMessageBody\":\""
+                    + md5(message) + "\"}");
+        }
+        StubServer.respondJson(exchange, 200, "{\"Successful\":[" + String.join(",", successful) + "],\"Failed\":[]}");
+    }
+
+    private static String md5(String value) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : Md5Utils.computeMD5Hash(value.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package io.quarkiverse.amazon.sqs.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.sqs.runtime.SqsBatchManager;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+import software.amazon.awssdk.utils.Md5Utils;
+
+public class SqsBatchManagerTest {
+
+    private static final StubServer STUB = StubServer.start(SqsBatchManagerTest.class)
+            .handle(SqsBatchManagerTest::handle);
+    private static final String QUEUE_URL = STUB.endpoint() + "/000000000000/queue";
+
+    private static final Pattern ID = Pattern.compile("\"Id\":\"(\\d+)\"");
+    private static final Pattern BODY = Pattern.compile("\"MessageBody\":\"([^\"]*)\"");
+
+    private static final List<String> TARGETS = new CopyOnWriteArrayList<>();
+
+    @Inject
+    SqsBatchManager manager;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.sqs.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.sqs.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.sqs.batch-manager.flush-interval", "10s")
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() throws Exception {
+        List<CompletableFuture<SendMessageResponse>> sends = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            String body = i == 3 ? "fail" : "message-" + i;
+            sends.add(manager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(body)));
+        }
+        // the two full batches are sent right away, the remaining messages wait for the flush
+        assertEquals(2, manager.sentBatches());
+        manager.flush();
+        for (int i = 0; i < 3; i++) {
+            String receiptHandle = "handle-" + i;
+            manager.deleteMessage(r -> r.queueUrl(QUEUE_URL).receiptHandle(receiptHandle));
+        }
+        for (int i = 0; i < 2; i++) {
+            String receiptHandle = "handle-" + i;
+            manager.changeMessageVisibility(r -> r.queueUrl(QUEUE_URL).receiptHandle(receiptHandle)
+                    .visibilityTimeout(30));
+        }
+        manager.flush().exceptionally(e -> null).get(10, TimeUnit.SECONDS);
+        CompletableFuture.allOf(sends.toArray(new CompletableFuture[0])).exceptionally(e -> null)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals("id-24", sends.get(24).get().messageId());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> sends.get(3).get());
+        SqsException exception = assertInstanceOf(SqsException.class, failure.getCause());
+        assertEquals("InvalidMessageContents", exception.awsErrorDetails().errorCode());
+
+        assertEquals(5, manager.sentBatches());
+        assertEquals(30, manager.batchedRequests());
+        assertEquals(1, manager.failedRequests());
+        assertEquals(0.6, manager.batchFillRatio(), 0.001);
+        assertEquals(0, manager.pendingRequests());
+        // the batches are sent concurrently
+        assertEquals(List.of("ChangeMessageVisibilityBatch", "DeleteMessageBatch", "SendMessageBatch", "SendMessageBatch",
+                "SendMessageBatch"), TARGETS.stream().sorted().toList());
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        String target = StubServer.operation(exchange);
+        TARGETS.add(target);
+        StubServer.respondJson(exchange, 200, response(target, StubServer.body(exchange)));
+    }
+
+    private static String response(String target, String body) {
+        List<String> successful = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        Matcher ids = ID.matcher(body);
+        Matcher bodies = BODY.matcher(body);
+        while (ids.find()) {
+            String id = ids.group(1);
+            if (!"SendMessageBatch".equals(target)) {
+                successful.add("{\"Id\":\"" + id + "\"}");
+                continue;
+            }
+            bodies.find();
+            String message = bodies.group(1);
+            if ("fail".equals(message)) {
+                failed.add("{\"Id\":\"" + id + "\",\"Code\":\"InvalidMessageContents\",\"Message\":\"invalid\","
+                        + "\"SenderFault\":true}");
+            } else {
+                successful.add("{\"Id\":\"" + id + "\",\"MessageId\":\"id-" + message.substring("message-".length())
+                        + "\",\"MD5OfMessageBody\":\"" + md5(message) + "\"}");
+            }
+        }
+        return "{\"Successful\":[" + String.join(",", successful) + "],\"Failed\":[" + String.join(",", failed) + "]}";
+    }
+
+    private static String md5(String value) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : Md5Utils.computeMD5Hash(value.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
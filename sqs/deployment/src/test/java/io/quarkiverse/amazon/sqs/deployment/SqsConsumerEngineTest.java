@@ -0,0 +1,165 @@
+package io.quarkiverse.amazon.sqs.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.sqs.runtime.SqsConsumer;
+import io.quarkiverse.amazon.sqs.runtime.SqsConsumerEngine;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.utils.Md5Utils;
+
+public class SqsConsumerEngineTest {
+
+    private static final StubServer STUB = StubServer.start(SqsConsumerEngineTest.class)
+            .handle(SqsConsumerEngineTest::handle);
+    private static final String QUEUE_URL = STUB.endpoint() + "/000000000000/queue";
+
+    private static final Pattern MAX_MESSAGES = Pattern.compile("\"MaxNumberOfMessages\":(\\d+)");
+    private static final Pattern RECEIPT_HANDLE = Pattern.compile("\"ReceiptHandle\":\"([^\"]*)\"");
+
+    private static final Queue<String> QUEUE = new ConcurrentLinkedQueue<>();
+    private static final List<String> DELETED = new CopyOnWriteArrayList<>();
+    private static final List<String> EXTENDED = new CopyOnWriteArrayList<>();
+    private static final List<String> HANDLED = new CopyOnWriteArrayList<>();
+
+    @Inject
+    SqsConsumerEngine engine;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.sqs.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.sqs.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.sqs.consumer.wait-time", "1s")
+            .overrideConfigKey("quarkus.sqs.consumer.prefetch", "20")
+            .overrideConfigKey("quarkus.sqs.consumer.visibility-timeout", "2s")
+            .overrideConfigKey("quarkus.sqs.consumer.heartbeat-interval", "1s")
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            QUEUE.add(i == 3 ? "fail" : i == 7 ? "slow" : "message-" + i);
+        }
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try (SqsConsumer consumer = engine.start(QUEUE_URL, message -> {
+            if ("fail".equals(message.body())) {
+                throw new IllegalStateException("failed");
+            }
+            if ("slow".equals(message.body())) {
+                Thread.sleep(2500);
+            }
+            HANDLED.add(message.body());
+        })) {
+            await(() -> consumer.processedMessages() + consumer.failedMessages() == 50);
+            await(() -> DELETED.size() == 49);
+
+            assertEquals(50, consumer.receivedMessages());
+            assertEquals(49, consumer.processedMessages());
+            assertEquals(1, consumer.failedMessages());
+            assertEquals(0, consumer.bufferedMessages());
+            assertTrue(consumer.throughput() > 0);
+            assertTrue(consumer.averageProcessingTime().toNanos() > 0);
+            // the slow message is extended while it is handled
+            assertTrue(consumer.extendedVisibilities() > 0);
+            assertTrue(EXTENDED.contains("handle-slow"));
+            assertEquals(1, engine.consumers().size());
+
+            assertEquals(49, registry.find("aws.sqs.consumer.processed")
+                    .tags("client", "<default>", "queue", "queue").functionCounter().count());
+            assertEquals(50, registry.find("aws.sqs.consumer.processing").tags("queue", "queue").timer().count());
+            assertTrue(registry.find("aws.sqs.consumer.batch.manager.completed").functionCounter().count() >= 49);
+        }
+        // the meters of a consumer are removed once it is closed
+        assertNull(registry.find("aws.sqs.consumer.processed").functionCounter());
+        Metrics.removeRegistry(registry);
+        assertEquals(49, HANDLED.size());
+        assertTrue(!DELETED.contains("handle-fail"));
+        assertEquals(0, engine.consumers().size());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("The condition was not met in time");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        StubServer.respondJson(exchange, 200, response(StubServer.operation(exchange), StubServer.body(exchange)));
+    }
+
+    private static String response(String target, String body) {
+        switch (target) {
+            case "ReceiveMessage":
+                Matcher maxMessages = MAX_MESSAGES.matcher(body);
+                int count = maxMessages.find() ? Integer.parseInt(maxMessages.group(1)) : 1;
+                List<String> messages = new ArrayList<>();
+                String message;
+                while (messages.size() < count && (message = QUEUE.poll()) != null) {
+                    String id = message.startsWith("message-") ? message.substring("message-".length()) : message;
+                    messages.add("{\"MessageId\":\"" + id + "\",\"ReceiptHandle\":\"handle-" + id + "\",\"Body\":\""
+                            + message + "\",\"MD5OfBody\":\"" + md5(message) + "\"}");
+                }
+                if (messages.isEmpty()) {
+                    sleep();
+                }
+                return "{\"Messages\":[" + String.join(",", messages) + "]}";
+            case "DeleteMessageBatch":
+            case "ChangeMessageVisibilityBatch":
+                List<String> entries = new ArrayList<>();
+                Matcher receiptHandles = RECEIPT_HANDLE.matcher(body);
+                int id = 0;
+                while (receiptHandles.find()) {
+                    (target.startsWith("Delete") ? DELETED : EXTENDED).add(receiptHandles.group(1));
+                    entries.add("{\"Id\":\"" + id++ + "\"}");
+                }
+                return "{\"Successful\":[" + String.join(",", entries) + "],\"Failed\":[]}";
+            default:
+                return "{}";
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String md5(String value) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : Md5Utils.computeMD5Hash(value.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,188 @@
+package io.quarkiverse.amazon.sqs.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.sqs.runtime.SqsConsumer;
+import io.quarkiverse.amazon.sqs.runtime.SqsConsumerEngine;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.utils.Md5Utils;
+
+public class SqsConsumerFifoTest {
+
+    private static final StubServer STUB = StubServer.start(SqsConsumerFifoTest.class)
+            .handle(SqsConsumerFifoTest::handle);
+    private static final String QUEUE_URL = STUB.endpoint() + "/000000000000/queue.fifo";
+    private static final List<String> GROUPS = List.of("a", "b", "c");
+    private static final int MESSAGES_PER_GROUP = 8;
+
+    private static final Pattern MAX_MESSAGES = Pattern.compile("\"MaxNumberOfMessages\":(\\d+)");
+    private static final Pattern RECEIPT_HANDLE = Pattern.compile("\"ReceiptHandle\":\"([^\"]*)\"");
+
+    private static final List<String> QUEUE = new ArrayList<>();
+    // like SQS, the messages of a group are not received while previously received ones are in flight
+    private static final Map<String, Integer> IN_FLIGHT_BY_GROUP = new HashMap<>();
+    private static final List<String> DELETED = new CopyOnWriteArrayList<>();
+    private static final Map<String, List<String>> HANDLED = new ConcurrentHashMap<>();
+    private static final Set<String> RUNNING_GROUPS = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger MAX_RUNNING_GROUPS = new AtomicInteger();
+    private static final AtomicInteger OVERLAPS = new AtomicInteger();
+
+    @Inject
+    SqsConsumerEngine engine;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.sqs.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.sqs.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.sqs.consumer.wait-time", "1s")
+            .overrideConfigKey("quarkus.sqs.consumer.prefetch", "30")
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() throws Exception {
+        for (int i = 0; i < MESSAGES_PER_GROUP; i++) {
+            for (String group : GROUPS) {
+                QUEUE.add(group + "-" + i);
+            }
+        }
+        try (SqsConsumer consumer = engine.start(QUEUE_URL, message -> {
+            String group = message.attributes().get(MessageSystemAttributeName.MESSAGE_GROUP_ID);
+            if (!RUNNING_GROUPS.add(group)) {
+                OVERLAPS.incrementAndGet();
+            }
+            MAX_RUNNING_GROUPS.accumulateAndGet(RUNNING_GROUPS.size(), Math::max);
+            Thread.sleep(50);
+            HANDLED.computeIfAbsent(group, g -> new CopyOnWriteArrayList<>()).add(message.body());
+            RUNNING_GROUPS.remove(group);
+        })) {
+            await(() -> consumer.processedMessages() == GROUPS.size() * MESSAGES_PER_GROUP);
+            await(() -> DELETED.size() == GROUPS.size() * MESSAGES_PER_GROUP);
+
+            // the messages of a group are handled one at a time and in order
+            assertEquals(0, OVERLAPS.get());
+            for (String group : GROUPS) {
+                List<String> expected = new ArrayList<>();
+                for (int i = 0; i < MESSAGES_PER_GROUP; i++) {
+                    expected.add(group + "-" + i);
+                }
+                assertEquals(expected, HANDLED.get(group));
+            }
+            // while the groups are handled concurrently
+            assertTrue(MAX_RUNNING_GROUPS.get() > 1);
+
+            assertTrue(consumer.headOfLineBlockedMessages() > 0);
+            assertTrue(consumer.averageHeadOfLineBlockingTime().toNanos() > 0);
+            assertEquals(0, consumer.activeLanes());
+            assertEquals(0, consumer.blockedMessages());
+            assertEquals(0, consumer.bufferedMessages());
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("The condition was not met in time");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        StubServer.respondJson(exchange, 200, response(StubServer.operation(exchange), StubServer.body(exchange)));
+    }
+
+    private static String response(String target, String body) {
+        switch (target) {
+            case "ReceiveMessage":
+                Matcher maxMessages = MAX_MESSAGES.matcher(body);
+                int count = maxMessages.find() ? Integer.parseInt(maxMessages.group(1)) : 1;
+                List<String> messages = new ArrayList<>();
+                synchronized (QUEUE) {
+                    Set<String> lockedGroups = new HashSet<>(IN_FLIGHT_BY_GROUP.keySet());
+                    for (Iterator<String> queued = QUEUE.iterator(); queued.hasNext() && messages.size() < count;) {
+                        String message = queued.next();
+                        String group = group(message);
+                        if (lockedGroups.contains(group)) {
+                            continue;
+                        }
+                        queued.remove();
+                        IN_FLIGHT_BY_GROUP.merge(group, 1, Integer::sum);
+                        messages.add("{\"MessageId\":\"" + message + "\",\"ReceiptHandle\":\"handle-" + message
+                                + "\",\"Body\":\"" + message + "\",\"MD5OfBody\":\"" + md5(message)
+                                + "\",\"Attributes\":{\"MessageGroupId\":\"" + group + "\"}}");
+                    }
+                }
+                if (messages.isEmpty()) {
+                    sleep();
+                }
+                return "{\"Messages\":[" + String.join(",", messages) + "]}";
+            case "DeleteMessageBatch":
+            case "ChangeMessageVisibilityBatch":
+                List<String> entries = new ArrayList<>();
+                Matcher receiptHandles = RECEIPT_HANDLE.matcher(body);
+                int id = 0;
+                while (receiptHandles.find()) {
+                    if (target.startsWith("Delete")) {
+                        String message = receiptHandles.group(1).substring("handle-".length());
+                        synchronized (QUEUE) {
+                            IN_FLIGHT_BY_GROUP.computeIfPresent(group(message), (g, n) -> n == 1 ? null : n - 1);
+                        }
+                        DELETED.add(receiptHandles.group(1));
+                    }
+                    entries.add("{\"Id\":\"" + id++ + "\"}");
+                }
+                return "{\"Successful\":[" + String.join(",", entries) + "],\"Failed\":[]}";
+            default:
+                return "{}";
+        }
+    }
+
+    private static String group(String message) {
+        return message.substring(0, message.indexOf('-'));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String md5(String value) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : Md5Utils.computeMD5Hash(value.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,245 @@
+package io.quarkiverse.amazon.sqs.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.quarkiverse.amazon.common.deployment.StubServer;
+import io.quarkiverse.amazon.sqs.runtime.SqsExtendedPayloadClient;
+import io.quarkus.test.QuarkusUnitTest;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.utils.Md5Utils;
+
+public class SqsExtendedPayloadClientTest {
+
+    private static final StubServer STUB = StubServer.start(SqsExtendedPayloadClientTest.class)
+            .handle(SqsExtendedPayloadClientTest::handle);
+    private static final String QUEUE_URL = STUB.endpoint() + "/000000000000/queue";
+
+    private static final Pattern BODY = Pattern.compile("\"MessageBody\":\"((?:[^\"\\\\]|\\\\.)*)\"");
+    private static final Pattern PAYLOAD_SIZE = Pattern.compile("\"StringValue\":\"(\\d+)\"");
+
+    private static final List<String> SENT = new CopyOnWriteArrayList<>();
+    private static final List<String> DELETED = new CopyOnWriteArrayList<>();
+    private static final Map<String, byte[]> OBJECTS = new ConcurrentHashMap<>();
+
+    @Inject
+    SqsExtendedPayloadClient client;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("full-config.properties", "application.properties"))
+            .overrideConfigKey("quarkus.sqs.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.sqs.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.sqs.extended-payload.bucket", "payloads")
+            .overrideConfigKey("quarkus.sqs.extended-payload.key-prefix", "queue/")
+            .overrideConfigKey("quarkus.sqs.extended-payload.threshold", "1024")
+            .overrideConfigKey("quarkus.s3.endpoint-override", STUB.endpoint())
+            .overrideConfigKey("quarkus.s3.path-style-access", "true")
+            .overrideConfigKey("quarkus.s3.aws.region", "us-east-2")
+            .overrideConfigKey("quarkus.s3.aws.credentials.type", "static")
+            .overrideConfigKey("quarkus.s3.aws.credentials.static-provider.access-key-id", "test-key")
+            .overrideConfigKey("quarkus.s3.aws.credentials.static-provider.secret-access-key", "test-secret")
+            .setAfterAllCustomizer(STUB::close);
+
+    @Test
+    public void test() throws Exception {
+
+        // a small body is sent as is
+        client.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("small")).get(10, TimeUnit.SECONDS);
+        assertEquals("small", SENT.get(0));
+        assertTrue(OBJECTS.isEmpty());
+
+        // a large body is stored in S3 and the message points to it
+        String large = "x".repeat(4096);
+        client.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(large)).get(10, TimeUnit.SECONDS);
+        Message offloaded = Message.builder().body(SENT.get(1)).receiptHandle("handle-1").build();
+        assertTrue(client.isOffloaded(offloaded));
+        assertEquals(1, OBJECTS.size());
+        String key = OBJECTS.keySet().iterator().next();
+        assertTrue(key.startsWith("/payloads/queue/"));
+        assertEquals(large, client.getPayloadAsString(offloaded).get(10, TimeUnit.SECONDS));
+
+        // a streamed payload is always stored in S3 and is read back as a stream
+        byte[] binary = new byte[100_000];
+        for (int i = 0; i < binary.length; i++) {
+            binary[i] = (byte) i;
+        }
+        client.sendMessage(r -> r.queueUrl(QUEUE_URL), AsyncRequestBody.fromBytes(binary))
+                .get(10, TimeUnit.SECONDS);
+        Message streamed = Message.builder().body(SENT.get(2)).receiptHandle("handle-2").build();
+        assertTrue(client.isOffloaded(streamed));
+        try (ResponseInputStream<GetObjectResponse> payload = client.getPayloadAsStream(streamed)
+                .get(10, TimeUnit.SECONDS)) {
+            assertArrayEquals(binary, payload.readAllBytes());
+        }
+
+        // a message which was not offloaded is read from its body
+        Message inline = Message.builder().body("small").receiptHandle("handle-0").build();
+        assertFalse(client.isOffloaded(inline));
+        try (ResponseInputStream<GetObjectResponse> payload = client.getPayloadAsStream(inline)
+                .get(10, TimeUnit.SECONDS)) {
+            assertEquals("small", new String(payload.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // deleting a message deletes its payload
+        client.deleteMessage(QUEUE_URL, inline).get(10, TimeUnit.SECONDS);
+        client.deleteMessage(QUEUE_URL, offloaded).get(10, TimeUnit.SECONDS);
+        assertEquals(List.of("handle-0", "handle-1"), DELETED);
+        assertEquals(1, OBJECTS.size());
+        assertFalse(OBJECTS.containsKey(key));
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+        String operation = StubServer.operation(exchange);
+        if (operation != null) {
+            StubServer.respondJson(exchange, 200, sqs(operation, new String(body, StandardCharsets.UTF_8)));
+        } else {
+            s3(exchange, body);
+        }
+    }
+
+    private static String sqs(String target, String body) {
+        switch (target) {
+            case "SendMessage":
+                Matcher messageBody = BODY.matcher(body);
+                messageBody.find();
+                String sent = messageBody.group(1).replace("\\\"", "\"");
+                SENT.add(sent);
+                String response = "{\"MessageId\":\"" + SENT.size() + "\",\"MD5OfMessageBody\":\"" + md5(sent) + "\"";
+                Matcher payloadSize = PAYLOAD_SIZE.matcher(body);
+                if (payloadSize.find()) {
+                    response += ",\"MD5OfMessageAttributes\":\"" + payloadSizeMd5(payloadSize.group(1)) + "\"";
+                }
+                return response + "}";
+            case "DeleteMessage":
+                Matcher receiptHandle = Pattern.compile("\"ReceiptHandle\":\"([^\"]*)\"").matcher(body);
+                receiptHandle.find();
+                DELETED.add(receiptHandle.group(1));
+                return "{}";
+            default:
+                return "{}";
+        }
+    }
+
+    private static void s3(HttpExchange exchange, byte[] body) throws IOException {
+        String key = exchange.getRequestURI().getPath();
+        switch (exchange.getRequestMethod()) {
+            case "PUT":
+                String contentSha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+                byte[] object = contentSha256 != null && contentSha256.startsWith("STREAMING-") ? unchunk(body) : body;
+                OBJECTS.put(key, object);
+                exchange.getResponseHeaders().add("ETag", "\"" + md5(object) + "\"");
+                send(exchange, new byte[0]);
+                break;
+            case "GET":
+                byte[] stored = OBJECTS.get(key);
+                exchange.getResponseHeaders().add("ETag", "\"" + md5(stored) + "\"");
+                send(exchange, stored);
+                break;
+            case "DELETE":
+                OBJECTS.remove(key);
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+                break;
+            default:
+                exchange.sendResponseHeaders(400, -1);
+                exchange.close();
+        }
+    }
+
+    private static byte[] unchunk(byte[] body) {
+        // aws-chunked: <hex size>;chunk-signature=<signature>\r\n<data>\r\n
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int position = 0;
+        while (position < body.length) {
+            int lineEnd = position;
+            while (body[lineEnd] != '\r') {
+                lineEnd++;
+            }
+            String header = new String(body, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.substring(0, header.indexOf(';')), 16);
+            if (size == 0) {
+                break;
+            }
+            out.write(body, lineEnd + 2, size);
+            position = lineEnd + 2 + size + 2;
+        }
+        return out.toByteArray();
+    }
+
+    private static void send(HttpExchange exchange, byte[] response) throws IOException {
+        exchange.sendResponseHeaders(200, response.length == 0 ? -1 : response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private static String payloadSizeMd5(String size) {
+        // the checksum of the message attributes, as computed by SQS
+        try {
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            for (String value : List.of("ExtendedPayloadSize", "Number")) {
+                update(digest, value.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 1);
+            update(digest, size.getBytes(StandardCharsets.UTF_8));
+            return hex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, byte[] value) {
+        digest.update(ByteBuffer.allocate(4).putInt(value.length).array());
+        digest.update(value);
+    }
+
+    private static String md5(String value) {
+        return md5(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String md5(byte[] value) {
+        return hex(Md5Utils.computeMD5Hash(value));
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
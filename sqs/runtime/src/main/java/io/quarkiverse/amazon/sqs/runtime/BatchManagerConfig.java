@@ -0,0 +1,36 @@
+package io.quarkiverse.amazon.sqs.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface BatchManagerConfig {
+
+    /**
+     * The number of requests merged in a batch request, at most 10.
+     * <p>
+     * A batch is sent as soon as this number of requests to the same queue is buffered.
+     */
+    @WithDefault("10")
+    int maxBatchSize();
+
+    /**
+     * The maximum time a request is buffered before being sent in a partial batch.
+     */
+    @WithDefault("50ms")
+    Duration flushInterval();
+
+    /**
+     * The maximum number of batch requests in flight. Requests remain buffered while this limit is reached.
+     */
+    @WithDefault("16")
+    int maxInFlightBatches();
+
+    /**
+     * The maximum number of requests buffered or in flight. Requests submitted beyond this limit are rejected.
+     */
+    @WithDefault("10000")
+    int maxPendingRequests();
+}
@@ -0,0 +1,68 @@
+package io.quarkiverse.amazon.sqs.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface ConsumerConfig {
+
+    /**
+     * The number of concurrent `ReceiveMessage` long polls per queue.
+     */
+    @WithDefault("4")
+    int receivers();
+
+    /**
+     * The long poll wait time of the `ReceiveMessage` requests, at most 20 seconds.
+     */
+    @WithDefault("20s")
+    Duration waitTime();
+
+    /**
+     * The maximum number of messages received per queue and waiting for a handler. The receivers pause while this
+     * buffer is full.
+     */
+    @WithDefault("200")
+    int prefetch();
+
+    /**
+     * The maximum number of messages handled concurrently per queue.
+     */
+    @WithDefault("100")
+    int concurrency();
+
+    /**
+     * The threads running the message handlers, either a virtual thread per message or the Quarkus worker pool.
+     * <p>
+     * Virtual threads are only available on Java 21 or later, the worker pool is used otherwise.
+     */
+    @WithDefault("virtual-threads")
+    HandlerExecutor executor();
+
+    /**
+     * The visibility timeout of the received messages, and the one set each time their visibility is extended.
+     */
+    @WithDefault("30s")
+    Duration visibilityTimeout();
+
+    /**
+     * The interval at which the visibility of the messages buffered or being handled is extended. It must be at most
+     * half the visibility timeout.
+     */
+    @WithDefault("10s")
+    Duration heartbeatInterval();
+
+    /**
+     * Whether the messages of a FIFO queue sharing a `MessageGroupId` are handled one at a time and in order. The
+     * messages of different groups are still handled concurrently.
+     */
+    @WithDefault("true")
+    boolean fifoGroupOrdering();
+
+    enum HandlerExecutor {
+        VIRTUAL_THREADS,
+        WORKER_POOL
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkiverse.amazon.sqs.runtime;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface ExtendedPayloadConfig {
+
+    /**
+     * The S3 bucket the payloads too large to be sent in a message are stored in.
+     * <p>
+     * It is required to offload payloads.
+     */
+    Optional<String> bucket();
+
+    /**
+     * The prefix of the keys of the payloads stored in S3.
+     */
+    Optional<String> keyPrefix();
+
+    /**
+     * The size in bytes of the message body and attributes above which the body is stored in S3, at most 262144.
+     */
+    @WithDefault("262144")
+    int threshold();
+
+    /**
+     * Whether every message body is stored in S3, whatever its size.
+     */
+    @WithDefault("false")
+    boolean alwaysThroughS3();
+
+    /**
+     * Whether the payload stored in S3 is deleted when its message is deleted.
+     */
+    @WithDefault("true")
+    boolean deletePayloads();
+}
@@ -0,0 +1,341 @@
+package io.quarkiverse.amazon.sqs.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import io.quarkiverse.amazon.common.runtime.Batcher;
+import io.quarkiverse.amazon.common.runtime.MessageSizes;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+/**
+ * Merges the {@code SendMessage}, {@code DeleteMessage} and {@code ChangeMessageVisibility} requests sent to the same
+ * queue into {@code SendMessageBatch}, {@code DeleteMessageBatch} and {@code ChangeMessageVisibilityBatch} requests sent
+ * through the {@link SqsAsyncClient}.
+ * <p>
+ * A batch is sent as soon as enough requests are buffered to fill it, 10 requests or 256 KB of messages, or once the
+ * oldest buffered request waited for the flush interval. Batches are sent concurrently, up to a configured limit. The
+ * future returned for each request completes with the response the single request would have returned, or fails with
+ * an {@link SqsException} if its entry failed.
+ * <p>
+ * The messages sent to a FIFO queue are sent in the order of their message group: a message is held back while an
+ * earlier message of its group is in flight.
+ * <p>
+ * The override configuration of the requests is not applied to the batch requests.
+ * <p>
+ * When Micrometer is available, the counters and gauges of the batch manager bean are registered as
+ * {@code aws.sqs.batch.manager.*} meters tagged with the client.
+ */
+public class SqsBatchManager implements AutoCloseable {
+
+    static final int MAX_BATCH_SIZE = 10;
+    static final long MAX_BATCH_BYTES = 256L * 1024;
+
+    private final SqsAsyncClient client;
+    private final RequestBatcher batcher;
+
+    public SqsBatchManager(SqsAsyncClient client, BatchManagerConfig config) {
+        this(client, config.maxBatchSize(), config.flushInterval(), config.maxInFlightBatches(),
+                config.maxPendingRequests());
+    }
+
+    public SqsBatchManager(SqsAsyncClient client, int maxBatchSize, Duration flushInterval, int maxInFlightBatches,
+            int maxPendingRequests) {
+        if (maxBatchSize < 1 || maxBatchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("The batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        if (maxInFlightBatches < 1 || maxPendingRequests < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum number of batches in flight and of pending requests must be positive");
+        }
+        this.client = client;
+        this.batcher = new RequestBatcher(maxBatchSize, flushInterval, maxInFlightBatches, maxPendingRequests);
+    }
+
+    void registerMeters(String prefix, String clientName) {
+        batcher.registerMeters(prefix, "client", clientName);
+    }
+
+    /**
+     * Sends a message within a {@code SendMessageBatch} request.
+     *
+     * @return a future completed once the message is sent
+     */
+    public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
+        return submit(Kind.SEND, request.queueUrl(), request, estimateSize(request));
+    }
+
+    /**
+     * Sends a message within a {@code SendMessageBatch} request.
+     *
+     * @return a future completed once the message is sent
+     */
+    public CompletableFuture<SendMessageResponse> sendMessage(Consumer<SendMessageRequest.Builder> request) {
+        return sendMessage(SendMessageRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Deletes a message within a {@code DeleteMessageBatch} request.
+     *
+     * @return a future completed once the message is deleted
+     */
+    public CompletableFuture<DeleteMessageResponse> deleteMessage(DeleteMessageRequest request) {
+        return submit(Kind.DELETE, request.queueUrl(), request, 0);
+    }
+
+    /**
+     * Deletes a message within a {@code DeleteMessageBatch} request.
+     *
+     * @return a future completed once the message is deleted
+     */
+    public CompletableFuture<DeleteMessageResponse> deleteMessage(Consumer<DeleteMessageRequest.Builder> request) {
+        return deleteMessage(DeleteMessageRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Changes the visibility timeout of a message within a {@code ChangeMessageVisibilityBatch} request.
+     *
+     * @return a future completed once the visibility timeout is changed
+     */
+    public CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(
+            ChangeMessageVisibilityRequest request) {
+        return submit(Kind.CHANGE_VISIBILITY, request.queueUrl(), request, 0);
+    }
+
+    /**
+     * Changes the visibility timeout of a message within a {@code ChangeMessageVisibilityBatch} request.
+     *
+     * @return a future completed once the visibility timeout is changed
+     */
+    public CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(
+            Consumer<ChangeMessageVisibilityRequest.Builder> request) {
+        return changeMessageVisibility(ChangeMessageVisibilityRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Sends the buffered requests without waiting for the flush interval.
+     *
+     * @return a future completed once the requests submitted before the flush are processed, or failed if one of them
+     *         failed
+     */
+    public CompletableFuture<Void> flush() {
+        return batcher.flush();
+    }
+
+    /**
+     * @return the number of batch requests sent
+     */
+    public long sentBatches() {
+        return batcher.sentBatches();
+    }
+
+    /**
+     * @return the number of requests sent within batch requests
+     */
+    public long batchedRequests() {
+        return batcher.batchedEntries();
+    }
+
+    /**
+     * @return the number of requests that failed, either because their batch request failed or because their entry
+     *         failed
+     */
+    public long failedRequests() {
+        return batcher.failedEntries();
+    }
+
+    /**
+     * @return the average number of requests per batch over the maximum batch size, between 0 and 1
+     */
+    public double batchFillRatio() {
+        return batcher.batchFillRatio();
+    }
+
+    /**
+     * @return the number of requests buffered or in flight
+     */
+    public int pendingRequests() {
+        return batcher.pendingEntries();
+    }
+
+    /**
+     * @return the number of batch requests in flight
+     */
+    public int inFlightBatches() {
+        return batcher.inFlightBatches();
+    }
+
+    /**
+     * Flushes the buffered requests, waits for the pending ones and rejects any further request.
+     */
+    @Override
+    public void close() {
+        batcher.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> CompletableFuture<R> submit(Kind kind, String queueUrl, Object request, long size) {
+        PendingRequest entry = new PendingRequest(request, size);
+        batcher.submit(List.of(kind, queueUrl), entry);
+        return (CompletableFuture<R>) entry.future();
+    }
+
+    private CompletableFuture<Void> sendMessageBatch(String queueUrl, List<PendingRequest> batch) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            SendMessageRequest request = (SendMessageRequest) batch.get(i).request;
+            entries.add(SendMessageBatchRequestEntry.builder()
+                    .id(String.valueOf(i))
+                    .messageBody(request.messageBody())
+                    .delaySeconds(request.delaySeconds())
+                    .messageAttributes(request.messageAttributes())
+                    .messageSystemAttributesWithStrings(request.messageSystemAttributesAsStrings())
+                    .messageDeduplicationId(request.messageDeduplicationId())
+                    .messageGroupId(request.messageGroupId())
+                    .build());
+        }
+        return client.sendMessageBatch(SendMessageBatchRequest.builder().queueUrl(queueUrl).entries(entries).build())
+                .thenAccept(response -> {
+                    for (SendMessageBatchResultEntry result : response.successful()) {
+                        batch.get(Integer.parseInt(result.id())).succeeded(SendMessageResponse.builder()
+                                .messageId(result.messageId())
+                                .md5OfMessageBody(result.md5OfMessageBody())
+                                .md5OfMessageAttributes(result.md5OfMessageAttributes())
+                                .md5OfMessageSystemAttributes(result.md5OfMessageSystemAttributes())
+                                .sequenceNumber(result.sequenceNumber())
+                                .build());
+                    }
+                    failed(batch, response.failed());
+                });
+    }
+
+    private CompletableFuture<Void> deleteMessageBatch(String queueUrl, List<PendingRequest> batch) {
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            DeleteMessageRequest request = (DeleteMessageRequest) batch.get(i).request;
+            entries.add(DeleteMessageBatchRequestEntry.builder()
+                    .id(String.valueOf(i))
+                    .receiptHandle(request.receiptHandle())
+                    .build());
+        }
+        return client.deleteMessageBatch(DeleteMessageBatchRequest.builder().queueUrl(queueUrl).entries(entries).build())
+                .thenAccept(response -> {
+                    for (DeleteMessageBatchResultEntry result : response.successful()) {
+                        batch.get(Integer.parseInt(result.id())).succeeded(DeleteMessageResponse.builder().build());
+                    }
+                    failed(batch, response.failed());
+                });
+    }
+
+    private CompletableFuture<Void> changeMessageVisibilityBatch(String queueUrl, List<PendingRequest> batch) {
+        List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            ChangeMessageVisibilityRequest request = (ChangeMessageVisibilityRequest) batch.get(i).request;
+            entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                    .id(String.valueOf(i))
+                    .receiptHandle(request.receiptHandle())
+                    .visibilityTimeout(request.visibilityTimeout())
+                    .build());
+        }
+        return client
+                .changeMessageVisibilityBatch(
+                        ChangeMessageVisibilityBatchRequest.builder().queueUrl(queueUrl).entries(entries).build())
+                .thenAccept(response -> {
+                    for (ChangeMessageVisibilityBatchResultEntry result : response.successful()) {
+                        batch.get(Integer.parseInt(result.id())).succeeded(ChangeMessageVisibilityResponse.builder()
+                                .build());
+                    }
+                    failed(batch, response.failed());
+                });
+    }
+
+    private static void failed(List<PendingRequest> batch, List<BatchResultErrorEntry> failures) {
+        for (BatchResultErrorEntry failure : failures) {
+            batch.get(Integer.parseInt(failure.id())).failed(SqsException.builder()
+                    .message(failure.code() + ": " + failure.message())
+                    .statusCode(Boolean.TRUE.equals(failure.senderFault()) ? 400 : 500)
+                    .awsErrorDetails(AwsErrorDetails.builder()
+                            .errorCode(failure.code())
+                            .errorMessage(failure.message())
+                            .serviceName("Sqs")
+                            .build())
+                    .build(), false);
+        }
+    }
+
+    /**
+     * @return an estimate of the size of the message, as computed by SQS
+     */
+    static long estimateSize(SendMessageRequest request) {
+        return MessageSizes.estimateSize(request.messageBody(), request.messageAttributes(),
+                MessageAttributeValue::dataType, MessageAttributeValue::stringValue, MessageAttributeValue::binaryValue);
+    }
+
+    private enum Kind {
+        SEND,
+        DELETE,
+        CHANGE_VISIBILITY
+    }
+
+    private final class RequestBatcher extends Batcher<List<Object>, PendingRequest> {
+
+        private RequestBatcher(int maxBatchSize, Duration flushInterval, int maxInFlightBatches, int maxPendingRequests) {
+            super("SQS batch manager", maxBatchSize, MAX_BATCH_BYTES, flushInterval, maxInFlightBatches,
+                    maxPendingRequests, 0, Duration.ZERO, Duration.ZERO);
+        }
+
+        @Override
+        protected CompletableFuture<?> send(List<Object> key, List<PendingRequest> batch) {
+            String queueUrl = (String) key.get(1);
+            switch ((Kind) key.get(0)) {
+                case SEND:
+                    return sendMessageBatch(queueUrl, batch);
+                case DELETE:
+                    return deleteMessageBatch(queueUrl, batch);
+                default:
+                    return changeMessageVisibilityBatch(queueUrl, batch);
+            }
+        }
+
+        @Override
+        protected Object group(List<Object> key, PendingRequest entry) {
+            return ordered(key) ? ((SendMessageRequest) entry.request).messageGroupId() : null;
+        }
+
+        @Override
+        protected boolean ordered(List<Object> key) {
+            return key.get(0) == Kind.SEND && ((String) key.get(1)).endsWith(".fifo");
+        }
+    }
+
+    private static final class PendingRequest extends Batcher.Entry<Object> {
+
+        private final Object request;
+
+        private PendingRequest(Object request, long size) {
+            super(size);
+            this.request = request;
+        }
+    }
+}
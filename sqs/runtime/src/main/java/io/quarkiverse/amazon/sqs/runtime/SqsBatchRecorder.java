@@ -0,0 +1,58 @@
+package io.quarkiverse.amazon.sqs.runtime;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import io.quarkiverse.amazon.common.runtime.ClientUtil;
+import io.quarkus.arc.SyntheticCreationalContext;
+import io.quarkus.runtime.annotations.Recorder;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+@Recorder
+public class SqsBatchRecorder {
+
+    final SqsConfig config;
+
+    public SqsBatchRecorder(SqsConfig config) {
+        this.config = config;
+    }
+
+    public Function<SyntheticCreationalContext<SqsBatchManager>, SqsBatchManager> createSqsBatchManager(
+            String clientName) {
+        return new Function<SyntheticCreationalContext<SqsBatchManager>, SqsBatchManager>() {
+            @Override
+            public SqsBatchManager apply(SyntheticCreationalContext<SqsBatchManager> context) {
+                SqsAsyncClient client;
+                if (ClientUtil.isDefaultClient(clientName))
+                    client = context.getInjectedReference(SqsAsyncClient.class);
+                else
+                    client = context.getInjectedReference(SqsAsyncClient.class,
+                            new io.quarkiverse.amazon.common.AmazonClient.AmazonClientLiteral(clientName));
+
+                SqsBatchManager batchManager = new SqsBatchManager(client, config.batchManager());
+                batchManager.registerMeters("aws.sqs.batch.manager", clientName);
+                return batchManager;
+            }
+        };
+    }
+
+    public Function<SyntheticCreationalContext<SqsConsumerEngine>, SqsConsumerEngine> createSqsConsumerEngine(
+            String clientName, Executor workerPool) {
+        return new Function<SyntheticCreationalContext<SqsConsumerEngine>, SqsConsumerEngine>() {
+            @Override
+            public SqsConsumerEngine apply(SyntheticCreationalContext<SqsConsumerEngine> context) {
+                SqsAsyncClient client;
+                if (ClientUtil.isDefaultClient(clientName))
+                    client = context.getInjectedReference(SqsAsyncClient.class);
+                else
+                    client = context.getInjectedReference(SqsAsyncClient.class,
+                            new io.quarkiverse.amazon.common.AmazonClient.AmazonClientLiteral(clientName));
+
+                SqsConsumerEngine engine = new SqsConsumerEngine(client, config.consumer(), config.batchManager(),
+                        workerPool);
+                engine.registerMeters(clientName);
+                return engine;
+            }
+        };
+    }
+}
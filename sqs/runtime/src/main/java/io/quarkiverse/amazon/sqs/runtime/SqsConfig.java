@@ -22,4 +22,22 @@ public interface SqsConfig extends HasAmazonClientRuntimeConfig {
      */
     @ConfigDocSection
     AsyncHttpClientConfig asyncClient();
+
+    /**
+     * Configuration of the `SqsBatchManager` beans
+     */
+    @ConfigDocSection
+    BatchManagerConfig batchManager();
+
+    /**
+     * Configuration of the `SqsConsumerEngine` beans
+     */
+    @ConfigDocSection
+    ConsumerConfig consumer();
+
+    /**
+     * Configuration of the `SqsExtendedPayloadClient` beans
+     */
+    @ConfigDocSection
+    ExtendedPayloadConfig extendedPayload();
 }
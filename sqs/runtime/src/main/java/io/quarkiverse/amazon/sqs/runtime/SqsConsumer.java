@@ -0,0 +1,554 @@
+package io.quarkiverse.amazon.sqs.runtime;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import io.quarkiverse.amazon.common.runtime.ComponentMeters;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+
+/**
+ * Receives the messages of a queue with concurrent long polls and hands them to a {@link SqsMessageHandler}.
+ * <p>
+ * The received messages are buffered up to the prefetch limit, the receivers pause while the buffer is full. The
+ * visibility of the buffered messages and of the messages being handled is extended periodically, and the handled
+ * messages are deleted with {@code DeleteMessageBatch} requests.
+ * <p>
+ * The messages of a FIFO queue are dispatched to a lane per {@code MessageGroupId}: the messages of a lane are handled
+ * one at a time and in order, while the lanes are handled concurrently. When the handler of a message fails, the
+ * messages buffered behind it in its lane are made visible again, so they are received again after it.
+ * <p>
+ * Consumers are started by a {@link SqsConsumerEngine}. When Micrometer is available, their counters, gauges and timers
+ * are registered as {@code aws.sqs.consumer.*} meters tagged with the client and the queue.
+ */
+public class SqsConsumer implements AutoCloseable {
+
+    private static final Log LOG = LogFactory.getLog(SqsConsumer.class);
+
+    static final int MAX_MESSAGES_PER_RECEIVE = 10;
+    private static final long RECEIVE_RETRY_DELAY_MILLIS = 1000;
+
+    private final String queueUrl;
+    private final SqsMessageHandler handler;
+    private final SqsAsyncClient client;
+    private final SqsBatchManager batchManager;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final SqsConsumerEngine engine;
+    private final int receivers;
+    private final int prefetch;
+    private final int concurrency;
+    private final int waitTimeSeconds;
+    private final int visibilityTimeoutSeconds;
+    private final long heartbeatIntervalNanos;
+    private final boolean fifoGroupOrdering;
+    private final long startNanos = System.nanoTime();
+
+    // guarded by this, the messages without a group are buffered in arrival order, the others in the lane of their group
+    private final ArrayDeque<InFlightMessage> buffer = new ArrayDeque<>();
+    private final Map<String, Lane> lanes = new HashMap<>();
+    private final ArrayDeque<Lane> readyLanes = new ArrayDeque<>();
+    private int bufferedMessages;
+    private int blockedMessages;
+    private int requestedMessages;
+    private int runningHandlers;
+    private int pausedReceivers;
+    private boolean closed;
+    private ScheduledFuture<?> heartbeat;
+
+    private final Set<InFlightMessage> inFlight = ConcurrentHashMap.newKeySet();
+    private final LongAdder receivedMessages = new LongAdder();
+    private final LongAdder processedMessages = new LongAdder();
+    private final LongAdder failedMessages = new LongAdder();
+    private final LongAdder extendedVisibilities = new LongAdder();
+    private final LongAdder processingNanos = new LongAdder();
+    private final LongAdder headOfLineBlockedMessages = new LongAdder();
+    private final LongAdder headOfLineBlockingNanos = new LongAdder();
+    // set before the consumer starts
+    private ComponentMeters<SqsConsumer> meters = ComponentMeters.none();
+    private LongConsumer processingTimer = nanos -> {
+    };
+    private LongConsumer headOfLineBlockingTimer = nanos -> {
+    };
+
+    SqsConsumer(String queueUrl, SqsMessageHandler handler, SqsAsyncClient client, SqsBatchManager batchManager,
+            ScheduledExecutorService scheduler, Executor executor, SqsConsumerEngine engine, ConsumerConfig config) {
+        this.queueUrl = queueUrl;
+        this.handler = handler;
+        this.client = client;
+        this.batchManager = batchManager;
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.engine = engine;
+        this.receivers = config.receivers();
+        this.prefetch = config.prefetch();
+        this.concurrency = config.concurrency();
+        this.waitTimeSeconds = (int) config.waitTime().toSeconds();
+        this.visibilityTimeoutSeconds = (int) config.visibilityTimeout().toSeconds();
+        this.heartbeatIntervalNanos = config.heartbeatInterval().toNanos();
+        this.fifoGroupOrdering = config.fifoGroupOrdering();
+    }
+
+    void registerMeters(String clientName) {
+        meters = ComponentMeters.of(this, "aws.sqs.consumer", "client", clientName, "queue",
+                queueUrl.substring(queueUrl.lastIndexOf('/') + 1))
+                .counter("received", "Number of messages received", SqsConsumer::receivedMessages)
+                .counter("processed", "Number of messages handled successfully", SqsConsumer::processedMessages)
+                .counter("failed", "Number of messages whose handler failed", SqsConsumer::failedMessages)
+                .counter("visibility.extensions", "Number of visibility extensions requested",
+                        SqsConsumer::extendedVisibilities)
+                .counter("head.of.line.blocked", "Number of messages which waited for a previous message of their group",
+                        SqsConsumer::headOfLineBlockedMessages)
+                .gauge("in.flight", "Number of messages received and not deleted or released yet",
+                        SqsConsumer::inFlightMessages)
+                .gauge("buffered", "Number of messages waiting for a handler", SqsConsumer::bufferedMessages)
+                .gauge("lanes", "Number of message groups with messages buffered or being handled",
+                        SqsConsumer::activeLanes)
+                .gauge("blocked", "Number of buffered messages waiting for a previous message of their group",
+                        SqsConsumer::blockedMessages);
+        processingTimer = meters.timer("processing", "Time spent in the handler, whether it succeeded or failed");
+        headOfLineBlockingTimer = meters.timer("head.of.line.blocking",
+                "Time the messages waited for a previous message of their group to be handled");
+    }
+
+    synchronized void start() {
+        heartbeat = scheduler.scheduleAtFixedRate(this::heartbeat, heartbeatIntervalNanos, heartbeatIntervalNanos,
+                TimeUnit.NANOSECONDS);
+        for (int i = 0; i < receivers; i++) {
+            scheduler.execute(this::receive);
+        }
+    }
+
+    /**
+     * @return the URL of the consumed queue
+     */
+    public String queueUrl() {
+        return queueUrl;
+    }
+
+    /**
+     * @return the number of messages received
+     */
+    public long receivedMessages() {
+        return receivedMessages.sum();
+    }
+
+    /**
+     * @return the number of messages handled successfully
+     */
+    public long processedMessages() {
+        return processedMessages.sum();
+    }
+
+    /**
+     * @return the number of messages whose handler failed
+     */
+    public long failedMessages() {
+        return failedMessages.sum();
+    }
+
+    /**
+     * @return the number of visibility extensions requested
+     */
+    public long extendedVisibilities() {
+        return extendedVisibilities.sum();
+    }
+
+    /**
+     * @return the number of messages received and not deleted or released yet
+     */
+    public int inFlightMessages() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return the number of messages waiting for a handler
+     */
+    public synchronized int bufferedMessages() {
+        return bufferedMessages;
+    }
+
+    /**
+     * @return the number of message groups with messages buffered or being handled
+     */
+    public synchronized int activeLanes() {
+        return lanes.size();
+    }
+
+    /**
+     * @return the number of buffered messages waiting for a previous message of their group to be handled
+     */
+    public synchronized int blockedMessages() {
+        return blockedMessages;
+    }
+
+    /**
+     * @return the number of messages which waited for a previous message of their group to be handled
+     */
+    public long headOfLineBlockedMessages() {
+        return headOfLineBlockedMessages.sum();
+    }
+
+    /**
+     * @return the average time the messages which waited for a previous message of their group waited for it
+     */
+    public Duration averageHeadOfLineBlockingTime() {
+        long blocked = headOfLineBlockedMessages.sum();
+        return blocked == 0 ? Duration.ZERO : Duration.ofNanos(headOfLineBlockingNanos.sum() / blocked);
+    }
+
+    /**
+     * @return the number of messages handled successfully per second since the consumer started
+     */
+    public double throughput() {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed == 0 ? 0 : processedMessages.sum() * 1_000_000_000d / elapsed;
+    }
+
+    /**
+     * @return the average time spent in the handler, whether it succeeded or failed
+     */
+    public Duration averageProcessingTime() {
+        long handled = processedMessages.sum() + failedMessages.sum();
+        return handled == 0 ? Duration.ZERO : Duration.ofNanos(processingNanos.sum() / handled);
+    }
+
+    /**
+     * Stops receiving messages, releases the buffered ones and waits for the running handlers, at most for the
+     * visibility timeout.
+     */
+    @Override
+    public void close() {
+        List<InFlightMessage> released;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (heartbeat != null) {
+                heartbeat.cancel(false);
+            }
+            released = drainBuffer();
+        }
+        release(released);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(visibilityTimeoutSeconds);
+        synchronized (this) {
+            try {
+                long remaining;
+                while (runningHandlers > 0 && (remaining = deadline - System.nanoTime()) > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        engine.remove(this);
+        meters.close();
+    }
+
+    private void receive() {
+        int count;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            count = Math.min(MAX_MESSAGES_PER_RECEIVE, prefetch - bufferedMessages - requestedMessages);
+            if (count <= 0) {
+                pausedReceivers++;
+                return;
+            }
+            requestedMessages += count;
+        }
+        CompletableFuture<ReceiveMessageResponse> response;
+        try {
+            response = client.receiveMessage(r -> r.queueUrl(queueUrl)
+                    .maxNumberOfMessages(count)
+                    .waitTimeSeconds(waitTimeSeconds)
+                    .visibilityTimeout(visibilityTimeoutSeconds)
+                    .messageSystemAttributeNames(MessageSystemAttributeName.ALL)
+                    .messageAttributeNames("All"));
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((r, error) -> received(count, r, error));
+    }
+
+    private void received(int count, ReceiveMessageResponse response, Throwable error) {
+        List<InFlightMessage> released = List.of();
+        boolean stopped;
+        synchronized (this) {
+            requestedMessages -= count;
+            if (response != null) {
+                long now = System.nanoTime();
+                receivedMessages.add(response.messages().size());
+                for (Message message : response.messages()) {
+                    InFlightMessage inFlightMessage = new InFlightMessage(message, now);
+                    inFlight.add(inFlightMessage);
+                    enqueue(inFlightMessage);
+                }
+                if (closed) {
+                    released = drainBuffer();
+                }
+            }
+            stopped = closed;
+        }
+        release(released);
+        if (stopped) {
+            return;
+        }
+        if (error != null) {
+            LOG.warn("Unable to receive messages from " + queueUrl + ", retrying in " + RECEIVE_RETRY_DELAY_MILLIS
+                    + " ms", error);
+            try {
+                scheduler.schedule(this::receive, RECEIVE_RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // the engine is closing
+            }
+        } else {
+            dispatch();
+            receive();
+        }
+    }
+
+    private void dispatch() {
+        int resumedReceivers = 0;
+        synchronized (this) {
+            InFlightMessage message;
+            while (runningHandlers < concurrency && (message = next()) != null) {
+                runningHandlers++;
+                InFlightMessage next = message;
+                try {
+                    executor.execute(() -> handle(next));
+                } catch (RejectedExecutionException e) {
+                    runningHandlers--;
+                    requeue(message);
+                    break;
+                }
+            }
+            if (!closed) {
+                int free = prefetch - bufferedMessages - requestedMessages;
+                while (pausedReceivers > 0 && free > 0) {
+                    pausedReceivers--;
+                    resumedReceivers++;
+                    free -= MAX_MESSAGES_PER_RECEIVE;
+                }
+            }
+        }
+        for (int i = 0; i < resumedReceivers; i++) {
+            receive();
+        }
+    }
+
+    private void handle(InFlightMessage message) {
+        long start = System.nanoTime();
+        boolean failed = false;
+        List<InFlightMessage> released = List.of();
+        try {
+            handler.handle(message.message);
+            recordProcessing(start);
+            processedMessages.increment();
+            batchManager.deleteMessage(r -> r.queueUrl(queueUrl).receiptHandle(message.message.receiptHandle()))
+                    .whenComplete((r, error) -> {
+                        inFlight.remove(message);
+                        if (error != null) {
+                            LOG.warn("Unable to delete the message " + message.message.messageId() + " from "
+                                    + queueUrl, error);
+                        }
+                    });
+        } catch (Exception e) {
+            failed = true;
+            recordProcessing(start);
+            failedMessages.increment();
+            inFlight.remove(message);
+            LOG.error("Unable to handle the message " + message.message.messageId() + " from " + queueUrl
+                    + ", it will be received again once its visibility timeout expires", e);
+        } finally {
+            synchronized (this) {
+                runningHandlers--;
+                if (message.lane != null) {
+                    released = handled(message.lane, failed);
+                }
+                if (runningHandlers == 0) {
+                    notifyAll();
+                }
+            }
+            release(released);
+            dispatch();
+        }
+    }
+
+    private void recordProcessing(long start) {
+        long elapsed = System.nanoTime() - start;
+        processingNanos.add(elapsed);
+        processingTimer.accept(elapsed);
+    }
+
+    // guarded by this
+    private void enqueue(InFlightMessage message) {
+        bufferedMessages++;
+        String groupId = fifoGroupOrdering
+                ? message.message.attributes().get(MessageSystemAttributeName.MESSAGE_GROUP_ID)
+                : null;
+        if (groupId == null) {
+            buffer.addLast(message);
+            return;
+        }
+        Lane lane = lanes.computeIfAbsent(groupId, Lane::new);
+        message.lane = lane;
+        lane.messages.addLast(message);
+        if (lane.running || lane.messages.size() > 1) {
+            blockedMessages++;
+        } else {
+            readyLanes.addLast(lane);
+        }
+    }
+
+    // guarded by this, returns the oldest message which may be handled now
+    private InFlightMessage next() {
+        InFlightMessage unordered = buffer.peekFirst();
+        Lane lane = readyLanes.peekFirst();
+        if (lane != null && (unordered == null || lane.messages.peekFirst().receivedAt <= unordered.receivedAt)) {
+            readyLanes.pollFirst();
+            lane.running = true;
+            bufferedMessages--;
+            return lane.messages.pollFirst();
+        }
+        if (unordered != null) {
+            bufferedMessages--;
+            buffer.pollFirst();
+        }
+        return unordered;
+    }
+
+    // guarded by this
+    private void requeue(InFlightMessage message) {
+        bufferedMessages++;
+        if (message.lane == null) {
+            buffer.addFirst(message);
+        } else {
+            message.lane.running = false;
+            message.lane.messages.addFirst(message);
+            readyLanes.addFirst(message.lane);
+        }
+    }
+
+    // guarded by this, returns the messages to release
+    private List<InFlightMessage> handled(Lane lane, boolean failed) {
+        lane.running = false;
+        if (lanes.get(lane.groupId) != lane) {
+            // the buffer was drained while the message was handled
+            return List.of();
+        }
+        if (lane.messages.isEmpty()) {
+            lanes.remove(lane.groupId);
+            return List.of();
+        }
+        if (failed) {
+            // the next messages of the group must not be handled before the failed one is received again
+            lanes.remove(lane.groupId);
+            List<InFlightMessage> released = new ArrayList<>(lane.messages);
+            bufferedMessages -= released.size();
+            blockedMessages -= released.size();
+            return released;
+        }
+        InFlightMessage head = lane.messages.peekFirst();
+        blockedMessages--;
+        headOfLineBlockedMessages.increment();
+        long blocking = System.nanoTime() - head.receivedAt;
+        headOfLineBlockingNanos.add(blocking);
+        headOfLineBlockingTimer.accept(blocking);
+        readyLanes.addLast(lane);
+        return List.of();
+    }
+
+    // guarded by this
+    private List<InFlightMessage> drainBuffer() {
+        List<InFlightMessage> drained = new ArrayList<>(buffer);
+        buffer.clear();
+        for (Lane lane : lanes.values()) {
+            drained.addAll(lane.messages);
+        }
+        lanes.clear();
+        readyLanes.clear();
+        bufferedMessages = 0;
+        blockedMessages = 0;
+        return drained;
+    }
+
+    private void heartbeat() {
+        long now = System.nanoTime();
+        for (InFlightMessage message : inFlight) {
+            // the heartbeat interval is at most half the visibility timeout, so a message is extended before it
+            // expires even if it was received right after the previous heartbeat
+            if (now - message.extendedAt < heartbeatIntervalNanos / 2) {
+                continue;
+            }
+            message.extendedAt = now;
+            extendedVisibilities.increment();
+            batchManager.changeMessageVisibility(r -> r.queueUrl(queueUrl)
+                    .receiptHandle(message.message.receiptHandle())
+                    .visibilityTimeout(visibilityTimeoutSeconds))
+                    .whenComplete((r, error) -> {
+                        if (error != null && inFlight.contains(message)) {
+                            LOG.warn("Unable to extend the visibility of the message " + message.message.messageId()
+                                    + " from " + queueUrl, error);
+                        }
+                    });
+        }
+    }
+
+    private void release(List<InFlightMessage> messages) {
+        for (InFlightMessage message : messages) {
+            inFlight.remove(message);
+            batchManager.changeMessageVisibility(r -> r.queueUrl(queueUrl)
+                    .receiptHandle(message.message.receiptHandle())
+                    .visibilityTimeout(0));
+        }
+    }
+
+    private static final class InFlightMessage {
+
+        private final Message message;
+        private final long receivedAt;
+        private volatile long extendedAt;
+        // guarded by the consumer
+        private Lane lane;
+
+        private InFlightMessage(Message message, long receivedAt) {
+            this.message = message;
+            this.receivedAt = receivedAt;
+            this.extendedAt = receivedAt;
+        }
+    }
+
+    private static final class Lane {
+
+        private final String groupId;
+        // guarded by the consumer
+        private final ArrayDeque<InFlightMessage> messages = new ArrayDeque<>();
+        private boolean running;
+
+        private Lane(String groupId) {
+            this.groupId = groupId;
+        }
+    }
+}
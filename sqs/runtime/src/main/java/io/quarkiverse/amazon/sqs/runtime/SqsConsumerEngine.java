@@ -0,0 +1,123 @@
+package io.quarkiverse.amazon.sqs.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+/**
+ * Starts {@link SqsConsumer}s receiving the messages of a queue with concurrent long polls and handing them to a
+ * {@link SqsMessageHandler}, on virtual threads or on the worker pool.
+ * <p>
+ * The consumers delete the handled messages and extend the visibility of the in-flight ones through a
+ * {@link SqsBatchManager} owned by the engine, whose meters are named {@code aws.sqs.consumer.batch.manager.*}.
+ */
+public class SqsConsumerEngine implements AutoCloseable {
+
+    private static final Log LOG = LogFactory.getLog(SqsConsumerEngine.class);
+
+    private final SqsAsyncClient client;
+    private final ConsumerConfig config;
+    private final SqsBatchManager batchManager;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService virtualThreads;
+    private final Executor executor;
+    private final Set<SqsConsumer> consumers = ConcurrentHashMap.newKeySet();
+    private volatile String clientName;
+
+    public SqsConsumerEngine(SqsAsyncClient client, ConsumerConfig config, BatchManagerConfig batchManagerConfig,
+            Executor workerPool) {
+        if (config.receivers() < 1 || config.prefetch() < 1 || config.concurrency() < 1) {
+            throw new IllegalArgumentException("The number of receivers, the prefetch and the concurrency must be positive");
+        }
+        if (config.waitTime().compareTo(Duration.ofSeconds(20)) > 0) {
+            throw new IllegalArgumentException("The wait time must be at most 20 seconds");
+        }
+        if (config.visibilityTimeout().toSeconds() < 1
+                || config.heartbeatInterval().multipliedBy(2).compareTo(config.visibilityTimeout()) > 0) {
+            throw new IllegalArgumentException(
+                    "The visibility timeout must be at least 1 second and the heartbeat interval at most half of it");
+        }
+        this.client = client;
+        this.config = config;
+        this.batchManager = new SqsBatchManager(client, batchManagerConfig);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sqs-consumer-engine");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.virtualThreads = config.executor() == ConsumerConfig.HandlerExecutor.VIRTUAL_THREADS
+                ? newVirtualThreadPerTaskExecutor()
+                : null;
+        this.executor = virtualThreads != null ? virtualThreads : workerPool;
+    }
+
+    void registerMeters(String clientName) {
+        this.clientName = clientName;
+        batchManager.registerMeters("aws.sqs.consumer.batch.manager", clientName);
+    }
+
+    /**
+     * Starts consuming the messages of a queue.
+     *
+     * @return the consumer, to close in order to stop consuming the queue
+     */
+    public SqsConsumer start(String queueUrl, SqsMessageHandler handler) {
+        SqsConsumer consumer = new SqsConsumer(queueUrl, handler, client, batchManager, scheduler, executor, this,
+                config);
+        if (clientName != null) {
+            consumer.registerMeters(clientName);
+        }
+        consumers.add(consumer);
+        consumer.start();
+        return consumer;
+    }
+
+    /**
+     * @return the running consumers
+     */
+    public Collection<SqsConsumer> consumers() {
+        return Collections.unmodifiableSet(consumers);
+    }
+
+    void remove(SqsConsumer consumer) {
+        consumers.remove(consumer);
+    }
+
+    /**
+     * Closes the consumers, then sends the pending deletes and visibility changes.
+     */
+    @Override
+    public void close() {
+        List<SqsConsumer> running = new ArrayList<>(consumers);
+        for (SqsConsumer consumer : running) {
+            consumer.close();
+        }
+        batchManager.close();
+        scheduler.shutdownNow();
+        if (virtualThreads != null) {
+            virtualThreads.shutdown();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOG.warn("Virtual threads are not available on this JVM, the SQS messages are handled on the worker pool");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.quarkiverse.amazon.sqs.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import io.quarkiverse.amazon.common.runtime.PayloadS3Offloader;
+import io.quarkiverse.amazon.common.runtime.PayloadS3Pointer;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+/**
+ * Sends and receives messages whose body may be too large for SQS, storing it in S3 through the {@link S3AsyncClient}.
+ * <p>
+ * A message body larger than the configured threshold is uploaded to S3 and the message carries a pointer to it, in
+ * the format of the Amazon SQS Extended Client Library. The payload of a received message is only downloaded when it
+ * is read, and is streamed rather than loaded in memory when read as a stream. Deleting a message deletes its payload
+ * from S3.
+ */
+public class SqsExtendedPayloadClient {
+
+    private final SqsAsyncClient sqs;
+    private final S3AsyncClient s3;
+    private final PayloadS3Offloader offloader;
+    private final int threshold;
+    private final boolean alwaysThroughS3;
+    private final boolean deletePayloads;
+
+    public SqsExtendedPayloadClient(SqsAsyncClient sqs, S3AsyncClient s3, ExtendedPayloadConfig config) {
+        if (config.threshold() < 0 || config.threshold() > PayloadS3Offloader.MAX_THRESHOLD) {
+            throw new IllegalArgumentException("The threshold must be between 0 and " + PayloadS3Offloader.MAX_THRESHOLD);
+        }
+        this.sqs = sqs;
+        this.s3 = s3;
+        this.offloader = new PayloadS3Offloader(s3, config.bucket(), config.keyPrefix(),
+                "quarkus.sqs.extended-payload.bucket");
+        this.threshold = config.threshold();
+        this.alwaysThroughS3 = config.alwaysThroughS3();
+        this.deletePayloads = config.deletePayloads();
+    }
+
+    /**
+     * Sends a message, storing its body in S3 if it is larger than the threshold.
+     *
+     * @return a future completed once the message is sent
+     */
+    public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
+        if (!alwaysThroughS3 && SqsBatchManager.estimateSize(request) <= threshold) {
+            return sqs.sendMessage(request);
+        }
+        byte[] body = request.messageBody().getBytes(StandardCharsets.UTF_8);
+        return offload(request, AsyncRequestBody.fromBytes(body), body.length);
+    }
+
+    /**
+     * Sends a message, storing its body in S3 if it is larger than the threshold.
+     *
+     * @return a future completed once the message is sent
+     */
+    public CompletableFuture<SendMessageResponse> sendMessage(Consumer<SendMessageRequest.Builder> request) {
+        return sendMessage(SendMessageRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Sends a message whose body is streamed to S3 from the given payload, whatever its size. The body of the request
+     * is ignored.
+     *
+     * @param payload the body of the message, of a known length
+     * @return a future completed once the message is sent
+     */
+    public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request, AsyncRequestBody payload) {
+        Optional<Long> length = payload.contentLength();
+        if (length.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("The length of the payload must be known"));
+        }
+        return offload(request, payload, length.get());
+    }
+
+    /**
+     * Sends a message whose body is streamed to S3 from the given payload, whatever its size. The body of the request
+     * is ignored.
+     *
+     * @param payload the body of the message, of a known length
+     * @return a future completed once the message is sent
+     */
+    public CompletableFuture<SendMessageResponse> sendMessage(Consumer<SendMessageRequest.Builder> request,
+            AsyncRequestBody payload) {
+        return sendMessage(SendMessageRequest.builder().applyMutation(request).build(), payload);
+    }
+
+    /**
+     * @return whether the body of the message is stored in S3
+     */
+    public boolean isOffloaded(Message message) {
+        return PayloadS3Pointer.fromJson(message.body()).isPresent();
+    }
+
+    /**
+     * Reads the body of a message, downloading it from S3 if it was offloaded.
+     *
+     * @param transformer consumes the body as it is received
+     * @return the future returned by the transformer
+     */
+    public <T> CompletableFuture<T> getPayload(Message message,
+            AsyncResponseTransformer<GetObjectResponse, T> transformer) {
+        Optional<PayloadS3Pointer> pointer = PayloadS3Pointer.fromJson(message.body());
+        if (pointer.isPresent()) {
+            return s3.getObject(r -> r.bucket(pointer.get().bucket()).key(pointer.get().key()), transformer);
+        }
+        byte[] body = message.body().getBytes(StandardCharsets.UTF_8);
+        CompletableFuture<T> result = transformer.prepare();
+        transformer.onResponse(GetObjectResponse.builder().contentLength((long) body.length).build());
+        transformer.onStream(AsyncRequestBody.fromBytes(body));
+        return result;
+    }
+
+    /**
+     * Reads the body of a message as a stream, downloading it from S3 as it is read if it was offloaded.
+     *
+     * @return a future completed once the body can be read, the stream must be closed
+     */
+    public CompletableFuture<ResponseInputStream<GetObjectResponse>> getPayloadAsStream(Message message) {
+        return getPayload(message, AsyncResponseTransformer.toBlockingInputStream());
+    }
+
+    /**
+     * Reads the body of a message as a string, downloading it from S3 if it was offloaded.
+     *
+     * @return a future completed with the body
+     */
+    public CompletableFuture<String> getPayloadAsString(Message message) {
+        if (!isOffloaded(message)) {
+            return CompletableFuture.completedFuture(message.body());
+        }
+        return getPayload(message, AsyncResponseTransformer.toBytes()).thenApply(bytes -> bytes.asUtf8String());
+    }
+
+    /**
+     * Deletes a message from a queue, then its body from S3 if it was offloaded.
+     *
+     * @return a future completed once the message is deleted
+     */
+    public CompletableFuture<DeleteMessageResponse> deleteMessage(String queueUrl, Message message) {
+        CompletableFuture<DeleteMessageResponse> deleted = sqs
+                .deleteMessage(r -> r.queueUrl(queueUrl).receiptHandle(message.receiptHandle()));
+        Optional<PayloadS3Pointer> pointer = PayloadS3Pointer.fromJson(message.body());
+        if (!deletePayloads || pointer.isEmpty()) {
+            return deleted;
+        }
+        return deleted.thenCompose(response -> offloader.delete(pointer.get()).thenApply(ignored -> response));
+    }
+
+    private CompletableFuture<SendMessageResponse> offload(SendMessageRequest request, AsyncRequestBody payload,
+            long length) {
+        return offloader.offload(payload, length, pointer -> {
+            Map<String, MessageAttributeValue> attributes = new HashMap<>(request.messageAttributes());
+            attributes.put(PayloadS3Pointer.EXTENDED_PAYLOAD_SIZE_ATTRIBUTE, MessageAttributeValue.builder()
+                    .dataType("Number")
+                    .stringValue(Long.toString(length))
+                    .build());
+            return sqs.sendMessage(request.toBuilder()
+                    .messageBody(pointer.toJson())
+                    .messageAttributes(attributes)
+                    .build());
+        });
+    }
+}
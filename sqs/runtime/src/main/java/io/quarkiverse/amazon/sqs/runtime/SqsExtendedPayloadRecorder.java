@@ -0,0 +1,37 @@
+package io.quarkiverse.amazon.sqs.runtime;
+
+import java.util.function.Function;
+
+import io.quarkiverse.amazon.common.runtime.ClientUtil;
+import io.quarkus.arc.SyntheticCreationalContext;
+import io.quarkus.runtime.annotations.Recorder;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+@Recorder
+public class SqsExtendedPayloadRecorder {
+
+    final SqsConfig config;
+
+    public SqsExtendedPayloadRecorder(SqsConfig config) {
+        this.config = config;
+    }
+
+    public Function<SyntheticCreationalContext<SqsExtendedPayloadClient>, SqsExtendedPayloadClient> createSqsExtendedPayloadClient(
+            String clientName) {
+        return new Function<SyntheticCreationalContext<SqsExtendedPayloadClient>, SqsExtendedPayloadClient>() {
+            @Override
+            public SqsExtendedPayloadClient apply(SyntheticCreationalContext<SqsExtendedPayloadClient> context) {
+                SqsAsyncClient client;
+                if (ClientUtil.isDefaultClient(clientName))
+                    client = context.getInjectedReference(SqsAsyncClient.class);
+                else
+                    client = context.getInjectedReference(SqsAsyncClient.class,
+                            new io.quarkiverse.amazon.common.AmazonClient.AmazonClientLiteral(clientName));
+
+                return new SqsExtendedPayloadClient(client, context.getInjectedReference(S3AsyncClient.class),
+                        config.extendedPayload());
+            }
+        };
+    }
+}
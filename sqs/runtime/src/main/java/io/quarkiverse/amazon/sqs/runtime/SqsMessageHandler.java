@@ -0,0 +1,16 @@
+package io.quarkiverse.amazon.sqs.runtime;
+
+import software.amazon.awssdk.services.sqs.model.Message;
+
+/**
+ * Handles the messages received by a {@link SqsConsumer}.
+ */
+@FunctionalInterface
+public interface SqsMessageHandler {
+
+    /**
+     * Handles a message. The message is deleted once this method returns, and received again once its visibility
+     * timeout expires if it throws.
+     */
+    void handle(Message message) throws Exception;
+}